@@ -2,6 +2,7 @@ package de.adesso.objectfieldcoverage.api;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import spoon.reflect.CtModel;
 import spoon.reflect.declaration.*;
 import spoon.reflect.reference.CtTypeReference;
 
@@ -96,6 +97,19 @@ public abstract class AccessibilityAwareFieldFinder implements Chainable<Pair<Ct
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Creates all synthetic elements, e.g. generated getter methods or pseudo classes, implementations would
+     * otherwise add to the given {@code model} while {@link #findAccessibleFields(CtType, CtTypeReference) finding
+     * accessible fields}. Invoked before test classes are processed concurrently, so the shared model is not
+     * modified while other threads read it. Does nothing by default.
+     *
+     * @param model
+     *          The model the test classes are part of, not {@code null}.
+     */
+    public void prepare(CtModel model) {
+        // nothing to prepare by default
+    }
+
     /**
      * <b>Note:</b> This method may be overridden by implementing classes when they do not rely on fields which
      * are actually part of the given {@link CtTypeReference}.
@@ -1,5 +1,6 @@
 package de.adesso.objectfieldcoverage.api;
 
+import spoon.reflect.CtModel;
 import spoon.reflect.declaration.CtExecutable;
 import spoon.reflect.declaration.CtMethod;
 
@@ -27,4 +28,17 @@ public interface TargetExecutableFinder {
      */
     Set<CtExecutable<?>> findTargetExecutables(CtMethod<?> testMethod, List<CtMethod<?>> helperMethods);
 
+    /**
+     * Creates all elements implementations would otherwise add to the given {@code model} while
+     * {@link #findTargetExecutables(CtMethod, List) finding target executables}. Invoked before test classes are
+     * processed concurrently, so the shared model is not modified while other threads read it. Does nothing
+     * by default.
+     *
+     * @param model
+     *          The model the test classes are part of, not {@code null}.
+     */
+    default void prepare(CtModel model) {
+        // nothing to prepare by default
+    }
+
 }
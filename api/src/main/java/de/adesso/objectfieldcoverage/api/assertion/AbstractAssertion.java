@@ -1,10 +1,12 @@
 package de.adesso.objectfieldcoverage.api.assertion;
 
 import de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
 import spoon.reflect.code.CtExpression;
 import spoon.reflect.declaration.CtMethod;
 
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -49,6 +51,24 @@ public interface AbstractAssertion<T> {
      */
     Set<Path> getCoveredPaths(AssertionEvaluationInformation evaluationInformation);
 
+    /**
+     * Implementations whose covered paths are exactly the {@link AccessibleFieldGraph#getTransitiveReachabilityPaths()
+     * transitive reachability paths} of a graph should override this method, so the covered paths can be
+     * counted without materializing them.
+     *
+     * @param evaluationInformation
+     *          The {@link AssertionEvaluationInformation} that contains additional information
+     *          about the type of the {@link #getAssertedExpression() asserted expression}, not {@code null}.
+     *
+     * @return
+     *          An optional containing the graph whose transitive reachability paths are equal to the paths returned
+     *          by {@link #getCoveredPaths(AssertionEvaluationInformation)} or an empty optional in case the covered
+     *          paths cannot be described by a graph. Returns an empty optional by default.
+     */
+    default Optional<AccessibleFieldGraph> getCoveringGraph(AssertionEvaluationInformation evaluationInformation) {
+        return Optional.empty();
+    }
+
     /**
      *
      * @return
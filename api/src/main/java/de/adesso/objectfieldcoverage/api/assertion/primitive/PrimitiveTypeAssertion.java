@@ -2,12 +2,14 @@ package de.adesso.objectfieldcoverage.api.assertion.primitive;
 
 import de.adesso.objectfieldcoverage.api.assertion.AbstractAssertion;
 import de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import spoon.reflect.code.CtExpression;
 import spoon.reflect.declaration.CtMethod;
 
+import java.util.Optional;
 import java.util.Set;
 
 //TODO: Test
@@ -89,10 +91,7 @@ public class PrimitiveTypeAssertion<T> implements AbstractAssertion<T> {
      */
     @Override
     public Set<Path> getCoveredPaths(AssertionEvaluationInformation evaluationInformation) {
-        var isPrimitiveTypeAsserted = assertedExpression.getType()
-                .isPrimitive();
-
-        if(!equalityAsserted || isPrimitiveTypeAsserted || primitiveType.isReferenceEqualitySupported()) {
+        if(coversAllPaths()) {
             return evaluationInformation.getAccessibleFieldsGraph()
                     .getTransitiveReachabilityPaths();
         }
@@ -100,4 +99,35 @@ public class PrimitiveTypeAssertion<T> implements AbstractAssertion<T> {
         return Set.of();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     *          An optional containing the {@link AccessibleFieldGraph} contained in the given
+     *          {@link AssertionEvaluationInformation} or an empty optional when the expression is asserted
+     *          using reference equality.
+     */
+    @Override
+    public Optional<AccessibleFieldGraph> getCoveringGraph(AssertionEvaluationInformation evaluationInformation) {
+        if(coversAllPaths()) {
+            return Optional.of(evaluationInformation.getAccessibleFieldsGraph());
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, if {@code this} assertion covers all paths of the asserted expression's graph.
+     *          This is the case when the expression is not compared for equality, is of primitive type or
+     *          the primitive type supports reference equality.
+     */
+    private boolean coversAllPaths() {
+        var isPrimitiveTypeAsserted = assertedExpression.getType()
+                .isPrimitive();
+
+        return !equalityAsserted || isPrimitiveTypeAsserted || primitiveType.isReferenceEqualitySupported();
+    }
+
 }
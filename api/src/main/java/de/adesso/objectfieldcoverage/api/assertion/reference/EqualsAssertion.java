@@ -1,10 +1,12 @@
 package de.adesso.objectfieldcoverage.api.assertion.reference;
 
 import de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
 import spoon.reflect.code.CtExpression;
 import spoon.reflect.declaration.CtMethod;
 
+import java.util.Optional;
 import java.util.Set;
 
 //TODO: Test
@@ -44,4 +46,16 @@ public class EqualsAssertion<T> extends ReferenceTypeAssertion<T> {
                 .getTransitiveReachabilityPaths();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     *          An optional containing the equals {@link AccessibleFieldGraph} contained in the given
+     *          {@link AssertionEvaluationInformation}.
+     */
+    @Override
+    public Optional<AccessibleFieldGraph> getCoveringGraph(AssertionEvaluationInformation evaluationInformation) {
+        return Optional.of(evaluationInformation.getAccessibleFieldsUsedInEqualsGraph());
+    }
+
 }
@@ -0,0 +1,93 @@
+package de.adesso.objectfieldcoverage.api.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe counters of the hits, misses, evictions and load time of a cache, used by cache implementations to
+ * build their {@link CacheStatistics}.
+ */
+public class CacheCounters {
+
+    /**
+     * The number of hits.
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of misses.
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The number of evictions.
+     */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * The total load time in nanoseconds.
+     */
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    /**
+     * Records a request which was served from the cache.
+     */
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    /**
+     * Records a request which required the value to be loaded.
+     *
+     * @param loadTimeNanos
+     *          The time it took to load the value in nanoseconds.
+     */
+    public void recordMiss(long loadTimeNanos) {
+        missCount.increment();
+        this.loadTimeNanos.add(loadTimeNanos);
+    }
+
+    /**
+     * Records the eviction of an entry.
+     */
+    public void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     *
+     * @return
+     *          The number of recorded hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     *
+     * @return
+     *          The number of recorded misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     *
+     * @param name
+     *          The name of the cache, not {@code null}.
+     *
+     * @param size
+     *          The number of entries currently held by the cache or {@value CacheStatistics#UNKNOWN}.
+     *
+     * @param maximumSize
+     *          The maximum number of entries the cache holds or {@value CacheStatistics#UNKNOWN}.
+     *
+     * @return
+     *          A snapshot of the current counter values.
+     */
+    public CacheStatistics snapshot(String name, long size, long maximumSize) {
+        return new CacheStatistics(name, hitCount.sum(), missCount.sum(), evictionCount.sum(), loadTimeNanos.sum(),
+                size, maximumSize);
+    }
+
+}
@@ -0,0 +1,75 @@
+package de.adesso.objectfieldcoverage.api.cache;
+
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * Immutable snapshot of the statistics of a cache.
+ */
+@Value
+public class CacheStatistics {
+
+    /**
+     * The value of the {@link #size} when the number of entries is unknown and the value of the {@link #maximumSize}
+     * when the cache is unbounded.
+     */
+    public static final long UNKNOWN = -1L;
+
+    /**
+     * The name of the cache.
+     */
+    String name;
+
+    /**
+     * The number of requests which were served from the cache.
+     */
+    long hitCount;
+
+    /**
+     * The number of requests which required the value to be loaded.
+     */
+    long missCount;
+
+    /**
+     * The number of entries which were evicted to make room for new entries.
+     */
+    long evictionCount;
+
+    /**
+     * The total time spent loading values in nanoseconds.
+     */
+    long loadTimeNanos;
+
+    /**
+     * The number of entries currently held by the cache or {@value #UNKNOWN} when the number is unknown.
+     */
+    long size;
+
+    /**
+     * The maximum number of entries the cache holds or {@value #UNKNOWN} when the cache is unbounded.
+     */
+    long maximumSize;
+
+    /**
+     *
+     * @return
+     *          The ratio of hits to requests or {@code 0} when no request was made.
+     */
+    public double getHitRate() {
+        var requestCount = hitCount + missCount;
+        return requestCount == 0L ? 0D : (double) hitCount / requestCount;
+    }
+
+    /**
+     *
+     * @return
+     *          A single line summary of {@code this} statistics, suitable for logging.
+     */
+    public String describe() {
+        return String.format(Locale.ROOT, "'%s': %d hits, %d misses (%.1f%% hit rate), %d evictions, %.3f ms loading, %s of %s entries used",
+                name, hitCount, missCount, getHitRate() * 100D, evictionCount, loadTimeNanos / 1_000_000D,
+                size == UNKNOWN ? "n/a" : String.valueOf(size), maximumSize == UNKNOWN ? "unbounded" : String.valueOf(maximumSize));
+    }
+
+}
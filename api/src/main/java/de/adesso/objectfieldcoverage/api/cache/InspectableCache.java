@@ -0,0 +1,16 @@
+package de.adesso.objectfieldcoverage.api.cache;
+
+/**
+ * Interface for caches which report {@link CacheStatistics} about their behaviour.
+ */
+@FunctionalInterface
+public interface InspectableCache {
+
+    /**
+     *
+     * @return
+     *          A snapshot of the current statistics of {@code this} cache.
+     */
+    CacheStatistics getStatistics();
+
+}
@@ -43,18 +43,46 @@ public class AssertionEvaluationInformation {
      * graph} which indicate that a field is accessible, but not asserted in the equals method of
      * the types which lead to that node. All paths in this set end at the first node which is not
      * compared in the equals method, since paths may be infinitely long otherwise in case the graph contains
-     * a circle.
+     * a circle. Empty when the paths were only counted, see {@link #getPathCountOfFieldsNotUsedInEquals()}.
      */
     private final Set<Path> pathsOfFieldsNotUsedInEquals;
 
+    /**
+     * The number of {@link Path paths} of fields which are not used in the equals method. Equal to the size of
+     * the {@link #getPathsOfFieldsNotUsedInEquals() path set} in case the paths were materialized.
+     */
+    private final long pathCountOfFieldsNotUsedInEquals;
+
+    /**
+     *
+     * @param assertedTypeReference
+     *          A reference to the type which the assertion asserts, not {@code null}.
+     *
+     * @param accessibleFieldsGraph
+     *          The {@link AccessibleFieldGraph} containing all accessible fields, not {@code null}.
+     *
+     * @param accessibleFieldsUsedInEqualsGraph
+     *          The {@link AccessibleFieldGraph} containing all accessible fields which are compared in the
+     *          equals method, not {@code null}.
+     *
+     * @param pathsOfFieldsNotUsedInEquals
+     *          A set containing the materialized paths of fields which are not used in the equals method,
+     *          not {@code null}.
+     */
+    public AssertionEvaluationInformation(CtTypeReference<?> assertedTypeReference, AccessibleFieldGraph accessibleFieldsGraph,
+                                          AccessibleFieldGraph accessibleFieldsUsedInEqualsGraph, Set<Path> pathsOfFieldsNotUsedInEquals) {
+        this(assertedTypeReference, accessibleFieldsGraph, accessibleFieldsUsedInEqualsGraph, pathsOfFieldsNotUsedInEquals,
+                pathsOfFieldsNotUsedInEquals.size());
+    }
+
     /**
      *
      * @return
-     *          {@code true}, when the {@link #getPathsOfFieldsNotUsedInEquals() path set} for fields
-     *          not used in equals is empty. {@code false} is returned otherwise.
+     *          {@code true}, when the {@link #getPathCountOfFieldsNotUsedInEquals() number of paths} of fields
+     *          not used in equals is zero. {@code false} is returned otherwise.
      */
     public boolean allAccessibleFieldsUsedInEquals() {
-        return pathsOfFieldsNotUsedInEquals.isEmpty();
+        return pathCountOfFieldsNotUsedInEquals == 0L;
     }
 
 }
@@ -1,5 +1,8 @@
 package de.adesso.objectfieldcoverage.api.evaluation.graph;
 
+import de.adesso.objectfieldcoverage.api.cache.CacheCounters;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.evaluation.jfr.PathEnumerationEvent;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -56,14 +59,66 @@ public class AccessibleFieldGraph implements Iterable<AccessibleFieldGraphNode>
      */
     private final CtTypeReference<?> accessingTypeRef;
 
+    /**
+     * The counters of the lazily initialized {@link #transitiveReachabilityPaths} fields of all graphs. A request is
+     * a hit when the paths of the graph were already enumerated.
+     */
+    private static final CacheCounters PATH_CACHE_COUNTERS = new CacheCounters();
+
+    /**
+     * The value of the {@link #pathTruncationDepth} when the paths were not truncated.
+     */
+    public static final int NOT_TRUNCATED = 0;
+
+    /**
+     * The number of dequeued paths after which the deadline of the {@link #pathBudget} is checked.
+     */
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
     /**
      * Lazily initialized field containing the result of the {@link #getTransitiveReachabilityPaths()}
-     * method.
+     * method. Volatile since graphs may be shared between multiple threads.
      */
     @ToString.Exclude
     @Getter(AccessLevel.NONE)
     @EqualsAndHashCode.Exclude
-    private Set<Path> transitiveReachabilityPaths;
+    private volatile Set<Path> transitiveReachabilityPaths;
+
+    /**
+     * Lazily initialized field containing the {@link TransitiveReachabilityPathCounter} used by the
+     * {@link #getTransitiveReachabilityPathCount()} and {@link #countCoveredTransitiveReachabilityPaths(Collection)}
+     * methods.
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private volatile TransitiveReachabilityPathCounter pathCounter;
+
+    /**
+     * The {@link PathBudget} which limits the enumeration of the {@link #transitiveReachabilityPaths}.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final PathBudget pathBudget;
+
+    /**
+     * The length after which the paths of the <i>transitive reachability set</i> are truncated because the
+     * {@link #pathBudget} is exceeded, {@value #NOT_TRUNCATED} when the paths are complete. Lazily initialized,
+     * see {@link #pathTruncationDepthResolved}.
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private volatile int pathTruncationDepth = NOT_TRUNCATED;
+
+    /**
+     * Set to {@code true} once the {@link #pathTruncationDepth} was computed from the path count and length limits
+     * of the {@link #pathBudget}.
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private volatile boolean pathTruncationDepthResolved;
 
     /**
      *
@@ -79,8 +134,29 @@ public class AccessibleFieldGraph implements Iterable<AccessibleFieldGraphNode>
      */
     public AccessibleFieldGraph(Collection<AccessibleFieldGraphNode> rootNodes, CtTypeReference<?> describedTypeRef,
                                 CtTypeReference<?> accessingTypeRef) {
+        this(rootNodes, describedTypeRef, accessingTypeRef, PathBudget.UNLIMITED);
+    }
+
+    /**
+     *
+     * @param rootNodes
+     *          The root nodes of the newly constructed graph, not {@code null}.
+     *
+     * @param describedTypeRef
+     *          The {@link CtTypeReference} of the type which the graph belongs to, not {@code null}.
+     *
+     * @param accessingTypeRef
+     *          The {@link CtTypeReference} of the type which accesses the {@code describedType}'s fields,
+     *          not {@code null}.
+     *
+     * @param pathBudget
+     *          The {@link PathBudget} limiting the enumeration of the paths of the graph, not {@code null}.
+     */
+    public AccessibleFieldGraph(Collection<AccessibleFieldGraphNode> rootNodes, CtTypeReference<?> describedTypeRef,
+                                CtTypeReference<?> accessingTypeRef, PathBudget pathBudget) {
         this.describedTypeRef = Objects.requireNonNull(describedTypeRef, "The CtTypeReference of the described type cannot be null!");
         this.accessingTypeRef = Objects.requireNonNull(accessingTypeRef, "The CtTypeReference of the accessing type cannot be null!");
+        this.pathBudget = Objects.requireNonNull(pathBudget, "pathBudget cannot be null!");
         this.rootNodes = Set.copyOf(rootNodes);
     }
 
@@ -153,23 +229,80 @@ public class AccessibleFieldGraph implements Iterable<AccessibleFieldGraphNode>
 
     /**
      * Returns a set of paths which end with a leaf node or a node which creates a cycle as described by
-     * the <i>transitive reachability set</i> (<i>transitive Erreichbarkeitsmenge</i>).
+     * the <i>transitive reachability set</i> (<i>transitive Erreichbarkeitsmenge</i>). Emits a
+     * {@link PathEnumerationEvent} when the event is enabled in a running flight recording.
+     * <p/>
+     * The paths are truncated in case the enumeration exceeds the {@link #getPathBudget() path budget} of
+     * {@code this} graph, see {@link #isApproximate()}.
      *
      * @return An <b>unmodifiable</b> set containing the {@link Path}s in the <i>transitive reachability set</i>
      * (<i>transitive Erreichbarkeitsmenge</i>), not {@code null}. A set containing a single empty path is returned when
      * the path does not contain any root nodes.
      */
     public Set<Path> getTransitiveReachabilityPaths() {
-        if(transitiveReachabilityPaths != null) {
-            return transitiveReachabilityPaths;
+        var event = new PathEnumerationEvent();
+        event.begin();
+
+        var cacheHit = transitiveReachabilityPaths != null;
+        Set<Path> paths;
+
+        if(cacheHit) {
+            PATH_CACHE_COUNTERS.recordHit();
+            paths = transitiveReachabilityPaths;
+        } else {
+            var enumerationStartTime = System.nanoTime();
+            paths = enumerateTransitiveReachabilityPaths();
+            PATH_CACHE_COUNTERS.recordMiss(System.nanoTime() - enumerationStartTime);
         }
 
+        event.end();
+        if(event.shouldCommit()) {
+            event.startingType = describedTypeRef.getQualifiedName();
+            event.accessingType = accessingTypeRef.getQualifiedName();
+            event.nodeCount = getAllNodes().size();
+            event.pathCount = paths.size();
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+
+        return paths;
+    }
+
+    /**
+     *
+     * @return
+     *          The statistics of the lazily enumerated paths of all graphs since the class was loaded. The size is
+     *          unknown, since the paths are held by the graphs themselves.
+     */
+    public static CacheStatistics getPathCacheStatistics() {
+        return PATH_CACHE_COUNTERS.snapshot("transitiveReachabilityPaths", CacheStatistics.UNKNOWN, CacheStatistics.UNKNOWN);
+    }
+
+    /**
+     * Enumerates the paths of the <i>transitive reachability set</i> in a single breadth-first pass and stores them
+     * in the {@link #transitiveReachabilityPaths} field. The paths are truncated at the
+     * {@link #getPathTruncationDepth() truncation depth} computed from the {@link #pathBudget}. In case the pass does
+     * not finish before the deadline of the budget, all paths are truncated at the length reached by then instead
+     * of enumerating them again.
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the {@link Path}s in the <i>transitive reachability set</i>.
+     *
+     * @see #getTransitiveReachabilityPaths()
+     */
+    private Set<Path> enumerateTransitiveReachabilityPaths() {
         if(rootNodes.isEmpty()) {
             this.transitiveReachabilityPaths = Set.of(new Path());
             return transitiveReachabilityPaths;
         }
 
-        var fullyExploredPaths = new HashSet<Path>();
+        var truncationDepth = getPathTruncationDepth();
+        var depthLimit = truncationDepth != NOT_TRUNCATED ? truncationDepth : TransitiveReachabilityPathCounter.UNLIMITED_DEPTH;
+        var deadline = pathBudget.getMaxDurationMillis() > 0L ?
+                System.nanoTime() + pathBudget.getMaxDurationMillis() * 1_000_000L : 0L;
+        var dequeuedPathCount = 0L;
+
+        var paths = new HashSet<Path>();
         var basePaths = new LinkedList<Path>();
         rootNodes.stream()
                 .map(Path::new)
@@ -178,27 +311,238 @@ public class AccessibleFieldGraph implements Iterable<AccessibleFieldGraphNode>
         while(!basePaths.isEmpty()) {
             var currentBasePath = basePaths.removeFirst();
 
+            if(deadline != 0L && ++dequeuedPathCount % DEADLINE_CHECK_INTERVAL == 0L && System.nanoTime() - deadline > 0L) {
+                basePaths.addFirst(currentBasePath);
+                return storeTruncatedPaths(paths, basePaths, currentBasePath.getLength());
+            }
+
             var currentPathExtensionNodes = currentBasePath.getLast()
                     .get()
                     .getChildren();
 
-            if(currentPathExtensionNodes.isEmpty()) {
-                fullyExploredPaths.add(currentBasePath);
+            if(currentPathExtensionNodes.isEmpty() || currentBasePath.getLength() >= depthLimit) {
+                paths.add(currentBasePath);
             } else {
-                currentPathExtensionNodes.stream()
-                        .map(extension -> new Path(currentBasePath).append(extension))
-                        .forEach(extendedPath -> {
-                            if(extendedPath.containsLoop()) {
-                                fullyExploredPaths.add(extendedPath);
-                            } else {
-                                basePaths.addLast(extendedPath);
-                            }
-                        });
+                currentPathExtensionNodes.forEach(extension -> {
+                    var extendedPath = currentBasePath.extend(extension);
+
+                    if(currentBasePath.contains(extension)) {
+                        paths.add(extendedPath);
+                    } else {
+                        basePaths.addLast(extendedPath);
+                    }
+                });
             }
         }
 
-        this.transitiveReachabilityPaths = Set.copyOf(fullyExploredPaths);
+        this.transitiveReachabilityPaths = Set.copyOf(paths);
         return transitiveReachabilityPaths;
     }
 
+    /**
+     * Truncates the paths of an enumeration which exceeded the deadline of the {@link #pathBudget} and stores them
+     * in the {@link #transitiveReachabilityPaths} field. The {@link #pathTruncationDepth} is lowered accordingly
+     * in case at least one path is truncated.
+     *
+     * @param paths
+     *          The paths which were already enumerated, not {@code null}.
+     *
+     * @param basePaths
+     *          The paths which were not extended yet, not {@code null}.
+     *
+     * @param depthLimit
+     *          The length of the path which was dequeued when the deadline was exceeded. Since the paths are
+     *          enumerated breadth-first, none of the paths which were not extended yet is shorter.
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the truncated paths.
+     */
+    private Set<Path> storeTruncatedPaths(Set<Path> paths, Collection<Path> basePaths, int depthLimit) {
+        var truncatedPaths = new HashSet<Path>();
+        var truncated = false;
+
+        for(var path : paths) {
+            truncated |= path.getLength() > depthLimit;
+            truncatedPaths.add(path.truncate(depthLimit));
+        }
+
+        for(var basePath : basePaths) {
+            truncated |= basePath.getLength() > depthLimit || !basePath.getLast().get().getChildren().isEmpty();
+            truncatedPaths.add(basePath.truncate(depthLimit));
+        }
+
+        if(truncated) {
+            lowerPathTruncationDepth(depthLimit);
+        }
+
+        this.transitiveReachabilityPaths = Set.copyOf(truncatedPaths);
+        return transitiveReachabilityPaths;
+    }
+
+    /**
+     * The truncation depth is computed once from the path count and length limits of the {@link #pathBudget} by
+     * counting the paths without enumerating them: it starts at the maximum path length and is decreased to the
+     * largest depth whose truncated paths fit into the maximum path count. It is lowered afterwards in case the
+     * enumeration of the paths exceeds the deadline of the budget.
+     *
+     * @return
+     *          The length after which the paths of the <i>transitive reachability set</i> are truncated because
+     *          the {@link #getPathBudget() path budget} is exceeded, {@value #NOT_TRUNCATED} when the paths are
+     *          complete.
+     */
+    public int getPathTruncationDepth() {
+        if(!pathTruncationDepthResolved) {
+            resolvePathTruncationDepth();
+        }
+
+        return pathTruncationDepth;
+    }
+
+    /**
+     * Computes the initial {@link #pathTruncationDepth}.
+     *
+     * @see #getPathTruncationDepth()
+     */
+    private synchronized void resolvePathTruncationDepth() {
+        if(pathTruncationDepthResolved) {
+            return;
+        }
+
+        var maxPathCount = pathBudget.getMaxPathCount();
+        var maxPathLength = pathBudget.getMaxPathLength();
+
+        if(!rootNodes.isEmpty() && (maxPathCount > 0L || maxPathLength > 0)) {
+            var counter = getPathCounter();
+            var depthLimit = maxPathLength > 0 ?
+                    Math.min(maxPathLength, counter.getMaximumPathLength()) : counter.getMaximumPathLength();
+
+            if(maxPathCount > 0L && counter.countPaths(depthLimit) > maxPathCount) {
+                depthLimit = findLargestDepthLimitWithin(counter, depthLimit - 1, maxPathCount);
+            }
+
+            if(counter.truncatesPaths(depthLimit)) {
+                this.pathTruncationDepth = depthLimit;
+            }
+        }
+
+        this.pathTruncationDepthResolved = true;
+    }
+
+    /**
+     * The number of truncated paths never decreases with the depth limit, so the depth limit is searched binary.
+     *
+     * @param counter
+     *          The counter to count the truncated paths with, not {@code null}.
+     *
+     * @param upperDepthLimit
+     *          The largest depth limit to consider.
+     *
+     * @param maxPathCount
+     *          The maximum number of paths, must be positive.
+     *
+     * @return
+     *          The largest depth limit between {@code 1} and the given {@code upperDepthLimit} whose truncated paths
+     *          do not exceed the given {@code maxPathCount}. {@code 1} is returned when no depth limit fits, since
+     *          the paths of the root nodes are always enumerated.
+     */
+    private static int findLargestDepthLimitWithin(TransitiveReachabilityPathCounter counter, int upperDepthLimit,
+                                                   long maxPathCount) {
+        var lowerBound = 1;
+        var upperBound = upperDepthLimit;
+        var largestDepthLimit = 1;
+
+        while(lowerBound <= upperBound) {
+            var depthLimit = (lowerBound + upperBound) >>> 1;
+
+            if(counter.countPaths(depthLimit) <= maxPathCount) {
+                largestDepthLimit = depthLimit;
+                lowerBound = depthLimit + 1;
+            } else {
+                upperBound = depthLimit - 1;
+            }
+        }
+
+        return largestDepthLimit;
+    }
+
+    /**
+     *
+     * @param depthLimit
+     *          The length after which the enumerated paths were truncated because the deadline of the
+     *          {@link #pathBudget} was exceeded, must be positive.
+     */
+    private synchronized void lowerPathTruncationDepth(int depthLimit) {
+        if(pathTruncationDepth == NOT_TRUNCATED || depthLimit < pathTruncationDepth) {
+            this.pathTruncationDepth = depthLimit;
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, if the paths of the <i>transitive reachability set</i> are truncated because the
+     *          {@link #getPathBudget() path budget} is exceeded or the {@link #getTransitiveReachabilityPathCount()
+     *          counted paths} exceed the {@code long} range. {@code false} is returned otherwise. Exceeding the
+     *          {@code long} range is only detected when the paths were already counted.
+     */
+    public boolean isApproximate() {
+        var currentPathCounter = pathCounter;
+        return getPathTruncationDepth() != NOT_TRUNCATED ||
+                (currentPathCounter != null && currentPathCounter.isSaturated(TransitiveReachabilityPathCounter.UNLIMITED_DEPTH));
+    }
+
+    /**
+     * Counts the paths in the <i>transitive reachability set</i> without materializing them. Should be preferred
+     * over the {@link #getTransitiveReachabilityPaths()} method when only the number of paths is required,
+     * since the number of paths grows exponentially with the depth of the graph. The paths are counted after
+     * being truncated at the {@link #getPathTruncationDepth() truncation depth}, so the count only differs from
+     * the number of enumerated paths when the enumeration exceeded the deadline of the path budget afterwards.
+     *
+     * @return
+     *          The number of paths in the set returned by {@link #getTransitiveReachabilityPaths()}, saturated at
+     *          {@link Long#MAX_VALUE}.
+     */
+    public long getTransitiveReachabilityPathCount() {
+        return getPathCounter().countPaths(getPathCountDepthLimit());
+    }
+
+    /**
+     * Counts the paths in the <i>transitive reachability set</i> which are covered by at least one of the given
+     * {@code coverings} without materializing the paths of {@code this} graph or the covering graphs. The paths
+     * are truncated at the {@link #getPathTruncationDepth() truncation depth} before they are compared.
+     *
+     * @param coverings
+     *          The {@link PathCovering}s describing the covered paths, not {@code null}.
+     *
+     * @return
+     *          The number of paths in the set returned by {@link #getTransitiveReachabilityPaths()} which are
+     *          also contained in the union of the paths described by the given {@code coverings}.
+     */
+    public long countCoveredTransitiveReachabilityPaths(Collection<PathCovering> coverings) {
+        return getPathCounter().countCoveredPaths(coverings, getPathCountDepthLimit());
+    }
+
+    /**
+     *
+     * @return
+     *          The depth limit the {@link TransitiveReachabilityPathCounter} counts the paths with.
+     */
+    private int getPathCountDepthLimit() {
+        var truncationDepth = getPathTruncationDepth();
+        return truncationDepth != NOT_TRUNCATED ? truncationDepth : TransitiveReachabilityPathCounter.UNLIMITED_DEPTH;
+    }
+
+    /**
+     *
+     * @return
+     *          The lazily initialized {@link TransitiveReachabilityPathCounter} for {@code this} graph.
+     */
+    private TransitiveReachabilityPathCounter getPathCounter() {
+        if(pathCounter == null) {
+            pathCounter = new TransitiveReachabilityPathCounter(this);
+        }
+
+        return pathCounter;
+    }
+
 }
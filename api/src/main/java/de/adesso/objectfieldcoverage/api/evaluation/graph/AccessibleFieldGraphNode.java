@@ -4,7 +4,6 @@ import de.adesso.objectfieldcoverage.api.AccessibleField;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.util.*;
@@ -36,6 +35,11 @@ import java.util.stream.Collectors;
  * The child nodes would contain the node representation of the {@code name} field in the {@code Address}
  * class, since having access to the {@code address} field also grants access to the {@code name} field.
  *
+ * <p/>
+ * A node can be {@link #freeze() frozen} once all child nodes have been added. Frozen nodes have an immutable set of
+ * child nodes and a stable integer id which is shared by all frozen nodes which are equal. Equality checks between
+ * frozen nodes only compare their ids.
+ *
  * @see AccessibleField
  */
 @Getter
@@ -55,6 +59,43 @@ public class AccessibleFieldGraphNode {
     @ToString.Exclude
     private final List<AccessibleFieldGraphNode> children;
 
+    /**
+     * Flag indicating whether {@code this} node is {@link #freeze() frozen}.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile boolean frozen;
+
+    /**
+     * The interned id of {@code this} node. Only set when {@code this} node is {@link #freeze() frozen}.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @ToString.Exclude
+    private int id;
+
+    /**
+     * The node which was interned first for the {@link #id} of {@code this} node. Referenced so the id is not
+     * assigned to a different node as long as {@code this} node is reachable. Only set when {@code this} node
+     * is {@link #freeze() frozen}.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private AccessibleFieldGraphNode canonicalNode;
+
+    /**
+     * An unmodifiable set of the child nodes. Only set when {@code this} node is {@link #freeze() frozen}.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private Set<AccessibleFieldGraphNode> frozenChildren;
+
+    /**
+     * The cached hash code of {@code this} node. Only set when {@code this} node is {@link #freeze() frozen}.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int frozenHashCode;
+
     /**
      *
      * @param accessibleField
@@ -73,11 +114,48 @@ public class AccessibleFieldGraphNode {
      *
      * @param children
      *          The child nodes which should be added to {@code this} node, not {@code null}.
+     *
+     * @throws IllegalStateException
+     *          When {@code this} node is {@link #isFrozen() frozen}.
      */
     public void addChildren(Collection<? extends AccessibleFieldGraphNode> children) {
+        if(frozen) {
+            throw new IllegalStateException("Cannot add child nodes to a frozen node!");
+        }
+
         this.children.addAll(children);
     }
 
+    /**
+     * Freezes {@code this} node. The child nodes cannot be modified afterwards and {@code this} node is assigned
+     * a stable id which is shared by all equal frozen nodes. Has no effect when {@code this} node is already frozen.
+     * <p/>
+     * Should be called once all child nodes of {@code this} node have been added, since the hash code of a node
+     * depends on its child nodes.
+     */
+    public synchronized void freeze() {
+        if(frozen) {
+            return;
+        }
+
+        this.frozenChildren = Set.copyOf(children);
+        this.frozenHashCode = hashCode();
+        var canonicalNodeAndId = NodeIdentifiers.intern(this);
+        this.canonicalNode = canonicalNodeAndId.getLeft();
+        this.id = canonicalNodeAndId.getRight();
+        this.frozen = true;
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, if {@code this} node has been {@link #freeze() frozen}. {@code false} is returned
+     *          otherwise.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * A pseudo field node does not have any child nodes.
      *
@@ -106,6 +184,10 @@ public class AccessibleFieldGraphNode {
 
     @Override
     public int hashCode() {
+        if(frozen) {
+            return frozenHashCode;
+        }
+
         return new HashCodeBuilder()
                 .append(this.accessibleField)
                 .append(this.getFirstLevelChildrenWithoutChildren())
@@ -122,19 +204,47 @@ public class AccessibleFieldGraphNode {
 
         var other = (AccessibleFieldGraphNode) obj;
 
-        return new EqualsBuilder()
-                .setTestRecursive(true)
-                .append(this.accessibleField, other.accessibleField)
-                .append(this.getFirstLevelChildrenWithoutChildren(), other.getFirstLevelChildrenWithoutChildren())
-                .isEquals();
+        if(this.frozen && other.frozen) {
+            return this.id == other.id;
+        }
+
+        return refersToSameField(this.accessibleField, other.accessibleField) &&
+                this.getFirstLevelChildrenWithoutChildren().equals(other.getFirstLevelChildrenWithoutChildren());
+    }
+
+    /**
+     * The actual fields are compared by identity, since the structural equality of Spoon elements does not consider
+     * the declaring type of a field. Comparing the elements reflectively is not an option either, since it depends on
+     * the mutable internal state of the whole model and would therefore intern equal nodes with different ids.
+     * Nodes of different models are therefore never equal.
+     *
+     * @param accessibleField
+     *          The first {@link AccessibleField} to compare, not {@code null}.
+     *
+     * @param otherAccessibleField
+     *          The second {@link AccessibleField} to compare, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if both given accessible fields refer to the same actual field with equal access
+     *          granting elements. {@code false} is returned otherwise.
+     */
+    private static boolean refersToSameField(AccessibleField<?> accessibleField, AccessibleField<?> otherAccessibleField) {
+        return accessibleField.getActualField() == otherAccessibleField.getActualField() &&
+                accessibleField.isPseudo() == otherAccessibleField.isPseudo() &&
+                accessibleField.getAccessGrantingElements().equals(otherAccessibleField.getAccessGrantingElements());
     }
 
     /**
      *
      * @return
-     *          A <b>unmodifiable</b> set representation of the child nodes.
+     *          A <b>unmodifiable</b> set representation of the child nodes. The same instance is returned on every
+     *          invocation once {@code this} node is {@link #freeze() frozen}.
      */
     public Set<AccessibleFieldGraphNode> getChildren() {
+        if(frozen) {
+            return frozenChildren;
+        }
+
         return Set.copyOf(children);
     }
 
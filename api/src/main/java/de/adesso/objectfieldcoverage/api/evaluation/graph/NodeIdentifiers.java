@@ -0,0 +1,127 @@
+package de.adesso.objectfieldcoverage.api.evaluation.graph;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns {@link AccessibleFieldGraphNode}s when they are {@link AccessibleFieldGraphNode#freeze() frozen} by
+ * assigning the same integer id to all nodes which are {@link AccessibleFieldGraphNode#equals(Object) equal}.
+ * {@link Path}s use these ids to compare and hash their nodes without invoking the comparatively expensive
+ * {@link AccessibleFieldGraphNode#equals(Object)} and {@link AccessibleFieldGraphNode#hashCode()} methods over
+ * and over again.
+ *
+ * @implNote The nodes are weakly referenced, so interning does not prevent nodes from being garbage collected.
+ * Frozen nodes reference the node which was interned first, so equal frozen nodes keep their id as long as any
+ * of them is reachable. Ids are never reused. The interned nodes are grouped by their hash code in a concurrent
+ * map, so nodes with different hash codes can be interned in parallel.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class NodeIdentifiers {
+
+    /**
+     * Map containing entries which map a hash code to the interned nodes with that hash code.
+     */
+    private static final ConcurrentMap<Integer, List<InternedNode>> INTERNED_NODES = new ConcurrentHashMap<>();
+
+    /**
+     * The queue the {@link InternedNode}s are enqueued in once their node was garbage collected.
+     */
+    private static final ReferenceQueue<AccessibleFieldGraphNode> COLLECTED_NODES = new ReferenceQueue<>();
+
+    /**
+     * The id which is assigned to the next node which is not equal to any interned node.
+     */
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /**
+     * Must only be called by the {@link AccessibleFieldGraphNode#freeze()} method of the given {@code node}, since the
+     * hash code of a node must not change after it was interned.
+     *
+     * @param node
+     *          The node to intern, not {@code null}.
+     *
+     * @return
+     *          A pair containing the interned node which is equal to the given {@code node} and its id. The given
+     *          {@code node} itself is interned and returned in case no equal node is interned.
+     */
+    static Pair<AccessibleFieldGraphNode, Integer> intern(AccessibleFieldGraphNode node) {
+        Objects.requireNonNull(node, "node cannot be null!");
+
+        removeCollectedNodes();
+
+        var hashCode = node.hashCode();
+        var canonicalNodeAndId = new ArrayList<Pair<AccessibleFieldGraphNode, Integer>>(1);
+
+        INTERNED_NODES.compute(hashCode, (key, internedNodes) -> {
+            var updatedInternedNodes = internedNodes != null ? internedNodes : new ArrayList<InternedNode>(1);
+
+            for(var internedNode : updatedInternedNodes) {
+                var canonicalNode = internedNode.get();
+
+                if(canonicalNode != null && canonicalNode.equals(node)) {
+                    canonicalNodeAndId.add(Pair.of(canonicalNode, internedNode.id));
+                    return updatedInternedNodes;
+                }
+            }
+
+            var id = NEXT_ID.getAndIncrement();
+            updatedInternedNodes.add(new InternedNode(node, hashCode, id));
+            canonicalNodeAndId.add(Pair.of(node, id));
+            return updatedInternedNodes;
+        });
+
+        return canonicalNodeAndId.get(0);
+    }
+
+    /**
+     * Removes the {@link InternedNode}s whose node was garbage collected.
+     */
+    private static void removeCollectedNodes() {
+        Reference<? extends AccessibleFieldGraphNode> collectedNode;
+
+        while((collectedNode = COLLECTED_NODES.poll()) != null) {
+            var internedNode = (InternedNode) collectedNode;
+
+            INTERNED_NODES.computeIfPresent(internedNode.hashCode, (key, internedNodes) -> {
+                internedNodes.remove(internedNode);
+                return internedNodes.isEmpty() ? null : internedNodes;
+            });
+        }
+    }
+
+    /**
+     * Weak reference to an interned node which additionally holds the hash code and the id of the node.
+     */
+    private static class InternedNode extends WeakReference<AccessibleFieldGraphNode> {
+
+        /**
+         * The hash code of the referenced node.
+         */
+        private final int hashCode;
+
+        /**
+         * The id of the referenced node.
+         */
+        private final int id;
+
+        private InternedNode(AccessibleFieldGraphNode node, int hashCode, int id) {
+            super(node, COLLECTED_NODES);
+
+            this.hashCode = hashCode;
+            this.id = id;
+        }
+
+    }
+
+}
@@ -1,9 +1,5 @@
 package de.adesso.objectfieldcoverage.api.evaluation.graph;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.Setter;
-
 import java.util.*;
 
 /**
@@ -11,10 +7,12 @@ import java.util.*;
  * {@link AccessibleFieldGraphNode nodes} where the first element is a {@link AccessibleFieldGraph#getRootNodes() root}.
  * and every node at index {@code i} is contained in the {@link AccessibleFieldGraphNode#getChildren() child nodes} of
  * the node at index {@code i-1}.
+ *
+ * @implNote Stores the interned integer id of each node next to the node itself and caches its hash code, so
+ * paths can be hashed and compared without invoking the {@link AccessibleFieldGraphNode#equals(Object)} and
+ * {@link AccessibleFieldGraphNode#hashCode()} methods of the nodes. Only {@link AccessibleFieldGraphNode#freeze() frozen}
+ * nodes have an interned id, so paths cannot contain nodes which are not frozen.
  */
-@Getter
-@Setter
-@EqualsAndHashCode
 public class Path implements Iterable<AccessibleFieldGraphNode> {
 
     /**
@@ -24,21 +22,41 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      * All but the first node must fulfill the following contract: The node at index {@code i} must
      * be a {@link AccessibleFieldGraphNode#getChildren() child node} of the element at index {@code i-1}.
      */
-    private final List<AccessibleFieldGraphNode> nodes;
+    private AccessibleFieldGraphNode[] nodes;
+
+    /**
+     * The {@link NodeIdentifiers interned id} of the node at the same index in the {@link #nodes} array.
+     */
+    private int[] nodeIds;
+
+    /**
+     * The cached hash code of {@code this} path, which is computed from the {@link #nodeIds}.
+     */
+    private int hashCode;
 
     /**
-     * Initializes the internal list with a modifiable copy of the given {@code nodes} list.
+     * Initializes the internal array with a copy of the given {@code nodes} list.
      *
      * @param nodes
      *          The nodes the path consists of. Must be a valid path as specified on the
      *          class level JavaDoc. Cannot contain {@code null} elements.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code nodes} are not a valid path or contain a node which is not frozen.
      */
     public Path(List<AccessibleFieldGraphNode> nodes) {
         if(!isValidPath(nodes)) {
             throw new IllegalArgumentException("The given nodes list is not a valid path!");
         }
 
-        this.nodes = (nodes == null) ? new ArrayList<>() : new ArrayList<>(nodes);
+        this.nodes = nodes.toArray(new AccessibleFieldGraphNode[0]);
+        this.nodeIds = new int[this.nodes.length];
+
+        for(var nodeIndex = 0; nodeIndex < this.nodes.length; nodeIndex++) {
+            nodeIds[nodeIndex] = idOf(this.nodes[nodeIndex]);
+        }
+
+        this.hashCode = Arrays.hashCode(nodeIds);
     }
 
     /**
@@ -61,13 +79,37 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
     }
 
     /**
-     * Copy constructor.
+     * Copy constructor. The given path is not validated again.
      *
      * @param path
      *          The path to copy.
      */
     public Path(Path path) {
-        this(path == null ? List.of() : path.nodes);
+        this(path == null ? new AccessibleFieldGraphNode[0] : path.nodes, path == null ? new int[0] : path.nodeIds);
+    }
+
+    /**
+     * Internal constructor which copies the given arrays without validating them.
+     *
+     * @param nodes
+     *          The nodes of the path, not {@code null}.
+     *
+     * @param nodeIds
+     *          The interned ids of the given {@code nodes}, not {@code null}.
+     */
+    private Path(AccessibleFieldGraphNode[] nodes, int[] nodeIds) {
+        this.nodes = nodes.clone();
+        this.nodeIds = nodeIds.clone();
+        this.hashCode = Arrays.hashCode(nodeIds);
+    }
+
+    /**
+     *
+     * @return
+     *          An unmodifiable list containing the nodes of {@code this} path.
+     */
+    public List<AccessibleFieldGraphNode> getNodes() {
+        return Collections.unmodifiableList(Arrays.asList(nodes));
     }
 
     /**
@@ -77,7 +119,7 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      *          The length of the {@code this} path.
      */
     public int getLength() {
-        return nodes.size();
+        return nodes.length;
     }
 
     /**
@@ -87,7 +129,7 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      *          otherwise.
      */
     public boolean isEmpty() {
-        return nodes.isEmpty();
+        return nodes.length == 0;
     }
 
     /**
@@ -97,7 +139,7 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      *          optional in case the path has a {@link #getLength() length} of zero.
      */
     public Optional<AccessibleFieldGraphNode> getLast() {
-        return nodes.isEmpty() ? Optional.empty() : Optional.of(nodes.get(nodes.size() - 1));
+        return nodes.length == 0 ? Optional.empty() : Optional.of(nodes[nodes.length - 1]);
     }
 
     /**
@@ -107,7 +149,45 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      *          is returned otherwise.
      */
     public boolean containsLoop() {
-        return Set.copyOf(nodes).size() < nodes.size();
+        var sortedNodeIds = nodeIds.clone();
+        Arrays.sort(sortedNodeIds);
+
+        for(var nodeIndex = 1; nodeIndex < sortedNodeIds.length; nodeIndex++) {
+            if(sortedNodeIds[nodeIndex - 1] == sortedNodeIds[nodeIndex]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     *
+     * @param node
+     *          The node to check, may be {@code null}.
+     *
+     * @return
+     *          {@code true}, if {@code this} path contains a node which is equal to the given {@code node}.
+     *          {@code false} is returned otherwise.
+     */
+    public boolean contains(AccessibleFieldGraphNode node) {
+        if(node == null) {
+            return false;
+        }
+
+        if(!node.isFrozen()) {
+            return false;
+        }
+
+        var nodeId = node.getId();
+
+        for(var containedNodeId : nodeIds) {
+            if(containedNodeId == nodeId) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -117,21 +197,44 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      *
      * @return
      *          {@code this} path with the given {@code node} appended.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code node} is not a child node of the current last node or is not frozen.
      */
     public Path append(AccessibleFieldGraphNode node) {
         if(node != null) {
-            var lastNode = nodes.isEmpty() ? null : nodes.get(nodes.size() - 1);
+            var lastNode = nodes.length == 0 ? null : nodes[nodes.length - 1];
 
             if (lastNode != null && !isChildNodeOf(lastNode, node)) {
                 throw new IllegalArgumentException("The given node is not a child node of the current last node!");
             }
 
-            nodes.add(node);
+            this.nodes = Arrays.copyOf(nodes, nodes.length + 1);
+            this.nodeIds = Arrays.copyOf(nodeIds, nodeIds.length + 1);
+            this.nodes[nodes.length - 1] = node;
+            this.nodeIds[nodeIds.length - 1] = idOf(node);
+            this.hashCode = Arrays.hashCode(nodeIds);
         }
 
         return this;
     }
 
+    /**
+     * Only the edge between the current last node and the given {@code node} is validated, since {@code this}
+     * path is already valid.
+     *
+     * @param node
+     *          The node which should be appended to a copy of {@code this} path, not {@code null}.
+     *
+     * @return
+     *          A <b>new</b> path which results from appending the given {@code node} to {@code this} path.
+     */
+    public Path extend(AccessibleFieldGraphNode node) {
+        Objects.requireNonNull(node, "node cannot be null!");
+
+        return new Path(this).append(node);
+    }
+
     /**
      *
      * @param path
@@ -148,19 +251,45 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
             return path;
         }
 
-        var otherPathLastNode = path.nodes.get(path.nodes.size() - 1);
-        var thisFirstNode = this.nodes.get(0);
+        var otherPathLastNode = path.nodes[path.nodes.length - 1];
+        var thisFirstNode = this.nodes[0];
 
         if(!otherPathLastNode.getChildren().contains(thisFirstNode)) {
             throw new IllegalArgumentException("The last node of the given path is not a parent node of the first " +
                     "node of this path!");
         }
 
-        var nodes = new ArrayList<AccessibleFieldGraphNode>(path.nodes.size() + this.nodes.size());
-        nodes.addAll(path.nodes);
-        nodes.addAll(this.nodes);
+        var prependedNodes = Arrays.copyOf(path.nodes, path.nodes.length + this.nodes.length);
+        System.arraycopy(this.nodes, 0, prependedNodes, path.nodes.length, this.nodes.length);
+
+        var prependedNodeIds = Arrays.copyOf(path.nodeIds, path.nodeIds.length + this.nodeIds.length);
+        System.arraycopy(this.nodeIds, 0, prependedNodeIds, path.nodeIds.length, this.nodeIds.length);
+
+        return new Path(prependedNodes, prependedNodeIds);
+    }
+
+    /**
+     *
+     * @param maximumLength
+     *          The maximum length of the resulting path, must be positive.
+     *
+     * @return
+     *          {@code this} path in case its length does not exceed the given {@code maximumLength}, a <b>new</b> path
+     *          containing the first {@code maximumLength} nodes of {@code this} path otherwise.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code maximumLength} is not positive.
+     */
+    public Path truncate(int maximumLength) {
+        if(maximumLength < 1) {
+            throw new IllegalArgumentException(String.format("The maximum length must be positive, but was %d!", maximumLength));
+        }
+
+        if(nodes.length <= maximumLength) {
+            return this;
+        }
 
-        return new Path(nodes);
+        return new Path(Arrays.copyOf(nodes, maximumLength), Arrays.copyOf(nodeIds, maximumLength));
     }
 
     /**
@@ -171,7 +300,7 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
      */
     @Override
     public Iterator<AccessibleFieldGraphNode> iterator() {
-        return nodes.iterator();
+        return getNodes().iterator();
     }
 
     /**
@@ -194,13 +323,44 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
             return false;
         }
 
-        for(var otherPathIndex = 0; otherPathIndex < other.nodes.size(); otherPathIndex++) {
-            if(!other.nodes.get(otherPathIndex).equals(nodes.get(otherPathIndex))) {
-                return false;
-            }
+        var otherLength = other.nodeIds.length;
+        return Arrays.equals(nodeIds, 0, otherLength, other.nodeIds, 0, otherLength);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        } else if(!(obj instanceof Path)) {
+            return false;
         }
 
-        return true;
+        var other = (Path) obj;
+        return hashCode == other.hashCode && Arrays.equals(nodeIds, other.nodeIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     *
+     * @param node
+     *          The node to get the id of, not {@code null}.
+     *
+     * @return
+     *          The interned id of the given {@code node}.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code node} is not {@link AccessibleFieldGraphNode#isFrozen() frozen}.
+     */
+    private static int idOf(AccessibleFieldGraphNode node) {
+        if(!node.isFrozen()) {
+            throw new IllegalArgumentException("A path can only contain frozen nodes!");
+        }
+
+        return node.getId();
     }
 
     /**
@@ -250,15 +410,15 @@ public class Path implements Iterable<AccessibleFieldGraphNode> {
                 .append(getLength())
                 .append(", simpleNamesOfFieldsOnPath=[");
 
-        if(!nodes.isEmpty()) {
-            var firstNodeSimpleName = nodes.get(0)
+        if(nodes.length > 0) {
+            var firstNodeSimpleName = nodes[0]
                     .getAccessibleField()
                     .getActualField()
                     .getSimpleName();
             stringBuilder.append(firstNodeSimpleName);
 
-            for (int nodeIndex = 1; nodeIndex < nodes.size(); nodeIndex++) {
-                var currentNode = nodes.get(nodeIndex);
+            for (int nodeIndex = 1; nodeIndex < nodes.length; nodeIndex++) {
+                var currentNode = nodes[nodeIndex];
                 var simpleNameOfField = currentNode.getAccessibleField()
                         .getActualField()
                         .getSimpleName();
@@ -0,0 +1,76 @@
+package de.adesso.objectfieldcoverage.api.evaluation.graph;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Limits the enumeration of the paths of an {@link AccessibleFieldGraph}'s <i>transitive reachability set</i>. A
+ * limit of {@code 0} disables the corresponding check.
+ * <p/>
+ * When a limit is exceeded, the graph falls back to depth-truncated paths: every path which is longer than the
+ * truncation depth is cut after the node at the truncation depth. The truncation depth starts at the
+ * {@link #maxPathLength} and is decreased until the truncated paths fit into the {@link #maxPathCount}, which is
+ * computed once by counting the paths. The truncated paths are then enumerated in a single pass, which truncates
+ * the paths at the length it reached in case it does not finish within the {@link #maxDurationMillis}. The paths
+ * of the root nodes are always kept, so the number of paths never drops below the number of root nodes. Graphs
+ * whose paths were truncated are {@link AccessibleFieldGraph#isApproximate() approximate}.
+ */
+@Value
+@Builder
+public class PathBudget {
+
+    /**
+     * A budget without any limits.
+     */
+    public static final PathBudget UNLIMITED = PathBudget.builder().build();
+
+    /**
+     * The maximum number of paths which are enumerated. Must not be negative.
+     */
+    long maxPathCount;
+
+    /**
+     * The maximum length of the enumerated paths. Must not be negative.
+     */
+    int maxPathLength;
+
+    /**
+     * The maximum wall-clock time spent enumerating the paths of a single graph in milliseconds. Must not be
+     * negative.
+     */
+    long maxDurationMillis;
+
+    /**
+     *
+     * @param maxPathCount
+     *          The maximum number of paths, {@code 0} for no limit.
+     *
+     * @param maxPathLength
+     *          The maximum length of a path, {@code 0} for no limit.
+     *
+     * @param maxDurationMillis
+     *          The maximum enumeration time in milliseconds, {@code 0} for no limit.
+     *
+     * @throws IllegalArgumentException
+     *          When one of the given limits is negative.
+     */
+    public PathBudget(long maxPathCount, int maxPathLength, long maxDurationMillis) {
+        if(maxPathCount < 0L || maxPathLength < 0 || maxDurationMillis < 0L) {
+            throw new IllegalArgumentException("The limits of a path budget cannot be negative!");
+        }
+
+        this.maxPathCount = maxPathCount;
+        this.maxPathLength = maxPathLength;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, if none of the limits is enabled. {@code false} is returned otherwise.
+     */
+    public boolean isUnlimited() {
+        return maxPathCount == 0L && maxPathLength == 0 && maxDurationMillis == 0L;
+    }
+
+}
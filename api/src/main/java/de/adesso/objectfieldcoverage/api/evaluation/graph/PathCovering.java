@@ -0,0 +1,89 @@
+package de.adesso.objectfieldcoverage.api.evaluation.graph;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Describes the {@link Path}s of an {@link AccessibleFieldGraph} which are covered by a single assertion without
+ * necessarily materializing them. The covered paths are either described by a <i>covering graph</i> and a prefix
+ * path, in which case every path of the {@link AccessibleFieldGraph#getTransitiveReachabilityPaths() transitive
+ * reachability set} of the covering graph {@link Path#prepend(Path) prepended} with the prefix is covered, or by an
+ * explicit set of paths.
+ *
+ * @see AccessibleFieldGraph#countCoveredTransitiveReachabilityPaths(Collection)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PathCovering {
+
+    /**
+     * The path which is prepended to every path of the {@link #coveringGraph}. Empty in case the covered
+     * paths are described by the {@link #coveredPaths} set.
+     */
+    private final Path prefix;
+
+    /**
+     * The graph whose transitive reachability paths are covered, {@code null} in case the covered paths are
+     * described by the {@link #coveredPaths} set.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AccessibleFieldGraph coveringGraph;
+
+    /**
+     * The explicitly covered paths, empty in case the covered paths are described by the {@link #coveringGraph}.
+     */
+    private final Set<Path> coveredPaths;
+
+    /**
+     *
+     * @param prefix
+     *          The path which is prepended to every path of the given {@code coveringGraph}, not {@code null}. Might be
+     *          empty.
+     *
+     * @param coveringGraph
+     *          The graph whose transitive reachability paths are covered, not {@code null}.
+     *
+     * @return
+     *          A new covering for the transitive reachability paths of the given {@code coveringGraph} prepended with the
+     *          given {@code prefix}.
+     */
+    public static PathCovering ofGraph(Path prefix, AccessibleFieldGraph coveringGraph) {
+        Objects.requireNonNull(prefix, "prefix cannot be null!");
+        Objects.requireNonNull(coveringGraph, "coveringGraph cannot be null!");
+
+        return new PathCovering(prefix, coveringGraph, Set.of());
+    }
+
+    /**
+     *
+     * @param coveredPaths
+     *          The paths which are covered, not {@code null}.
+     *
+     * @return
+     *          A new covering for the given {@code coveredPaths}.
+     */
+    public static PathCovering ofPaths(Collection<Path> coveredPaths) {
+        Objects.requireNonNull(coveredPaths, "coveredPaths cannot be null!");
+
+        return new PathCovering(new Path(), null, Set.copyOf(coveredPaths));
+    }
+
+    /**
+     *
+     * @return
+     *          An optional containing the covering graph or an empty optional in case {@code this} covering
+     *          describes the covered paths explicitly.
+     */
+    public Optional<AccessibleFieldGraph> getCoveringGraph() {
+        return Optional.ofNullable(coveringGraph);
+    }
+
+}
@@ -0,0 +1,907 @@
+package de.adesso.objectfieldcoverage.api.evaluation.graph;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the {@link Path}s in the <i>transitive reachability set</i> of an {@link AccessibleFieldGraph} without
+ * materializing them. A path ends with a leaf node or with the first node which is already contained in the path, as
+ * defined by {@link AccessibleFieldGraph#getTransitiveReachabilityPaths()}.
+ * <p/>
+ * The nodes on a path which can be reached again from the current last node of the path are always part of the
+ * same strongly connected component as the last node. The number of extensions of a path therefore only depends on
+ * its last node and the nodes of the path which are part of the last node's component. These (node, visited
+ * component nodes) states are memoized, so the number of paths can be computed in linear time for graphs whose
+ * strongly connected components only consist of a few nodes, which is the case for the graphs of usual
+ * domain models.
+ * <p/>
+ * The paths can be counted with a depth limit, which truncates every path exactly like the
+ * {@link AccessibleFieldGraph#getPathBudget() path budget} of the graph does: a path which reaches the depth limit
+ * and whose last node has child nodes ends there. The remaining depth is part of the memoized states in that case.
+ *
+ * @implNote Instances are effectively immutable and therefore thread safe. The path counts of each depth limit are
+ * cached in a concurrent map.
+ */
+class TransitiveReachabilityPathCounter {
+
+    /**
+     * The depth limit which does not truncate any path.
+     */
+    static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+
+    /**
+     * The nodes of the graph. The index of a node in this list is used to identify it.
+     */
+    private final List<AccessibleFieldGraphNode> nodes;
+
+    /**
+     * A map mapping each node of the graph to its index in the {@link #nodes} list.
+     */
+    private final Map<AccessibleFieldGraphNode, Integer> nodeIndices;
+
+    /**
+     * The indices of the child nodes of each node.
+     */
+    private final int[][] children;
+
+    /**
+     * The indices of the root nodes of the graph.
+     */
+    private final int[] rootIndices;
+
+    /**
+     * The id of the strongly connected component of each node.
+     */
+    private final int[] componentIds;
+
+    /**
+     * The index of each node inside its strongly connected component.
+     */
+    private final int[] componentLocalIndices;
+
+    /**
+     * A map which maps a depth limit to the number of paths in the transitive reachability set of the graph when
+     * the paths are truncated at that depth.
+     */
+    private final Map<Integer, Long> pathCounts = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param graph
+     *          The {@link AccessibleFieldGraph} to count the paths of, not {@code null}.
+     */
+    TransitiveReachabilityPathCounter(AccessibleFieldGraph graph) {
+        Objects.requireNonNull(graph, "graph cannot be null!");
+
+        this.nodes = new ArrayList<>(graph.getAllNodes());
+        this.nodeIndices = new HashMap<>();
+        for(var nodeIndex = 0; nodeIndex < nodes.size(); nodeIndex++) {
+            nodeIndices.put(nodes.get(nodeIndex), nodeIndex);
+        }
+
+        this.children = new int[nodes.size()][];
+        for(var nodeIndex = 0; nodeIndex < nodes.size(); nodeIndex++) {
+            children[nodeIndex] = toIndices(nodes.get(nodeIndex).getChildren());
+        }
+
+        this.rootIndices = toIndices(graph.getRootNodes());
+        this.componentIds = new int[nodes.size()];
+        this.componentLocalIndices = new int[nodes.size()];
+
+        computeStronglyConnectedComponents();
+    }
+
+    /**
+     *
+     * @return
+     *          The length of the longest path the transitive reachability set of the graph might contain. Truncating
+     *          the paths at this or a greater depth has no effect.
+     */
+    int getMaximumPathLength() {
+        // a path contains every node at most once, except for the last node of a path ending with a loop
+        return nodes.size() + 1;
+    }
+
+    /**
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive. {@value #UNLIMITED_DEPTH} for
+     *          no limit.
+     *
+     * @return
+     *          The number of paths in the transitive reachability set of the graph when the paths are truncated after
+     *          the given {@code depthLimit}, saturated at {@link Long#MAX_VALUE}. {@code 1} is returned when the graph
+     *          does not contain any root nodes, since the set contains a single empty path in that case.
+     */
+    long countPaths(int depthLimit) {
+        return pathCounts.computeIfAbsent(depthLimit, limit -> countAllPaths(limit, false));
+    }
+
+    /**
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive.
+     *
+     * @return
+     *          {@code true}, if at least one path of the transitive reachability set of the graph is longer than the
+     *          given {@code depthLimit} and is therefore truncated. {@code false} is returned otherwise.
+     */
+    boolean truncatesPaths(int depthLimit) {
+        return depthLimit < getMaximumPathLength() && countAllPaths(depthLimit, true) > 0L;
+    }
+
+    /**
+     *
+     * @param depthLimit
+     *          The depth limit to check.
+     *
+     * @return
+     *          {@code true}, if the number of paths truncated after the given {@code depthLimit} was already
+     *          {@link #countPaths(int) counted} and exceeds the {@code long} range, so the count was saturated at
+     *          {@link Long#MAX_VALUE}. {@code false} is returned otherwise.
+     */
+    boolean isSaturated(int depthLimit) {
+        var pathCount = pathCounts.get(depthLimit);
+        return pathCount != null && pathCount == Long.MAX_VALUE;
+    }
+
+    /**
+     * A truncated path is covered when at least one covered path starts with it, which matches the covered paths
+     * being truncated at the same depth before they are compared with the truncated paths of the graph.
+     *
+     * @param coverings
+     *          The {@link PathCovering}s describing the covered paths, not {@code null}.
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive. {@value #UNLIMITED_DEPTH} for
+     *          no limit.
+     *
+     * @return
+     *          The number of paths in the transitive reachability set of the graph, truncated after the given
+     *          {@code depthLimit}, which are contained in the union of the paths described by the given
+     *          {@code coverings}.
+     */
+    long countCoveredPaths(Collection<PathCovering> coverings, int depthLimit) {
+        Objects.requireNonNull(coverings, "coverings cannot be null!");
+
+        var graphCoverings = new ArrayList<GraphCovering>();
+        var explicitlyCoveredPaths = new HashSet<Path>();
+
+        for(var covering : coverings) {
+            var coveringGraph = covering.getCoveringGraph();
+
+            if(coveringGraph.isPresent()) {
+                toGraphCovering(covering.getPrefix(), coveringGraph.get())
+                        .ifPresent(graphCoverings::add);
+            } else {
+                covering.getCoveredPaths().stream()
+                        .map(coveredPath -> coveredPath.isEmpty() ? coveredPath : coveredPath.truncate(depthLimit))
+                        .forEach(explicitlyCoveredPaths::add);
+            }
+        }
+
+        var coveredPathCount = 0L;
+        var initialStates = initialStates(graphCoverings);
+
+        if(rootIndices.length == 0) {
+            if(acceptsEmptyPath(graphCoverings)) {
+                coveredPathCount++;
+            }
+        } else if(initialStates.length > 0) {
+            var memo = new HashMap<MemoKey, Long>();
+
+            for(var rootIndex : rootIndices) {
+                var visited = new BitSet();
+                visited.set(componentLocalIndices[rootIndex]);
+
+                coveredPathCount = saturatedAdd(coveredPathCount, countCoveredPaths(rootIndex, visited, 1, depthLimit,
+                        advance(initialStates, rootIndex, graphCoverings), graphCoverings, memo));
+            }
+        }
+
+        for(var explicitlyCoveredPath : explicitlyCoveredPaths) {
+            if(isUncoveredTransitiveReachabilityPath(explicitlyCoveredPath, depthLimit, graphCoverings)) {
+                coveredPathCount = saturatedAdd(coveredPathCount, 1L);
+            }
+        }
+
+        return coveredPathCount;
+    }
+
+    /**
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive.
+     *
+     * @param onlyTruncated
+     *          Specifies if only the truncated paths should be counted.
+     *
+     * @return
+     *          The number of (truncated) paths in the transitive reachability set of the graph.
+     */
+    private long countAllPaths(int depthLimit, boolean onlyTruncated) {
+        if(rootIndices.length == 0) {
+            return onlyTruncated ? 0L : 1L;
+        }
+
+        var memo = new HashMap<MemoKey, Long>();
+        var count = 0L;
+
+        for(var rootIndex : rootIndices) {
+            var visited = new BitSet();
+            visited.set(componentLocalIndices[rootIndex]);
+
+            count = saturatedAdd(count, countAllPaths(rootIndex, visited, 1, depthLimit, onlyTruncated, memo));
+        }
+
+        return count;
+    }
+
+    /**
+     *
+     * @param nodeIndex
+     *          The index of the last node of the current path.
+     *
+     * @param visited
+     *          The local indices of the nodes on the current path which are part of the same strongly connected
+     *          component as the last node.
+     *
+     * @param length
+     *          The length of the current path.
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive.
+     *
+     * @param onlyTruncated
+     *          Specifies if only the truncated paths should be counted.
+     *
+     * @param memo
+     *          The memo to store intermediate results in, not {@code null}.
+     *
+     * @return
+     *          The number of (truncated) paths of the transitive reachability set which start with the current path.
+     */
+    private long countAllPaths(int nodeIndex, BitSet visited, int length, int depthLimit, boolean onlyTruncated,
+                               Map<MemoKey, Long> memo) {
+        var nodeChildren = children[nodeIndex];
+
+        if(nodeChildren.length == 0) {
+            return onlyTruncated ? 0L : 1L;
+        } else if(length >= depthLimit) {
+            return 1L;
+        }
+
+        var memoKey = new MemoKey(nodeIndex, visited, remainingDepth(length, depthLimit), null);
+        var memoizedCount = memo.get(memoKey);
+        if(memoizedCount != null) {
+            return memoizedCount;
+        }
+
+        var count = 0L;
+
+        for(var childIndex : nodeChildren) {
+            if(isOnPath(nodeIndex, childIndex, visited)) {
+                count = saturatedAdd(count, onlyTruncated ? 0L : 1L);
+            } else {
+                count = saturatedAdd(count, countAllPaths(childIndex, extendVisited(nodeIndex, childIndex, visited),
+                        length + 1, depthLimit, onlyTruncated, memo));
+            }
+        }
+
+        memo.put(memoKey, count);
+        return count;
+    }
+
+    /**
+     *
+     * @param nodeIndex
+     *          The index of the last node of the current path.
+     *
+     * @param visited
+     *          The local indices of the nodes on the current path which are part of the same strongly connected
+     *          component as the last node.
+     *
+     * @param length
+     *          The length of the current path.
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive.
+     *
+     * @param states
+     *          The sorted states of the {@link GraphCovering}s which still match the current path.
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @param memo
+     *          The memo to store intermediate results in, not {@code null}.
+     *
+     * @return
+     *          The number of paths of the transitive reachability set which start with the current path and are
+     *          covered by at least one of the given {@code graphCoverings}.
+     */
+    private long countCoveredPaths(int nodeIndex, BitSet visited, int length, int depthLimit, long[] states,
+                                   List<GraphCovering> graphCoverings, Map<MemoKey, Long> memo) {
+        if(states.length == 0) {
+            return 0L;
+        }
+
+        var nodeChildren = children[nodeIndex];
+
+        if(nodeChildren.length == 0) {
+            return acceptsLeaf(states, graphCoverings) ? 1L : 0L;
+        } else if(length >= depthLimit) {
+            // every covering which still matches the truncated path covers at least one of its extensions
+            return 1L;
+        }
+
+        var memoKey = new MemoKey(nodeIndex, visited, remainingDepth(length, depthLimit), states);
+        var memoizedCount = memo.get(memoKey);
+        if(memoizedCount != null) {
+            return memoizedCount;
+        }
+
+        var count = 0L;
+
+        for(var childIndex : nodeChildren) {
+            var childStates = advance(states, childIndex, graphCoverings);
+
+            if(childStates.length == 0) {
+                continue;
+            }
+
+            if(isOnPath(nodeIndex, childIndex, visited)) {
+                count = saturatedAdd(count, acceptsLoop(childStates, childIndex, graphCoverings) ? 1L : 0L);
+            } else {
+                count = saturatedAdd(count, countCoveredPaths(childIndex, extendVisited(nodeIndex, childIndex, visited),
+                        length + 1, depthLimit, childStates, graphCoverings, memo));
+            }
+        }
+
+        memo.put(memoKey, count);
+        return count;
+    }
+
+    /**
+     *
+     * @param length
+     *          The length of the current path.
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated.
+     *
+     * @return
+     *          The number of nodes which might still be appended to the current path or {@code -1} in case the
+     *          paths are not truncated, so states of different lengths share their memoized results.
+     */
+    private static int remainingDepth(int length, int depthLimit) {
+        return depthLimit == UNLIMITED_DEPTH ? -1 : depthLimit - length;
+    }
+
+    /**
+     * Counts are added with saturation instead of silently wrapping around, since the number of paths grows
+     * exponentially with the depth of the graph.
+     *
+     * @param count
+     *          The current count, not negative.
+     *
+     * @param addend
+     *          The count to add, not negative.
+     *
+     * @return
+     *          The sum of the given counts or {@link Long#MAX_VALUE} in case the sum exceeds the {@code long} range.
+     */
+    private static long saturatedAdd(long count, long addend) {
+        try {
+            return Math.addExact(count, addend);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     *
+     * @param path
+     *          The path to check, not {@code null}.
+     *
+     * @param depthLimit
+     *          The length after which the paths are truncated, must be positive.
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the given {@code path} is part of the transitive reachability set of the graph
+     *          truncated after the given {@code depthLimit} and is not covered by any of the given
+     *          {@code graphCoverings}. {@code false} is returned otherwise.
+     */
+    private boolean isUncoveredTransitiveReachabilityPath(Path path, int depthLimit, List<GraphCovering> graphCoverings) {
+        if(path.isEmpty()) {
+            return rootIndices.length == 0 && !acceptsEmptyPath(graphCoverings);
+        }
+
+        var pathIndices = toIndices(path.getNodes());
+        if(pathIndices.length != path.getLength() || Arrays.stream(rootIndices).noneMatch(rootIndex -> rootIndex == pathIndices[0])) {
+            return false;
+        }
+
+        var visited = new BitSet();
+        visited.set(pathIndices[0]);
+
+        var states = advance(initialStates(graphCoverings), pathIndices[0], graphCoverings);
+
+        for(var pathIndex = 1; pathIndex < pathIndices.length; pathIndex++) {
+            var parentIndex = pathIndices[pathIndex - 1];
+            var nodeIndex = pathIndices[pathIndex];
+
+            if(Arrays.stream(children[parentIndex]).noneMatch(childIndex -> childIndex == nodeIndex)) {
+                return false;
+            }
+
+            states = advance(states, nodeIndex, graphCoverings);
+
+            if(visited.get(nodeIndex)) {
+                return pathIndex == pathIndices.length - 1 && !acceptsLoop(states, nodeIndex, graphCoverings);
+            }
+
+            visited.set(nodeIndex);
+        }
+
+        if(children[pathIndices[pathIndices.length - 1]].length == 0) {
+            return !acceptsLeaf(states, graphCoverings);
+        }
+
+        return pathIndices.length >= depthLimit && states.length == 0;
+    }
+
+    /**
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if at least one of the given {@code graphCoverings} covers the empty path. This
+     *          is the case when both the prefix and the covering graph are empty.
+     */
+    private boolean acceptsEmptyPath(List<GraphCovering> graphCoverings) {
+        return graphCoverings.stream()
+                .anyMatch(graphCovering -> graphCovering.prefixIndices.length == 0 && graphCovering.rootIndices.isEmpty());
+    }
+
+    /**
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @return
+     *          The sorted initial states of the given {@code graphCoverings}.
+     */
+    private long[] initialStates(List<GraphCovering> graphCoverings) {
+        var states = new long[graphCoverings.size()];
+
+        for(var coveringIndex = 0; coveringIndex < states.length; coveringIndex++) {
+            states[coveringIndex] = state(coveringIndex, 0);
+        }
+
+        return states;
+    }
+
+    /**
+     * Advances the given {@code states} by one node. A state consists of the index of the graph covering and
+     * the position inside that covering. A position {@code p <= prefixLength} states that the first {@code p}
+     * nodes of the prefix are matched. A position {@code p > prefixLength} states that the current path is matched
+     * by the prefix and a path in the covering graph ending with the node at index {@code p - prefixLength - 1}.
+     *
+     * @param states
+     *          The sorted states to advance, not {@code null}.
+     *
+     * @param nodeIndex
+     *          The index of the node which is appended to the current path.
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @return
+     *          The sorted states of the graph coverings which still match the current path after the node
+     *          was appended.
+     */
+    private long[] advance(long[] states, int nodeIndex, List<GraphCovering> graphCoverings) {
+        var advancedStates = new long[states.length];
+        var advancedStateCount = 0;
+
+        for(var state : states) {
+            var coveringIndex = coveringIndex(state);
+            var position = position(state);
+            var graphCovering = graphCoverings.get(coveringIndex);
+            var prefixLength = graphCovering.prefixIndices.length;
+
+            if(position < prefixLength) {
+                if(graphCovering.prefixIndices[position] == nodeIndex) {
+                    advancedStates[advancedStateCount++] = state(coveringIndex, position + 1);
+                }
+            } else {
+                var coveringNodeIndex = graphCovering.coveringNodeIndices[nodeIndex];
+
+                if(coveringNodeIndex < 0) {
+                    continue;
+                }
+
+                var candidates = (position == prefixLength) ? graphCovering.rootIndices :
+                        graphCovering.children[position - prefixLength - 1];
+
+                if(candidates.get(coveringNodeIndex)) {
+                    advancedStates[advancedStateCount++] = state(coveringIndex, prefixLength + 1 + coveringNodeIndex);
+                }
+            }
+        }
+
+        var result = Arrays.copyOf(advancedStates, advancedStateCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     *
+     * @param states
+     *          The states of the graph coverings, not {@code null}.
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if at least one graph covering covers the current path, which ends with a leaf node.
+     */
+    private boolean acceptsLeaf(long[] states, List<GraphCovering> graphCoverings) {
+        for(var state : states) {
+            var graphCovering = graphCoverings.get(coveringIndex(state));
+
+            if(graphCovering.acceptsEnd(position(state))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     *
+     * @param states
+     *          The states of the graph coverings, not {@code null}.
+     *
+     * @param nodeIndex
+     *          The index of the last node of the current path which is also contained earlier in the path.
+     *
+     * @param graphCoverings
+     *          The graph coverings, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if at least one graph covering covers the current path, which ends with a loop.
+     */
+    private boolean acceptsLoop(long[] states, int nodeIndex, List<GraphCovering> graphCoverings) {
+        for(var state : states) {
+            var graphCovering = graphCoverings.get(coveringIndex(state));
+            var position = position(state);
+
+            // the path of the covering graph also ends with a loop when the repeated node is not part of the prefix
+            if(graphCovering.acceptsEnd(position) ||
+                    (position > graphCovering.prefixIndices.length && !graphCovering.prefixNodeIndices.get(nodeIndex))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     *
+     * @param prefix
+     *          The prefix path, not {@code null}.
+     *
+     * @param coveringGraph
+     *          The covering graph, not {@code null}.
+     *
+     * @return
+     *          An optional containing the graph covering or an empty optional in case the given {@code prefix}
+     *          contains nodes which are not part of the graph and therefore cannot cover any path.
+     */
+    private Optional<GraphCovering> toGraphCovering(Path prefix, AccessibleFieldGraph coveringGraph) {
+        var prefixIndices = toIndices(prefix.getNodes());
+        if(prefixIndices.length != prefix.getLength()) {
+            return Optional.empty();
+        }
+
+        var coveringNodes = new ArrayList<>(coveringGraph.getAllNodes());
+        var coveringNodeIndexMap = new HashMap<AccessibleFieldGraphNode, Integer>();
+        for(var coveringNodeIndex = 0; coveringNodeIndex < coveringNodes.size(); coveringNodeIndex++) {
+            coveringNodeIndexMap.put(coveringNodes.get(coveringNodeIndex), coveringNodeIndex);
+        }
+
+        var coveringChildren = new BitSet[coveringNodes.size()];
+        for(var coveringNodeIndex = 0; coveringNodeIndex < coveringNodes.size(); coveringNodeIndex++) {
+            coveringChildren[coveringNodeIndex] = toBitSet(coveringNodes.get(coveringNodeIndex).getChildren(), coveringNodeIndexMap);
+        }
+
+        var coveringNodeIndices = new int[nodes.size()];
+        for(var nodeIndex = 0; nodeIndex < nodes.size(); nodeIndex++) {
+            coveringNodeIndices[nodeIndex] = coveringNodeIndexMap.getOrDefault(nodes.get(nodeIndex), -1);
+        }
+
+        var prefixNodeIndices = new BitSet();
+        Arrays.stream(prefixIndices).forEach(prefixNodeIndices::set);
+
+        return Optional.of(new GraphCovering(prefixIndices, prefixNodeIndices, toBitSet(coveringGraph.getRootNodes(),
+                coveringNodeIndexMap), coveringChildren, coveringNodeIndices));
+    }
+
+    /**
+     *
+     * @param nodeIndex
+     *          The index of the last node of the current path.
+     *
+     * @param childIndex
+     *          The index of a child node of the last node.
+     *
+     * @param visited
+     *          The local indices of the nodes on the current path which are part of the same strongly connected
+     *          component as the last node.
+     *
+     * @return
+     *          {@code true}, if the child node is already contained in the current path.
+     */
+    private boolean isOnPath(int nodeIndex, int childIndex, BitSet visited) {
+        return componentIds[nodeIndex] == componentIds[childIndex] && visited.get(componentLocalIndices[childIndex]);
+    }
+
+    /**
+     *
+     * @param nodeIndex
+     *          The index of the last node of the current path.
+     *
+     * @param childIndex
+     *          The index of a child node of the last node which is not contained in the current path.
+     *
+     * @param visited
+     *          The local indices of the nodes on the current path which are part of the same strongly connected
+     *          component as the last node.
+     *
+     * @return
+     *          The local indices of the nodes on the extended path which are part of the same strongly connected
+     *          component as the child node. Nodes of other components cannot be reached again from the child node.
+     */
+    private BitSet extendVisited(int nodeIndex, int childIndex, BitSet visited) {
+        BitSet extendedVisited;
+
+        if(componentIds[nodeIndex] == componentIds[childIndex]) {
+            extendedVisited = (BitSet) visited.clone();
+        } else {
+            extendedVisited = new BitSet();
+        }
+
+        extendedVisited.set(componentLocalIndices[childIndex]);
+        return extendedVisited;
+    }
+
+    /**
+     * Iterative implementation of Tarjan's algorithm to compute the strongly connected components of the graph.
+     */
+    private void computeStronglyConnectedComponents() {
+        var nodeCount = nodes.size();
+        var discoveryIndices = new int[nodeCount];
+        var lowLinks = new int[nodeCount];
+        var onStack = new boolean[nodeCount];
+        var stack = new int[nodeCount];
+        var callStack = new int[nodeCount];
+        var childPositions = new int[nodeCount];
+        var stackSize = 0;
+        var nextDiscoveryIndex = 0;
+        var componentCount = 0;
+
+        Arrays.fill(discoveryIndices, -1);
+
+        for(var startIndex = 0; startIndex < nodeCount; startIndex++) {
+            if(discoveryIndices[startIndex] != -1) {
+                continue;
+            }
+
+            var depth = 0;
+            callStack[0] = startIndex;
+            discoveryIndices[startIndex] = lowLinks[startIndex] = nextDiscoveryIndex++;
+            stack[stackSize++] = startIndex;
+            onStack[startIndex] = true;
+
+            while(depth >= 0) {
+                var nodeIndex = callStack[depth];
+
+                if(childPositions[nodeIndex] < children[nodeIndex].length) {
+                    var childIndex = children[nodeIndex][childPositions[nodeIndex]++];
+
+                    if(discoveryIndices[childIndex] == -1) {
+                        discoveryIndices[childIndex] = lowLinks[childIndex] = nextDiscoveryIndex++;
+                        stack[stackSize++] = childIndex;
+                        onStack[childIndex] = true;
+                        callStack[++depth] = childIndex;
+                    } else if(onStack[childIndex]) {
+                        lowLinks[nodeIndex] = Math.min(lowLinks[nodeIndex], discoveryIndices[childIndex]);
+                    }
+                } else {
+                    if(lowLinks[nodeIndex] == discoveryIndices[nodeIndex]) {
+                        var localIndex = 0;
+                        int componentNodeIndex;
+
+                        do {
+                            componentNodeIndex = stack[--stackSize];
+                            onStack[componentNodeIndex] = false;
+                            componentIds[componentNodeIndex] = componentCount;
+                            componentLocalIndices[componentNodeIndex] = localIndex++;
+                        } while(componentNodeIndex != nodeIndex);
+
+                        componentCount++;
+                    }
+
+                    depth--;
+
+                    if(depth >= 0) {
+                        var parentIndex = callStack[depth];
+                        lowLinks[parentIndex] = Math.min(lowLinks[parentIndex], lowLinks[nodeIndex]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @param graphNodes
+     *          The nodes to get the indices of, not {@code null}.
+     *
+     * @return
+     *          The indices of the given {@code graphNodes} which are part of the graph. Nodes which are not part
+     *          of the graph are skipped.
+     */
+    private int[] toIndices(Collection<AccessibleFieldGraphNode> graphNodes) {
+        return graphNodes.stream()
+                .map(nodeIndices::get)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     *
+     * @param graphNodes
+     *          The nodes to get the indices of, not {@code null}.
+     *
+     * @param indexMap
+     *          The map mapping a node to its index, not {@code null}.
+     *
+     * @return
+     *          A bit set containing the indices of the given {@code graphNodes}.
+     */
+    private static BitSet toBitSet(Collection<AccessibleFieldGraphNode> graphNodes, Map<AccessibleFieldGraphNode, Integer> indexMap) {
+        var bitSet = new BitSet();
+
+        graphNodes.stream()
+                .map(indexMap::get)
+                .filter(Objects::nonNull)
+                .forEach(bitSet::set);
+
+        return bitSet;
+    }
+
+    private static long state(int coveringIndex, int position) {
+        return ((long) coveringIndex << 32) | position;
+    }
+
+    private static int coveringIndex(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int position(long state) {
+        return (int) state;
+    }
+
+    /**
+     * Index based representation of a {@link PathCovering} with a covering graph.
+     */
+    private static class GraphCovering {
+
+        /**
+         * The indices of the prefix nodes in the counted graph.
+         */
+        private final int[] prefixIndices;
+
+        /**
+         * The indices of the prefix nodes in the counted graph as a bit set.
+         */
+        private final BitSet prefixNodeIndices;
+
+        /**
+         * The indices of the root nodes of the covering graph.
+         */
+        private final BitSet rootIndices;
+
+        /**
+         * The indices of the child nodes of each node of the covering graph.
+         */
+        private final BitSet[] children;
+
+        /**
+         * The index of the equal node of the covering graph for each node of the counted graph or {@code -1} in
+         * case the covering graph does not contain an equal node.
+         */
+        private final int[] coveringNodeIndices;
+
+        GraphCovering(int[] prefixIndices, BitSet prefixNodeIndices, BitSet rootIndices, BitSet[] children, int[] coveringNodeIndices) {
+            this.prefixIndices = prefixIndices;
+            this.prefixNodeIndices = prefixNodeIndices;
+            this.rootIndices = rootIndices;
+            this.children = children;
+            this.coveringNodeIndices = coveringNodeIndices;
+        }
+
+        /**
+         *
+         * @param position
+         *          The position of a state of {@code this} covering.
+         *
+         * @return
+         *          {@code true}, if a covered path ends at the given position. This is the case when the
+         *          prefix is matched and the covering graph is empty or the path of the covering graph ends with
+         *          a leaf node.
+         */
+        boolean acceptsEnd(int position) {
+            if(position < prefixIndices.length) {
+                return false;
+            } else if(position == prefixIndices.length) {
+                return rootIndices.isEmpty();
+            }
+
+            return children[position - prefixIndices.length - 1].isEmpty();
+        }
+
+    }
+
+    /**
+     * Key of the memo used while counting paths.
+     */
+    private static class MemoKey {
+
+        private final int nodeIndex;
+
+        private final BitSet visited;
+
+        private final int remainingDepth;
+
+        private final long[] states;
+
+        private final int hashCode;
+
+        MemoKey(int nodeIndex, BitSet visited, int remainingDepth, long[] states) {
+            this.nodeIndex = nodeIndex;
+            this.visited = visited;
+            this.remainingDepth = remainingDepth;
+            this.states = states;
+            this.hashCode = Objects.hash(nodeIndex, visited, remainingDepth, Arrays.hashCode(states));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj) {
+                return true;
+            } else if(!(obj instanceof MemoKey)) {
+                return false;
+            }
+
+            var other = (MemoKey) obj;
+            return nodeIndex == other.nodeIndex && visited.equals(other.visited) && remainingDepth == other.remainingDepth
+                    && Arrays.equals(states, other.states);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package de.adesso.objectfieldcoverage.api.evaluation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when the {@link de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation}
+ * of an asserted type is requested. The duration of the event is the duration of the cache lookup and, on a cache
+ * miss, of building the accessible field graphs and analyzing the equals methods.
+ */
+@Name(EvaluationBuildEvent.NAME)
+@Label("Assertion Evaluation Build")
+@Category({ "Object Field Coverage", "Evaluation" })
+@Description("Building or looking up the evaluation information of an asserted type")
+@StackTrace(false)
+public class EvaluationBuildEvent extends Event {
+
+    /**
+     * The name of the event.
+     */
+    public static final String NAME = "de.adesso.objectfieldcoverage.EvaluationBuild";
+
+    @Label("Starting Type")
+    @Description("The qualified name of the asserted type")
+    public String startingType;
+
+    @Label("Accessing Type")
+    @Description("The qualified name of the type accessing the fields")
+    public String accessingType;
+
+    @Label("Node Count")
+    @Description("The number of nodes of the accessible field graph")
+    public int nodeCount;
+
+    @Label("Path Count")
+    @Description("The number of paths in the transitive reachability set of the accessible field graph, saturated at Long.MAX_VALUE")
+    public long pathCount;
+
+    @Label("Paths Not Used In Equals")
+    @Description("The number of paths of fields which are not compared in the equals method")
+    public long pathsNotUsedInEqualsCount;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+}
@@ -0,0 +1,46 @@
+package de.adesso.objectfieldcoverage.api.evaluation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when an {@link de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph}
+ * is built. The duration of the event is the duration of the build process. Graphs are not cached on their own, but
+ * as part of the evaluation information of an asserted type, so cache hits and misses are recorded by the
+ * {@link EvaluationBuildEvent} instead.
+ */
+@Name(GraphBuildEvent.NAME)
+@Label("Accessible Field Graph Build")
+@Category({ "Object Field Coverage", "Graph" })
+@Description("Building the graph of the accessible fields of a type")
+@StackTrace(false)
+public class GraphBuildEvent extends Event {
+
+    /**
+     * The name of the event.
+     */
+    public static final String NAME = "de.adesso.objectfieldcoverage.GraphBuild";
+
+    @Label("Starting Type")
+    @Description("The qualified name of the type the graph was built for")
+    public String startingType;
+
+    @Label("Accessing Type")
+    @Description("The qualified name of the type accessing the fields")
+    public String accessingType;
+
+    @Label("Root Node Count")
+    public int rootNodeCount;
+
+    @Label("Node Count")
+    public int nodeCount;
+
+    @Label("Path Count")
+    @Description("The number of paths in the transitive reachability set of the graph, saturated at Long.MAX_VALUE")
+    public long pathCount;
+
+}
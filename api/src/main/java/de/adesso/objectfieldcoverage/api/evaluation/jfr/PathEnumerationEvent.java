@@ -0,0 +1,45 @@
+package de.adesso.objectfieldcoverage.api.evaluation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when the paths of the transitive reachability set of an
+ * {@link de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph} are requested. The duration of the
+ * event is the duration of the enumeration. Useful to find the types causing a path explosion.
+ */
+@Name(PathEnumerationEvent.NAME)
+@Label("Transitive Reachability Path Enumeration")
+@Category({ "Object Field Coverage", "Graph" })
+@Description("Enumerating the paths of the transitive reachability set of a graph")
+@StackTrace(false)
+public class PathEnumerationEvent extends Event {
+
+    /**
+     * The name of the event.
+     */
+    public static final String NAME = "de.adesso.objectfieldcoverage.PathEnumeration";
+
+    @Label("Starting Type")
+    @Description("The qualified name of the type described by the graph")
+    public String startingType;
+
+    @Label("Accessing Type")
+    @Description("The qualified name of the type accessing the fields")
+    public String accessingType;
+
+    @Label("Node Count")
+    public int nodeCount;
+
+    @Label("Path Count")
+    public int pathCount;
+
+    @Label("Cache Hit")
+    @Description("Whether the paths were already enumerated by a previous request")
+    public boolean cacheHit;
+
+}
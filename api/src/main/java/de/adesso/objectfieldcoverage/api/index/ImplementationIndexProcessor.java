@@ -0,0 +1,207 @@
+package de.adesso.objectfieldcoverage.api.index;
+
+import de.adesso.objectfieldcoverage.api.Order;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Annotation processor which writes an index of all concrete classes of a compilation unit together with their
+ * supertypes and {@link Order} value to the {@value #INDEX_RESOURCE_LOCATION} resource. The index is used at runtime
+ * to find the implementations of an interface / abstract class without scanning the classpath.
+ * <p/>
+ * Each line of the index has the format {@code <binary class name>\t<order>\t<supertype>,<supertype>,...}, where the
+ * supertypes are the binary names of all direct and indirect superclasses and interfaces of the class, excluding
+ * {@link Object}. Lines starting with {@value #COMMENT_PREFIX} are comments.
+ *
+ * @implNote The processor does not check whether a class declares a public no-arg constructor, since constructors
+ * generated by other annotation processors (e.g. Lombok) are not necessarily visible at the time the index is written.
+ * The constructor is therefore checked when the index is read.
+ */
+@SupportedAnnotationTypes("*")
+public class ImplementationIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The location of the index resource relative to the class output directory / root of the JAR.
+     */
+    public static final String INDEX_RESOURCE_LOCATION = "META-INF/object-field-coverage/implementations.idx";
+
+    /**
+     * The separator between the columns of a line.
+     */
+    public static final String COLUMN_SEPARATOR = "\t";
+
+    /**
+     * The separator between the supertypes in the last column of a line.
+     */
+    public static final String SUPERTYPE_SEPARATOR = ",";
+
+    /**
+     * The prefix of a comment line.
+     */
+    public static final String COMMENT_PREFIX = "#";
+
+    /**
+     * The qualified name of the {@link Object} class, which is not included in the supertypes of an indexed class.
+     */
+    private static final String OBJECT_QUALIFIED_NAME = Object.class.getName();
+
+    /**
+     * A map which maps the binary name of an indexed class to the line of the class in the index. Sorted so the
+     * resulting index does not depend on the order in which the classes are processed.
+     */
+    private final Map<String, String> indexLines = new TreeMap<>();
+
+    /**
+     *
+     * @return
+     *          The latest supported source version, since the processor only inspects type hierarchies.
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     *
+     * @param annotations
+     *          The annotation types requested to be processed. Not used by this implementation.
+     *
+     * @param roundEnv
+     *          The environment for information about the current and prior round, not {@code null}.
+     *
+     * @return
+     *          {@code false}, since the processor does not claim any annotations.
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if(roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for(var typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            indexTypeAndNestedTypes(typeElement);
+        }
+
+        return false;
+    }
+
+    /**
+     *
+     * @param typeElement
+     *          The type to index together with its nested types, not {@code null}.
+     */
+    private void indexTypeAndNestedTypes(TypeElement typeElement) {
+        if(isConcreteClass(typeElement)) {
+            var binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+            var supertypes = findSupertypeBinaryNames(typeElement);
+
+            indexLines.put(binaryName, String.join(COLUMN_SEPARATOR, binaryName, String.valueOf(findOrder(typeElement)),
+                    String.join(SUPERTYPE_SEPARATOR, supertypes)));
+        }
+
+        for(var nestedTypeElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            indexTypeAndNestedTypes(nestedTypeElement);
+        }
+    }
+
+    /**
+     *
+     * @param typeElement
+     *          The type to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the given {@code typeElement} is a class which is not abstract. {@code false}
+     *          is returned otherwise.
+     */
+    private boolean isConcreteClass(TypeElement typeElement) {
+        return typeElement.getKind() == ElementKind.CLASS && !typeElement.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    /**
+     *
+     * @param typeElement
+     *          The type to find the supertypes of, not {@code null}.
+     *
+     * @return
+     *          A set containing the binary names of all direct and indirect superclasses and interfaces of the
+     *          given {@code typeElement}, excluding {@link Object}.
+     */
+    private Set<String> findSupertypeBinaryNames(TypeElement typeElement) {
+        var supertypeBinaryNames = new TreeSet<String>();
+        var typesToVisit = new ArrayDeque<TypeMirror>(processingEnv.getTypeUtils().directSupertypes(typeElement.asType()));
+
+        while(!typesToVisit.isEmpty()) {
+            var currentType = typesToVisit.pop();
+
+            if(currentType.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+
+            var currentTypeElement = (TypeElement) ((DeclaredType) currentType).asElement();
+            var binaryName = processingEnv.getElementUtils().getBinaryName(currentTypeElement).toString();
+
+            if(!OBJECT_QUALIFIED_NAME.equals(binaryName) && supertypeBinaryNames.add(binaryName)) {
+                typesToVisit.addAll(processingEnv.getTypeUtils().directSupertypes(currentType));
+            }
+        }
+
+        return supertypeBinaryNames;
+    }
+
+    /**
+     *
+     * @param typeElement
+     *          The type to find the order of, not {@code null}.
+     *
+     * @return
+     *          The value of the {@link Order} annotation which is present on the given {@code typeElement} (inherited
+     *          annotations included) or {@link Order#DEFAULT} in case no such annotation is present.
+     */
+    private int findOrder(TypeElement typeElement) {
+        var orderAnnotation = typeElement.getAnnotation(Order.class);
+        return orderAnnotation != null ? orderAnnotation.value() : Order.DEFAULT;
+    }
+
+    /**
+     * Writes the index to the {@value #INDEX_RESOURCE_LOCATION} resource in case at least one class was indexed.
+     */
+    private void writeIndex() {
+        if(indexLines.isEmpty()) {
+            return;
+        }
+
+        try {
+            var indexResource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_LOCATION);
+
+            try(Writer writer = new OutputStreamWriter(indexResource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(COMMENT_PREFIX + " generated by " + getClass().getName() + "\n");
+
+                for(var indexLine : indexLines.values()) {
+                    writer.write(indexLine);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("Error writing implementation index '%s': %s", INDEX_RESOURCE_LOCATION, e.getMessage()));
+        }
+    }
+
+}
@@ -6,9 +6,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith({MockitoExtension.class})
@@ -42,4 +50,84 @@ class AccessibleFieldGraphNodeTest {
         assertThat(actualResult).isFalse();
     }
 
+    @Test
+    void addChildrenThrowsExceptionWhenNodeIsFrozen(@Mock AccessibleField<String> fieldMock,
+                                                   @Mock AccessibleField<String> childFieldMock) {
+        // given
+        var childNode = AccessibleFieldGraphNode.of(childFieldMock);
+        var testSubject = AccessibleFieldGraphNode.of(fieldMock);
+        testSubject.freeze();
+
+        // when / then
+        assertThatThrownBy(() -> testSubject.addChildren(Set.of(childNode)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot add child nodes to a frozen node!");
+    }
+
+    @Test
+    void getChildrenReturnsSameSetWhenNodeIsFrozen(@Mock AccessibleField<String> fieldMock,
+                                                  @Mock AccessibleField<String> childFieldMock) {
+        // given
+        var childNode = AccessibleFieldGraphNode.of(childFieldMock);
+        var testSubject = new AccessibleFieldGraphNode(fieldMock, Set.of(childNode));
+        testSubject.freeze();
+
+        // when
+        var firstChildren = testSubject.getChildren();
+        var secondChildren = testSubject.getChildren();
+
+        // then
+        assertThat(firstChildren).containsExactly(childNode)
+                .isSameAs(secondChildren);
+    }
+
+    @Test
+    void equalsReturnsTrueForEqualFrozenNodes(@Mock AccessibleField<String> fieldMock,
+                                              @Mock AccessibleField<String> childFieldMock,
+                                              @Mock AccessibleField<String> otherChildFieldMock) {
+        // given
+        var testSubject = new AccessibleFieldGraphNode(fieldMock, Set.of(AccessibleFieldGraphNode.of(childFieldMock)));
+        var equalNode = new AccessibleFieldGraphNode(fieldMock, Set.of(AccessibleFieldGraphNode.of(childFieldMock)));
+        var otherNode = new AccessibleFieldGraphNode(fieldMock, Set.of(AccessibleFieldGraphNode.of(otherChildFieldMock)));
+
+        testSubject.freeze();
+        equalNode.freeze();
+        otherNode.freeze();
+
+        // when / then
+        assertThat(testSubject).isEqualTo(equalNode)
+                .hasSameHashCodeAs(equalNode)
+                .isNotEqualTo(otherNode);
+    }
+
+    @Test
+    void freezeAssignsSameIdToEqualNodesFrozenConcurrently(@Mock AccessibleField<String> fieldMock) throws Exception {
+        // given
+        var givenNodes = IntStream.range(0, 64)
+                .mapToObj(nodeIndex -> AccessibleFieldGraphNode.of(fieldMock))
+                .collect(Collectors.toList());
+        var executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<Integer>> actualIds;
+        try {
+            actualIds = executor.invokeAll(givenNodes.stream()
+                    .map(node -> (Callable<Integer>) () -> {
+                        node.freeze();
+                        return node.getId();
+                    })
+                    .collect(Collectors.toList()));
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        var distinctIds = new HashSet<Integer>();
+        for(var actualId : actualIds) {
+            distinctIds.add(actualId.get());
+        }
+
+        assertThat(distinctIds).hasSize(1);
+    }
+
 }
@@ -0,0 +1,514 @@
+package de.adesso.objectfieldcoverage.api.evaluation.graph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import spoon.reflect.reference.CtTypeReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class AccessibleFieldGraphTest {
+
+    @Test
+    void getAllNodesReturnsExpectedNodes(@Mock AccessibleFieldGraphNode firstRootNodeMock,
+                                         @Mock AccessibleFieldGraphNode secondRootNodeMock,
+                                         @Mock AccessibleFieldGraphNode childNodeMock,
+                                         @Mock AccessibleFieldGraphNode grandChildMock,
+                                         @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, firstRootNodeMock, secondRootNodeMock);
+
+        given(firstRootNodeMock.getChildren()).willReturn(Set.of(firstRootNodeMock, childNodeMock));
+        given(secondRootNodeMock.getChildren()).willReturn(Set.of(childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock));
+        given(grandChildMock.getChildren()).willReturn(Set.of(firstRootNodeMock));
+
+        // when
+        var actualNodes = testSubject.getAllNodes();
+
+        // then
+        assertThat(actualNodes).containsExactlyInAnyOrder(firstRootNodeMock, secondRootNodeMock, childNodeMock,
+                grandChildMock);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsEmptyPathWhenNoRootNodes(@Mock CtTypeReference<?> typeRefMock) {
+        // given
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock);
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(new Path());
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsPathsForRootNodesWhenNoChildNodes(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                                @Mock AccessibleFieldGraphNode otherRootNodeMock,
+                                                                                @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(otherRootNodeMock, 2);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, rootNodeMock, otherRootNodeMock);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of());
+        given(otherRootNodeMock.getChildren()).willReturn(Set.of());
+
+        var expectedPaths = Set.of(
+                new Path(rootNodeMock),
+                new Path(otherRootNodeMock)
+        );
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactlyInAnyOrderElementsOf(expectedPaths);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsPathsEndingWithSingleCycle(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                         @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, rootNodeMock);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(rootNodeMock));
+
+        var expectedPath = new Path(rootNodeMock, rootNodeMock);
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(expectedPath);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsPathsEndingWithSingleCycleOverMultipleNodes(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                                          @Mock AccessibleFieldGraphNode otherRootNodeMock,
+                                                                                          @Mock AccessibleFieldGraphNode childNode,
+                                                                                          @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(otherRootNodeMock, 2);
+        frozen(childNode, 3);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, rootNodeMock);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(childNode));
+        given(childNode.getChildren()).willReturn(Set.of(otherRootNodeMock));
+        given(otherRootNodeMock.getChildren()).willReturn(Set.of(childNode));
+
+        var expectedPath = new Path(rootNodeMock, childNode, otherRootNodeMock, childNode);
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(expectedPath);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsPathForEachChildNode(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                   @Mock AccessibleFieldGraphNode childNode,
+                                                                   @Mock AccessibleFieldGraphNode otherChildNode,
+                                                                   @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(childNode, 2);
+        frozen(otherChildNode, 3);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, rootNodeMock);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(childNode, otherChildNode));
+        given(childNode.getChildren()).willReturn(Set.of());
+        given(otherChildNode.getChildren()).willReturn(Set.of());
+
+        var expectedPaths = Set.of(
+                new Path(rootNodeMock, childNode),
+                new Path(rootNodeMock, otherChildNode)
+        );
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactlyInAnyOrderElementsOf(expectedPaths);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsPathsEndingWithLeafs(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                   @Mock AccessibleFieldGraphNode leafMock,
+                                                                   @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(leafMock, 2);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, rootNodeMock);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(leafMock));
+        given(leafMock.getChildren()).willReturn(Set.of());
+
+        var expectedPath = new Path(rootNodeMock, leafMock);
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(expectedPath);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsReturnsExpectedPaths(@Mock AccessibleFieldGraphNode firstRootNodeMock,
+                                                            @Mock AccessibleFieldGraphNode secondRootNodeMock,
+                                                            @Mock AccessibleFieldGraphNode childNodeMock,
+                                                            @Mock AccessibleFieldGraphNode grandChildMock,
+                                                            @Mock AccessibleFieldGraphNode otherGrandChildMock,
+                                                            @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(firstRootNodeMock, 1);
+        frozen(secondRootNodeMock, 2);
+        frozen(childNodeMock, 3);
+        frozen(grandChildMock, 4);
+        frozen(otherGrandChildMock, 5);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, firstRootNodeMock, secondRootNodeMock);
+
+        given(firstRootNodeMock.getChildren()).willReturn(Set.of(firstRootNodeMock, childNodeMock));
+        given(secondRootNodeMock.getChildren()).willReturn(Set.of(childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock, otherGrandChildMock));
+        given(grandChildMock.getChildren()).willReturn(Set.of(firstRootNodeMock));
+        given(otherGrandChildMock.getChildren()).willReturn(Set.of());
+
+        var expectedPaths = Set.of(
+                new Path(firstRootNodeMock, firstRootNodeMock),
+                new Path(firstRootNodeMock, childNodeMock, grandChildMock, firstRootNodeMock),
+                new Path(firstRootNodeMock, childNodeMock, otherGrandChildMock),
+                new Path(secondRootNodeMock, childNodeMock, grandChildMock, firstRootNodeMock, firstRootNodeMock),
+                new Path(secondRootNodeMock, childNodeMock, grandChildMock, firstRootNodeMock, childNodeMock),
+                new Path(secondRootNodeMock, childNodeMock, otherGrandChildMock)
+        );
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactlyInAnyOrderElementsOf(expectedPaths);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsTruncatesPathsWhenMaxPathLengthIsExceeded(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                                @Mock AccessibleFieldGraphNode childNodeMock,
+                                                                                @Mock AccessibleFieldGraphNode grandChildMock,
+                                                                                @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(childNodeMock, 2);
+        frozen(grandChildMock, 3);
+        var pathBudget = PathBudget.builder()
+                .maxPathLength(2)
+                .build();
+        var testSubject = new AccessibleFieldGraph(List.of(rootNodeMock), typeRefMock, typeRefMock, pathBudget);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock));
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(new Path(rootNodeMock, childNodeMock));
+        assertThat(testSubject.isApproximate()).isTrue();
+        assertThat(testSubject.getPathTruncationDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsTruncatesPathsWhenMaxPathCountIsExceeded(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                               @Mock AccessibleFieldGraphNode firstChildMock,
+                                                                               @Mock AccessibleFieldGraphNode secondChildMock,
+                                                                               @Mock AccessibleFieldGraphNode thirdChildMock,
+                                                                               @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(firstChildMock, 2);
+        frozen(secondChildMock, 3);
+        frozen(thirdChildMock, 4);
+        var pathBudget = PathBudget.builder()
+                .maxPathCount(2L)
+                .build();
+        var testSubject = new AccessibleFieldGraph(List.of(rootNodeMock), typeRefMock, typeRefMock, pathBudget);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(firstChildMock, secondChildMock, thirdChildMock));
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(new Path(rootNodeMock));
+        assertThat(testSubject.isApproximate()).isTrue();
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsDoesNotTruncatePathsWithinBudget(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                       @Mock AccessibleFieldGraphNode childNodeMock,
+                                                                       @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(childNodeMock, 2);
+        var pathBudget = PathBudget.builder()
+                .maxPathCount(1L)
+                .maxPathLength(2)
+                .build();
+        var testSubject = new AccessibleFieldGraph(List.of(rootNodeMock), typeRefMock, typeRefMock, pathBudget);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of());
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        assertThat(actualPaths).containsExactly(new Path(rootNodeMock, childNodeMock));
+        assertThat(testSubject.isApproximate()).isFalse();
+    }
+
+    @Test
+    void getTransitiveReachabilityPathsTruncatesPathsAtReachedLengthWhenDeadlineIsExceeded(@Mock CtTypeReference<?> typeRefMock) {
+        // given
+        var layers = new ArrayList<List<AccessibleFieldGraphNode>>();
+        for(var layerIndex = 0; layerIndex < 18; layerIndex++) {
+            var firstNodeMock = mock(AccessibleFieldGraphNode.class);
+            var secondNodeMock = mock(AccessibleFieldGraphNode.class);
+            frozen(firstNodeMock, 2 * layerIndex);
+            frozen(secondNodeMock, 2 * layerIndex + 1);
+            layers.add(List.of(firstNodeMock, secondNodeMock));
+        }
+
+        for(var layerIndex = 0; layerIndex < layers.size(); layerIndex++) {
+            Set<AccessibleFieldGraphNode> children = layerIndex + 1 < layers.size() ? Set.copyOf(layers.get(layerIndex + 1)) : Set.of();
+            layers.get(layerIndex).forEach(node -> lenient().when(node.getChildren()).thenReturn(children));
+        }
+
+        var pathBudget = PathBudget.builder()
+                .maxDurationMillis(1L)
+                .build();
+        var testSubject = new AccessibleFieldGraph(layers.get(0), typeRefMock, typeRefMock, pathBudget);
+
+        // when
+        var actualPaths = testSubject.getTransitiveReachabilityPaths();
+
+        // then
+        var actualTruncationDepth = testSubject.getPathTruncationDepth();
+        assertThat(testSubject.isApproximate()).isTrue();
+        assertThat(actualTruncationDepth).isBetween(1, layers.size() - 1);
+        assertThat(actualPaths).hasSize(1 << actualTruncationDepth)
+                .allMatch(path -> path.getLength() == actualTruncationDepth);
+        assertThat(testSubject.getTransitiveReachabilityPathCount()).isEqualTo(actualPaths.size());
+    }
+
+    @Test
+    void getTransitiveReachabilityPathCountCountsTruncatedPathsWhenPathBudgetIsExceeded(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                                        @Mock AccessibleFieldGraphNode firstChildMock,
+                                                                                        @Mock AccessibleFieldGraphNode secondChildMock,
+                                                                                        @Mock AccessibleFieldGraphNode grandChildMock,
+                                                                                        @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(firstChildMock, 2);
+        frozen(secondChildMock, 3);
+        frozen(grandChildMock, 4);
+        var pathBudget = PathBudget.builder()
+                .maxPathCount(2L)
+                .maxPathLength(3)
+                .build();
+        var testSubject = new AccessibleFieldGraph(List.of(rootNodeMock), typeRefMock, typeRefMock, pathBudget);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(firstChildMock, secondChildMock));
+        given(firstChildMock.getChildren()).willReturn(Set.of(grandChildMock, firstChildMock));
+        given(secondChildMock.getChildren()).willReturn(Set.of());
+
+        // when
+        var actualPathCount = testSubject.getTransitiveReachabilityPathCount();
+
+        // then
+        assertThat(actualPathCount).isEqualTo(2L);
+        assertThat(testSubject.getPathTruncationDepth()).isEqualTo(2);
+        assertThat(testSubject.isApproximate()).isTrue();
+        assertThat(testSubject.getTransitiveReachabilityPaths()).containsExactlyInAnyOrder(
+                new Path(rootNodeMock, firstChildMock),
+                new Path(rootNodeMock, secondChildMock)
+        );
+    }
+
+    @Test
+    void countCoveredTransitiveReachabilityPathsTruncatesCoveredPathsWhenPathBudgetIsExceeded(@Mock AccessibleFieldGraphNode rootNodeMock,
+                                                                                              @Mock AccessibleFieldGraphNode childNodeMock,
+                                                                                              @Mock AccessibleFieldGraphNode otherChildNodeMock,
+                                                                                              @Mock AccessibleFieldGraphNode grandChildMock,
+                                                                                              @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(rootNodeMock, 1);
+        frozen(childNodeMock, 2);
+        frozen(otherChildNodeMock, 3);
+        frozen(grandChildMock, 4);
+        var pathBudget = PathBudget.builder()
+                .maxPathLength(2)
+                .build();
+        var testSubject = new AccessibleFieldGraph(List.of(rootNodeMock), typeRefMock, typeRefMock, pathBudget);
+
+        given(rootNodeMock.getChildren()).willReturn(Set.of(childNodeMock, otherChildNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock));
+        given(otherChildNodeMock.getChildren()).willReturn(Set.of(grandChildMock));
+
+        var givenCovering = PathCovering.ofPaths(Set.of(new Path(rootNodeMock, childNodeMock, grandChildMock)));
+
+        // when
+        var actualCoveredPathCount = testSubject.countCoveredTransitiveReachabilityPaths(List.of(givenCovering));
+
+        // then
+        assertThat(actualCoveredPathCount).isEqualTo(1L);
+        assertThat(testSubject.getTransitiveReachabilityPathCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathCountReturnsOneWhenNoRootNodes(@Mock CtTypeReference<?> typeRefMock) {
+        // given
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock);
+
+        // when
+        var actualPathCount = testSubject.getTransitiveReachabilityPathCount();
+
+        // then
+        assertThat(actualPathCount).isEqualTo(1L);
+    }
+
+    @Test
+    void getTransitiveReachabilityPathCountReturnsNumberOfTransitiveReachabilityPaths(@Mock AccessibleFieldGraphNode firstRootNodeMock,
+                                                                                       @Mock AccessibleFieldGraphNode secondRootNodeMock,
+                                                                                       @Mock AccessibleFieldGraphNode childNodeMock,
+                                                                                       @Mock AccessibleFieldGraphNode grandChildMock,
+                                                                                       @Mock AccessibleFieldGraphNode otherGrandChildMock,
+                                                                                       @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(firstRootNodeMock, 1);
+        frozen(secondRootNodeMock, 2);
+        frozen(childNodeMock, 3);
+        frozen(grandChildMock, 4);
+        frozen(otherGrandChildMock, 5);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, firstRootNodeMock, secondRootNodeMock);
+
+        given(firstRootNodeMock.getChildren()).willReturn(Set.of(firstRootNodeMock, childNodeMock));
+        given(secondRootNodeMock.getChildren()).willReturn(Set.of(childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock, otherGrandChildMock));
+        given(grandChildMock.getChildren()).willReturn(Set.of(firstRootNodeMock));
+        given(otherGrandChildMock.getChildren()).willReturn(Set.of());
+
+        // when
+        var actualPathCount = testSubject.getTransitiveReachabilityPathCount();
+
+        // then
+        assertThat(actualPathCount).isEqualTo(testSubject.getTransitiveReachabilityPaths().size());
+    }
+
+    @Test
+    void getTransitiveReachabilityPathCountSaturatesWhenCountExceedsLongRange(@Mock CtTypeReference<?> typeRefMock) {
+        // given
+        var layers = new ArrayList<List<AccessibleFieldGraphNode>>();
+        for(var layerIndex = 0; layerIndex < 64; layerIndex++) {
+            layers.add(List.of(mock(AccessibleFieldGraphNode.class), mock(AccessibleFieldGraphNode.class)));
+        }
+
+        for(var layerIndex = 0; layerIndex < layers.size(); layerIndex++) {
+            Set<AccessibleFieldGraphNode> children = layerIndex + 1 < layers.size() ? Set.copyOf(layers.get(layerIndex + 1)) : Set.of();
+            layers.get(layerIndex).forEach(node -> given(node.getChildren()).willReturn(children));
+        }
+
+        var testSubject = new AccessibleFieldGraph(layers.get(0), typeRefMock, typeRefMock);
+
+        // when
+        var actualPathCount = testSubject.getTransitiveReachabilityPathCount();
+
+        // then
+        assertThat(actualPathCount).isEqualTo(Long.MAX_VALUE);
+        assertThat(testSubject.isApproximate()).isTrue();
+    }
+
+    @Test
+    void countCoveredTransitiveReachabilityPathsCountsUnionOfCoverings(@Mock AccessibleFieldGraphNode firstRootNodeMock,
+                                                                      @Mock AccessibleFieldGraphNode secondRootNodeMock,
+                                                                      @Mock AccessibleFieldGraphNode childNodeMock,
+                                                                      @Mock AccessibleFieldGraphNode grandChildMock,
+                                                                      @Mock AccessibleFieldGraphNode otherGrandChildMock,
+                                                                      @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(firstRootNodeMock, 1);
+        frozen(secondRootNodeMock, 2);
+        frozen(childNodeMock, 3);
+        frozen(grandChildMock, 4);
+        frozen(otherGrandChildMock, 5);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, firstRootNodeMock, secondRootNodeMock);
+        var childGraph = new AccessibleFieldGraph(typeRefMock, typeRefMock, childNodeMock);
+
+        given(firstRootNodeMock.getChildren()).willReturn(Set.of(firstRootNodeMock, childNodeMock));
+        given(secondRootNodeMock.getChildren()).willReturn(Set.of(childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock, otherGrandChildMock));
+        given(grandChildMock.getChildren()).willReturn(Set.of(firstRootNodeMock));
+        given(otherGrandChildMock.getChildren()).willReturn(Set.of());
+
+        var givenCoverings = List.of(
+                PathCovering.ofGraph(new Path(secondRootNodeMock), childGraph),
+                PathCovering.ofPaths(Set.of(
+                        new Path(firstRootNodeMock, firstRootNodeMock),
+                        new Path(secondRootNodeMock, childNodeMock, otherGrandChildMock)
+                ))
+        );
+
+        // when
+        var actualCoveredPathCount = testSubject.countCoveredTransitiveReachabilityPaths(givenCoverings);
+
+        // then
+        assertThat(actualCoveredPathCount).isEqualTo(4L);
+    }
+
+    @Test
+    void countCoveredTransitiveReachabilityPathsDoesNotCountPathsEndingWithLoopOverPrefix(@Mock AccessibleFieldGraphNode firstRootNodeMock,
+                                                                                         @Mock AccessibleFieldGraphNode childNodeMock,
+                                                                                         @Mock AccessibleFieldGraphNode grandChildMock,
+                                                                                         @Mock AccessibleFieldGraphNode otherGrandChildMock,
+                                                                                         @Mock CtTypeReference<?> typeRefMock) {
+        // given
+        frozen(firstRootNodeMock, 1);
+        frozen(childNodeMock, 2);
+        frozen(grandChildMock, 3);
+        frozen(otherGrandChildMock, 4);
+        var testSubject = new AccessibleFieldGraph(typeRefMock, typeRefMock, firstRootNodeMock);
+        var childGraph = new AccessibleFieldGraph(typeRefMock, typeRefMock, childNodeMock);
+
+        given(firstRootNodeMock.getChildren()).willReturn(Set.of(firstRootNodeMock, childNodeMock));
+        given(childNodeMock.getChildren()).willReturn(Set.of(grandChildMock, otherGrandChildMock));
+        given(grandChildMock.getChildren()).willReturn(Set.of(firstRootNodeMock));
+        given(otherGrandChildMock.getChildren()).willReturn(Set.of());
+
+        var givenCovering = PathCovering.ofGraph(new Path(firstRootNodeMock), childGraph);
+
+        // when
+        var actualCoveredPathCount = testSubject.countCoveredTransitiveReachabilityPaths(List.of(givenCovering));
+
+        // then
+        assertThat(actualCoveredPathCount).isEqualTo(1L);
+    }
+
+    private static void frozen(AccessibleFieldGraphNode nodeMock, int id) {
+        // lenient, since nodes beyond the path budget are never part of a path
+        lenient().when(nodeMock.isFrozen()).thenReturn(true);
+        lenient().when(nodeMock.getId()).thenReturn(id);
+    }
+
+}
@@ -47,6 +47,8 @@ class PathTest {
     void getLastReturnsPopulatedOptionalWhenPathIsNotEmpty(@Mock AccessibleFieldGraphNode startMock,
                                                            @Mock AccessibleFieldGraphNode endNodeMock) {
         // given
+        frozen(startMock, 1);
+        frozen(endNodeMock, 2);
         given(startMock.getChildren()).willReturn(Set.of(endNodeMock));
 
         var testSubject = new Path(startMock, endNodeMock);
@@ -86,6 +88,7 @@ class PathTest {
     @Test
     void isEmptyReturnsTrueWhenPathDoesContainsNode(@Mock AccessibleFieldGraphNode nodeMock) {
         // given
+        frozen(nodeMock, 1);
         var testSubject = new Path(nodeMock);
 
         // when
@@ -123,6 +126,7 @@ class PathTest {
     @Test
     void prependReturnsOtherPathWhenPathIsEmpty(@Mock AccessibleFieldGraphNode nodeMock) {
         // given
+        frozen(nodeMock, 1);
         var pathToPrepend = new Path(nodeMock);
         var testSubject = new Path();
 
@@ -137,6 +141,8 @@ class PathTest {
     void prependReturnsNewPathWhenPrependPathIsValid(@Mock AccessibleFieldGraphNode prependNodeMock,
                                                      @Mock AccessibleFieldGraphNode nodeMock) {
         // given
+        frozen(prependNodeMock, 1);
+        frozen(nodeMock, 2);
         given(prependNodeMock.getChildren()).willReturn(Set.of(nodeMock));
 
         var pathToPrepend = new Path(prependNodeMock);
@@ -155,6 +161,8 @@ class PathTest {
     void prependThrowsExceptionWhenLastNodeOfPrependPathIsNotAParent(@Mock AccessibleFieldGraphNode prependNodeMock,
                                                                      @Mock AccessibleFieldGraphNode nodeMock) {
         // given
+        frozen(prependNodeMock, 1);
+        frozen(nodeMock, 2);
         var pathToPrepend = new Path(prependNodeMock);
 
         var testSubject = new Path(nodeMock);
@@ -173,6 +181,7 @@ class PathTest {
                                                          @Mock AccessibleField accessibleFieldMock,
                                                          @Mock CtField fieldMock) {
         // given
+        frozen(nodeMock, 1);
         var givenFieldSimpleName = "field";
         var expectedResult = String.format("Path(length=1, simpleNamesOfFieldsOnPath=[%s])", givenFieldSimpleName);
         var testSubject = new Path(nodeMock);
@@ -194,6 +203,7 @@ class PathTest {
                                                          @Mock AccessibleField accessibleFieldMock,
                                                          @Mock CtField fieldMock) {
         // given
+        frozen(nodeMock, 1);
         var firstFieldSimpleName = "field";
         var secondFieldSimpleName = "otherField";
         var expectedResult = String.format("Path(length=2, simpleNamesOfFieldsOnPath=[%s->%s])", firstFieldSimpleName,
@@ -216,6 +226,7 @@ class PathTest {
     @Test
     void containsLoopReturnsTrueWhenSameNodeAsNextElement(@Mock AccessibleFieldGraphNode nodeMock) {
         // given
+        frozen(nodeMock, 1);
         given(nodeMock.getChildren()).willReturn(Set.of(nodeMock));
 
         var testSubject = new Path(List.of(nodeMock, nodeMock));
@@ -231,6 +242,8 @@ class PathTest {
     void containsLoopReturnsTrueWhenSameNodeAppearsLater(@Mock AccessibleFieldGraphNode nodeMock,
                                                          @Mock AccessibleFieldGraphNode otherNodeMock) {
         // given
+        frozen(nodeMock, 1);
+        frozen(otherNodeMock, 2);
         given(otherNodeMock.getChildren()).willReturn(Set.of(nodeMock));
         given(nodeMock.getChildren()).willReturn(Set.of(otherNodeMock));
 
@@ -259,6 +272,8 @@ class PathTest {
     void containsLoopReturnsFalseWhenDoesNotContainLoop(@Mock AccessibleFieldGraphNode nodeMock,
                                                         @Mock AccessibleFieldGraphNode otherNodeMock) {
         // given
+        frozen(nodeMock, 1);
+        frozen(otherNodeMock, 2);
         given(nodeMock.getChildren()).willReturn(Set.of(otherNodeMock));
 
         var testSubject = new Path(List.of(nodeMock, otherNodeMock));
@@ -273,6 +288,7 @@ class PathTest {
     @Test
     void appendAppendsChildNodeWhenPathIsEmpty(@Mock AccessibleFieldGraphNode nodeToAppendMock) {
         // given
+        frozen(nodeToAppendMock, 1);
         var testSubject = new Path();
         var expectedPath = new Path(nodeToAppendMock);
 
@@ -287,6 +303,8 @@ class PathTest {
     void appendAppendsChildNodeWhenLastNodeIsParentNode(@Mock AccessibleFieldGraphNode lastNodeMock,
                                                         @Mock AccessibleFieldGraphNode nodeToAppendMock) {
         // given
+        frozen(lastNodeMock, 1);
+        frozen(nodeToAppendMock, 2);
         given(lastNodeMock.getChildren()).willReturn(Set.of(nodeToAppendMock));
 
         var testSubject = new Path(lastNodeMock);
@@ -303,6 +321,7 @@ class PathTest {
     void appendThrowsExceptionWhenNewNodeIsNotAChildNodeOfLastNode(@Mock AccessibleFieldGraphNode lastNodeMock,
                                                                    @Mock AccessibleFieldGraphNode nodeToAppendMock) {
         // given
+        frozen(lastNodeMock, 1);
         given(lastNodeMock.getChildren()).willReturn(Set.of());
 
         var testSubject = new Path(lastNodeMock);
@@ -317,6 +336,8 @@ class PathTest {
     void startsWithReturnsTrueWhenSamePathObject(@Mock AccessibleFieldGraphNode firstNodeMock,
                                                  @Mock AccessibleFieldGraphNode secondNodeMock) {
         // given
+        frozen(firstNodeMock, 1);
+        frozen(secondNodeMock, 2);
         given(firstNodeMock.getChildren()).willReturn(Set.of(secondNodeMock));
 
         var testSubject = new Path(firstNodeMock, secondNodeMock);
@@ -332,6 +353,8 @@ class PathTest {
     void startsWithReturnsTrueWhenOtherPathIsSubPath(@Mock AccessibleFieldGraphNode firstNodeMock,
                                                      @Mock AccessibleFieldGraphNode secondNodeMock) {
         // given
+        frozen(firstNodeMock, 1);
+        frozen(secondNodeMock, 2);
         given(firstNodeMock.getChildren()).willReturn(Set.of(secondNodeMock));
 
         var testSubject = new Path(firstNodeMock, secondNodeMock);
@@ -348,6 +371,8 @@ class PathTest {
     void startsWithReturnsTrueWhenSamePath(@Mock AccessibleFieldGraphNode firstNodeMock,
                                            @Mock AccessibleFieldGraphNode secondNodeMock) {
         // given
+        frozen(firstNodeMock, 1);
+        frozen(secondNodeMock, 2);
         given(firstNodeMock.getChildren()).willReturn(Set.of(secondNodeMock));
 
         var testSubject = new Path(firstNodeMock, secondNodeMock);
@@ -364,6 +389,8 @@ class PathTest {
     void startsWithReturnsFalseWhenPathDoesNotStartWithOtherPath(@Mock AccessibleFieldGraphNode nodeMock,
                                                                  @Mock AccessibleFieldGraphNode otherNodeMock) {
         // given
+        frozen(nodeMock, 1);
+        frozen(otherNodeMock, 2);
         var testSubject = new Path(nodeMock);
         var otherPath = new Path(otherNodeMock);
 
@@ -388,4 +415,89 @@ class PathTest {
         assertThat(actualResult).isFalse();
     }
 
+    @Test
+    void extendReturnsNewPathAndDoesNotModifyPath(@Mock AccessibleFieldGraphNode startNodeMock,
+                                                  @Mock AccessibleFieldGraphNode endNodeMock) {
+        // given
+        frozen(startNodeMock, 1);
+        frozen(endNodeMock, 2);
+        given(startNodeMock.getChildren()).willReturn(Set.of(endNodeMock));
+
+        var testSubject = new Path(startNodeMock);
+        var expectedPath = new Path(startNodeMock, endNodeMock);
+
+        // when
+        var actualResult = testSubject.extend(endNodeMock);
+
+        // then
+        assertThat(actualResult).isEqualTo(expectedPath);
+        assertThat(actualResult.hashCode()).isEqualTo(expectedPath.hashCode());
+        assertThat(testSubject.getLength()).isEqualTo(1);
+    }
+
+    @Test
+    void containsReturnsTrueWhenNodeIsPartOfPath(@Mock AccessibleFieldGraphNode startNodeMock,
+                                                 @Mock AccessibleFieldGraphNode endNodeMock,
+                                                 @Mock AccessibleFieldGraphNode otherNodeMock) {
+        // given
+        frozen(startNodeMock, 1);
+        frozen(endNodeMock, 2);
+        frozen(otherNodeMock, 3);
+        given(startNodeMock.getChildren()).willReturn(Set.of(endNodeMock));
+
+        var testSubject = new Path(startNodeMock, endNodeMock);
+
+        // when / then
+        assertThat(testSubject.contains(endNodeMock)).isTrue();
+        assertThat(testSubject.contains(otherNodeMock)).isFalse();
+    }
+
+    @Test
+    void truncateReturnsPrefixOfPathWhenPathIsLonger(@Mock AccessibleFieldGraphNode firstNodeMock,
+                                                     @Mock AccessibleFieldGraphNode secondNodeMock,
+                                                     @Mock AccessibleFieldGraphNode thirdNodeMock) {
+        // given
+        frozen(firstNodeMock, 1);
+        frozen(secondNodeMock, 2);
+        frozen(thirdNodeMock, 3);
+        given(firstNodeMock.getChildren()).willReturn(Set.of(secondNodeMock));
+        given(secondNodeMock.getChildren()).willReturn(Set.of(thirdNodeMock));
+
+        var testSubject = new Path(firstNodeMock, secondNodeMock, thirdNodeMock);
+        var expectedPath = new Path(firstNodeMock, secondNodeMock);
+
+        // when
+        var actualPath = testSubject.truncate(2);
+
+        // then
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @Test
+    void truncateThrowsExceptionWhenMaximumLengthIsNotPositive(@Mock AccessibleFieldGraphNode nodeMock) {
+        // given
+        frozen(nodeMock, 1);
+        var testSubject = new Path(nodeMock);
+
+        // when / then
+        assertThatThrownBy(() -> testSubject.truncate(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructorThrowsExceptionWhenNodeIsNotFrozen(@Mock AccessibleFieldGraphNode nodeMock) {
+        // given
+        given(nodeMock.isFrozen()).willReturn(false);
+
+        // when / then
+        assertThatThrownBy(() -> new Path(nodeMock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A path can only contain frozen nodes!");
+    }
+
+    private static void frozen(AccessibleFieldGraphNode nodeMock, int id) {
+        given(nodeMock.isFrozen()).willReturn(true);
+        given(nodeMock.getId()).willReturn(id);
+    }
+
 }
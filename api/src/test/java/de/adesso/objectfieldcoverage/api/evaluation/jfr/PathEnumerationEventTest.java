@@ -0,0 +1,51 @@
+package de.adesso.objectfieldcoverage.api.evaluation.jfr;
+
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.reflect.factory.TypeFactory;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathEnumerationEventTest {
+
+    @Test
+    void getTransitiveReachabilityPathsEmitsEventWhenRecording(@TempDir Path tempDir) throws Exception {
+        // given
+        var recordingFile = tempDir.resolve("recording.jfr");
+        var typeFactory = new TypeFactory();
+        var graph = new AccessibleFieldGraph(Set.of(), typeFactory.createReference(String.class),
+                typeFactory.createReference(Object.class));
+
+        // when
+        try(var recording = new Recording()) {
+            recording.enable(PathEnumerationEvent.class).withoutThreshold();
+            recording.start();
+
+            graph.getTransitiveReachabilityPaths();
+            graph.getTransitiveReachabilityPaths();
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // then
+        var actualEvents = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> PathEnumerationEvent.NAME.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+
+        assertThat(actualEvents).hasSize(2);
+        assertThat(actualEvents).extracting(event -> event.getString("startingType")).containsOnly("java.lang.String");
+        assertThat(actualEvents).extracting(event -> event.getString("accessingType")).containsOnly("java.lang.Object");
+        assertThat(actualEvents).extracting(event -> event.getInt("pathCount")).containsOnly(1);
+        assertThat(actualEvents).extracting((RecordedEvent event) -> event.getBoolean("cacheHit")).containsExactlyInAnyOrder(false, true);
+    }
+
+}
@@ -0,0 +1,55 @@
+package de.adesso.objectfieldcoverage.api.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImplementationIndexProcessorTest {
+
+    @Test
+    void processorWritesIndexContainingConcreteClassesWithOrderAndSupertypes(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceFile = tempDir.resolve("Plugins.java");
+        var outputDir = Files.createDirectories(tempDir.resolve("classes"));
+
+        Files.writeString(sourceFile, String.join("\n",
+                "package de.adesso.test;",
+                "interface BaseInterface {}",
+                "interface ExtendingInterface extends BaseInterface {}",
+                "abstract class AbstractClass implements ExtendingInterface {}",
+                "@de.adesso.objectfieldcoverage.api.Order(5)",
+                "class Plugins extends AbstractClass {",
+                "    static class Nested implements BaseInterface {}",
+                "}"
+        ));
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var fileManager = compiler.getStandardFileManager(null, null, null);
+        var compilationUnits = fileManager.getJavaFileObjects(sourceFile.toFile());
+        var options = List.of("-d", outputDir.toString(), "-proc:only",
+                "-classpath", System.getProperty("java.class.path"));
+
+        var task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+        task.setProcessors(List.of(new ImplementationIndexProcessor()));
+
+        // when
+        var success = task.call();
+
+        // then
+        assertThat(success).isTrue();
+        assertThat(Files.readAllLines(outputDir.resolve(ImplementationIndexProcessor.INDEX_RESOURCE_LOCATION)))
+                .containsExactly(
+                        "# generated by de.adesso.objectfieldcoverage.api.index.ImplementationIndexProcessor",
+                        "de.adesso.test.Plugins\t5\tde.adesso.test.AbstractClass,de.adesso.test.BaseInterface,de.adesso.test.ExtendingInterface",
+                        "de.adesso.test.Plugins$Nested\t0\tde.adesso.test.BaseInterface"
+                );
+    }
+
+}
@@ -0,0 +1,97 @@
+package de.adesso.objectfieldcoverage.benchmark;
+
+import de.adesso.objectfieldcoverage.api.AccessibleField;
+import de.adesso.objectfieldcoverage.api.assertion.AbstractAssertion;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
+import de.adesso.objectfieldcoverage.core.analyzer.IterativeEqualsMethodAnalyzer;
+import de.adesso.objectfieldcoverage.core.processor.InvocationResultTracker;
+import de.adesso.objectfieldcoverage.core.processor.evaluation.graph.AccessibleFieldGraphBuilder;
+import de.adesso.objectfieldcoverage.core.processor.util.InvocationIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hot paths of the analysis, measured against the {@link FixtureModel fixture model}. The
+ * number of forks, warmup and measurement iterations is fixed, so the results of different commits can be compared
+ * with each other.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AnalysisHotPathBenchmark {
+
+    /**
+     * A new builder is created for every invocation, since the builder caches the child nodes of the visited types.
+     */
+    @Benchmark
+    public AccessibleFieldGraph buildGraph(FixtureModel model) {
+        return new AccessibleFieldGraphBuilder(model.fieldFinders, model.testClass).buildGraph(model.personTypeRef);
+    }
+
+    /**
+     * A copy of the graph is created for every invocation, since the graph caches its paths.
+     */
+    @Benchmark
+    public Set<Path> getTransitiveReachabilityPaths(FixtureModel model) {
+        var graph = model.personGraph;
+        return new AccessibleFieldGraph(graph.getRootNodes(), graph.getDescribedTypeRef(), graph.getAccessingTypeRef())
+                .getTransitiveReachabilityPaths();
+    }
+
+    @Benchmark
+    public Set<AccessibleField<?>> findAccessibleFieldsUsedInEquals(FixtureModel model) {
+        return new IterativeEqualsMethodAnalyzer(model.equalsMethodAnalyzers)
+                .findAccessibleFieldsUsedInEquals(model.personTypeRef, model.accessiblePersonFields,
+                        model.accessibleFieldsInPersonSuperTypes);
+    }
+
+    /**
+     * The invocation index of the test method is removed before every invocation, so the body of the test method is
+     * scanned again like it is when a test method is analyzed for the first time.
+     */
+    @Benchmark
+    public List<AbstractAssertion<?>> findAssertions(FixtureModel model, UnindexedTestMethod unindexedTestMethod) {
+        return model.assertionFinder.findAssertions(model.testMethod, List.of());
+    }
+
+    /**
+     * Measures the lookup of the assertions in the invocation index of the test method, which is built during the
+     * first invocation and reused afterwards, as it is when the same test method is analyzed again.
+     */
+    @Benchmark
+    public List<AbstractAssertion<?>> findAssertionsInIndexedTestMethod(FixtureModel model) {
+        return model.assertionFinder.findAssertions(model.testMethod, List.of());
+    }
+
+    /**
+     * Measures the lookup in the provenance index of the test method, which is built during the first invocation
+     * and reused afterwards, as it is during the analysis.
+     */
+    @Benchmark
+    public Optional<Path> getPathPrefixForAccess(FixtureModel model) {
+        return new InvocationResultTracker().getPathPrefixForAccess(model.deepestAssertion.getAssertedExpression(),
+                model.targetExecutableInvocation, model.personGraph);
+    }
+
+    /**
+     * Benchmark state which removes the {@link InvocationIndex} of the {@link FixtureModel#testMethod test method}
+     * before every invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class UnindexedTestMethod {
+
+        @Setup(Level.Invocation)
+        public void removeInvocationIndex(FixtureModel model) {
+            InvocationIndex.invalidate(model.testMethod);
+        }
+
+    }
+
+}
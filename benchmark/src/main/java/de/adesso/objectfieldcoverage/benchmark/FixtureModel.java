@@ -0,0 +1,182 @@
+package de.adesso.objectfieldcoverage.benchmark;
+
+import de.adesso.objectfieldcoverage.api.AccessibilityAwareFieldFinder;
+import de.adesso.objectfieldcoverage.api.AccessibleField;
+import de.adesso.objectfieldcoverage.api.EqualsMethodAnalyzer;
+import de.adesso.objectfieldcoverage.api.assertion.AbstractAssertion;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
+import de.adesso.objectfieldcoverage.core.finder.AccessibilityAwareFieldFinderChain;
+import de.adesso.objectfieldcoverage.core.junit.assertion.JUnitAssertionFinder;
+import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
+import de.adesso.objectfieldcoverage.core.processor.InvocationResultTracker;
+import de.adesso.objectfieldcoverage.core.processor.evaluation.graph.AccessibleFieldGraphBuilder;
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import spoon.Launcher;
+import spoon.reflect.code.CtAbstractInvocation;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.reference.CtTypeReference;
+import spoon.reflect.visitor.filter.TypeFilter;
+import spoon.support.compiler.VirtualFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Benchmark state holding the Spoon model of the checked-in fixture sources and the elements of the model the
+ * benchmarks operate on. The model is built once per trial, so its construction is not part of the measurements.
+ * <p/>
+ * The fixtures consist of a small domain model with cyclic references and equals methods, and a JUnit 5 test
+ * class asserting the result of a service method through getter chains. The fixtures must not be changed, since
+ * the results of different commits are only comparable when they are measured against the same sources.
+ */
+@State(Scope.Benchmark)
+public class FixtureModel {
+
+    /**
+     * The names of the fixture source files in the {@value #FIXTURE_DIRECTORY} resource directory.
+     */
+    private static final List<String> FIXTURE_FILES = List.of("Address.java", "City.java", "Company.java",
+            "Country.java", "Person.java", "PersonService.java", "PersonServiceTest.java");
+
+    /**
+     * The resource directory containing the fixture source files.
+     */
+    private static final String FIXTURE_DIRECTORY = "fixtures/";
+
+    /**
+     * The {@link AccessibilityAwareFieldFinder}s found on the classpath.
+     */
+    List<AccessibilityAwareFieldFinder> fieldFinders;
+
+    /**
+     * The {@link EqualsMethodAnalyzer}s found on the classpath.
+     */
+    List<EqualsMethodAnalyzer> equalsMethodAnalyzers;
+
+    /**
+     * The {@link JUnitAssertionFinder} with all {@link JUnitAssertionInvocationHandler}s found on the classpath.
+     */
+    JUnitAssertionFinder assertionFinder;
+
+    /**
+     * The test class of the fixtures.
+     */
+    CtClass<?> testClass;
+
+    /**
+     * The test method of the {@link #testClass}.
+     */
+    CtMethod<?> testMethod;
+
+    /**
+     * The reference of the type returned by the target executable.
+     */
+    CtTypeReference<?> personTypeRef;
+
+    /**
+     * The invocation of the target executable in the {@link #testMethod}.
+     */
+    CtAbstractInvocation<?> targetExecutableInvocation;
+
+    /**
+     * The {@link AccessibleFieldGraph} of the {@link #personTypeRef} accessed from the {@link #testClass}.
+     */
+    AccessibleFieldGraph personGraph;
+
+    /**
+     * The assertion whose asserted expression accesses the result of the {@link #targetExecutableInvocation}
+     * through the longest getter chain.
+     */
+    AbstractAssertion<?> deepestAssertion;
+
+    /**
+     * The fields of the {@link #personTypeRef} accessible from the {@link #testClass}.
+     */
+    Set<AccessibleField<?>> accessiblePersonFields;
+
+    /**
+     * The fields of the {@link #personTypeRef} and its superclasses accessible from the type itself.
+     */
+    Map<CtTypeReference<?>, Set<AccessibleField<?>>> accessibleFieldsInPersonSuperTypes;
+
+    /**
+     * Builds the model and resolves the elements the benchmarks operate on.
+     *
+     * @throws IllegalStateException
+     *          When the fixtures do not contain the expected elements.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        var launcher = new Launcher();
+        FIXTURE_FILES.forEach(fileName -> launcher.addInputResource(new VirtualFile(readFixture(fileName), fileName)));
+        launcher.getEnvironment().setComplianceLevel(11);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.buildModel();
+
+        var factory = launcher.getFactory();
+        this.fieldFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(AccessibilityAwareFieldFinder.class);
+        this.equalsMethodAnalyzers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(EqualsMethodAnalyzer.class);
+        this.assertionFinder = new JUnitAssertionFinder(ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(JUnitAssertionInvocationHandler.class));
+
+        this.testClass = Objects.requireNonNull(factory.Class().get("de.adesso.benchmark.PersonServiceTest"),
+                "The fixtures do not contain the test class!");
+        this.testMethod = testClass.getMethodsByName("findPersonReturnsPerson").get(0);
+        this.personTypeRef = factory.Type().createReference("de.adesso.benchmark.Person");
+        this.targetExecutableInvocation = testMethod.getElements(new TypeFilter<CtInvocation<?>>(CtInvocation.class)).stream()
+                .filter(invocation -> "findPerson".equals(invocation.getExecutable().getSimpleName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The fixtures do not contain the target executable invocation!"));
+
+        this.personGraph = new AccessibleFieldGraphBuilder(fieldFinders, testClass).buildGraph(personTypeRef);
+        this.deepestAssertion = assertionFinder.findAssertions(testMethod, List.of()).stream()
+                .filter(assertion -> assertion.getAssertedExpression().toString().contains("getCountry()"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The fixtures do not contain the expected assertion!"));
+
+        // the path prefix benchmark would only measure the failing lookup otherwise
+        new InvocationResultTracker().getPathPrefixForAccess(deepestAssertion.getAssertedExpression(),
+                        targetExecutableInvocation, personGraph)
+                .filter(pathPrefix -> !pathPrefix.isEmpty())
+                .orElseThrow(() -> new IllegalStateException("The path prefix of the expected assertion cannot be resolved!"));
+
+        var fieldFinderChain = new AccessibilityAwareFieldFinderChain(fieldFinders);
+        this.accessiblePersonFields = Set.copyOf(fieldFinderChain.findAccessibleFields(testClass, personTypeRef));
+        this.accessibleFieldsInPersonSuperTypes = Map.of(personTypeRef,
+                Set.copyOf(fieldFinderChain.findAccessibleFields(personTypeRef.getTypeDeclaration(), personTypeRef)));
+    }
+
+    /**
+     *
+     * @param fileName
+     *          The name of the fixture file, not {@code null}.
+     *
+     * @return
+     *          The content of the fixture file with the given {@code fileName}.
+     *
+     * @throws UncheckedIOException
+     *          When the fixture file could not be read.
+     */
+    private static String readFixture(String fileName) {
+        try(var inputStream = FixtureModel.class.getClassLoader().getResourceAsStream(FIXTURE_DIRECTORY + fileName)) {
+            if(inputStream == null) {
+                throw new IllegalStateException(String.format("Fixture '%s' does not exist!", fileName));
+            }
+
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import de.adesso.objectfieldcoverage.api.*;
+import de.adesso.objectfieldcoverage.core.junit.assertion.JUnitAssertionFinder;
+import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
+import de.adesso.objectfieldcoverage.core.processor.InvocationResultTracker;
+import de.adesso.objectfieldcoverage.core.processor.ObjectFieldCoverageProcessor;
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
+import lombok.extern.slf4j.Slf4j;
+import spoon.Launcher;
+import spoon.support.QueueProcessingManager;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * End-to-end benchmark of the analysis. Builds the Spoon model of a checked-in project and runs the
+ * {@link ObjectFieldCoverageProcessor} on all of its classes, the same way the CLI does. The project directory
+ * must contain the main sources in {@code src/main/java} and the test sources in {@code src/test/java}, since
+ * only classes located in a test source directory are considered test classes.
+ * <p/>
+ * Measures the wall-clock time, the peak heap usage and the number of bytes allocated by the current thread. The
+ * analysis is performed sequentially, so the allocations of the current thread cover the complete analysis. The
+ * peak heap usage is recorded by a {@link PeakHeapUsageRecorder}.
+ * <p/>
+ * The model is built with the given classpath, so the JUnit assertions of the test classes can be resolved. A run
+ * fails when the processing of any class fails, since the benchmark would measure less work otherwise.
+ */
+@Slf4j
+public class MacroBenchmark {
+
+    /**
+     * The main source directory inside the project directory.
+     */
+    private static final String MAIN_SOURCE_DIRECTORY = "src/main/java";
+
+    /**
+     * The test source directory inside the project directory.
+     */
+    private static final String TEST_SOURCE_DIRECTORY = "src/test/java";
+
+    /**
+     * The directory of the analyzed project.
+     */
+    private final Path projectDirectory;
+
+    /**
+     * The Java compliance level of the analyzed sources.
+     */
+    private final int complianceLevel;
+
+    /**
+     * The classpath the model is built with.
+     */
+    private final List<Path> classpath;
+
+    private final List<TargetExecutableFinder> targetExecutableFinders;
+
+    private final List<AccessibilityAwareFieldFinder> fieldFinders;
+
+    private final List<TestMethodFinder> testMethodFinders;
+
+    private final List<EqualsMethodAnalyzer> equalsMethodAnalyzers;
+
+    private final List<InvocationThrowableAnalyzer> invocationThrowableAnalyzers;
+
+    private final List<JUnitAssertionInvocationHandler> invocationHandlers;
+
+    /**
+     *
+     * @param projectDirectory
+     *          The directory of the project to analyze, not {@code null}. Must contain a {@code src/test/java}
+     *          directory.
+     *
+     * @param complianceLevel
+     *          The Java compliance level of the analyzed sources.
+     *
+     * @param classpath
+     *          The classpath the model is built with, not {@code null}. Should contain the JUnit libraries the test
+     *          classes of the project use.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code projectDirectory} does not contain a test source directory.
+     */
+    public MacroBenchmark(Path projectDirectory, int complianceLevel, List<Path> classpath) {
+        this.projectDirectory = Objects.requireNonNull(projectDirectory, "projectDirectory cannot be null!");
+        this.complianceLevel = complianceLevel;
+        this.classpath = List.copyOf(Objects.requireNonNull(classpath, "classpath cannot be null!"));
+
+        if(!Files.isDirectory(projectDirectory.resolve(TEST_SOURCE_DIRECTORY))) {
+            throw new IllegalArgumentException(String.format("Project directory '%s' does not contain a test source directory!",
+                    projectDirectory));
+        }
+
+        this.targetExecutableFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TargetExecutableFinder.class);
+        this.fieldFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(AccessibilityAwareFieldFinder.class);
+        this.testMethodFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TestMethodFinder.class);
+        this.equalsMethodAnalyzers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(EqualsMethodAnalyzer.class);
+        this.invocationThrowableAnalyzers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(InvocationThrowableAnalyzer.class);
+        this.invocationHandlers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(JUnitAssertionInvocationHandler.class);
+    }
+
+    /**
+     * Builds the model of the project and analyzes all of its classes. A new model and a new processor are created
+     * for every run, so consecutive runs are independent of each other apart from the JIT compilation state of the
+     * JVM and the static caches of the analysis.
+     *
+     * @return
+     *          The values measured during the run.
+     *
+     * @throws IllegalStateException
+     *          When the processing of a class failed.
+     */
+    public MacroBenchmarkResult run() {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var threadId = Thread.currentThread().getId();
+        var peakHeapUsageRecorder = new PeakHeapUsageRecorder();
+
+        // start from a collected heap, so the peak usage is not inflated by garbage of previous runs
+        System.gc();
+        peakHeapUsageRecorder.start();
+
+        var startAllocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
+        var startTime = System.nanoTime();
+
+        var launcher = new Launcher();
+        launcher.addInputResource(projectDirectory.resolve(TEST_SOURCE_DIRECTORY).toString());
+        if(Files.isDirectory(projectDirectory.resolve(MAIN_SOURCE_DIRECTORY))) {
+            launcher.addInputResource(projectDirectory.resolve(MAIN_SOURCE_DIRECTORY).toString());
+        }
+
+        launcher.getEnvironment().setComplianceLevel(complianceLevel);
+        launcher.getEnvironment().setCommentEnabled(false);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.getEnvironment().setSourceClasspath(classpath.stream()
+                .map(Path::toString)
+                .toArray(String[]::new));
+        // the fixture sources may refer to types of a newer library version than the one on the classpath
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.buildModel();
+
+        var factory = launcher.getFactory();
+        var processor = createProcessor();
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(processor);
+
+        try {
+            processingManager.process(factory.Class().getAll());
+        } finally {
+            peakHeapUsageRecorder.close();
+        }
+
+        var wallTimeMillis = (System.nanoTime() - startTime) / 1_000_000L;
+        var allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startAllocatedBytes;
+        var peakHeapBytes = peakHeapUsageRecorder.stop();
+
+        if(!processor.getFailedClasses().isEmpty()) {
+            throw new IllegalStateException(String.format("The processing of the classes %s failed!",
+                    new TreeSet<>(processor.getFailedClasses())));
+        }
+
+        var result = MacroBenchmarkResult.builder()
+                .wallTimeMillis(wallTimeMillis)
+                .peakHeapBytes(peakHeapBytes)
+                .allocatedBytes(allocatedBytes)
+                .analyzedTestClassCount(processor.getTotalCoverageResult().size())
+                .totalCoverages(new TreeMap<>(processor.getTotalCoverageResult()))
+                .build();
+
+        log.info("Macro benchmark of '{}': {}", projectDirectory, result);
+        return result;
+    }
+
+    /**
+     *
+     * @return
+     *          A new processor with the default settings.
+     */
+    private ObjectFieldCoverageProcessor createProcessor() {
+        var junitAssertionFinder = new JUnitAssertionFinder(invocationHandlers);
+        return new ObjectFieldCoverageProcessor(targetExecutableFinders, fieldFinders, testMethodFinders,
+                List.of(junitAssertionFinder), equalsMethodAnalyzers, invocationThrowableAnalyzers, new InvocationResultTracker());
+    }
+
+}
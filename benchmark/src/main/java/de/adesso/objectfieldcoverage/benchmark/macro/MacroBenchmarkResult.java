@@ -0,0 +1,108 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import lombok.Builder;
+import lombok.Value;
+import org.apache.commons.math3.fraction.Fraction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The values measured during a single {@link MacroBenchmark#run() run} of the macro benchmark.
+ */
+@Value
+@Builder
+public class MacroBenchmarkResult {
+
+    /**
+     * The property key of the {@link #wallTimeMillis}.
+     */
+    public static final String WALL_TIME_MILLIS_KEY = "wallTimeMillis";
+
+    /**
+     * The property key of the {@link #peakHeapBytes}.
+     */
+    public static final String PEAK_HEAP_BYTES_KEY = "peakHeapBytes";
+
+    /**
+     * The property key of the {@link #allocatedBytes}.
+     */
+    public static final String ALLOCATED_BYTES_KEY = "allocatedBytes";
+
+    /**
+     * The property key of the {@link #analyzedTestClassCount}.
+     */
+    public static final String ANALYZED_TEST_CLASS_COUNT_KEY = "analyzedTestClassCount";
+
+    /**
+     * The wall-clock time of the model build and the analysis in milliseconds.
+     */
+    long wallTimeMillis;
+
+    /**
+     * The peak usage of the whole heap in bytes, recorded by a {@link PeakHeapUsageRecorder}.
+     */
+    long peakHeapBytes;
+
+    /**
+     * The number of bytes allocated by the thread which built the model and performed the analysis.
+     */
+    long allocatedBytes;
+
+    /**
+     * The number of test classes a total coverage was calculated for.
+     */
+    int analyzedTestClassCount;
+
+    /**
+     * A map which maps the qualified name of each analyzed test class to its total coverage. Not part of the
+     * {@link #toProperties() properties}, since it does not depend on the performance of the analysis.
+     */
+    Map<String, Fraction> totalCoverages;
+
+    /**
+     *
+     * @return
+     *          The measured values as properties, using the same keys as the {@link MacroBenchmarkThresholds}.
+     */
+    public Properties toProperties() {
+        var properties = new Properties();
+        properties.setProperty(WALL_TIME_MILLIS_KEY, Long.toString(wallTimeMillis));
+        properties.setProperty(PEAK_HEAP_BYTES_KEY, Long.toString(peakHeapBytes));
+        properties.setProperty(ALLOCATED_BYTES_KEY, Long.toString(allocatedBytes));
+        properties.setProperty(ANALYZED_TEST_CLASS_COUNT_KEY, Integer.toString(analyzedTestClassCount));
+        return properties;
+    }
+
+    /**
+     * Writes the {@link #toProperties() properties} of {@code this} result to the given {@code resultFile}, so the
+     * results of different commits can be compared with each other.
+     *
+     * @param resultFile
+     *          The file to write the result to, not {@code null}.
+     *
+     * @throws UncheckedIOException
+     *          When an error occurs while writing the file.
+     */
+    public void write(Path resultFile) {
+        Objects.requireNonNull(resultFile, "resultFile cannot be null!");
+
+        try {
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+
+            try(Writer writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8)) {
+                toProperties().store(writer, "Object Field Coverage macro benchmark result");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The upper bounds of the values measured by the {@link MacroBenchmark}. A result exceeding one of the thresholds
+ * indicates a performance regression of the analysis. The thresholds are stored in a properties file using the same
+ * keys as the {@link MacroBenchmarkResult#toProperties() properties of a result}:
+ *
+ * <pre>
+ *     wallTimeMillis=30000
+ *     peakHeapBytes=536870912
+ *     allocatedBytes=4294967296
+ * </pre>
+ */
+@Value
+public class MacroBenchmarkThresholds {
+
+    /**
+     * The maximum wall-clock time in milliseconds.
+     */
+    long maxWallTimeMillis;
+
+    /**
+     * The maximum peak heap usage in bytes.
+     */
+    long maxPeakHeapBytes;
+
+    /**
+     * The maximum number of allocated bytes.
+     */
+    long maxAllocatedBytes;
+
+    /**
+     *
+     * @param thresholdFile
+     *          The properties file to load the thresholds from, not {@code null}.
+     *
+     * @return
+     *          The thresholds contained in the given {@code thresholdFile}.
+     *
+     * @throws UncheckedIOException
+     *          When an error occurs while reading the file.
+     *
+     * @throws IllegalArgumentException
+     *          When one of the thresholds is missing or is not a positive number.
+     */
+    public static MacroBenchmarkThresholds load(Path thresholdFile) {
+        Objects.requireNonNull(thresholdFile, "thresholdFile cannot be null!");
+
+        var properties = new Properties();
+
+        try(Reader reader = Files.newBufferedReader(thresholdFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new MacroBenchmarkThresholds(
+                positiveLongValueOf(properties, MacroBenchmarkResult.WALL_TIME_MILLIS_KEY),
+                positiveLongValueOf(properties, MacroBenchmarkResult.PEAK_HEAP_BYTES_KEY),
+                positiveLongValueOf(properties, MacroBenchmarkResult.ALLOCATED_BYTES_KEY)
+        );
+    }
+
+    /**
+     *
+     * @param result
+     *          The result to check, not {@code null}.
+     *
+     * @return
+     *          A list containing a description of each threshold the given {@code result} exceeds. An empty list is
+     *          returned when the result is within all thresholds.
+     */
+    public List<String> findViolations(MacroBenchmarkResult result) {
+        Objects.requireNonNull(result, "result cannot be null!");
+
+        var violations = new ArrayList<String>();
+        addViolationIfExceeded(violations, MacroBenchmarkResult.WALL_TIME_MILLIS_KEY, result.getWallTimeMillis(), maxWallTimeMillis);
+        addViolationIfExceeded(violations, MacroBenchmarkResult.PEAK_HEAP_BYTES_KEY, result.getPeakHeapBytes(), maxPeakHeapBytes);
+        addViolationIfExceeded(violations, MacroBenchmarkResult.ALLOCATED_BYTES_KEY, result.getAllocatedBytes(), maxAllocatedBytes);
+        return violations;
+    }
+
+    private static void addViolationIfExceeded(List<String> violations, String key, long actualValue, long maxValue) {
+        if(actualValue > maxValue) {
+            violations.add(String.format("%s: %d exceeds the threshold of %d", key, actualValue, maxValue));
+        }
+    }
+
+    /**
+     *
+     * @param properties
+     *          The properties to get the value from, not {@code null}.
+     *
+     * @param key
+     *          The key of the value, not {@code null}.
+     *
+     * @return
+     *          The positive value of the property with the given {@code key}.
+     *
+     * @throws IllegalArgumentException
+     *          When the property is missing or is not a positive number.
+     */
+    private static long positiveLongValueOf(Properties properties, String key) {
+        var value = properties.getProperty(key);
+
+        if(value == null) {
+            throw new IllegalArgumentException(String.format("Threshold '%s' is missing!", key));
+        }
+
+        try {
+            var longValue = Long.parseLong(value.trim());
+
+            if(longValue < 1L) {
+                throw new IllegalArgumentException(String.format("Threshold '%s' must be positive, but was %d!", key, longValue));
+            }
+
+            return longValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Threshold '%s' is not a number!", key), e);
+        }
+    }
+
+}
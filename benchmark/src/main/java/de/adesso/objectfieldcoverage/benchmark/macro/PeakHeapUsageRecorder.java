@@ -0,0 +1,143 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Records the peak usage of the whole heap while it is started. The heap usage only grows between two garbage
+ * collections, so the peak is either the usage right before one of the collections or the usage when the recorder
+ * is stopped. The usage before each collection is taken from the garbage collection notifications of the JVM and
+ * summed up over all heap pools of the same collection, so all summands are measured at the same time.
+ * <p/>
+ * In contrast to the sum of the {@link MemoryPoolMXBean#getPeakUsage() peak usages} of all heap pools, whose peaks
+ * are usually reached at different times, the recorded value is never larger than the actual peak usage.
+ *
+ * @implNote The notifications are delivered asynchronously, so the notification of a collection which finishes
+ * right before the recorder is stopped might be missed. Collections which started before the recorder was
+ * started are ignored, since their usage belongs to the previous measurement.
+ */
+public class PeakHeapUsageRecorder implements NotificationListener, AutoCloseable {
+
+    /**
+     * The names of the valid memory pools of the heap.
+     */
+    private final Set<String> heapPoolNames;
+
+    /**
+     * The garbage collector beans which emit notifications, {@code this} recorder is registered on all of them
+     * while it is started.
+     */
+    private final List<NotificationEmitter> emitters;
+
+    /**
+     * The peak heap usage in bytes recorded since the recorder was started.
+     */
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+
+    /**
+     * The uptime of the JVM in milliseconds when the recorder was started, compared with the start time of the
+     * garbage collections.
+     */
+    private volatile long startUptimeMillis;
+
+    public PeakHeapUsageRecorder() {
+        this.heapPoolNames = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(MemoryPoolMXBean::isValid)
+                .map(MemoryPoolMXBean::getName)
+                .collect(Collectors.toSet());
+        this.emitters = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .filter(NotificationEmitter.class::isInstance)
+                .map(NotificationEmitter.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Registers {@code this} recorder on the garbage collector beans and records the current heap usage.
+     */
+    public void start() {
+        peakHeapBytes.set(0L);
+        startUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        emitters.forEach(emitter -> emitter.addNotificationListener(this, null, null));
+
+        recordCurrentUsage();
+    }
+
+    /**
+     * Records the current heap usage and unregisters {@code this} recorder from the garbage collector beans.
+     *
+     * @return
+     *          The peak heap usage in bytes recorded since the recorder was started.
+     */
+    public long stop() {
+        recordCurrentUsage();
+        close();
+
+        return peakHeapBytes.get();
+    }
+
+    /**
+     * Unregisters {@code this} recorder from the garbage collector beans.
+     */
+    @Override
+    public void close() {
+        for(var emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // the recorder was not started or is already stopped
+            }
+        }
+    }
+
+    /**
+     * Records the sum of the usages of all heap pools right before the collection the given {@code notification}
+     * belongs to.
+     *
+     * @param notification
+     *          The notification emitted by a garbage collector bean, not {@code null}.
+     *
+     * @param handback
+     *          Unused.
+     */
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if(!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+
+        var gcInfo = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData())
+                .getGcInfo();
+
+        if(gcInfo.getStartTime() < startUptimeMillis) {
+            return;
+        }
+
+        var usedBeforeCollection = gcInfo.getMemoryUsageBeforeGc().entrySet().stream()
+                .filter(poolUsage -> heapPoolNames.contains(poolUsage.getKey()))
+                .mapToLong(poolUsage -> poolUsage.getValue().getUsed())
+                .sum();
+        peakHeapBytes.accumulateAndGet(usedBeforeCollection, Math::max);
+    }
+
+    /**
+     * Records the current usage of the whole heap.
+     */
+    private void recordCurrentUsage() {
+        var usedHeapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        peakHeapBytes.accumulateAndGet(usedHeapBytes, Math::max);
+    }
+
+}
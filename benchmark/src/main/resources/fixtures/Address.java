@@ -0,0 +1,47 @@
+package de.adesso.benchmark;
+
+import java.util.Objects;
+
+public class Address {
+
+    private String street;
+
+    private String houseNumber;
+
+    private String postalCode;
+
+    private City city;
+
+    public String getStreet() {
+        return street;
+    }
+
+    public String getHouseNumber() {
+        return houseNumber;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public City getCity() {
+        return city;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Address address = (Address) o;
+        return Objects.equals(street, address.street) &&
+                Objects.equals(houseNumber, address.houseNumber) &&
+                Objects.equals(postalCode, address.postalCode) &&
+                Objects.equals(city, address.city);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(street, houseNumber, postalCode, city);
+    }
+
+}
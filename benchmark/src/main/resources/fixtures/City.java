@@ -0,0 +1,40 @@
+package de.adesso.benchmark;
+
+import java.util.Objects;
+
+public class City {
+
+    private String name;
+
+    private int population;
+
+    private Country country;
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPopulation() {
+        return population;
+    }
+
+    public Country getCountry() {
+        return country;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        City city = (City) o;
+        return population == city.population &&
+                Objects.equals(name, city.name) &&
+                Objects.equals(country, city.country);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, population, country);
+    }
+
+}
@@ -0,0 +1,39 @@
+package de.adesso.benchmark;
+
+import java.util.Objects;
+
+public class Company {
+
+    private String name;
+
+    private Address headquarters;
+
+    private Person ceo;
+
+    public String getName() {
+        return name;
+    }
+
+    public Address getHeadquarters() {
+        return headquarters;
+    }
+
+    public Person getCeo() {
+        return ceo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Company company = (Company) o;
+        return Objects.equals(name, company.name) &&
+                Objects.equals(headquarters, company.headquarters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, headquarters);
+    }
+
+}
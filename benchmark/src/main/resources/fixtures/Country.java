@@ -0,0 +1,33 @@
+package de.adesso.benchmark;
+
+import java.util.Objects;
+
+public class Country {
+
+    private String name;
+
+    private String isoCode;
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIsoCode() {
+        return isoCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Country country = (Country) o;
+        return Objects.equals(name, country.name) &&
+                Objects.equals(isoCode, country.isoCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, isoCode);
+    }
+
+}
@@ -0,0 +1,62 @@
+package de.adesso.benchmark;
+
+import java.util.Objects;
+
+public class Person {
+
+    private String name;
+
+    private int age;
+
+    private Address homeAddress;
+
+    private Address workAddress;
+
+    // loop Person <-> Person
+    private Person sibling;
+
+    // loop Person -> Company -> Person
+    private Company employer;
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Address getHomeAddress() {
+        return homeAddress;
+    }
+
+    public Address getWorkAddress() {
+        return workAddress;
+    }
+
+    public Person getSibling() {
+        return sibling;
+    }
+
+    public Company getEmployer() {
+        return employer;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Person person = (Person) o;
+        return age == person.age &&
+                Objects.equals(name, person.name) &&
+                Objects.equals(homeAddress, person.homeAddress) &&
+                Objects.equals(workAddress, person.workAddress) &&
+                Objects.equals(employer, person.employer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, age, homeAddress, workAddress, employer);
+    }
+
+}
@@ -0,0 +1,9 @@
+package de.adesso.benchmark;
+
+public class PersonService {
+
+    public Person findPerson(String name) {
+        return null;
+    }
+
+}
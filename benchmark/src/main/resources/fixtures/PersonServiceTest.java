@@ -0,0 +1,30 @@
+package de.adesso.benchmark;
+
+import de.adesso.objectfieldcoverage.annotation.TestTarget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersonServiceTest {
+
+    private final PersonService testSubject = new PersonService();
+
+    @Test
+    @TestTarget("de.adesso.benchmark.PersonService#findPerson(java.lang.String)")
+    void findPersonReturnsPerson() {
+        // given
+        var expectedHomeAddress = new Address();
+
+        // when
+        var actualPerson = testSubject.findPerson("Alice");
+
+        // then
+        assertEquals("Alice", actualPerson.getName());
+        assertEquals(42, actualPerson.getAge());
+        assertEquals(expectedHomeAddress, actualPerson.getHomeAddress());
+        assertNotNull(actualPerson.getWorkAddress().getCity().getCountry());
+        assertNull(actualPerson.getSibling());
+        assertTrue(actualPerson.getEmployer().getName().isEmpty());
+    }
+
+}
@@ -0,0 +1,86 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import de.adesso.objectfieldcoverage.annotation.TestTarget;
+import org.apache.commons.math3.fraction.Fraction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link MacroBenchmark} against the checked-in commons-lang3 fixture and fails when one of the stored
+ * thresholds is exceeded or the analysis result differs from the pinned one, so an optimization cannot speed up the
+ * benchmark by analyzing less. Excluded from the regular test run, execute it with {@code ./gradlew :benchmark:macroBenchmark}.
+ */
+@Tag(MacroBenchmarkTest.TAG)
+class MacroBenchmarkTest {
+
+    /**
+     * The tag of the macro benchmark tests.
+     */
+    static final String TAG = "macro-benchmark";
+
+    /**
+     * The system property containing the path of the file the result is written to.
+     */
+    private static final String RESULT_FILE_PROPERTY = "macroBenchmark.resultFile";
+
+    @Test
+    void analysisOfCommonsLangTupleStaysWithinThresholds() throws URISyntaxException {
+        // given
+        var thresholds = MacroBenchmarkThresholds.load(resourcePath("macro/thresholds.properties"));
+        var testSubject = new MacroBenchmark(resourcePath("macro/commons-lang3-tuple"), 11, testClasspath());
+
+        // warm-up run, so class loading and the initial JIT compilation are not part of the measurement
+        testSubject.run();
+
+        // when
+        var actualResult = testSubject.run();
+
+        // then
+        var resultFile = System.getProperty(RESULT_FILE_PROPERTY);
+        if(resultFile != null) {
+            actualResult.write(Path.of(resultFile));
+        }
+
+        assertThat(actualResult.getAnalyzedTestClassCount()).isEqualTo(6);
+        assertThat(actualResult.getTotalCoverages()).containsOnly(
+                Map.entry("org.apache.commons.lang3.tuple.ImmutablePairTest", new Fraction(17, 56)),
+                Map.entry("org.apache.commons.lang3.tuple.ImmutableTripleTest", new Fraction(7, 36)),
+                Map.entry("org.apache.commons.lang3.tuple.MutablePairTest", new Fraction(7, 34)),
+                Map.entry("org.apache.commons.lang3.tuple.MutableTripleTest", new Fraction(2, 7)),
+                Map.entry("org.apache.commons.lang3.tuple.PairTest", new Fraction(3, 4)),
+                Map.entry("org.apache.commons.lang3.tuple.TripleTest", new Fraction(1, 3))
+        );
+        assertThat(thresholds.findViolations(actualResult)).isEmpty();
+    }
+
+    /**
+     * The commons-lang3 library itself is not part of the classpath, since it contains the analyzed tuple types.
+     *
+     * @return
+     *          The locations of the JUnit and annotation types the test classes of the fixture use.
+     */
+    private static List<Path> testClasspath() throws URISyntaxException {
+        var classpath = new ArrayList<Path>();
+
+        for(var type : List.of(Test.class, Assertions.class, AssertionFailedError.class, TestTarget.class)) {
+            classpath.add(Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        }
+
+        return classpath;
+    }
+
+    private static Path resourcePath(String resourceName) throws URISyntaxException {
+        return Path.of(MacroBenchmarkTest.class.getClassLoader().getResource(resourceName).toURI());
+    }
+
+}
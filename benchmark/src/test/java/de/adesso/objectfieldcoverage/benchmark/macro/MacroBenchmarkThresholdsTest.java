@@ -0,0 +1,59 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MacroBenchmarkThresholdsTest {
+
+    @Test
+    void loadReadsThresholdsFromPropertiesFile(@TempDir Path tempDir) throws Exception {
+        // given
+        var thresholdFile = tempDir.resolve("thresholds.properties");
+        Files.writeString(thresholdFile, "wallTimeMillis=1000\npeakHeapBytes=2000\nallocatedBytes=3000\n");
+
+        // when
+        var actualThresholds = MacroBenchmarkThresholds.load(thresholdFile);
+
+        // then
+        assertThat(actualThresholds).isEqualTo(new MacroBenchmarkThresholds(1000L, 2000L, 3000L));
+    }
+
+    @Test
+    void loadThrowsExceptionWhenThresholdIsMissing(@TempDir Path tempDir) throws Exception {
+        // given
+        var thresholdFile = tempDir.resolve("thresholds.properties");
+        Files.writeString(thresholdFile, "wallTimeMillis=1000\npeakHeapBytes=2000\n");
+
+        // when / then
+        assertThatThrownBy(() -> MacroBenchmarkThresholds.load(thresholdFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Threshold 'allocatedBytes' is missing!");
+    }
+
+    @Test
+    void findViolationsReturnsDescriptionOfEachExceededThreshold() {
+        // given
+        var result = MacroBenchmarkResult.builder()
+                .wallTimeMillis(1500L)
+                .peakHeapBytes(2000L)
+                .allocatedBytes(3001L)
+                .build();
+        var testSubject = new MacroBenchmarkThresholds(1000L, 2000L, 3000L);
+
+        // when
+        var actualViolations = testSubject.findViolations(result);
+
+        // then
+        assertThat(actualViolations).containsExactly(
+                "wallTimeMillis: 1500 exceeds the threshold of 1000",
+                "allocatedBytes: 3001 exceeds the threshold of 3000"
+        );
+    }
+
+}
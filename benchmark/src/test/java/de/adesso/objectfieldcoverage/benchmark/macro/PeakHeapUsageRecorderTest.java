@@ -0,0 +1,37 @@
+package de.adesso.objectfieldcoverage.benchmark.macro;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeakHeapUsageRecorderTest {
+
+    @Test
+    void stopReturnsPeakOfWholeHeapWhileStarted() {
+        // given
+        var testSubject = new PeakHeapUsageRecorder();
+        var retainedArray = new byte[16 * 1024 * 1024];
+
+        // when
+        testSubject.start();
+        var actualPeakHeapBytes = testSubject.stop();
+
+        // then
+        assertThat(retainedArray).hasSize(16 * 1024 * 1024);
+        assertThat(actualPeakHeapBytes).isGreaterThanOrEqualTo(retainedArray.length);
+        assertThat(actualPeakHeapBytes).isLessThanOrEqualTo(Runtime.getRuntime().maxMemory());
+    }
+
+    @Test
+    void closeWithoutStartDoesNotThrow() {
+        // given
+        var testSubject = new PeakHeapUsageRecorder();
+
+        // when
+        testSubject.close();
+
+        // then
+        assertThat(testSubject.stop()).isGreaterThan(0L);
+    }
+
+}
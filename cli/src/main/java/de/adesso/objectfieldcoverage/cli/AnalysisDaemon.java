@@ -0,0 +1,243 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import de.adesso.objectfieldcoverage.core.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static de.adesso.objectfieldcoverage.cli.DaemonProtocol.*;
+
+/**
+ * Long-lived local daemon which keeps an {@link AnalysisSession} warm and serves analysis requests sent by a
+ * {@link DaemonClient}. The daemon only listens on the loopback interface. Its port and a random access token are
+ * written to the {@link CliOptions#getDaemonFile() daemon file}, which is only readable by the current user on POSIX
+ * file systems, and every request must start with the token.
+ *
+ * @implNote Requests are handled one after another, since the analyses of a session are serialized anyway. Reading
+ * a request times out after {@link #DEFAULT_REQUEST_READ_TIMEOUT_MILLIS}, so a client which connects without sending
+ * its request does not block the requests of all other clients.
+ */
+@Slf4j
+public class AnalysisDaemon {
+
+    /**
+     * The number of random bytes of the access token.
+     */
+    private static final int TOKEN_BYTE_COUNT = 32;
+
+    /**
+     * The default timeout in milliseconds for reading the token and the request of a client.
+     */
+    public static final int DEFAULT_REQUEST_READ_TIMEOUT_MILLIS = 10_000;
+
+    /**
+     * The options the daemon was started with.
+     */
+    private final CliOptions options;
+
+    /**
+     * The session the requests are served with.
+     */
+    private final AnalysisSession session;
+
+    /**
+     * The token every request must start with.
+     */
+    private final String token;
+
+    /**
+     * The timeout in milliseconds for reading the token and the request of a client.
+     */
+    private final int requestReadTimeoutMillis;
+
+    /**
+     * Set to {@code false} when a {@value DaemonProtocol#STOP_REQUEST} request was received.
+     */
+    private volatile boolean running = true;
+
+    /**
+     *
+     * @param options
+     *          The options to start the daemon with, not {@code null}.
+     *
+     * @param session
+     *          The session to serve the requests with, not {@code null}.
+     */
+    public AnalysisDaemon(CliOptions options, AnalysisSession session) {
+        this(options, session, DEFAULT_REQUEST_READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     *
+     * @param options
+     *          The options to start the daemon with, not {@code null}.
+     *
+     * @param session
+     *          The session to serve the requests with, not {@code null}.
+     *
+     * @param requestReadTimeoutMillis
+     *          The timeout in milliseconds for reading the token and the request of a client, must be positive.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code requestReadTimeoutMillis} is not positive.
+     */
+    AnalysisDaemon(CliOptions options, AnalysisSession session, int requestReadTimeoutMillis) {
+        this.options = Objects.requireNonNull(options, "options cannot be null!");
+        this.session = Objects.requireNonNull(session, "session cannot be null!");
+
+        if(requestReadTimeoutMillis <= 0) {
+            throw new IllegalArgumentException(String.format("The request read timeout must be positive, but was %d!",
+                    requestReadTimeoutMillis));
+        }
+
+        this.requestReadTimeoutMillis = requestReadTimeoutMillis;
+
+        var tokenBytes = new byte[TOKEN_BYTE_COUNT];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = HashUtils.toHexString(tokenBytes);
+    }
+
+    /**
+     * Builds the model of the session, writes the daemon file and serves requests until a
+     * {@value DaemonProtocol#STOP_REQUEST} request is received. The daemon file is deleted afterwards.
+     *
+     * @throws IOException
+     *          When the server socket could not be opened or the daemon file could not be written.
+     */
+    public void run() throws IOException {
+        session.refreshModel();
+
+        try(var serverSocket = new ServerSocket(options.getPort(), 50, InetAddress.getLoopbackAddress())) {
+            writeDaemonFile(serverSocket.getLocalPort());
+            log.info("Daemon listening on port {}!", serverSocket.getLocalPort());
+
+            try {
+                while(running) {
+                    try(var socket = serverSocket.accept()) {
+                        socket.setSoTimeout(requestReadTimeoutMillis);
+                        handleRequest(socket);
+                    } catch (SocketTimeoutException e) {
+                        log.warn("Client did not send its request within {} ms!", requestReadTimeoutMillis);
+                    } catch (IOException e) {
+                        log.warn("Error while handling a request!", e);
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(options.getDaemonFile());
+            }
+        }
+
+        log.info("Daemon stopped!");
+    }
+
+    /**
+     *
+     * @param socket
+     *          The socket of the client, not {@code null}.
+     *
+     * @throws IOException
+     *          When an error occurs while reading the request or writing the response.
+     */
+    private void handleRequest(Socket socket) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        var writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+
+        var receivedToken = reader.readLine();
+        if(receivedToken == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                receivedToken.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected request with an invalid token!");
+            writer.println(ERROR_RESPONSE + COLUMN_SEPARATOR + "Invalid token!");
+            return;
+        }
+
+        var requestLine = reader.readLine();
+        var columns = requestLine != null ? requestLine.split(COLUMN_SEPARATOR) : new String[] { "" };
+
+        switch (columns[0]) {
+            case ANALYZE_REQUEST:
+                handleAnalyzeRequest(Arrays.asList(columns).subList(1, columns.length), writer);
+                break;
+            case STOP_REQUEST:
+                running = false;
+                writer.println(OK_RESPONSE);
+                writer.println(END_RESPONSE);
+                break;
+            default:
+                writer.println(ERROR_RESPONSE + COLUMN_SEPARATOR + String.format("Unknown request '%s'!", requestLine));
+        }
+    }
+
+    /**
+     *
+     * @param testClassNames
+     *          The qualified names of the test classes to analyze, not {@code null}.
+     *
+     * @param writer
+     *          The writer to write the response to, not {@code null}.
+     */
+    private void handleAnalyzeRequest(List<String> testClassNames, PrintWriter writer) {
+        try {
+            var startTime = System.currentTimeMillis();
+            var result = session.analyze(testClassNames);
+            var totalCoverages = new TreeMap<>(result.getTotalCoverages());
+            log.info("Analyzed {} test classes in {} ms!", totalCoverages.size(), System.currentTimeMillis() - startTime);
+
+            writer.println(OK_RESPONSE);
+            totalCoverages.forEach((testClassName, coverage) -> writer.println(String.join(COLUMN_SEPARATOR, RESULT_RESPONSE,
+                    testClassName, String.valueOf(coverage.getNumerator()), String.valueOf(coverage.getDenominator()),
+                    String.valueOf(result.isApproximate(testClassName)))));
+            writer.println(END_RESPONSE);
+        } catch (RuntimeException e) {
+            log.error("Error while analyzing test classes {}!", testClassNames, e);
+            writer.println(ERROR_RESPONSE + COLUMN_SEPARATOR + String.valueOf(e.getMessage()).replace('\n', ' '));
+        }
+    }
+
+    /**
+     *
+     * @param port
+     *          The port the daemon listens on.
+     *
+     * @throws IOException
+     *          When the daemon file could not be written.
+     */
+    private void writeDaemonFile(int port) throws IOException {
+        var daemonFile = options.getDaemonFile();
+        Files.createDirectories(daemonFile.toAbsolutePath().getParent());
+        Files.deleteIfExists(daemonFile);
+
+        if(FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(daemonFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(daemonFile);
+        }
+
+        var daemonProperties = new Properties();
+        daemonProperties.setProperty(PORT_PROPERTY, String.valueOf(port));
+        daemonProperties.setProperty(TOKEN_PROPERTY, token);
+
+        try(var writer = Files.newBufferedWriter(daemonFile, StandardCharsets.UTF_8)) {
+            daemonProperties.store(writer, "object-field-coverage daemon");
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import lombok.Value;
+import org.apache.commons.math3.fraction.Fraction;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The result of an analysis performed by an {@link AnalysisSession}, an {@link AnalysisDaemon} or merged from the
+ * results of several shards.
+ */
+@Value
+public class AnalysisResult {
+
+    /**
+     * A map which maps the qualified name of each analyzed test class to its total coverage.
+     */
+    Map<String, Fraction> totalCoverages;
+
+    /**
+     * The qualified names of the analyzed test classes whose total coverage is approximated, because the path
+     * budget was exceeded.
+     */
+    Set<String> approximateTestClasses;
+
+    /**
+     *
+     * @param totalCoverages
+     *          A map which maps the qualified name of each analyzed test class to its total coverage, not {@code null}.
+     *
+     * @param approximateTestClasses
+     *          The qualified names of the analyzed test classes whose total coverage is approximated, not {@code null}.
+     */
+    public AnalysisResult(Map<String, Fraction> totalCoverages, Set<String> approximateTestClasses) {
+        this.totalCoverages = Map.copyOf(Objects.requireNonNull(totalCoverages, "totalCoverages cannot be null!"));
+        this.approximateTestClasses = Set.copyOf(Objects.requireNonNull(approximateTestClasses, "approximateTestClasses cannot be null!"));
+    }
+
+    /**
+     *
+     * @param testClassName
+     *          The qualified name of the test class to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the total coverage of the test class with the given {@code testClassName} is
+     *          approximated. {@code false} is returned otherwise.
+     */
+    public boolean isApproximate(String testClassName) {
+        return approximateTestClasses.contains(testClassName);
+    }
+
+}
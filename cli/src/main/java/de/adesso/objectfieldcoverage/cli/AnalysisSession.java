@@ -0,0 +1,519 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import de.adesso.objectfieldcoverage.api.*;
+import de.adesso.objectfieldcoverage.core.cache.ModelSnapshotCache;
+import de.adesso.objectfieldcoverage.core.junit.assertion.JUnitAssertionFinder;
+import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
+import de.adesso.objectfieldcoverage.core.processor.InvocationResultTracker;
+import de.adesso.objectfieldcoverage.core.processor.ObjectFieldCoverageProcessor;
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
+import lombok.extern.slf4j.Slf4j;
+import spoon.IncrementalLauncher;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.factory.Factory;
+import spoon.reflect.visitor.filter.TypeFilter;
+import spoon.support.QueueProcessingManager;
+import spoon.support.compiler.jdt.JDTBasedSpoonCompiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A session which holds the Spoon model of the analyzed sources and the {@link ObjectFieldCoverageProcessor}
+ * together with all of its caches, so consecutive analyses of the same sources do not have to build the model
+ * and the caches again.
+ * <p/>
+ * The initial model is loaded from a {@link ModelSnapshotCache} inside the work directory or built with Spoon's
+ * {@link IncrementalLauncher}, which only parses the compilation units which changed since the model was built last,
+ * so a new session (e.g. a single {@code analyze} invocation) does not have to build the model again when neither the
+ * sources, the classpath nor the compliance level changed. When a source file is added, removed or modified during
+ * the session, the model is updated in place instead: the types of the changed files are removed from the model and
+ * the changed files are parsed into the same model again. The processor is reused and only the cached results which
+ * depend on the changed types are {@link ObjectFieldCoverageProcessor#invalidateTypes(CtModel, Collection) invalidated},
+ * so the cached graphs and evaluation results of all unchanged types are kept. Updated models are not stored in the
+ * snapshot cache, since serializing the whole model again would cost more than the update itself.
+ *
+ * @implNote All analyses are serialized, since the processor and the model are shared.
+ */
+@Slf4j
+public class AnalysisSession {
+
+    /**
+     * The file extension of the Java source files.
+     */
+    private static final String JAVA_FILE_EXTENSION = ".java";
+
+    /**
+     * The options the session was created with.
+     */
+    private final CliOptions options;
+
+    /**
+     * The {@link TargetExecutableFinder}s passed to every created processor. Loaded only once, like the other
+     * components below, since they do not refer to the model.
+     */
+    private final List<TargetExecutableFinder> targetExecutableFinders;
+
+    /**
+     * The {@link AccessibilityAwareFieldFinder}s passed to every created processor.
+     */
+    private final List<AccessibilityAwareFieldFinder> fieldFinders;
+
+    /**
+     * The {@link TestMethodFinder}s passed to every created processor.
+     */
+    private final List<TestMethodFinder> testMethodFinders;
+
+    /**
+     * The {@link EqualsMethodAnalyzer}s passed to every created processor.
+     */
+    private final List<EqualsMethodAnalyzer> equalsMethodAnalyzers;
+
+    /**
+     * The {@link InvocationThrowableAnalyzer}s passed to every created processor.
+     */
+    private final List<InvocationThrowableAnalyzer> invocationThrowableAnalyzers;
+
+    /**
+     * The {@link JUnitAssertionInvocationHandler}s used to create the {@link JUnitAssertionFinder} of every created
+     * processor.
+     */
+    private final List<JUnitAssertionInvocationHandler> invocationHandlers;
+
+    /**
+     * The cache the built models are stored in.
+     */
+    private final ModelSnapshotCache modelSnapshotCache;
+
+    /**
+     * The factory of the current model, {@code null} until the model is built for the first time.
+     */
+    private Factory factory;
+
+    /**
+     * The processor which is used to analyze the current model, {@code null} until the model is built for the first
+     * time.
+     */
+    private ObjectFieldCoverageProcessor processor;
+
+    /**
+     * A map which maps each source file of the current model to its last modification time in milliseconds.
+     */
+    private Map<Path, Long> sourceFileModificationTimes = Map.of();
+
+    /**
+     *
+     * @param options
+     *          The options to create the session with, not {@code null}.
+     */
+    public AnalysisSession(CliOptions options) {
+        this.options = Objects.requireNonNull(options, "options cannot be null!");
+
+        this.targetExecutableFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TargetExecutableFinder.class);
+        this.fieldFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(AccessibilityAwareFieldFinder.class);
+        this.testMethodFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TestMethodFinder.class);
+        this.equalsMethodAnalyzers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(EqualsMethodAnalyzer.class);
+        this.invocationThrowableAnalyzers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(InvocationThrowableAnalyzer.class);
+        this.invocationHandlers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(JUnitAssertionInvocationHandler.class);
+
+        this.modelSnapshotCache = new ModelSnapshotCache(options.getWorkDirectory().resolve("model-snapshots"),
+                ModelSnapshotCache.currentAnalyzerVersion());
+    }
+
+    /**
+     * Loads the model from the {@link #modelSnapshotCache} or builds it in case it was not loaded yet. Updates the
+     * loaded model in place in case a source file was added, removed or modified since it was loaded or updated last.
+     */
+    public synchronized void refreshModel() {
+        var currentModificationTimes = findSourceFileModificationTimes();
+
+        if(factory == null) {
+            this.factory = modelSnapshotCache.loadOrBuild(options.getSourcePaths(), findClasspath(),
+                    options.getComplianceLevel(), List.of(), () -> buildModel(currentModificationTimes.size()));
+            this.processor = createProcessor();
+            this.sourceFileModificationTimes = currentModificationTimes;
+            return;
+        }
+
+        var changedSourceFiles = findChangedSourceFiles(currentModificationTimes);
+
+        if(changedSourceFiles.isEmpty()) {
+            log.debug("Sources did not change, reusing the current model!");
+            return;
+        }
+
+        updateModel(changedSourceFiles, currentModificationTimes.keySet());
+        this.sourceFileModificationTimes = currentModificationTimes;
+    }
+
+    /**
+     *
+     * @return
+     *          The non-blank classpath entries of the {@link #options}.
+     */
+    private List<Path> findClasspath() {
+        return options.getClasspath().stream()
+                .filter(classpathEntry -> !classpathEntry.isBlank())
+                .map(Path::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *
+     * @param currentModificationTimes
+     *          The current modification times of the source files, not {@code null}.
+     *
+     * @return
+     *          A set containing the source files which were added, removed or modified since the model was
+     *          loaded or updated last.
+     */
+    private Set<Path> findChangedSourceFiles(Map<Path, Long> currentModificationTimes) {
+        var changedSourceFiles = new HashSet<Path>();
+
+        currentModificationTimes.forEach((file, modificationTime) -> {
+            if(!modificationTime.equals(sourceFileModificationTimes.get(file))) {
+                changedSourceFiles.add(file);
+            }
+        });
+
+        sourceFileModificationTimes.keySet().stream()
+                .filter(file -> !currentModificationTimes.containsKey(file))
+                .forEach(changedSourceFiles::add);
+
+        return changedSourceFiles;
+    }
+
+    /**
+     * Removes the types declared in the given {@code changedSourceFiles} from the current model, parses the changed
+     * source files which still exist into the current model again and invalidates the cached results of the
+     * {@link #processor} which depend on the removed or added types.
+     *
+     * @param changedSourceFiles
+     *          The source files which were added, removed or modified, not {@code null}.
+     *
+     * @param existingSourceFiles
+     *          All source files which currently exist, not {@code null}.
+     */
+    private void updateModel(Set<Path> changedSourceFiles, Set<Path> existingSourceFiles) {
+        var startTime = System.currentTimeMillis();
+
+        var changedFilePaths = changedSourceFiles.stream()
+                .map(file -> canonicalPathOf(file.toFile()))
+                .collect(Collectors.toSet());
+        var changedTypeNames = new HashSet<>(removeTypesDeclaredIn(changedFilePaths));
+
+        var sourceFilesToParse = changedSourceFiles.stream()
+                .filter(existingSourceFiles::contains)
+                .collect(Collectors.toList());
+        changedTypeNames.addAll(parseIntoModel(sourceFilesToParse));
+
+        processor.invalidateTypes(factory.getModel(), changedTypeNames);
+
+        log.info("Updated model with {} changed source files and {} changed types in {} ms!", changedSourceFiles.size(),
+                changedTypeNames.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Removes all top level types declared in one of the given files together with their compilation units from the
+     * current model.
+     *
+     * @param filePaths
+     *          The canonical paths of the files to remove the types of, not {@code null}.
+     *
+     * @return
+     *          A set containing the qualified names of all removed types, including nested types.
+     */
+    private Set<String> removeTypesDeclaredIn(Set<String> filePaths) {
+        var removedTypeNames = new HashSet<String>();
+
+        var typesToRemove = factory.getModel().getAllTypes().stream()
+                .filter(type -> type.getPosition().isValidPosition())
+                .filter(type -> filePaths.contains(canonicalPathOf(type.getPosition().getFile())))
+                .collect(Collectors.toList());
+
+        for(var type : typesToRemove) {
+            removedTypeNames.addAll(findQualifiedTypeNames(type));
+            type.delete();
+        }
+
+        var compilationUnitKeysToRemove = factory.CompilationUnit().getMap().entrySet().stream()
+                .filter(entry -> entry.getValue().getFile() != null)
+                .filter(entry -> filePaths.contains(canonicalPathOf(entry.getValue().getFile())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        compilationUnitKeysToRemove.forEach(factory.CompilationUnit()::removeFromCache);
+
+        return removedTypeNames;
+    }
+
+    /**
+     * The given {@code sourceFiles} are parsed in no-classpath mode, since the types of the unchanged source files
+     * are only part of the model and not of the classpath. References to these types are resolved by their
+     * qualified names afterwards.
+     *
+     * @param sourceFiles
+     *          The source files to parse into the current model, not {@code null}.
+     *
+     * @return
+     *          A set containing the qualified names of all types declared in the given {@code sourceFiles},
+     *          including nested types.
+     */
+    private Set<String> parseIntoModel(Collection<Path> sourceFiles) {
+        if(sourceFiles.isEmpty()) {
+            return Set.of();
+        }
+
+        var filePaths = sourceFiles.stream()
+                .map(file -> canonicalPathOf(file.toFile()))
+                .collect(Collectors.toSet());
+
+        var environment = factory.getEnvironment();
+        var noClasspath = environment.getNoClasspath();
+        environment.setNoClasspath(true);
+
+        // Spoon refuses to build into a model which is marked as finished
+        factory.getModel().setBuildModelIsFinished(false);
+
+        try {
+            var compiler = new JDTBasedSpoonCompiler(factory);
+            sourceFiles.forEach(sourceFile -> compiler.addInputSource(sourceFile.toFile()));
+            compiler.setSourceClasspath(findClasspath().stream()
+                    .map(Path::toString)
+                    .toArray(String[]::new));
+            compiler.build();
+        } finally {
+            factory.getModel().setBuildModelIsFinished(true);
+            environment.setNoClasspath(noClasspath);
+        }
+
+        return factory.getModel().getAllTypes().stream()
+                .filter(type -> type.getPosition().isValidPosition())
+                .filter(type -> filePaths.contains(canonicalPathOf(type.getPosition().getFile())))
+                .flatMap(type -> findQualifiedTypeNames(type).stream())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     *
+     * @param type
+     *          The type to get the qualified names of, not {@code null}.
+     *
+     * @return
+     *          A set containing the qualified names of the given {@code type} and all types declared inside of it.
+     */
+    private static Set<String> findQualifiedTypeNames(CtType<?> type) {
+        return type.getElements(new TypeFilter<CtType<?>>(CtType.class)).stream()
+                .map(CtType::getQualifiedName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     *
+     * @param file
+     *          The file to get the canonical path of, not {@code null}.
+     *
+     * @return
+     *          The canonical path of the given {@code file} or its absolute path, if the canonical path could not be
+     *          determined.
+     */
+    private static String canonicalPathOf(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    /**
+     *
+     * @param sourceFileCount
+     *          The number of source files the model is built from, only used for logging.
+     *
+     * @return
+     *          The factory of the model built with Spoon's {@link IncrementalLauncher}.
+     */
+    private Factory buildModel(int sourceFileCount) {
+        var inputResources = options.getSourcePaths().stream()
+                .map(Path::toFile)
+                .collect(Collectors.toSet());
+        var launcher = new IncrementalLauncher(inputResources, new HashSet<>(options.getClasspath()),
+                options.getWorkDirectory().resolve("model-cache").toFile());
+
+        launcher.getEnvironment().setComplianceLevel(options.getComplianceLevel());
+        launcher.getEnvironment().setCommentEnabled(false);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.getEnvironment().setNoClasspath(options.getClasspath().isEmpty());
+
+        var startTime = System.currentTimeMillis();
+        launcher.buildModel();
+        launcher.saveCache();
+        log.info("Built model of {} source files in {} ms!", sourceFileCount, System.currentTimeMillis() - startTime);
+
+        return launcher.getFactory();
+    }
+
+    /**
+     *
+     * @param testClassNames
+     *          The qualified names of the test classes to analyze, not {@code null}. All classes of the model are
+     *          analyzed when empty.
+     *
+     * @return
+     *          The total coverage of each analyzed test class together with the test classes whose coverage is
+     *          approximated.
+     *
+     * @throws IllegalArgumentException
+     *          When the model does not contain a class with one of the given {@code testClassNames}.
+     */
+    public synchronized AnalysisResult analyze(Collection<String> testClassNames) {
+        Objects.requireNonNull(testClassNames, "testClassNames cannot be null!");
+
+        refreshModel();
+
+        var classesToAnalyze = findClassesToAnalyze(testClassNames);
+
+        // the progress reports only count the submitted classes instead of all classes of the model
+        processor.getSettings().setSubmittedTestClassCount(classesToAnalyze.stream()
+                .filter(processor::isToBeProcessed)
+                .count());
+
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(processor);
+        processingManager.process(classesToAnalyze);
+
+        return new AnalysisResult(processor.getTotalCoverageResult(), processor.getApproximateTestClasses());
+    }
+
+    /**
+     *
+     * @param testClassNames
+     *          The qualified names of the test classes to find, not {@code null}.
+     *
+     * @return
+     *          All classes of the model in case the given {@code testClassNames} are empty or the classes with the
+     *          given names otherwise.
+     *
+     * @throws IllegalArgumentException
+     *          When the model does not contain a class with one of the given {@code testClassNames}.
+     */
+    private List<CtClass<?>> findClassesToAnalyze(Collection<String> testClassNames) {
+        if(testClassNames.isEmpty()) {
+            return factory.Class().getAll().stream()
+                    .filter(CtClass.class::isInstance)
+                    .<CtClass<?>>map(CtClass.class::cast)
+                    .collect(Collectors.toList());
+        }
+
+        var classesToAnalyze = new ArrayList<CtClass<?>>();
+        for(var testClassName : testClassNames) {
+            CtClass<?> testClass = factory.Class().get(testClassName);
+
+            if(testClass == null) {
+                throw new IllegalArgumentException(String.format("The model does not contain the class '%s'!", testClassName));
+            }
+
+            classesToAnalyze.add(testClass);
+        }
+
+        return classesToAnalyze;
+    }
+
+    /**
+     *
+     * @return
+     *          The processor which is used to analyze the current model, {@code null} until the model is loaded
+     *          for the first time.
+     */
+    synchronized ObjectFieldCoverageProcessor getProcessor() {
+        return processor;
+    }
+
+    /**
+     *
+     * @return
+     *          A new processor configured according to the {@link #options}.
+     */
+    private ObjectFieldCoverageProcessor createProcessor() {
+        var junitAssertionFinder = new JUnitAssertionFinder(invocationHandlers);
+        var newProcessor = new ObjectFieldCoverageProcessor(targetExecutableFinders, fieldFinders, testMethodFinders,
+                List.of(junitAssertionFinder), equalsMethodAnalyzers, invocationThrowableAnalyzers, new InvocationResultTracker());
+
+        newProcessor.getSettings().setOnlyIncludeAnnotated(options.isOnlyIncludeAnnotated());
+        newProcessor.getSettings().setCountPaths(options.isCountPaths());
+        newProcessor.getSettings().setParallel(options.isParallel());
+        newProcessor.getSettings().setShardCount(options.getShardCount());
+        newProcessor.getSettings().setShardIndex(options.getShardIndex());
+        newProcessor.getSettings().setShardResultFile(options.getShardResultFile());
+        newProcessor.getSettings().setCoverageRecordFile(options.getCoverageRecordFile());
+        newProcessor.getSettings().setRecordCoveredPaths(options.isRecordCoveredPaths());
+        newProcessor.getSettings().setMetricsFile(options.getMetricsFile());
+        newProcessor.getSettings().setCollectAllocations(options.isCollectAllocations());
+        newProcessor.getSettings().setMaxPathCount(options.getMaxPathCount());
+        newProcessor.getSettings().setMaxPathLength(options.getMaxPathLength());
+        newProcessor.getSettings().setMaxPathEnumerationMillis(options.getMaxPathEnumerationMillis());
+        newProcessor.getSettings().setProgressIntervalMillis(options.getProgressIntervalMillis());
+        newProcessor.getSettings().setProgressFile(options.getProgressFile());
+
+        if(options.isIncremental()) {
+            newProcessor.getSettings().setIncrementalResultStore(options.getIncrementalResultStoreFile());
+        }
+
+        return newProcessor;
+    }
+
+    /**
+     *
+     * @return
+     *          A map which maps each Java source file in the source paths to its last modification time in
+     *          milliseconds.
+     *
+     * @throws UncheckedIOException
+     *          When an error occurs while walking the source paths.
+     */
+    private Map<Path, Long> findSourceFileModificationTimes() {
+        var modificationTimes = new HashMap<Path, Long>();
+
+        for(var sourcePath : options.getSourcePaths()) {
+            if(!Files.exists(sourcePath)) {
+                continue;
+            }
+
+            try(Stream<Path> files = Files.walk(sourcePath)) {
+                files.filter(Files::isRegularFile)
+                        .filter(file -> file.getFileName().toString().endsWith(JAVA_FILE_EXTENSION))
+                        .forEach(file -> modificationTimes.put(file, lastModifiedMillis(file)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return modificationTimes;
+    }
+
+    /**
+     *
+     * @param file
+     *          The file to get the modification time of, not {@code null}.
+     *
+     * @return
+     *          The last modification time of the given {@code file} in milliseconds or {@code -1}, if the time could
+     *          not be read.
+     */
+    private long lastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            log.warn("Last modification time of '{}' could not be read!", file);
+            return -1L;
+        }
+    }
+
+}
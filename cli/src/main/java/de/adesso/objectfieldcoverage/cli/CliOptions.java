@@ -0,0 +1,406 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import de.adesso.objectfieldcoverage.core.processor.shard.ShardPartitioner;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The options of a single invocation of the {@link ObjectFieldCoverageCli}.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CliOptions {
+
+    /**
+     * The command which analyzes the test classes once.
+     */
+    public static final String ANALYZE_COMMAND = "analyze";
+
+    /**
+     * The command which starts a daemon.
+     */
+    public static final String DAEMON_COMMAND = "daemon";
+
+    /**
+     * The command which stops a running daemon.
+     */
+    public static final String STOP_COMMAND = "stop";
+
+    /**
+     * The command which merges the results of several shards.
+     */
+    public static final String MERGE_COMMAND = "merge";
+
+    /**
+     * The usage message printed when the arguments are invalid.
+     */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: object-field-coverage <analyze|daemon|stop> [options] [source paths...]",
+            "       object-field-coverage merge [shard result files...]",
+            "",
+            "Options:",
+            "  --source <path>          Java source file or directory to analyze, may be repeated",
+            "  --classpath <path>       Classpath of the analyzed sources, entries separated by '" + File.pathSeparator + "'",
+            "  --compliance <level>     Java compliance level of the analyzed sources (default: 11)",
+            "  --work-dir <path>        Directory for caches and the daemon file (default: .object-field-coverage)",
+            "  --test-class <name>      Qualified name of a test class to analyze, may be repeated (default: all)",
+            "  --only-annotated         Only analyze test classes and methods annotated with @CalculateCoverage",
+            "  --count-paths            Count the paths on the graphs instead of materializing them",
+            "  --parallel               Analyze the test classes concurrently",
+            "  --incremental            Reuse the results of test classes whose dependencies did not change",
+            "  --daemon                 Send the analyze request to a running daemon",
+            "  --port <port>            Port the daemon listens on, 0 for a random port (default: 0)",
+            "  --shard-count <count>    Number of shards the test classes are partitioned into (default: 1)",
+            "  --shard-index <index>    Index of the shard to analyze, between 0 and the shard count (default: 0)",
+            "  --shard-output <path>    File the partial result of the analyzed shard is written to",
+            "  --record-file <path>     Binary file the result of every target executable invocation is written to",
+            "  --record-paths           Include the covered paths in the records",
+            "  --metrics-file <path>    JSON file the execution times and counters of the analysis phases are written to",
+            "  --metrics-allocations    Include the bytes allocated per analysis phase and test class in the metrics",
+            "  --max-paths <count>      Maximum number of paths enumerated per graph, 0 for no limit (default: 0)",
+            "  --max-path-length <len>  Maximum length of an enumerated path, 0 for no limit (default: 0)",
+            "  --max-path-millis <ms>   Maximum path enumeration time per graph, 0 for no limit (default: 0)",
+            "  --progress-interval <ms> Interval of the progress reports on stderr, 0 to disable them (default: 0)",
+            "  --progress-file <path>   JSON file the latest progress report is written to"
+    );
+
+    /**
+     * The command to execute.
+     */
+    private String command;
+
+    /**
+     * The Java source files and directories to analyze.
+     */
+    private final List<Path> sourcePaths = new ArrayList<>();
+
+    /**
+     * The classpath of the analyzed sources.
+     */
+    private final List<String> classpath = new ArrayList<>();
+
+    /**
+     * The Java compliance level of the analyzed sources.
+     */
+    private int complianceLevel = 11;
+
+    /**
+     * The directory the caches and the daemon file are stored in.
+     */
+    private Path workDirectory = Path.of(".object-field-coverage");
+
+    /**
+     * The qualified names of the test classes to analyze. All test classes are analyzed when empty.
+     */
+    private final List<String> testClasses = new ArrayList<>();
+
+    /**
+     * Specifies if only annotated test classes and methods should be analyzed.
+     */
+    private boolean onlyIncludeAnnotated;
+
+    /**
+     * Specifies if the paths should be counted on the graphs.
+     */
+    private boolean countPaths;
+
+    /**
+     * Specifies if the test classes should be analyzed concurrently.
+     */
+    private boolean parallel;
+
+    /**
+     * Specifies if the results of unchanged test classes should be reused.
+     */
+    private boolean incremental;
+
+    /**
+     * Specifies if the analyze request should be sent to a running daemon.
+     */
+    private boolean useDaemon;
+
+    /**
+     * The port the daemon listens on.
+     */
+    private int port;
+
+    /**
+     * The number of shards the test classes are partitioned into.
+     */
+    private int shardCount = 1;
+
+    /**
+     * The index of the shard to analyze.
+     */
+    private int shardIndex;
+
+    /**
+     * The file the partial result of the analyzed shard is written to, {@code null} if no partial result should
+     * be written.
+     */
+    private Path shardResultFile;
+
+    /**
+     * The partial result files of the shards to merge.
+     */
+    private final List<Path> shardResultFiles = new ArrayList<>();
+
+    /**
+     * The binary file the result of every target executable invocation is written to, {@code null} if no records
+     * should be written.
+     */
+    private Path coverageRecordFile;
+
+    /**
+     * Specifies if the covered paths should be included in the records.
+     */
+    private boolean recordCoveredPaths;
+
+    /**
+     * The JSON file the processor metrics are written to, {@code null} if no metrics should be collected.
+     */
+    private Path metricsFile;
+
+    /**
+     * Specifies if the allocated bytes should be included in the metrics.
+     */
+    private boolean collectAllocations;
+
+    /**
+     * The maximum number of paths enumerated per graph, {@code 0} for no limit.
+     */
+    private int maxPathCount;
+
+    /**
+     * The maximum length of an enumerated path, {@code 0} for no limit.
+     */
+    private int maxPathLength;
+
+    /**
+     * The maximum path enumeration time per graph in milliseconds, {@code 0} for no limit.
+     */
+    private int maxPathEnumerationMillis;
+
+    /**
+     * The interval between two progress reports in milliseconds, {@code 0} to disable the reports.
+     */
+    private int progressIntervalMillis;
+
+    /**
+     * The file the latest progress report is written to.
+     */
+    private Path progressFile;
+
+    /**
+     *
+     * @param args
+     *          The command line arguments to parse, not {@code null}.
+     *
+     * @return
+     *          The parsed options.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code args} are not valid.
+     */
+    public static CliOptions parse(String... args) {
+        Objects.requireNonNull(args, "args cannot be null!");
+
+        if(args.length == 0) {
+            throw new IllegalArgumentException("No command specified!");
+        }
+
+        var options = new CliOptions();
+        options.command = args[0];
+
+        if(!Arrays.asList(ANALYZE_COMMAND, DAEMON_COMMAND, STOP_COMMAND, MERGE_COMMAND).contains(options.command)) {
+            throw new IllegalArgumentException(String.format("Unknown command '%s'!", options.command));
+        }
+
+        for(var argIndex = 1; argIndex < args.length; argIndex++) {
+            var arg = args[argIndex];
+
+            switch (arg) {
+                case "--source":
+                    options.sourcePaths.add(Path.of(valueOf(args, ++argIndex, arg)));
+                    break;
+                case "--classpath":
+                    options.classpath.addAll(Arrays.asList(valueOf(args, ++argIndex, arg).split(File.pathSeparator)));
+                    break;
+                case "--compliance":
+                    options.complianceLevel = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--work-dir":
+                    options.workDirectory = Path.of(valueOf(args, ++argIndex, arg));
+                    break;
+                case "--test-class":
+                    options.testClasses.add(valueOf(args, ++argIndex, arg));
+                    break;
+                case "--only-annotated":
+                    options.onlyIncludeAnnotated = true;
+                    break;
+                case "--count-paths":
+                    options.countPaths = true;
+                    break;
+                case "--parallel":
+                    options.parallel = true;
+                    break;
+                case "--incremental":
+                    options.incremental = true;
+                    break;
+                case "--daemon":
+                    options.useDaemon = true;
+                    break;
+                case "--port":
+                    options.port = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--shard-count":
+                    options.shardCount = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--shard-index":
+                    options.shardIndex = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--shard-output":
+                    options.shardResultFile = Path.of(valueOf(args, ++argIndex, arg));
+                    break;
+                case "--record-file":
+                    options.coverageRecordFile = Path.of(valueOf(args, ++argIndex, arg));
+                    break;
+                case "--record-paths":
+                    options.recordCoveredPaths = true;
+                    break;
+                case "--metrics-file":
+                    options.metricsFile = Path.of(valueOf(args, ++argIndex, arg));
+                    break;
+                case "--metrics-allocations":
+                    options.collectAllocations = true;
+                    break;
+                case "--max-paths":
+                    options.maxPathCount = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--max-path-length":
+                    options.maxPathLength = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--max-path-millis":
+                    options.maxPathEnumerationMillis = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--progress-interval":
+                    options.progressIntervalMillis = intValueOf(args, ++argIndex, arg);
+                    break;
+                case "--progress-file":
+                    options.progressFile = Path.of(valueOf(args, ++argIndex, arg));
+                    break;
+                default:
+                    if(arg.startsWith("--")) {
+                        throw new IllegalArgumentException(String.format("Unknown option '%s'!", arg));
+                    }
+
+                    if(MERGE_COMMAND.equals(options.command)) {
+                        options.shardResultFiles.add(Path.of(arg));
+                    } else {
+                        options.sourcePaths.add(Path.of(arg));
+                    }
+            }
+        }
+
+        if(MERGE_COMMAND.equals(options.command)) {
+            if(options.shardResultFiles.isEmpty()) {
+                throw new IllegalArgumentException("No shard result files specified!");
+            }
+        } else if(!STOP_COMMAND.equals(options.command) && options.sourcePaths.isEmpty()) {
+            throw new IllegalArgumentException("No source paths specified!");
+        }
+
+        ShardPartitioner.validateShard(options.shardIndex, options.shardCount);
+
+        if(options.maxPathCount < 0 || options.maxPathLength < 0 || options.maxPathEnumerationMillis < 0) {
+            throw new IllegalArgumentException("The path budget cannot be negative!");
+        }
+
+        if(options.progressIntervalMillis < 0) {
+            throw new IllegalArgumentException("The progress interval cannot be negative!");
+        }
+
+        return options;
+    }
+
+    /**
+     *
+     * @return
+     *          The file of the daemon's {@link de.adesso.objectfieldcoverage.core.processor.incremental.IncrementalResultStore}
+     *          inside the {@link #getWorkDirectory() work directory}.
+     */
+    public Path getIncrementalResultStoreFile() {
+        return workDirectory.resolve("results.store");
+    }
+
+    /**
+     *
+     * @return
+     *          The file containing the port and the access token of a running daemon inside the
+     *          {@link #getWorkDirectory() work directory}.
+     */
+    public Path getDaemonFile() {
+        return workDirectory.resolve("daemon.properties");
+    }
+
+    /**
+     *
+     * @param args
+     *          The command line arguments, not {@code null}.
+     *
+     * @param valueIndex
+     *          The index of the value of the option.
+     *
+     * @param option
+     *          The name of the option, not {@code null}.
+     *
+     * @return
+     *          The value of the option.
+     *
+     * @throws IllegalArgumentException
+     *          When no value is present.
+     */
+    private static String valueOf(String[] args, int valueIndex, String option) {
+        if(valueIndex >= args.length) {
+            throw new IllegalArgumentException(String.format("Option '%s' requires a value!", option));
+        }
+
+        return args[valueIndex];
+    }
+
+    /**
+     *
+     * @param args
+     *          The command line arguments, not {@code null}.
+     *
+     * @param valueIndex
+     *          The index of the value of the option.
+     *
+     * @param option
+     *          The name of the option, not {@code null}.
+     *
+     * @return
+     *          The integer value of the option.
+     *
+     * @throws IllegalArgumentException
+     *          When no value is present or the value is not an integer.
+     */
+    private static int intValueOf(String[] args, int valueIndex, String option) {
+        var value = valueOf(args, valueIndex, option);
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Value '%s' of option '%s' is not an integer!", value, option), e);
+        }
+    }
+
+}
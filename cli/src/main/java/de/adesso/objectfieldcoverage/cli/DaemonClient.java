@@ -0,0 +1,175 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.math3.fraction.Fraction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static de.adesso.objectfieldcoverage.cli.DaemonProtocol.*;
+
+/**
+ * Client which sends requests to a running {@link AnalysisDaemon}.
+ */
+@Slf4j
+public class DaemonClient {
+
+    /**
+     * The port the daemon listens on.
+     */
+    private final int port;
+
+    /**
+     * The access token of the daemon.
+     */
+    private final String token;
+
+    /**
+     *
+     * @param port
+     *          The port the daemon listens on.
+     *
+     * @param token
+     *          The access token of the daemon, not {@code null}.
+     */
+    private DaemonClient(int port, String token) {
+        this.port = port;
+        this.token = token;
+    }
+
+    /**
+     *
+     * @param daemonFile
+     *          The daemon file written by the daemon, not {@code null}.
+     *
+     * @return
+     *          An optional containing a client for the daemon described by the given {@code daemonFile} or an
+     *          empty optional in case the file does not exist or could not be read.
+     */
+    public static Optional<DaemonClient> fromDaemonFile(Path daemonFile) {
+        Objects.requireNonNull(daemonFile, "daemonFile cannot be null!");
+
+        if(!Files.isRegularFile(daemonFile)) {
+            return Optional.empty();
+        }
+
+        try(var reader = Files.newBufferedReader(daemonFile, StandardCharsets.UTF_8)) {
+            var daemonProperties = new Properties();
+            daemonProperties.load(reader);
+
+            var port = Integer.parseInt(daemonProperties.getProperty(PORT_PROPERTY));
+            var token = Objects.requireNonNull(daemonProperties.getProperty(TOKEN_PROPERTY), "The daemon file does not contain a token!");
+            return Optional.of(new DaemonClient(port, token));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Daemon file '{}' could not be read!", daemonFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     *
+     * @param testClassNames
+     *          The qualified names of the test classes to analyze, not {@code null}. All test classes are analyzed
+     *          when empty.
+     *
+     * @return
+     *          The total coverage of each analyzed test class together with the test classes whose coverage is
+     *          approximated.
+     *
+     * @throws IOException
+     *          When the daemon could not be reached.
+     *
+     * @throws IllegalStateException
+     *          When the daemon responded with an error.
+     */
+    public AnalysisResult analyze(Collection<String> testClassNames) throws IOException {
+        Objects.requireNonNull(testClassNames, "testClassNames cannot be null!");
+
+        var requestColumns = new ArrayList<String>();
+        requestColumns.add(ANALYZE_REQUEST);
+        requestColumns.addAll(testClassNames);
+
+        var totalCoverages = new HashMap<String, Fraction>();
+        var approximateTestClasses = new HashSet<String>();
+        for(var resultLine : sendRequest(String.join(COLUMN_SEPARATOR, requestColumns))) {
+            var columns = resultLine.split(COLUMN_SEPARATOR);
+            totalCoverages.put(columns[1], new Fraction(Integer.parseInt(columns[2]), Integer.parseInt(columns[3])));
+
+            if(columns.length > 4 && Boolean.parseBoolean(columns[4])) {
+                approximateTestClasses.add(columns[1]);
+            }
+        }
+
+        return new AnalysisResult(totalCoverages, approximateTestClasses);
+    }
+
+    /**
+     * Requests the daemon to stop after the current request.
+     *
+     * @throws IOException
+     *          When the daemon could not be reached.
+     *
+     * @throws IllegalStateException
+     *          When the daemon responded with an error.
+     */
+    public void stop() throws IOException {
+        sendRequest(STOP_REQUEST);
+    }
+
+    /**
+     *
+     * @param requestLine
+     *          The command line of the request, not {@code null}.
+     *
+     * @return
+     *          The lines of the response between the {@value DaemonProtocol#OK_RESPONSE} and the
+     *          {@value DaemonProtocol#END_RESPONSE} line.
+     *
+     * @throws IOException
+     *          When the daemon could not be reached or closed the connection unexpectedly.
+     *
+     * @throws IllegalStateException
+     *          When the daemon responded with an error.
+     */
+    private List<String> sendRequest(String requestLine) throws IOException {
+        try(var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            var writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.println(token);
+            writer.println(requestLine);
+
+            var statusLine = reader.readLine();
+            if(statusLine == null) {
+                throw new IOException("The daemon closed the connection without a response!");
+            }
+
+            if(statusLine.startsWith(ERROR_RESPONSE)) {
+                throw new IllegalStateException(String.format("The daemon responded with an error: %s",
+                        statusLine.substring(ERROR_RESPONSE.length()).trim()));
+            }
+
+            var responseLines = new ArrayList<String>();
+            String line;
+            while((line = reader.readLine()) != null && !END_RESPONSE.equals(line)) {
+                responseLines.add(line);
+            }
+
+            if(line == null) {
+                throw new IOException("The daemon closed the connection before the response was complete!");
+            }
+
+            return responseLines;
+        }
+    }
+
+}
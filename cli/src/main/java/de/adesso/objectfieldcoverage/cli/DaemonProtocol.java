@@ -0,0 +1,64 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Constants of the line based text protocol spoken between the {@link DaemonClient} and the {@link AnalysisDaemon}.
+ * <p/>
+ * A request consists of two lines, the access token of the daemon and the command. The columns of the command line
+ * are separated by {@value #COLUMN_SEPARATOR}. The {@value #ANALYZE_REQUEST} command is followed by the qualified
+ * names of the test classes to analyze. The daemon responds with a {@value #OK_RESPONSE} line followed by one
+ * {@value #RESULT_RESPONSE} line per test class and an {@value #END_RESPONSE} line, or with a single
+ * {@value #ERROR_RESPONSE} line.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class DaemonProtocol {
+
+    /**
+     * The separator between the columns of a line.
+     */
+    static final String COLUMN_SEPARATOR = "\t";
+
+    /**
+     * The command to analyze test classes.
+     */
+    static final String ANALYZE_REQUEST = "ANALYZE";
+
+    /**
+     * The command to stop the daemon.
+     */
+    static final String STOP_REQUEST = "STOP";
+
+    /**
+     * The first line of a successful response.
+     */
+    static final String OK_RESPONSE = "OK";
+
+    /**
+     * The prefix of a line containing the qualified name of a test class, the numerator and denominator of its
+     * total coverage and whether the coverage is approximated.
+     */
+    static final String RESULT_RESPONSE = "RESULT";
+
+    /**
+     * The last line of a successful response.
+     */
+    static final String END_RESPONSE = "END";
+
+    /**
+     * The prefix of the line of an error response, followed by the error message.
+     */
+    static final String ERROR_RESPONSE = "ERROR";
+
+    /**
+     * The key of the port in the daemon file.
+     */
+    static final String PORT_PROPERTY = "port";
+
+    /**
+     * The key of the access token in the daemon file.
+     */
+    static final String TOKEN_PROPERTY = "token";
+
+}
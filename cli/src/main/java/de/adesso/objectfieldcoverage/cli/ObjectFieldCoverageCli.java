@@ -0,0 +1,192 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import de.adesso.objectfieldcoverage.core.processor.shard.ShardResult;
+import de.adesso.objectfieldcoverage.core.processor.shard.ShardResultMerger;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Command line entry point. Supports the following commands:
+ * <ul>
+ *     <li>{@value CliOptions#ANALYZE_COMMAND}: analyzes the given sources once and prints the total coverage of each
+ *     test class. Sends the request to a running daemon instead when the {@code --daemon} option is set.</li>
+ *     <li>{@value CliOptions#DAEMON_COMMAND}: starts an {@link AnalysisDaemon} for the given sources which keeps the
+ *     model and all caches warm until it is stopped.</li>
+ *     <li>{@value CliOptions#STOP_COMMAND}: stops the daemon running in the given work directory.</li>
+ *     <li>{@value CliOptions#MERGE_COMMAND}: merges the partial results written by the analyses of the individual
+ *     shards and prints the total coverage of each test class.</li>
+ * </ul>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ObjectFieldCoverageCli {
+
+    /**
+     * The exit code of a successful invocation.
+     */
+    static final int EXIT_SUCCESS = 0;
+
+    /**
+     * The exit code of an invocation which failed while executing the command.
+     */
+    static final int EXIT_FAILURE = 1;
+
+    /**
+     * The exit code of an invocation with invalid arguments.
+     */
+    static final int EXIT_USAGE = 2;
+
+    /**
+     * The marker appended to approximated coverages.
+     */
+    static final String APPROXIMATED_MARKER = " (approximated)";
+
+    /**
+     *
+     * @param args
+     *          The command line arguments.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     *
+     * @param args
+     *          The command line arguments, not {@code null}.
+     *
+     * @param out
+     *          The stream to print the results to, not {@code null}.
+     *
+     * @param err
+     *          The stream to print errors to, not {@code null}.
+     *
+     * @return
+     *          The exit code.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        CliOptions options;
+
+        try {
+            options = CliOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(CliOptions.USAGE);
+            return EXIT_USAGE;
+        }
+
+        try {
+            switch (options.getCommand()) {
+                case CliOptions.DAEMON_COMMAND:
+                    new AnalysisDaemon(options, new AnalysisSession(options)).run();
+                    return EXIT_SUCCESS;
+                case CliOptions.STOP_COMMAND:
+                    return stopDaemon(options, err);
+                case CliOptions.MERGE_COMMAND:
+                    printResults(mergeShardResults(options), out);
+                    return EXIT_SUCCESS;
+                default:
+                    printResults(analyze(options), out);
+                    return EXIT_SUCCESS;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Error while executing command '{}'!", options.getCommand(), e);
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     *
+     * @param options
+     *          The parsed options, not {@code null}.
+     *
+     * @return
+     *          The total coverage of each analyzed test class together with the test classes whose coverage is
+     *          approximated. The analysis is performed by the running daemon in case the {@code --daemon} option is set and a daemon is running
+     *          in the work directory. It is performed in the current JVM otherwise.
+     *
+     * @throws IOException
+     *          When the daemon could not be reached.
+     */
+    private static AnalysisResult analyze(CliOptions options) throws IOException {
+        if(options.isUseDaemon()) {
+            var daemonClient = DaemonClient.fromDaemonFile(options.getDaemonFile());
+
+            if(daemonClient.isPresent()) {
+                return daemonClient.get().analyze(options.getTestClasses());
+            }
+
+            log.warn("No daemon running in work directory '{}', analyzing in the current JVM!", options.getWorkDirectory());
+        }
+
+        return new AnalysisSession(options).analyze(options.getTestClasses());
+    }
+
+    /**
+     *
+     * @param options
+     *          The parsed options, not {@code null}.
+     *
+     * @return
+     *          The total coverage of each test class contained in the shard result files and the test classes whose
+     *          total coverage is approximated in any of them.
+     */
+    private static AnalysisResult mergeShardResults(CliOptions options) {
+        var shardResults = options.getShardResultFiles().stream()
+                .map(ShardResult::read)
+                .collect(Collectors.toList());
+
+        return new AnalysisResult(ShardResultMerger.merge(shardResults),
+                ShardResultMerger.mergeApproximateTestClasses(shardResults));
+    }
+
+    /**
+     *
+     * @param options
+     *          The parsed options, not {@code null}.
+     *
+     * @param err
+     *          The stream to print errors to, not {@code null}.
+     *
+     * @return
+     *          The exit code.
+     *
+     * @throws IOException
+     *          When the daemon could not be reached.
+     */
+    private static int stopDaemon(CliOptions options, PrintStream err) throws IOException {
+        var daemonClient = DaemonClient.fromDaemonFile(options.getDaemonFile());
+
+        if(daemonClient.isEmpty()) {
+            err.println(String.format("No daemon running in work directory '%s'!", options.getWorkDirectory()));
+            return EXIT_FAILURE;
+        }
+
+        daemonClient.get().stop();
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Prints the total coverage of each test class. Approximated coverages are marked with
+     * {@value #APPROXIMATED_MARKER}.
+     *
+     * @param result
+     *          The result to print, not {@code null}.
+     *
+     * @param out
+     *          The stream to print the results to, not {@code null}.
+     */
+    static void printResults(AnalysisResult result, PrintStream out) {
+        new TreeMap<>(result.getTotalCoverages()).forEach((testClassName, coverage) ->
+                out.println(String.format("%s: %.2f%%%s", testClassName, coverage.doubleValue() * 100D,
+                        result.isApproximate(testClassName) ? APPROXIMATED_MARKER : "")));
+    }
+
+}
@@ -0,0 +1,140 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import de.adesso.objectfieldcoverage.test.CorpusGenerator;
+import de.adesso.objectfieldcoverage.test.CorpusSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalysisDaemonTest {
+
+    @Test
+    void daemonServesRequestsUntilStopped(@TempDir Path tempDir) throws Exception {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var options = CliOptions.parse("daemon", sourceDir.toString(), "--work-dir", tempDir.resolve("work").toString());
+        var daemonError = new AtomicReference<Throwable>();
+        var daemonThread = new Thread(() -> {
+            try {
+                new AnalysisDaemon(options, new AnalysisSession(options)).run();
+            } catch (Throwable e) {
+                daemonError.set(e);
+            }
+        });
+        daemonThread.start();
+
+        var client = awaitDaemonClient(options, daemonThread);
+
+        // when
+        var actualResults = client.analyze(List.of("de.adesso.test.Person"));
+
+        // then
+        assertThat(actualResults.getTotalCoverages()).isEmpty();
+        assertThatThrownBy(() -> client.analyze(List.of("de.adesso.test.Unknown")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("de.adesso.test.Unknown");
+
+        client.stop();
+        daemonThread.join(10_000L);
+
+        assertThat(daemonThread.isAlive()).isFalse();
+        assertThat(daemonError.get()).isNull();
+        assertThat(options.getDaemonFile()).doesNotExist();
+    }
+
+    @Test
+    void daemonRespondsWithApproximateTestClasses(@TempDir Path tempDir) throws Exception {
+        // given
+        var sourceDir = tempDir.resolve("src");
+        new CorpusGenerator(CorpusSpec.builder().depth(2).fanOut(2).testMethodCount(1).build()).generate(sourceDir);
+
+        var options = CliOptions.parse("daemon", sourceDir.toString(), "--work-dir", tempDir.resolve("work").toString(),
+                "--max-paths", "1");
+        var daemonThread = new Thread(() -> {
+            try {
+                new AnalysisDaemon(options, new AnalysisSession(options)).run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        daemonThread.start();
+
+        var client = awaitDaemonClient(options, daemonThread);
+
+        // when
+        var actualResult = client.analyze(List.of());
+        client.stop();
+        daemonThread.join(10_000L);
+
+        // then
+        assertThat(actualResult.getTotalCoverages()).containsOnlyKeys("de.adesso.generated.Root0ServiceTest");
+        assertThat(actualResult.getApproximateTestClasses()).containsExactly("de.adesso.generated.Root0ServiceTest");
+    }
+
+    @Test
+    void idleClientDoesNotBlockOtherClients(@TempDir Path tempDir) throws Exception {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var options = CliOptions.parse("daemon", sourceDir.toString(), "--work-dir", tempDir.resolve("work").toString());
+        var daemonThread = new Thread(() -> {
+            try {
+                new AnalysisDaemon(options, new AnalysisSession(options), 200).run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        daemonThread.start();
+
+        var client = awaitDaemonClient(options, daemonThread);
+        var daemonProperties = new Properties();
+        try(var reader = Files.newBufferedReader(options.getDaemonFile())) {
+            daemonProperties.load(reader);
+        }
+
+        // when
+        try(var idleSocket = new Socket(InetAddress.getLoopbackAddress(),
+                Integer.parseInt(daemonProperties.getProperty(DaemonProtocol.PORT_PROPERTY)))) {
+            var actualResults = client.analyze(List.of("de.adesso.test.Person"));
+
+            // then
+            assertThat(actualResults.getTotalCoverages()).isEmpty();
+            assertThat(idleSocket.getInputStream().read()).isEqualTo(-1);
+        } finally {
+            client.stop();
+            daemonThread.join(10_000L);
+        }
+
+        assertThat(daemonThread.isAlive()).isFalse();
+    }
+
+    private DaemonClient awaitDaemonClient(CliOptions options, Thread daemonThread) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 60_000L;
+
+        while(System.currentTimeMillis() < deadline && daemonThread.isAlive()) {
+            var client = DaemonClient.fromDaemonFile(options.getDaemonFile());
+
+            if(client.isPresent()) {
+                return client.get();
+            }
+
+            Thread.sleep(50L);
+        }
+
+        throw new IllegalStateException("The daemon did not start!");
+    }
+
+}
@@ -0,0 +1,68 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import de.adesso.objectfieldcoverage.test.CorpusGenerator;
+import de.adesso.objectfieldcoverage.test.CorpusSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisSessionTest {
+
+    @Test
+    void analyzeUpdatesModelInPlaceAndReusesProcessorWhenSourceFileChanged(@TempDir Path tempDir) throws Exception {
+        // given
+        var corpusDir = tempDir.resolve("corpus");
+        new CorpusGenerator(CorpusSpec.builder().depth(2).fanOut(2).testMethodCount(3).build()).generate(corpusDir);
+
+        var options = CliOptions.parse("analyze", corpusDir.toString(), "--work-dir", tempDir.resolve("work").toString());
+        var testSubject = new AnalysisSession(options);
+
+        var resultBeforeChange = testSubject.analyze(List.of());
+        var processorBeforeChange = testSubject.getProcessor();
+
+        var changedTypeFile = corpusDir.resolve(CorpusGenerator.MAIN_SOURCE_DIRECTORY)
+                .resolve("de/adesso/generated/Root0Level2Node0.java");
+        Files.writeString(changedTypeFile, Files.readString(changedTypeFile).replace("    private int id;\n",
+                "    private int id;\n\n    private long version;\n\n    public long getVersion() {\n        return version;\n    }\n"));
+        Files.setLastModifiedTime(changedTypeFile, FileTime.fromMillis(Files.getLastModifiedTime(changedTypeFile).toMillis() + 10_000L));
+
+        var coldOptions = CliOptions.parse("analyze", corpusDir.toString(), "--work-dir", tempDir.resolve("cold-work").toString());
+        var expectedResult = new AnalysisSession(coldOptions).analyze(List.of());
+
+        // when
+        var actualResult = testSubject.analyze(List.of());
+
+        // then
+        assertThat(actualResult).isEqualTo(expectedResult);
+        assertThat(actualResult).isNotEqualTo(resultBeforeChange);
+        assertThat(testSubject.getProcessor()).isSameAs(processorBeforeChange);
+    }
+
+    @Test
+    void analyzeRemovesTypesOfDeletedSourceFiles(@TempDir Path tempDir) throws Exception {
+        // given
+        var corpusDir = tempDir.resolve("corpus");
+        new CorpusGenerator(CorpusSpec.builder().rootTypeCount(2).depth(1).fanOut(1).testMethodCount(1).build())
+                .generate(corpusDir);
+
+        var options = CliOptions.parse("analyze", corpusDir.toString(), "--work-dir", tempDir.resolve("work").toString());
+        var testSubject = new AnalysisSession(options);
+        testSubject.analyze(List.of());
+
+        Files.delete(corpusDir.resolve(CorpusGenerator.TEST_SOURCE_DIRECTORY)
+                .resolve("de/adesso/generated/Root1ServiceTest.java"));
+
+        // when
+        var actualResult = testSubject.analyze(List.of());
+
+        // then
+        assertThat(actualResult.getTotalCoverages()).containsOnlyKeys("de.adesso.generated.Root0ServiceTest");
+    }
+
+}
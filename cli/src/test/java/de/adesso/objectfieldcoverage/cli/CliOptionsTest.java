@@ -0,0 +1,125 @@
+package de.adesso.objectfieldcoverage.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CliOptionsTest {
+
+    @Test
+    void parseParsesOptionsAndPositionalSourcePaths() {
+        // given
+        var args = new String[] { "analyze", "src/test/java", "--source", "src/main/java", "--test-class",
+                "de.adesso.test.PersonTest", "--work-dir", "work", "--compliance", "8", "--count-paths", "--daemon" };
+
+        // when
+        var actualOptions = CliOptions.parse(args);
+
+        // then
+        assertThat(actualOptions.getCommand()).isEqualTo(CliOptions.ANALYZE_COMMAND);
+        assertThat(actualOptions.getSourcePaths()).containsExactly(Path.of("src/test/java"), Path.of("src/main/java"));
+        assertThat(actualOptions.getTestClasses()).containsExactly("de.adesso.test.PersonTest");
+        assertThat(actualOptions.getComplianceLevel()).isEqualTo(8);
+        assertThat(actualOptions.isCountPaths()).isTrue();
+        assertThat(actualOptions.isUseDaemon()).isTrue();
+        assertThat(actualOptions.isOnlyIncludeAnnotated()).isFalse();
+        assertThat(actualOptions.getDaemonFile()).isEqualTo(Path.of("work", "daemon.properties"));
+    }
+
+    @Test
+    void parseAllowsStopCommandWithoutSourcePaths() {
+        // given
+        var args = new String[] { "stop" };
+
+        // when
+        var actualOptions = CliOptions.parse(args);
+
+        // then
+        assertThat(actualOptions.getCommand()).isEqualTo(CliOptions.STOP_COMMAND);
+        assertThat(actualOptions.getSourcePaths()).isEmpty();
+    }
+
+    @Test
+    void parseThrowsExceptionWhenNoSourcePathIsGiven() {
+        // given
+        var args = new String[] { "analyze", "--count-paths" };
+
+        // when / then
+        assertThatThrownBy(() -> CliOptions.parse(args))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No source paths specified!");
+    }
+
+    @Test
+    void parseThrowsExceptionWhenOptionValueIsMissing() {
+        // given
+        var args = new String[] { "analyze", "src", "--port" };
+
+        // when / then
+        assertThatThrownBy(() -> CliOptions.parse(args))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parseThrowsExceptionWhenPathBudgetIsNegative() {
+        // given
+        var args = new String[] { "analyze", "src", "--max-paths", "-1" };
+
+        // when / then
+        assertThatThrownBy(() -> CliOptions.parse(args))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The path budget cannot be negative!");
+    }
+
+    @Test
+    void parseParsesProgressOptions() {
+        // given
+        var args = new String[] { "analyze", "src", "--progress-interval", "500", "--progress-file", "progress.json" };
+
+        // when
+        var actualOptions = CliOptions.parse(args);
+
+        // then
+        assertThat(actualOptions.getProgressIntervalMillis()).isEqualTo(500);
+        assertThat(actualOptions.getProgressFile()).isEqualTo(Path.of("progress.json"));
+    }
+
+    @Test
+    void parseThrowsExceptionForUnknownCommand() {
+        // given
+        var args = new String[] { "compile", "src" };
+
+        // when / then
+        assertThatThrownBy(() -> CliOptions.parse(args))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown command 'compile'!");
+    }
+
+    @Test
+    void parseTreatsPositionalArgumentsOfMergeCommandAsShardResultFiles() {
+        // given
+        var args = new String[] { "merge", "shard-0.result", "shard-1.result" };
+
+        // when
+        var actualOptions = CliOptions.parse(args);
+
+        // then
+        assertThat(actualOptions.getShardResultFiles()).containsExactly(Path.of("shard-0.result"), Path.of("shard-1.result"));
+        assertThat(actualOptions.getSourcePaths()).isEmpty();
+    }
+
+    @Test
+    void parseThrowsExceptionWhenShardIndexIsOutOfRange() {
+        // given
+        var args = new String[] { "analyze", "src", "--shard-count", "2", "--shard-index", "2" };
+
+        // when / then
+        assertThatThrownBy(() -> CliOptions.parse(args))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The shard index must be between 0 and 1, but was 2!");
+    }
+
+}
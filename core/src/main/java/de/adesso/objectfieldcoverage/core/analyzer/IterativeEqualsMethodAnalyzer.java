@@ -6,6 +6,7 @@ import de.adesso.objectfieldcoverage.core.util.TypeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtField;
 import spoon.reflect.declaration.CtType;
 import spoon.reflect.reference.CtTypeReference;
 
@@ -58,6 +59,41 @@ public class IterativeEqualsMethodAnalyzer {
             return Set.of();
         }
 
+        var fieldsComparedInEquals = findFieldsComparedInEquals(classRefToAnalyze, accessibleFieldsInSuperTypes);
+        var accessibleFieldsComparedInEquals = accessibleFields.stream()
+                .filter(accessibleField -> fieldsComparedInEquals.contains(accessibleField.getActualField()))
+                .collect(Collectors.toSet());
+
+        log.info("Analyses of class '{}' finished! {} out of {} accessible fields are compared " +
+                "in the equals method!", classRefToAnalyze.getQualifiedName(), accessibleFieldsComparedInEquals.size(),
+                accessibleFields.size());
+
+        return Set.copyOf(accessibleFieldsComparedInEquals);
+    }
+
+    /**
+     * Walks up the parent class hierarchy the same way {@link #findAccessibleFieldsUsedInEquals(CtTypeReference, Set, Map)}
+     * does, but returns the compared fields themselves instead of filtering a given set of {@link AccessibleField}s.
+     * The result only depends on the given class, so it can be computed once per class and reused for every
+     * {@link AccessibleField} declared in it.
+     *
+     * @param classRefToAnalyze
+     *          The {@link CtTypeReference} of the class to analyze the equals method of, not {@code null}.
+     *
+     * @param accessibleFieldsInSuperTypes
+     *          A map which contains an entry for the given {@code classRefToAnalyze} and every superclass (excluding {@link Object}).
+     *          The set to which the {@link CtType} is mapped must contain all fields which are <i>accessible</i> from
+     *          the given {@code classRefToAnalyze} (POV: {@code classRefToAnalyze} &rarr; superclass).
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the {@link CtField}s which are compared in the equals method of
+     *          the given {@code classRefToAnalyze} or one of its superclasses.
+     *
+     * @throws IllegalArgumentException
+     *          If the {@code accessibleFieldsInSuperTypes} map does not contain the required entries.
+     */
+    public Set<CtField<?>> findFieldsComparedInEquals(CtTypeReference<?> classRefToAnalyze,
+                                                      Map<CtTypeReference<?>, Set<AccessibleField<?>>> accessibleFieldsInSuperTypes) {
         var superClassRefsIncludingClass = TypeUtils.findExplicitSuperClassesIncludingClass(classRefToAnalyze);
 
         if(!accessibleFieldsInSuperTypes.keySet().containsAll(superClassRefsIncludingClass)) {
@@ -65,7 +101,7 @@ public class IterativeEqualsMethodAnalyzer {
                     "a required entry for the given class or a superclass!");
         }
 
-        var accessibleFieldsComparedInEquals = new HashSet<AccessibleField<?>>();
+        var fieldsComparedInEquals = new HashSet<CtField<?>>();
         boolean typeOrSuperTypeOverridesEquals = false;
 
         for(var currentClassRef : superClassRefsIncludingClass) {
@@ -74,9 +110,9 @@ public class IterativeEqualsMethodAnalyzer {
             if(!analyzersForOverriddenEquals.isEmpty()) {
                 typeOrSuperTypeOverridesEquals = true;
 
-                var comparedFields = findAccessibleFieldsComparedInEquals(analyzersForOverriddenEquals,
-                        currentClassRef, accessibleFields, accessibleFieldsInSuperTypes.get(currentClassRef));
-                accessibleFieldsComparedInEquals.addAll(comparedFields);
+                var comparedFields = findFieldsComparedInEquals(analyzersForOverriddenEquals,
+                        currentClassRef, accessibleFieldsInSuperTypes.get(currentClassRef));
+                fieldsComparedInEquals.addAll(comparedFields);
 
                 log.info("Equals method in '{}' compares {} fields!", currentClassRef.getQualifiedName(),
                         comparedFields.size());
@@ -97,11 +133,7 @@ public class IterativeEqualsMethodAnalyzer {
                     classRefToAnalyze.getQualifiedName(), superClassRefsIncludingClass.size() - 1);
         }
 
-        log.info("Analyses of class '{}' finished! {} out of {} accessible fields are compared " +
-                "in the equals method!", classRefToAnalyze.getQualifiedName(), accessibleFieldsComparedInEquals.size(),
-                accessibleFields.size());
-
-        return Set.copyOf(accessibleFieldsComparedInEquals);
+        return Collections.unmodifiableSet(fieldsComparedInEquals);
     }
 
     /**
@@ -142,35 +174,22 @@ public class IterativeEqualsMethodAnalyzer {
      * @param classRefOverridingEquals
      *          The {@link CtTypeReference} to analyze the equals method of, not {@code null}.
      *
-     * @param accessibleFieldsInRootType
-     *          A set containing all accessible fields from which the field which are used in the equals
-     *          method of the given {@code classOverridingEquals} should be filtered from, not {@code null}.
-     *
      * @param accessibleFieldsInSuperTypes
-     *          A map which contains an entry for for the given {@code clazz} every superclass which is part of the
-     *          underlying model itself (excluding {@link Object}). The set to which the {@link CtType} is mapped
-     *          must contain all fields which are <i>accessible</i> from the given {@code clazz}.
+     *          The set containing all fields which are <i>accessible</i> in the given {@code classRefOverridingEquals},
+     *          not {@code null}.
      *
      * @return
-     *          An <b>unmodifiable</b> set containing all accessible fields which are part of the given
-     *          {@code accessibleFieldsInType} map.
-     *
-     * @throws IllegalArgumentException
-     *          If the {@code accessibleFieldsInSuperTypes} map does not contain the required entries.
+     *          A set containing the {@link CtField}s which are compared in the equals method of the given
+     *          {@code classRefOverridingEquals} according to at least one of the given {@code analyzersForMethod}.
      */
-    private Set<AccessibleField<?>> findAccessibleFieldsComparedInEquals(List<EqualsMethodAnalyzer> analyzersForMethod,
-                                                                         CtTypeReference<?> classRefOverridingEquals,
-                                                                         Set<AccessibleField<?>> accessibleFieldsInRootType,
-                                                                         Set<AccessibleField<?>> accessibleFieldsInSuperTypes) {
-        var fieldsComparedInEquals = analyzersForMethod.stream()
+    private Set<CtField<?>> findFieldsComparedInEquals(List<EqualsMethodAnalyzer> analyzersForMethod,
+                                                       CtTypeReference<?> classRefOverridingEquals,
+                                                       Set<AccessibleField<?>> accessibleFieldsInSuperTypes) {
+        return analyzersForMethod.stream()
                 .map(equalsMethodAnalyzer -> equalsMethodAnalyzer.findFieldsComparedInEqualsMethod(classRefOverridingEquals, accessibleFieldsInSuperTypes))
                 .flatMap(Collection::stream)
                 .map(AccessibleField::getActualField)
                 .collect(Collectors.toSet());
-
-        return accessibleFieldsInRootType.stream()
-                .filter(accessibleField -> fieldsComparedInEquals.contains(accessibleField.getActualField()))
-                .collect(Collectors.toSet());
     }
 
 }
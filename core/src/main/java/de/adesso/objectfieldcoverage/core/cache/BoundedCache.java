@@ -0,0 +1,206 @@
+package de.adesso.objectfieldcoverage.core.cache;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheCounters;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.cache.InspectableCache;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache which holds at most a fixed number of entries. The least recently used entry is evicted
+ * when a new entry is added to a cache which already reached its maximum size. Reports the number of cache hits,
+ * misses and evictions and the time spent loading values as {@link CacheStatistics}.
+ *
+ * @implNote Values are loaded outside of the internal lock, so the same key might be loaded concurrently by
+ * multiple threads. The value which is stored first is returned to all of them.
+ *
+ * @param <K>
+ *          The type of the keys.
+ *
+ * @param <V>
+ *          The type of the values.
+ */
+public class BoundedCache<K, V> implements InspectableCache {
+
+    /**
+     * The name used when no name is given.
+     */
+    private static final String DEFAULT_NAME = "boundedCache";
+
+    /**
+     * The name of {@code this} cache, used in the {@link CacheStatistics}.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * The maximum number of entries {@code this} cache holds.
+     */
+    @Getter
+    private final int maximumSize;
+
+    /**
+     * The access ordered map holding the cached entries. Used as the lock object for all accesses.
+     */
+    private final Map<K, V> entries;
+
+    /**
+     * The counters of the {@link #get(Object, Function)} invocations and evictions.
+     */
+    private final CacheCounters counters = new CacheCounters();
+
+    /**
+     *
+     * @param maximumSize
+     *          The maximum number of entries the cache holds, must be positive.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code maximumSize} is not positive.
+     */
+    public BoundedCache(int maximumSize) {
+        this(DEFAULT_NAME, maximumSize);
+    }
+
+    /**
+     *
+     * @param name
+     *          The name of the cache, not {@code null}.
+     *
+     * @param maximumSize
+     *          The maximum number of entries the cache holds, must be positive.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code maximumSize} is not positive.
+     */
+    public BoundedCache(String name, int maximumSize) {
+        if(maximumSize < 1) {
+            throw new IllegalArgumentException(String.format("The maximum size must be positive, but was %d!", maximumSize));
+        }
+
+        this.name = Objects.requireNonNull(name, "name cannot be null!");
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if(size() > BoundedCache.this.maximumSize) {
+                    counters.recordEviction();
+                    return true;
+                }
+
+                return false;
+            }
+
+        };
+    }
+
+    /**
+     *
+     * @param key
+     *          The key of the value to get, not {@code null}.
+     *
+     * @param loader
+     *          The function to load the value with in case no value is cached for the given {@code key}, not
+     *          {@code null}. Must not return {@code null}.
+     *
+     * @return
+     *          The cached value for the given {@code key} or the value returned by the given {@code loader} in
+     *          case no value was cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key, "key cannot be null!");
+        Objects.requireNonNull(loader, "loader cannot be null!");
+
+        synchronized (entries) {
+            var cachedValue = entries.get(key);
+
+            if(cachedValue != null) {
+                counters.recordHit();
+                return cachedValue;
+            }
+        }
+
+        var loadStartTime = System.nanoTime();
+        V loadedValue = Objects.requireNonNull(loader.apply(key), "The loaded value cannot be null!");
+        counters.recordMiss(System.nanoTime() - loadStartTime);
+
+        synchronized (entries) {
+            var concurrentlyLoadedValue = entries.putIfAbsent(key, loadedValue);
+            return concurrentlyLoadedValue != null ? concurrentlyLoadedValue : loadedValue;
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of entries currently held by {@code this} cache.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of cache hits since the cache was created.
+     */
+    public long getHitCount() {
+        return counters.getHitCount();
+    }
+
+    /**
+     *
+     * @return
+     *          The number of cache misses since the cache was created.
+     */
+    public long getMissCount() {
+        return counters.getMissCount();
+    }
+
+    /**
+     *
+     * @return
+     *          A snapshot of the statistics of {@code this} cache since it was created.
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        return counters.snapshot(name, size(), maximumSize);
+    }
+
+    /**
+     * Removes all entries matching the given {@code predicate} from {@code this} cache. The hit and miss counts are
+     * not reset.
+     *
+     * @param predicate
+     *          The predicate the key and the value of an entry to remove must match, not {@code null}.
+     *
+     * @return
+     *          The number of removed entries.
+     */
+    public int removeIf(BiPredicate<? super K, ? super V> predicate) {
+        Objects.requireNonNull(predicate, "predicate cannot be null!");
+
+        synchronized (entries) {
+            var sizeBeforeRemoval = entries.size();
+            entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+            return sizeBeforeRemoval - entries.size();
+        }
+    }
+
+    /**
+     * Removes all entries from {@code this} cache. The hit and miss counts are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package de.adesso.objectfieldcoverage.core.cache;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.cache.InspectableCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Thread safe registry of the {@link InspectableCache}s used during an analysis, so their statistics can be
+ * reported in one place.
+ */
+public class CacheRegistry {
+
+    /**
+     * The registered caches in registration order. Used as the lock object for all accesses.
+     */
+    private final List<InspectableCache> caches = new ArrayList<>();
+
+    /**
+     *
+     * @param cache
+     *          The cache to register, not {@code null}. Registering the same cache more than once has no effect.
+     */
+    public void register(InspectableCache cache) {
+        Objects.requireNonNull(cache, "cache cannot be null!");
+
+        synchronized (caches) {
+            if(!caches.contains(cache)) {
+                caches.add(cache);
+            }
+        }
+    }
+
+    /**
+     * Removes all registered caches.
+     */
+    public void clear() {
+        synchronized (caches) {
+            caches.clear();
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing a snapshot of the statistics of each registered cache in
+     *          registration order.
+     */
+    public List<CacheStatistics> getStatistics() {
+        List<InspectableCache> registeredCaches;
+
+        synchronized (caches) {
+            registeredCaches = List.copyOf(caches);
+        }
+
+        var statistics = new ArrayList<CacheStatistics>(registeredCaches.size());
+        registeredCaches.forEach(cache -> statistics.add(cache.getStatistics()));
+        return List.copyOf(statistics);
+    }
+
+}
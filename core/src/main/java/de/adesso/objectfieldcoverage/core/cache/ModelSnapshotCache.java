@@ -0,0 +1,529 @@
+package de.adesso.objectfieldcoverage.core.cache;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheCounters;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.core.util.HashUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import spoon.reflect.ModelStreamer;
+import spoon.reflect.factory.Factory;
+import spoon.support.SerializationModelStreamer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache for Spoon models, so an unchanged source tree does not have to be parsed again on every run. Each
+ * snapshot is keyed by the SHA-256 hashes of the contents of all Java source files it was built from, the classpath
+ * and the compliance level the model was built with, the contents of additional input files which influence the
+ * model (e.g. the {@code pom.xml} of a {@link spoon.MavenLauncher}) and the version of the analyzer, which includes a
+ * hash of its classes. A snapshot is
+ * therefore only invalidated when one of its inputs changes.
+ * <p/>
+ * The snapshots of the same set of source paths are stored in a common subdirectory of the cache directory. Only
+ * the most recent snapshot of a set of source paths is kept.
+ *
+ * @implNote The snapshots are serialized using Spoon's {@link SerializationModelStreamer}. A model must therefore be
+ * saved before any non-serializable metadata is attached to its elements, which is why the snapshot is written
+ * right after the model was built. Snapshots which cannot be deserialized (e.g. because they were written by an
+ * incompatible Spoon version) are deleted and the model is built again.
+ */
+@Slf4j
+public class ModelSnapshotCache {
+
+    /**
+     * The file extension of a snapshot file.
+     */
+    private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+
+    /**
+     * The file extension of the Java source files which are hashed.
+     */
+    private static final String JAVA_FILE_EXTENSION = ".java";
+
+    /**
+     * The version used when the version of a component is not available, e.g. because the classes were not loaded
+     * from a JAR file.
+     */
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    /**
+     * The version of the way the models are built and serialized. Must be increased when a change invalidates
+     * existing snapshots without changing the analyzer classes, e.g. a change of a build script.
+     */
+    private static final int SNAPSHOT_FORMAT_VERSION = 1;
+
+    /**
+     * Lazily initialized hash of the classes of the analyzer, see {@link #currentAnalyzerVersion()}.
+     */
+    private static volatile String analyzerClassesHash;
+
+    /**
+     * The counters of the {@link #loadOrBuild(Collection, Collection, int, Collection, Supplier)} invocations of all
+     * caches. A request is a hit when the model was loaded from an up-to-date snapshot. The load time is the time
+     * spent building the models.
+     */
+    private static final CacheCounters SNAPSHOT_COUNTERS = new CacheCounters();
+
+    /**
+     * The directory the snapshots are stored in.
+     */
+    @Getter
+    private final Path cacheDirectory;
+
+    /**
+     * The version of the analyzer which is part of the key of every snapshot, so snapshots written by a different
+     * version are never loaded.
+     */
+    @Getter
+    private final String analyzerVersion;
+
+    /**
+     * The streamer used to save and load the models.
+     */
+    private final ModelStreamer modelStreamer;
+
+    /**
+     *
+     * @param cacheDirectory
+     *          The directory to store the snapshots in, not {@code null}. Created when it does not exist.
+     *
+     * @param analyzerVersion
+     *          The version of the analyzer, not {@code null}. Should also reflect changes to the settings the
+     *          models are built with.
+     */
+    public ModelSnapshotCache(Path cacheDirectory, String analyzerVersion) {
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory, "cacheDirectory cannot be null!");
+        this.analyzerVersion = Objects.requireNonNull(analyzerVersion, "analyzerVersion cannot be null!");
+        this.modelStreamer = new SerializationModelStreamer();
+    }
+
+    /**
+     * The implementation version of a snapshot build (e.g. {@code 0.0.1-SNAPSHOT}) does not change with the code, so
+     * the version additionally contains the {@value #SNAPSHOT_FORMAT_VERSION} format version and a hash of the
+     * classes of the analyzer. Snapshots written by different analyzer code are therefore never loaded.
+     *
+     * @return
+     *          The format version of the snapshots, the version of the analyzer, the version of Spoon the models are
+     *          serialized with and the hash of the classes of the analyzer.
+     */
+    public static String currentAnalyzerVersion() {
+        if(analyzerClassesHash == null) {
+            analyzerClassesHash = hashCodeSourceOf(ModelSnapshotCache.class);
+        }
+
+        return String.format("%d/%s/%s/%s", SNAPSHOT_FORMAT_VERSION, implementationVersionOf(ModelSnapshotCache.class),
+                implementationVersionOf(Factory.class), analyzerClassesHash);
+    }
+
+    /**
+     *
+     * @param type
+     *          The type whose code source should be hashed, not {@code null}.
+     *
+     * @return
+     *          The {@link #hashClassFiles(Path) hash} of the JAR file or the class directory the given {@code type}
+     *          was loaded from or {@value #UNKNOWN_VERSION}, if it is not available.
+     */
+    private static String hashCodeSourceOf(Class<?> type) {
+        var codeSource = type.getProtectionDomain().getCodeSource();
+
+        if(codeSource == null || codeSource.getLocation() == null) {
+            return UNKNOWN_VERSION;
+        }
+
+        try {
+            return hashClassFiles(Path.of(codeSource.getLocation().toURI()));
+        } catch (URISyntaxException | IOException | RuntimeException e) {
+            log.warn("Classes of the analyzer at '{}' could not be hashed!", codeSource.getLocation(), e);
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    /**
+     *
+     * @param location
+     *          The JAR file or the class directory to hash, not {@code null}.
+     *
+     * @return
+     *          The hex encoded hash of the relative path and the content of every file of the given {@code location}.
+     *
+     * @throws IOException
+     *          When an error occurs while reading a file.
+     */
+    static String hashClassFiles(Path location) throws IOException {
+        var digest = HashUtils.newMessageDigest();
+
+        for(var file : findRegularFiles(location)) {
+            HashUtils.updateWithString(digest, location.relativize(file).toString());
+            digest.update(hashFileContent(file));
+        }
+
+        return HashUtils.toHexString(digest.digest());
+    }
+
+    /**
+     *
+     * @return
+     *          The statistics of the model snapshots of all caches since the class was loaded. The size is unknown,
+     *          since the snapshots are stored on disk.
+     */
+    public static CacheStatistics getSnapshotCacheStatistics() {
+        return SNAPSHOT_COUNTERS.snapshot("modelSnapshots", CacheStatistics.UNKNOWN, CacheStatistics.UNKNOWN);
+    }
+
+    /**
+     *
+     * @param sourcePaths
+     *          The Java source files and directories containing the Java source files the model is built from, not
+     *          {@code null}.
+     *
+     * @param classpath
+     *          The classpath entries the model is built with, not {@code null}. The path, size and last modification
+     *          time of each file of an entry are part of the key.
+     *
+     * @param complianceLevel
+     *          The Java compliance level the model is built with.
+     *
+     * @param additionalInputFiles
+     *          Additional files the model depends on, e.g. a {@code pom.xml} the classpath is resolved from, not
+     *          {@code null}. The content of each file is part of the key.
+     *
+     * @param modelBuilder
+     *          The supplier to build the model with in case no up-to-date snapshot exists, not {@code null}. Must
+     *          build the model from the given inputs and must not return {@code null}.
+     *
+     * @return
+     *          The factory of the model loaded from the up-to-date snapshot of the given inputs or the factory
+     *          returned by the given {@code modelBuilder} in case no such snapshot exists.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while hashing the inputs.
+     */
+    public Factory loadOrBuild(Collection<Path> sourcePaths, Collection<Path> classpath, int complianceLevel,
+                               Collection<Path> additionalInputFiles, Supplier<Factory> modelBuilder) {
+        Objects.requireNonNull(sourcePaths, "sourcePaths cannot be null!");
+        Objects.requireNonNull(classpath, "classpath cannot be null!");
+        Objects.requireNonNull(additionalInputFiles, "additionalInputFiles cannot be null!");
+        Objects.requireNonNull(modelBuilder, "modelBuilder cannot be null!");
+
+        var normalizedSourcePaths = normalize(sourcePaths, true);
+        var snapshotDirectory = cacheDirectory.resolve(hashSourcePaths(normalizedSourcePaths));
+        var inputsHash = hashInputs(normalizedSourcePaths, normalize(classpath, false), complianceLevel,
+                normalize(additionalInputFiles, true));
+        var snapshotFile = snapshotDirectory.resolve(inputsHash + SNAPSHOT_FILE_EXTENSION);
+
+        if(Files.isRegularFile(snapshotFile)) {
+            var loadedFactory = loadSnapshot(snapshotFile);
+
+            if(loadedFactory != null) {
+                log.info("Loaded model snapshot '{}'!", snapshotFile);
+                SNAPSHOT_COUNTERS.recordHit();
+                return loadedFactory;
+            }
+        }
+
+        var buildStartTime = System.nanoTime();
+        var builtFactory = Objects.requireNonNull(modelBuilder.get(), "The built factory cannot be null!");
+        SNAPSHOT_COUNTERS.recordMiss(System.nanoTime() - buildStartTime);
+        saveSnapshot(builtFactory, snapshotDirectory, snapshotFile);
+        return builtFactory;
+    }
+
+    /**
+     *
+     * @param snapshotFile
+     *          The snapshot file to load the factory from, not {@code null}.
+     *
+     * @return
+     *          The loaded factory or {@code null}, if the snapshot could not be loaded. The snapshot file
+     *          is deleted in that case.
+     */
+    private Factory loadSnapshot(Path snapshotFile) {
+        try(var inputStream = new BufferedInputStream(Files.newInputStream(snapshotFile))) {
+            return modelStreamer.load(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Model snapshot '{}' could not be loaded and is deleted!", snapshotFile, e);
+            deleteQuietly(snapshotFile);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given {@code factory} to a temporary file first, which is then moved to the given
+     * {@code snapshotFile}, so concurrent runs never read a partially written snapshot. All other snapshots in the
+     * given {@code snapshotDirectory} are deleted afterwards. Errors are logged, since a missing snapshot only
+     * leads to the model being built again.
+     *
+     * @param factory
+     *          The factory to save, not {@code null}.
+     *
+     * @param snapshotDirectory
+     *          The directory the snapshot is stored in, not {@code null}.
+     *
+     * @param snapshotFile
+     *          The snapshot file to save the factory to, not {@code null}.
+     */
+    private void saveSnapshot(Factory factory, Path snapshotDirectory, Path snapshotFile) {
+        Path temporaryFile = null;
+
+        try {
+            Files.createDirectories(snapshotDirectory);
+            temporaryFile = Files.createTempFile(snapshotDirectory, "model", ".tmp");
+
+            try(var outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                modelStreamer.save(factory, outputStream);
+            }
+
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved model snapshot '{}'!", snapshotFile);
+
+            deleteOutdatedSnapshots(snapshotDirectory, snapshotFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Model snapshot '{}' could not be saved!", snapshotFile, e);
+
+            if(temporaryFile != null) {
+                deleteQuietly(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param snapshotDirectory
+     *          The directory to delete the outdated snapshots in, not {@code null}.
+     *
+     * @param currentSnapshotFile
+     *          The snapshot file which is kept, not {@code null}.
+     *
+     * @throws IOException
+     *          When an error occurs while listing the snapshot directory.
+     */
+    private void deleteOutdatedSnapshots(Path snapshotDirectory, Path currentSnapshotFile) throws IOException {
+        try(Stream<Path> snapshotFiles = Files.list(snapshotDirectory)) {
+            snapshotFiles.filter(snapshotFile -> snapshotFile.getFileName().toString().endsWith(SNAPSHOT_FILE_EXTENSION))
+                    .filter(snapshotFile -> !snapshotFile.equals(currentSnapshotFile))
+                    .forEach(this::deleteQuietly);
+        }
+    }
+
+    /**
+     *
+     * @param file
+     *          The file to delete, not {@code null}.
+     */
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("File '{}' could not be deleted!", file, e);
+        }
+    }
+
+    /**
+     *
+     * @param sourcePaths
+     *          The normalized and sorted source paths to hash, not {@code null}.
+     *
+     * @return
+     *          The hex encoded hash of the given {@code sourcePaths} themselves, which identifies the directory
+     *          the snapshots of the {@code sourcePaths} are stored in.
+     */
+    private String hashSourcePaths(List<Path> sourcePaths) {
+        var digest = HashUtils.newMessageDigest();
+
+        for(var sourcePath : sourcePaths) {
+            HashUtils.updateWithString(digest, sourcePath.toString());
+        }
+
+        return HashUtils.toHexString(digest.digest());
+    }
+
+    /**
+     *
+     * @param sourcePaths
+     *          The normalized and sorted source paths to hash, not {@code null}.
+     *
+     * @param classpath
+     *          The normalized classpath entries to hash in their original order, not {@code null}.
+     *
+     * @param complianceLevel
+     *          The compliance level to hash.
+     *
+     * @param additionalInputFiles
+     *          The normalized and sorted additional input files to hash, not {@code null}.
+     *
+     * @return
+     *          The hex encoded hash of the analyzer version, the compliance level, the relative path and the content
+     *          hash of each Java source file in the given {@code sourcePaths}, the path, size and last modification
+     *          time of each file of the given {@code classpath} entries and the content hash of each of the given
+     *          {@code additionalInputFiles}.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while reading an input.
+     */
+    private String hashInputs(List<Path> sourcePaths, List<Path> classpath, int complianceLevel,
+                              List<Path> additionalInputFiles) {
+        var digest = HashUtils.newMessageDigest();
+        HashUtils.updateWithString(digest, analyzerVersion);
+        HashUtils.updateWithString(digest, Integer.toString(complianceLevel));
+
+        try {
+            for(var sourcePath : sourcePaths) {
+                HashUtils.updateWithString(digest, sourcePath.toString());
+
+                for(var sourceFile : findJavaSourceFiles(sourcePath)) {
+                    HashUtils.updateWithString(digest, sourcePath.relativize(sourceFile).toString());
+                    digest.update(hashFileContent(sourceFile));
+                }
+            }
+
+            for(var classpathEntry : classpath) {
+                HashUtils.updateWithString(digest, classpathEntry.toString());
+
+                for(var classpathFile : findRegularFiles(classpathEntry)) {
+                    HashUtils.updateWithString(digest, String.format("%s:%d:%d", classpathEntry.relativize(classpathFile),
+                            Files.size(classpathFile), Files.getLastModifiedTime(classpathFile).toMillis()));
+                }
+            }
+
+            for(var additionalInputFile : additionalInputFiles) {
+                HashUtils.updateWithString(digest, additionalInputFile.toString());
+
+                if(Files.isRegularFile(additionalInputFile)) {
+                    digest.update(hashFileContent(additionalInputFile));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error hashing model inputs!");
+            throw new IllegalStateException(e);
+        }
+
+        return HashUtils.toHexString(digest.digest());
+    }
+
+    /**
+     *
+     * @param paths
+     *          The paths to normalize, not {@code null}.
+     *
+     * @param sort
+     *          Specifies if the normalized paths should be sorted. The order of classpath entries is significant and
+     *          must therefore be kept.
+     *
+     * @return
+     *          The distinct absolute and normalized paths of the given {@code paths}.
+     */
+    private List<Path> normalize(Collection<Path> paths, boolean sort) {
+        var normalizedPaths = paths.stream()
+                .map(path -> path.toAbsolutePath().normalize())
+                .distinct();
+
+        return (sort ? normalizedPaths.sorted() : normalizedPaths).collect(Collectors.toList());
+    }
+
+    /**
+     *
+     * @param path
+     *          The file or the directory to find the regular files in, not {@code null}.
+     *
+     * @return
+     *          A sorted list containing the given {@code path} in case it is a regular file or all regular files in
+     *          the directory in case it is a directory. An empty list is returned in case the given {@code path}
+     *          does not exist.
+     *
+     * @throws IOException
+     *          When an error occurs while walking the directory.
+     */
+    private static List<Path> findRegularFiles(Path path) throws IOException {
+        if(Files.isRegularFile(path)) {
+            return List.of(path);
+        }
+
+        if(!Files.isDirectory(path)) {
+            return List.of();
+        }
+
+        try(Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     *
+     * @param sourcePath
+     *          The Java source file or the directory to find the Java source files in, not {@code null}.
+     *
+     * @return
+     *          A sorted list containing the given {@code sourcePath} in case it is a Java source file or all Java
+     *          source files in the directory in case it is a directory. An empty list is returned in case the given
+     *          {@code sourcePath} does not exist.
+     *
+     * @throws IOException
+     *          When an error occurs while walking the directory.
+     */
+    private List<Path> findJavaSourceFiles(Path sourcePath) throws IOException {
+        if(Files.isRegularFile(sourcePath)) {
+            return List.of(sourcePath);
+        }
+
+        return findRegularFiles(sourcePath).stream()
+                .filter(file -> file.getFileName().toString().endsWith(JAVA_FILE_EXTENSION))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *
+     * @param file
+     *          The file to hash, not {@code null}.
+     *
+     * @return
+     *          The hash of the content of the given {@code file}.
+     *
+     * @throws IOException
+     *          When an error occurs while reading the file.
+     */
+    private static byte[] hashFileContent(Path file) throws IOException {
+        var digest = HashUtils.newMessageDigest();
+        var buffer = new byte[8192];
+
+        try(InputStream inputStream = Files.newInputStream(file)) {
+            int readBytes;
+
+            while((readBytes = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, readBytes);
+            }
+        }
+
+        return digest.digest();
+    }
+
+    /**
+     *
+     * @param type
+     *          The type to get the implementation version of its package of, not {@code null}.
+     *
+     * @return
+     *          The implementation version of the package of the given {@code type} or {@value #UNKNOWN_VERSION},
+     *          if the version is not available.
+     */
+    private static String implementationVersionOf(Class<?> type) {
+        var typePackage = type.getPackage();
+        var implementationVersion = typePackage != null ? typePackage.getImplementationVersion() : null;
+
+        return implementationVersion != null ? implementationVersion : UNKNOWN_VERSION;
+    }
+
+}
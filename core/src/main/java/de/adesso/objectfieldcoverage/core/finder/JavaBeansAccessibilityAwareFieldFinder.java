@@ -1,6 +1,7 @@
 package de.adesso.objectfieldcoverage.core.finder;
 
 import de.adesso.objectfieldcoverage.api.AccessibilityAwareFieldFinder;
+import de.adesso.objectfieldcoverage.core.util.TypeUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -131,8 +132,7 @@ public class JavaBeansAccessibilityAwareFieldFinder extends AccessibilityAwareFi
     @SuppressWarnings("unchecked")
     private <T> Set<CtMethod<T>> findAccessibleAliasMethods(CtMethod<T> javaBeansGetterMethod) {
         var returnType = javaBeansGetterMethod.getType();
-        var declaringType = javaBeansGetterMethod.getDeclaringType();
-        var allMethodsOnDeclaringType = declaringType.getAllMethods();
+        var allMethodsOnDeclaringType = findAllMethods(javaBeansGetterMethod.getDeclaringType());
 
         return allMethodsOnDeclaringType.stream()
                 .filter(method -> returnType.equals(method.getType()))
@@ -141,6 +141,33 @@ public class JavaBeansAccessibilityAwareFieldFinder extends AccessibilityAwareFi
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Spoon adapts the type parameters of inherited methods when collecting all methods of a type, which
+     * fails with a {@link NullPointerException} for some generic super classes. The declared methods of the
+     * type itself and of its explicit super classes are used in that case, which only misses alias methods
+     * declared in interfaces.
+     *
+     * @param type
+     *          The type to get all methods of, not {@code null}.
+     *
+     * @return
+     *          All methods of the given {@code type}, including the inherited ones.
+     */
+    private Set<CtMethod<?>> findAllMethods(CtType<?> type) {
+        try {
+            return type.getAllMethods();
+        } catch (RuntimeException e) {
+            log.debug("Collecting all methods of '{}' failed, falling back to the methods of its super classes!",
+                    type.getQualifiedName(), e);
+
+            return TypeUtils.findExplicitSuperClassesIncludingClass(type.getReference()).stream()
+                    .map(CtTypeReference::getTypeDeclaration)
+                    .filter(Objects::nonNull)
+                    .flatMap(superClass -> superClass.getMethods().stream())
+                    .collect(Collectors.toSet());
+        }
+    }
+
     /**
      *
      * @param field
@@ -176,7 +203,7 @@ public class JavaBeansAccessibilityAwareFieldFinder extends AccessibilityAwareFi
     private boolean returnsResultOfJavaBeansGetterMethod(CtMethod<?> method, CtMethod<?> javaBeansGetterMethod) {
         var methodBody = method.getBody();
 
-        if(methodBody.getStatements().isEmpty()) {
+        if(methodBody == null || methodBody.getStatements().isEmpty()) {
             return false;
         }
 
@@ -5,6 +5,9 @@ import de.adesso.objectfieldcoverage.annotation.TestTargets;
 import de.adesso.objectfieldcoverage.api.Order;
 import de.adesso.objectfieldcoverage.api.TargetExecutableFinder;
 import de.adesso.objectfieldcoverage.api.assertion.primitive.PrimitiveTypeUtils;
+import de.adesso.objectfieldcoverage.api.cache.CacheCounters;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.core.util.TypeIndex;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -17,6 +20,7 @@ import spoon.reflect.reference.CtTypeReference;
 import spoon.reflect.visitor.filter.TypeFilter;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -135,6 +139,19 @@ public class AnnotationBasedTargetExecutableFinder implements TargetExecutableFi
      */
     private static final TypeFactory typeFactory = new TypeFactory();
 
+    /**
+     * The metadata key the resolved target executables of a model are stored under, see
+     * {@link #getResolvedExecutables(CtModel)}.
+     */
+    private static final String RESOLVED_EXECUTABLES_METADATA_KEY = AnnotationBasedTargetExecutableFinder.class.getName() +
+            ".resolvedExecutables";
+
+    /**
+     * The counters of the resolved target executables of all models. A request is a hit when the method identifier
+     * was already resolved in the model.
+     */
+    private static final CacheCounters RESOLVED_EXECUTABLES_COUNTERS = new CacheCounters();
+
     /**
      *
      * @param testMethod
@@ -162,6 +179,53 @@ public class AnnotationBasedTargetExecutableFinder implements TargetExecutableFi
             return Set.of();
         }
 
+        var underlyingModel = testMethod.getFactory().getModel();
+
+        return findMethodIdentifiers(testMethod).stream()
+                .map(methodIdentifier -> findCachedTargetExecutable(methodIdentifier, underlyingModel))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Resolves the method identifiers of all methods in the given {@code model} which are annotated with
+     * {@link TestTarget} or {@link TestTargets} up front, so implicit default constructors are generated before
+     * the test classes are processed concurrently. Method identifiers which cannot be resolved are skipped and
+     * reported when the annotated test method is processed.
+     *
+     * @param model
+     *          The model the test classes are part of, not {@code null}.
+     */
+    @Override
+    public void prepare(CtModel model) {
+        Objects.requireNonNull(model, "model cannot be null!");
+
+        model.getElements(new TypeFilter<CtMethod<?>>(CtMethod.class)).stream()
+                .filter(method -> method.getAnnotation(TestTarget.class) != null || method.getAnnotation(TestTargets.class) != null)
+                .flatMap(method -> findMethodIdentifiers(method).stream())
+                .forEach(methodIdentifier -> {
+                    try {
+                        findCachedTargetExecutable(methodIdentifier, model);
+                    } catch (RuntimeException e) {
+                        log.debug("Method identifier '{}' could not be resolved up front!", methodIdentifier, e);
+                    }
+                });
+    }
+
+    /**
+     *
+     * @param testMethod
+     *          The test method to get the method identifiers of, not {@code null}.
+     *
+     * @return
+     *          A set containing the values of the {@link TestTarget} annotation and of all {@link TestTarget}
+     *          annotations contained in the {@link TestTargets} annotation of the given {@code testMethod}.
+     */
+    private static Set<String> findMethodIdentifiers(CtMethod<?> testMethod) {
+        var testTargetAnnotation = testMethod.getAnnotation(TestTarget.class);
+        var testTargetsAnnotation = testMethod.getAnnotation(TestTargets.class);
+
         var methodIdentifiers = new HashSet<String>();
 
         if(testTargetAnnotation != null) {
@@ -181,13 +245,106 @@ public class AnnotationBasedTargetExecutableFinder implements TargetExecutableFi
             }
         }
 
-        var underlyingModel = testMethod.getFactory().getModel();
+        return methodIdentifiers;
+    }
 
-        return methodIdentifiers.stream()
-                .map(methodIdentifier -> findTargetExecutable(methodIdentifier, underlyingModel))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+    /**
+     * Resolves each method identifier only once per model and caches the result afterwards.
+     *
+     * @param methodIdentifier
+     *          The method identifier by which the target method is identified, not {@code null}.
+     *
+     * @param model
+     *          The model which contains the target method which should be retrieved, not {@code null}.
+     *
+     * @return
+     *          The result of {@link #findTargetExecutable(String, CtModel)}.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code methodIdentifier} is not valid according to
+     *          {@link #matchesMethodIdentifierPattern(String)}.
+     */
+    private Optional<CtExecutable<?>> findCachedTargetExecutable(String methodIdentifier, CtModel model) {
+        Objects.requireNonNull(methodIdentifier, "The method identifier cannot be null!");
+
+        var resolvedExecutables = getResolvedExecutables(model);
+        var cacheKey = methodIdentifier.replaceAll("\\h*", "");
+        var cachedExecutable = resolvedExecutables.get(cacheKey);
+
+        if(cachedExecutable != null) {
+            RESOLVED_EXECUTABLES_COUNTERS.recordHit();
+            return cachedExecutable;
+        }
+
+        var resolutionStartTime = System.nanoTime();
+        var resolvedExecutable = findTargetExecutable(methodIdentifier, model);
+        RESOLVED_EXECUTABLES_COUNTERS.recordMiss(System.nanoTime() - resolutionStartTime);
+        var concurrentlyResolvedExecutable = resolvedExecutables.putIfAbsent(cacheKey, resolvedExecutable);
+        return concurrentlyResolvedExecutable != null ? concurrentlyResolvedExecutable : resolvedExecutable;
+    }
+
+    /**
+     *
+     * @return
+     *          The statistics of the resolved target executables of all models since the class was loaded. The size
+     *          is unknown, since the resolved executables are held by the models themselves.
+     */
+    public static CacheStatistics getResolvedExecutablesCacheStatistics() {
+        return RESOLVED_EXECUTABLES_COUNTERS.snapshot("resolvedTargetExecutables", CacheStatistics.UNKNOWN,
+                CacheStatistics.UNKNOWN);
+    }
+
+    /**
+     * Removes all resolved target executables of the given {@code model} which are declared in one of the given
+     * types or which could not be resolved, since the changed types might declare them now.
+     *
+     * @param model
+     *          The model to remove the resolved target executables of, not {@code null}.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the changed types, not {@code null}.
+     */
+    public static void invalidateResolvedExecutables(CtModel model, Set<String> qualifiedTypeNames) {
+        Objects.requireNonNull(model, "model cannot be null!");
+        Objects.requireNonNull(qualifiedTypeNames, "qualifiedTypeNames cannot be null!");
+
+        getResolvedExecutables(model).values().removeIf(resolvedExecutable -> resolvedExecutable
+                .map(executable -> executable.getParent(CtType.class))
+                .map(declaringType -> qualifiedTypeNames.contains(declaringType.getQualifiedName()))
+                .orElse(true));
+    }
+
+    /**
+     * The map is stored in the {@link spoon.reflect.declaration.CtElement#getMetadata(String) metadata} of the root
+     * package of the given {@code model} like the {@link TypeIndex}, so it is garbage collected together with the
+     * model instead of being held by {@code this} finder across model reloads.
+     *
+     * @param model
+     *          The model to get the resolved target executables of, not {@code null}.
+     *
+     * @return
+     *          A concurrent map which maps a trimmed method identifier to the target executable resolved in the
+     *          given {@code model}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Optional<CtExecutable<?>>> getResolvedExecutables(CtModel model) {
+        var rootPackage = model.getRootPackage();
+
+        if(rootPackage == null) {
+            return new ConcurrentHashMap<>();
+        }
+
+        synchronized (rootPackage) {
+            var existingResolvedExecutables = rootPackage.getMetadata(RESOLVED_EXECUTABLES_METADATA_KEY);
+
+            if(existingResolvedExecutables instanceof ConcurrentHashMap) {
+                return (Map<String, Optional<CtExecutable<?>>>) existingResolvedExecutables;
+            }
+
+            var newResolvedExecutables = new ConcurrentHashMap<String, Optional<CtExecutable<?>>>();
+            rootPackage.putMetadata(RESOLVED_EXECUTABLES_METADATA_KEY, newResolvedExecutables);
+            return newResolvedExecutables;
+        }
     }
 
     /**
@@ -257,9 +414,8 @@ public class AnnotationBasedTargetExecutableFinder implements TargetExecutableFi
     private static Optional<CtClass<?>> findTargetClassInModel(String methodIdentifier, CtModel model) {
         var qualifiedClassName = extractClassName(methodIdentifier);
 
-        return model.getElements(new TypeFilter<CtClass<?>>(CtClass.class)).stream()
-                .filter(ctClass -> ctClass.getQualifiedName().equals(qualifiedClassName))
-                .findFirst();
+        return TypeIndex.of(model)
+                .findClass(qualifiedClassName);
     }
 
     /**
@@ -342,7 +498,12 @@ public class AnnotationBasedTargetExecutableFinder implements TargetExecutableFi
      */
     private static <T> Optional<CtConstructor<T>> findConstructor(CtTypeReference<?>[] typeReferencesForParameters, CtClass<T> targetClass) {
         if(typeReferencesForParameters.length == 0 && targetClass.getConstructors().isEmpty()) {
-            return Optional.of(createImplicitDefaultConstructor(targetClass));
+            // re-check while holding the lock, the constructor might have been created by another thread in the meantime
+            synchronized (targetClass.getFactory()) {
+                if(targetClass.getConstructors().isEmpty()) {
+                    return Optional.of(createImplicitDefaultConstructor(targetClass));
+                }
+            }
         }
 
         return Optional.ofNullable(targetClass.getConstructor(typeReferencesForParameters));
@@ -462,9 +623,8 @@ public class AnnotationBasedTargetExecutableFinder implements TargetExecutableFi
             return buildJavaReferenceType(fullyQualifiedClassName);
         }
 
-        return model.getAllTypes().stream()
-                .filter(type -> fullyQualifiedClassName.equals(type.getQualifiedName()))
-                .findFirst()
+        return TypeIndex.of(model)
+                .findType(fullyQualifiedClassName)
                 .map(CtType::getReference)
                 .orElseThrow(() -> new IllegalStateException(String.format("The model does not contain the type '%s'!",
                         fullyQualifiedClassName)));
@@ -8,11 +8,13 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 import org.apache.commons.lang3.tuple.Pair;
+import spoon.reflect.CtModel;
 import spoon.reflect.declaration.CtField;
 import spoon.reflect.declaration.CtType;
 import spoon.reflect.declaration.CtTypeMember;
 import spoon.reflect.declaration.CtTypedElement;
 import spoon.reflect.reference.CtTypeReference;
+import spoon.reflect.visitor.filter.TypeFilter;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -94,6 +96,31 @@ public class LombokAccessibilityAwareFieldFinder extends AccessibilityAwareField
         return Set.of(lombokGetterMethodGenerator.generateGetterMethod(field, getterAccessLevel));
     }
 
+    /**
+     * Generates the getter methods of all fields in the given {@code model} which are annotated with
+     * {@link Getter} or whose declaring type is annotated with {@link Getter} or {@link Data}, unless a
+     * conflicting getter method is already present.
+     *
+     * @param model
+     *          The model the test classes are part of, not {@code null}.
+     */
+    @Override
+    public void prepare(CtModel model) {
+        Objects.requireNonNull(model, "model cannot be null!");
+
+        model.getElements(new TypeFilter<CtField<?>>(CtField.class)).stream()
+                .filter(field -> field.getDeclaringType() != null)
+                .filter(this::isFieldOrDeclaringClassAnnotatedWithGetter)
+                .forEach(field -> {
+                    var accessLevel = getAccessLevelOfGeneratedGetter(field);
+
+                    if(AccessLevel.NONE != accessLevel &&
+                            !lombokGetterMethodGenerator.isGetterMethodWithDifferentAccessModifierPresent(field, accessLevel)) {
+                        lombokGetterMethodGenerator.generateGetterMethod(field, accessLevel);
+                    }
+                });
+    }
+
     /**
      * This method generates a new getter method on the given {@code field}'s declaring type in case
      * no conflicting getter method is already present.
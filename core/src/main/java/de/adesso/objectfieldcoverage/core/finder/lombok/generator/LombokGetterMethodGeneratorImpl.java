@@ -79,6 +79,28 @@ public class LombokGetterMethodGeneratorImpl implements LombokGetterMethodGenera
             throw new IllegalArgumentException("'NONE' is not a valid access level");
         }
 
+        // lookup and generation must be atomic since the model might be shared between multiple threads
+        synchronized (field.getFactory()) {
+            return findOrGenerateGetterMethod(field, accessLevel);
+        }
+    }
+
+    /**
+     *
+     * @param field
+     *          The {@link CtField} to find or generate the getter method for, not {@code null}.
+     *
+     * @param accessLevel
+     *          The access level of the getter method, not {@code null} and not {@link AccessLevel#NONE}.
+     *
+     * @param <T>
+     *          The type of the field.
+     *
+     * @return
+     *          The existing getter method on the field's declaring type or a newly generated one in case
+     *          no such method is present.
+     */
+    private <T> CtMethod<T> findOrGenerateGetterMethod(CtField<T> field, AccessLevel accessLevel) {
         var existingGetterMethodOptional = this.getExistingGetterMethodOnDeclaringType(field);
         if(existingGetterMethodOptional.isPresent()) {
             log.debug("Lombok getter method for field '{}' declared on type '{}' present! No new method will be generated!",
@@ -1,5 +1,8 @@
 package de.adesso.objectfieldcoverage.core.finder.pseudo;
 
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.cache.InspectableCache;
+import de.adesso.objectfieldcoverage.core.cache.BoundedCache;
 import de.adesso.objectfieldcoverage.core.finder.pseudo.generator.PseudoClassGenerator;
 import de.adesso.objectfieldcoverage.core.finder.pseudo.generator.PseudoClassGeneratorImpl;
 import de.adesso.objectfieldcoverage.core.finder.pseudo.generator.PseudoFieldGenerator;
@@ -17,9 +20,10 @@ import java.util.stream.Collectors;
 
 /**
  * {@link PseudoFieldFinder} implementation for {@link java.util.Map}s and (un-)ordered {@link java.util.Collection}s.
+ * Reports the statistics of its internal type reference cache as an {@link InspectableCache}.
  */
 @Slf4j
-public class CollectionPseudoFieldFinder extends PseudoFieldFinder {
+public class CollectionPseudoFieldFinder extends PseudoFieldFinder implements InspectableCache {
 
     /**
      * The types (classes and interfaces) which indicate an ordered collection. Array types are included
@@ -37,10 +41,16 @@ public class CollectionPseudoFieldFinder extends PseudoFieldFinder {
     );
 
     /**
-     * A map containing entries which map a Java {@link Class} to its corresponding Spoon
+     * The maximum number of entries of the {@link #typeRefCache}. Only the collection and map types referenced in
+     * this class are cached, so the limit is never reached.
+     */
+    private static final int TYPE_REF_CACHE_SIZE = 64;
+
+    /**
+     * A cache containing entries which map a Java {@link Class} to its corresponding Spoon
      * {@link CtTypeReference}.
      */
-    private final Map<Class<?>, CtTypeReference<?>> typeRefCache;
+    private final BoundedCache<Class<?>, CtTypeReference<?>> typeRefCache;
 
     /**
      * The fully qualified name of the {@code java.util} package. Pseudo classes for maps ands collections are part of this
@@ -57,7 +67,7 @@ public class CollectionPseudoFieldFinder extends PseudoFieldFinder {
         super(pseudoClassGenerator, pseudoFieldGenerator);
 
         this.typeFactory = new TypeFactory();
-        this.typeRefCache = new HashMap<>();
+        this.typeRefCache = new BoundedCache<>("collectionTypeReferences", TYPE_REF_CACHE_SIZE);
     }
 
     /**
@@ -257,6 +267,16 @@ public class CollectionPseudoFieldFinder extends PseudoFieldFinder {
         return false;
     }
 
+    /**
+     *
+     * @return
+     *          The statistics of the cache mapping Java classes to their Spoon type references.
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        return typeRefCache.getStatistics();
+    }
+
     /**
      *
      * @param clazz
@@ -271,7 +291,7 @@ public class CollectionPseudoFieldFinder extends PseudoFieldFinder {
      */
     @SuppressWarnings("unchecked")
     private <T> CtTypeReference<T> getTypeReferenceFor(Class<T> clazz) {
-        return (CtTypeReference<T>) typeRefCache.computeIfAbsent(clazz, typeFactory::createReference);
+        return (CtTypeReference<T>) typeRefCache.get(clazz, typeFactory::createReference);
     }
 
 }
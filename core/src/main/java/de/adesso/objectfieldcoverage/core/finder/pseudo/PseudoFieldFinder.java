@@ -7,16 +7,20 @@ import de.adesso.objectfieldcoverage.core.finder.pseudo.generator.PseudoFieldGen
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import spoon.reflect.CtModel;
 import spoon.reflect.declaration.CtClass;
 import spoon.reflect.declaration.CtField;
 import spoon.reflect.declaration.CtType;
 import spoon.reflect.declaration.CtTypedElement;
 import spoon.reflect.factory.ClassFactory;
 import spoon.reflect.reference.CtFieldReference;
+import spoon.reflect.reference.CtTypeParameterReference;
 import spoon.reflect.reference.CtTypeReference;
 import spoon.reflect.visitor.filter.TypeFilter;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -91,6 +95,35 @@ public abstract class PseudoFieldFinder extends AccessibilityAwareFieldFinder {
         return Set.of();
     }
 
+    /**
+     * Creates the pseudo classes and fields of all types referenced in the given {@code model} which
+     * {@link #containsPseudoFields(CtTypeReference) contain pseudo fields}. Pseudo fields of types which are only
+     * referenced by classpath types are still created lazily.
+     *
+     * @param model
+     *          The model the test classes are part of, not {@code null}.
+     */
+    @Override
+    public void prepare(CtModel model) {
+        Objects.requireNonNull(model, "model cannot be null!");
+
+        var preparedTypeNames = new HashSet<String>();
+
+        model.getElements(new TypeFilter<CtTypeReference<?>>(CtTypeReference.class)).stream()
+                // type parameters with the same name might have different bounds
+                .filter(typeRef -> typeRef instanceof CtTypeParameterReference || preparedTypeNames.add(typeRef.getQualifiedName()))
+                .forEach(typeRef -> {
+                    try {
+                        if(containsPseudoFields(typeRef)) {
+                            findOrCreatePseudoFields(typeRef);
+                        }
+                    } catch (RuntimeException e) {
+                        log.debug("Pseudo fields of type '{}' could not be prepared and will be created lazily!",
+                                typeRef.getQualifiedName(), e);
+                    }
+                });
+    }
+
     /**
      *
      * @param accessingType
@@ -178,10 +211,13 @@ public abstract class PseudoFieldFinder extends AccessibilityAwareFieldFinder {
                     typeRef.getQualifiedName()));
         }
 
-        var pseudoClass = findOrCreatePseudoClass(typeRef);
-        return fieldNamesAndTypes(typeRef).stream()
-                .map(nameAndTypePair -> this.findOrCreateField(pseudoClass, nameAndTypePair.getLeft(), nameAndTypePair.getRight()))
-                .collect(Collectors.toSet());
+        // pseudo classes and fields are added to the model, which might be shared between multiple threads
+        synchronized (typeRef.getFactory()) {
+            var pseudoClass = findOrCreatePseudoClass(typeRef);
+            return fieldNamesAndTypes(typeRef).stream()
+                    .map(nameAndTypePair -> this.findOrCreateField(pseudoClass, nameAndTypePair.getLeft(), nameAndTypePair.getRight()))
+                    .collect(Collectors.toSet());
+        }
     }
 
     /**
@@ -2,9 +2,9 @@ package de.adesso.objectfieldcoverage.core.junit.assertion;
 
 import de.adesso.objectfieldcoverage.api.AssertionFinder;
 import de.adesso.objectfieldcoverage.api.assertion.AbstractAssertion;
-import de.adesso.objectfieldcoverage.api.filter.QualifiedNameMethodInvocationTypeFilter;
 import de.adesso.objectfieldcoverage.core.junit.JUnitVersion;
 import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
+import de.adesso.objectfieldcoverage.core.processor.util.InvocationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
@@ -13,11 +13,10 @@ import spoon.reflect.declaration.CtExecutable;
 import spoon.reflect.declaration.CtMethod;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * {@link AssertionFinder} implementation for static assertion method invocations on the
@@ -84,22 +83,16 @@ public class JUnitAssertionFinder implements AssertionFinder {
      *          and {@value JUNIT_4_ASSERT_QUALIFIED_NAME} and the their corresponding JUnit version.
      */
     private Set<Pair<CtInvocation<?>, JUnitVersion>> findStaticJunitAssertInvocations(List<CtMethod<?>> methods) {
-        var junit4assertInvocationFilter = new QualifiedNameMethodInvocationTypeFilter(JUNIT_4_ASSERT_QUALIFIED_NAME);
-        var junit5assertionInvocationFilter = new QualifiedNameMethodInvocationTypeFilter(JUNIT_5_ASSERTIONS_QUALIFIED_NAME);
-
-        Stream<Pair<CtInvocation<?>, JUnitVersion>> junit4assertInvocations = methods.stream()
-                .map(method -> method.getElements(junit4assertInvocationFilter))
-                .flatMap(Collection::stream)
-                .map(invocation -> Pair.of(invocation, JUnitVersion.FOUR));
-
-        Stream<Pair<CtInvocation<?>, JUnitVersion>> junit5assertionInvocations = methods.stream()
-                .map(method -> method.getElements(junit5assertionInvocationFilter))
-                .flatMap(Collection::stream)
-                .map(invocation -> Pair.of(invocation, JUnitVersion.FIVE));
-
-        var staticInvocationPairs = Stream.concat(junit4assertInvocations, junit5assertionInvocations)
-                .filter(invocationVersionPair -> invocationVersionPair.getLeft().getExecutable().isStatic())
-                .collect(Collectors.toSet());
+        var staticInvocationPairs = new HashSet<Pair<CtInvocation<?>, JUnitVersion>>();
+
+        for(var method : methods) {
+            var invocationIndex = InvocationIndex.of(method);
+
+            invocationIndex.findStaticMethodInvocationsOnType(JUNIT_4_ASSERT_QUALIFIED_NAME)
+                    .forEach(invocation -> staticInvocationPairs.add(Pair.of(invocation, JUnitVersion.FOUR)));
+            invocationIndex.findStaticMethodInvocationsOnType(JUNIT_5_ASSERTIONS_QUALIFIED_NAME)
+                    .forEach(invocation -> staticInvocationPairs.add(Pair.of(invocation, JUnitVersion.FIVE)));
+        }
 
         if(log.isDebugEnabled()) {
             log.debug("Methods {} contain {} invocations of static JUnit assert methods!",
@@ -4,12 +4,12 @@ import de.adesso.objectfieldcoverage.api.AccessibleField;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraphNode;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
+import de.adesso.objectfieldcoverage.core.processor.util.ProvenanceIndex;
 import lombok.extern.slf4j.Slf4j;
 import spoon.reflect.code.*;
 import spoon.reflect.declaration.CtField;
 import spoon.reflect.declaration.CtMethod;
 import spoon.reflect.declaration.CtTypedElement;
-import spoon.reflect.reference.CtLocalVariableReference;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -17,6 +17,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class InvocationResultTracker {
 
+    /**
+     *
+     * @param expression
+     *          The expression to check, may be {@code null}.
+     *
+     * @param targetMethodInvocation
+     *          The invocation of the target executable, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the given {@code expression} is equal to the given {@code targetMethodInvocation}
+     *          or derived from it. {@code false} is returned otherwise.
+     *
+     * @see ProvenanceIndex
+     */
     public boolean accessesTargetInvocationResult(CtExpression<?> expression, CtAbstractInvocation<?> targetMethodInvocation) {
         if(expression == null) {
             return false;
@@ -32,33 +46,9 @@ public class InvocationResultTracker {
             return false;
         }
 
-        if(expression instanceof CtVariableRead) {
-            var variableRead = (CtVariableRead<?>) expression;
-            var readVariableRef = variableRead.getVariable();
-
-            if(readVariableRef instanceof CtLocalVariableReference) {
-                var readLocalVariableRef = (CtLocalVariableReference<?>) readVariableRef;
-
-                var defaultExpression = readLocalVariableRef.getDeclaration()
-                        .getDefaultExpression();
-
-                if(defaultExpression == null) {
-                    log.warn("Local variable '{}' does not have a default expression!",
-                            readLocalVariableRef.getSimpleName());
-                    return false;
-                }
-
-                return accessesTargetInvocationResult(defaultExpression, targetMethodInvocation);
-            }
-        }
-
-        if(expression instanceof CtTargetedExpression) {
-            var targetedExpression = (CtTargetedExpression<?, ?>) expression;
-
-            return accessesTargetInvocationResult(targetedExpression.getTarget(), targetMethodInvocation);
-        }
-
-        return false;
+        return ProvenanceIndex.of(expressionParentMethod)
+                .getProvenance(expression)
+                .isDerivedFrom(targetMethodInvocation);
     }
 
     /**
@@ -68,13 +58,16 @@ public class InvocationResultTracker {
      *          not {@code null}.
      *
      * @param targetExecutableInvocation
-     *          The
+     *          The invocation of the target executable the given {@code expression} is derived from, not {@code null}.
      *
      * @param accessibleFieldGraph
-     *
+     *          The {@link AccessibleFieldGraph} of the type returned by the given {@code targetExecutableInvocation},
+     *          not {@code null}.
      *
      * @return
-     *          An optional containing the
+     *          An optional containing the path in the given {@code accessibleFieldGraph} which is used to access
+     *          the given {@code expression} starting at the result of the given {@code targetExecutableInvocation}.
+     *          An empty optional is returned in case no such path exists.
      */
     public Optional<Path> getPathPrefixForAccess(CtExpression<?> expression,
                                                  CtAbstractInvocation<?> targetExecutableInvocation,
@@ -85,78 +78,41 @@ public class InvocationResultTracker {
             return Optional.empty();
         }
 
-        return Optional.ofNullable(getPathPrefixForAccessInternal(expression, targetExecutableInvocation,
-                accessibleFieldGraph, new ArrayList<>()));
+        return ProvenanceIndex.of(expression.getParent(CtMethod.class))
+                .getProvenance(expression)
+                .findAccessingElements(targetExecutableInvocation)
+                .map(accessingElements -> buildPath(accessingElements, accessibleFieldGraph));
     }
 
-    private Path getPathPrefixForAccessInternal(CtExpression<?> expression,
-                                               CtAbstractInvocation<?> targetMethodInvocation,
-                                               AccessibleFieldGraph accessibleFieldGraph,
-                                               List<CtTypedElement<?>> accessingElements) {
-        if(expression.equals(targetMethodInvocation)) {
-            Collections.reverse(accessingElements);
-
-            var path = new Path();
-            var currentNodes = accessibleFieldGraph.getRootNodes();
-
-            for(var element : accessingElements) {
-                var childNodeWithAccessGrantingElement = findNodeWithAccessGrantingElement(currentNodes, element);
-
-                if(childNodeWithAccessGrantingElement == null) {
-                    return null;
-                }
-
-                path.append(childNodeWithAccessGrantingElement);
-                currentNodes = Set.of(childNodeWithAccessGrantingElement);
-            }
-
-            return path;
-        }
-
-        if(expression instanceof CtVariableRead) {
-            var variableRead = (CtVariableRead<?>) expression;
-            var readVariableRef = variableRead.getVariable();
-
-            if(readVariableRef instanceof CtLocalVariableReference) {
-                var readLocalVariableRef = (CtLocalVariableReference<?>) readVariableRef;
-
-                var defaultExpression = readLocalVariableRef.getDeclaration()
-                        .getDefaultExpression();
+    /**
+     *
+     * @param accessingElements
+     *          The elements which are used to access the asserted expression in order of their access,
+     *          not {@code null}.
+     *
+     * @param accessibleFieldGraph
+     *          The {@link AccessibleFieldGraph} to build the path in, not {@code null}.
+     *
+     * @return
+     *          The path whose nodes have the given {@code accessingElements} as access granting elements or
+     *          {@code null}, if no such path exists.
+     */
+    private Path buildPath(List<CtTypedElement<?>> accessingElements, AccessibleFieldGraph accessibleFieldGraph) {
+        var path = new Path();
+        var currentNodes = accessibleFieldGraph.getRootNodes();
 
-                if(defaultExpression == null) {
-                    log.warn("Local variable '{}' does not have a default expression!",
-                            readLocalVariableRef.getSimpleName());
-                    return null;
-                }
+        for(var element : accessingElements) {
+            var childNodeWithAccessGrantingElement = findNodeWithAccessGrantingElement(currentNodes, element);
 
-                return getPathPrefixForAccessInternal(defaultExpression, targetMethodInvocation,
-                        accessibleFieldGraph, accessingElements);
+            if(childNodeWithAccessGrantingElement == null) {
+                return null;
             }
-        }
-
-        if(expression instanceof CtInvocation) {
-            var intermediateInvocation = (CtInvocation<?>) expression;
-            var intermediateInvocationTarget = intermediateInvocation.getTarget();
-            var invokedIntermediateExecutable = intermediateInvocation.getExecutable()
-                    .getExecutableDeclaration();
-
-            accessingElements.add(invokedIntermediateExecutable);
-            return getPathPrefixForAccessInternal(intermediateInvocationTarget, targetMethodInvocation, accessibleFieldGraph,
-                    accessingElements);
-        }
-
-        if(expression instanceof CtFieldAccess) {
-            var intermediateFieldAccess = (CtFieldAccess<?>) expression;
-            var intermediateFieldAccessTarget = intermediateFieldAccess.getTarget();
-            var accessedField = intermediateFieldAccess.getVariable()
-                    .getFieldDeclaration();
 
-            accessingElements.add(accessedField);
-            return getPathPrefixForAccessInternal(intermediateFieldAccessTarget, targetMethodInvocation, accessibleFieldGraph,
-                    accessingElements);
+            path.append(childNodeWithAccessGrantingElement);
+            currentNodes = childNodeWithAccessGrantingElement.getChildren();
         }
 
-        return null;
+        return path;
     }
 
     /**
@@ -4,25 +4,54 @@ import de.adesso.objectfieldcoverage.annotation.CalculateCoverage;
 import de.adesso.objectfieldcoverage.annotation.IgnoreCoverage;
 import de.adesso.objectfieldcoverage.api.*;
 import de.adesso.objectfieldcoverage.api.assertion.AbstractAssertion;
+import de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.PathBudget;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.PathCovering;
+import de.adesso.objectfieldcoverage.api.cache.InspectableCache;
+import de.adesso.objectfieldcoverage.core.cache.BoundedCache;
+import de.adesso.objectfieldcoverage.core.cache.CacheRegistry;
+import de.adesso.objectfieldcoverage.core.cache.ModelSnapshotCache;
+import de.adesso.objectfieldcoverage.core.finder.executable.AnnotationBasedTargetExecutableFinder;
 import de.adesso.objectfieldcoverage.core.processor.evaluation.AssertionEvaluationBuilder;
+import de.adesso.objectfieldcoverage.core.processor.incremental.IncrementalResultStore;
+import de.adesso.objectfieldcoverage.core.processor.metrics.ProcessorCounter;
+import de.adesso.objectfieldcoverage.core.processor.metrics.ProcessorMetrics;
+import de.adesso.objectfieldcoverage.core.processor.metrics.ProcessorPhase;
+import de.adesso.objectfieldcoverage.core.processor.progress.ProgressReporter;
+import de.adesso.objectfieldcoverage.core.processor.result.CoverageRecord;
+import de.adesso.objectfieldcoverage.core.processor.result.CoverageRecordWriter;
+import de.adesso.objectfieldcoverage.core.processor.shard.ShardPartitioner;
+import de.adesso.objectfieldcoverage.core.processor.shard.ShardResult;
+import de.adesso.objectfieldcoverage.core.processor.util.InvocationIndex;
 import de.adesso.objectfieldcoverage.core.util.AnnotationUtils;
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
 import de.adesso.objectfieldcoverage.core.util.ExecutableUtils;
+import de.adesso.objectfieldcoverage.core.util.TypeIndex;
 import de.adesso.objectfieldcoverage.core.util.TypeUtils;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.math3.fraction.Fraction;
 import org.codehaus.plexus.util.CollectionUtils;
 import spoon.processing.AbstractProcessor;
+import spoon.reflect.CtModel;
 import spoon.reflect.code.CtAbstractInvocation;
 import spoon.reflect.code.CtInvocation;
 import spoon.reflect.declaration.CtClass;
 import spoon.reflect.declaration.CtExecutable;
 import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtType;
 import spoon.reflect.declaration.CtTypeMember;
 import spoon.reflect.factory.TypeFactory;
+import spoon.reflect.visitor.filter.TypeFilter;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,6 +61,30 @@ import static de.adesso.objectfieldcoverage.core.processor.util.ProcessorUtils.*
  * Central {@link AbstractProcessor} implementation for calculating the Object Field Coverage Metric for
  * a given {@link CtClass}. Caches the analyzed classes and prints an overall metric value after the
  * {@link #processingDone()} method is called.
+ * <p/>
+ * When the {@link Settings#parallel} flag is set, the classes passed to {@link #process(CtClass)} are only queued
+ * and processed concurrently on a {@link ForkJoinPool} when {@link #processingDone()} is called. All synthetic
+ * elements are added to the model before the pool is started, since Spoon's model is not thread-safe.
+ * <p/>
+ * When an {@link Settings#incrementalResultStore incremental result store} is configured, the stored results of a
+ * test class are reused instead of processing the class again as long as none of its dependencies changed.
+ * <p/>
+ * When more than one {@link Settings#shardCount shard} is configured, only the test classes assigned to the
+ * configured shard are processed and the results can be written to a {@link ShardResult}.
+ * <p/>
+ * When a {@link Settings#coverageRecordFile coverage record file} is configured, the result of every processed
+ * target executable invocation is appended to it by a {@link CoverageRecordWriter}.
+ * <p/>
+ * When the {@link Settings#collectMetrics} flag is set or a {@link Settings#metricsFile metrics file} is configured,
+ * the execution time of each {@link ProcessorPhase} and the values of the {@link ProcessorCounter}s are recorded in
+ * the {@link #getMetrics() metrics} of the processor.
+ * <p/>
+ * When a {@link Settings#progressIntervalMillis progress interval} is configured, the progress of the analysis is
+ * periodically reported by a {@link ProgressReporter}.
+ * <p/>
+ * The path enumeration of every graph is limited by a {@link PathBudget} configured in the {@link Settings}. The
+ * coverage of a target executable invocation is flagged as {@link #getApproximateTestClasses() approximated} when
+ * the budget was exceeded for one of the involved graphs, so a single pathological type cannot stall the run.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -78,9 +131,83 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
     private final InvocationResultTracker invocationResultTracker;
 
     /**
-     * Internal result cache.
+     * Internal result cache which maps the qualified name of each processed test class to the coverages of its
+     * target executable invocations. Thread-safe, since test classes might be processed concurrently.
      */
-    private final Map<Pair<CtClass<?>, CtAbstractInvocation<?>>, Fraction> coverageResult = new HashMap<>();
+    private final Map<String, Map<CtAbstractInvocation<?>, Fraction>> coverageResult = new ConcurrentHashMap<>();
+
+    /**
+     * A map which maps the qualified name of a test class whose results were reused from the
+     * {@link #resultStore} to the reused coverage results. Thread-safe, since test classes might be processed
+     * concurrently.
+     */
+    private final Map<String, List<Fraction>> reusedCoverageResult = new ConcurrentHashMap<>();
+
+    /**
+     * A map which maps the qualified name of each test class to its total coverage, calculated in
+     * {@link #processingDone()}.
+     */
+    private final Map<String, Fraction> totalCoverageResult = new ConcurrentHashMap<>();
+
+    /**
+     * The qualified names of the test classes whose total coverage is approximated because the
+     * {@link Settings#maxPathCount path budget} was exceeded for at least one target executable invocation.
+     * Thread-safe, since test classes might be processed concurrently.
+     */
+    private final Set<String> approximateTestClasses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The qualified names of the classes whose processing failed with an exception. Thread-safe, since classes might
+     * be processed concurrently.
+     */
+    private final Set<String> failedClasses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The {@link IncrementalResultStore} the results are reused from and stored in. Loaded in {@link #init()} in
+     * case an {@link Settings#incrementalResultStore incremental result store} is configured, {@code null} otherwise.
+     */
+    private IncrementalResultStore resultStore;
+
+    /**
+     * The {@link CoverageRecordWriter} the results of the target executable invocations are appended to. Created in
+     * {@link #init()} in case a {@link Settings#coverageRecordFile coverage record file} is configured, {@code null}
+     * otherwise.
+     */
+    private CoverageRecordWriter coverageRecordWriter;
+
+    /**
+     * The {@link AssertionEvaluationBuilder} which is shared between all target executable invocations, test methods
+     * and test classes so the built {@link de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation}
+     * instances are reused. Created in {@link #init()} with a cache of the {@link Settings#evaluationCacheSize configured size}.
+     */
+    @Getter
+    private AssertionEvaluationBuilder evaluationBuilder;
+
+    /**
+     * The {@link ProcessorMetrics} the execution times and counters of the current run are recorded in. Reset in
+     * {@link #init()} and only enabled when metrics are configured in the {@link Settings}.
+     */
+    @Getter
+    private final ProcessorMetrics metrics = ProcessorMetrics.disabled();
+
+    /**
+     * The {@link CacheRegistry} containing all caches used by the processor. Filled in {@link #init()} and used to
+     * print the cache statistics in {@link #processingDone()}.
+     */
+    @Getter
+    private final CacheRegistry cacheRegistry = new CacheRegistry();
+
+    /**
+     * The {@link ProgressReporter} the processed test classes and test methods are reported to. Created in
+     * {@link #init()} and stopped in {@link #processingDone()}.
+     */
+    private ProgressReporter progressReporter = ProgressReporter.disabled();
+
+    /**
+     * The test classes which are queued for processing when the {@link Settings#parallel} flag
+     * is set.
+     */
+    private final List<CtClass<?>> queuedClasses = new ArrayList<>();
 
     /**
      * The {@link Settings} instance to modify the internal behaviour.
@@ -90,13 +217,148 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
     private Settings settings = Settings.defaultSettings();
 
     /**
-     * Clears the internal result cache.
+     * Clears the internal result cache and the queued classes. Creates the shared {@link AssertionEvaluationBuilder}
+     * in case it was not created yet or the configured cache size or path budget changed and loads the
+     * {@link IncrementalResultStore} in case one is configured.
      */
     @Override
     public void init() {
         super.init();
 
         coverageResult.clear();
+        reusedCoverageResult.clear();
+        totalCoverageResult.clear();
+        approximateTestClasses.clear();
+        failedClasses.clear();
+        queuedClasses.clear();
+
+        metrics.reset();
+        metrics.setEnabled(settings.collectMetrics || settings.metricsFile != null || settings.collectAllocations);
+        metrics.setAllocationTrackingEnabled(settings.collectAllocations);
+
+        ShardPartitioner.validateShard(settings.shardIndex, settings.shardCount);
+
+        if(settings.incrementalResultStore != null) {
+            resultStore = IncrementalResultStore.load(settings.incrementalResultStore, buildResultStoreConfiguration());
+        } else {
+            resultStore = null;
+        }
+
+        if(settings.coverageRecordFile != null) {
+            coverageRecordWriter = CoverageRecordWriter.create(settings.coverageRecordFile);
+        } else {
+            coverageRecordWriter = null;
+        }
+
+        var pathBudget = new PathBudget(settings.maxPathCount, settings.maxPathLength, settings.maxPathEnumerationMillis);
+
+        // cached results were built with the previous cache size, path budget and path counting mode
+        if(evaluationBuilder == null || evaluationBuilder.getResultCache().getMaximumSize() != settings.evaluationCacheSize ||
+                !pathBudget.equals(evaluationBuilder.getPathBudget()) || evaluationBuilder.isCountPaths() != settings.countPaths) {
+            evaluationBuilder = new AssertionEvaluationBuilder(fieldFinders, equalsMethodAnalyzers,
+                    new BoundedCache<>(AssertionEvaluationBuilder.RESULT_CACHE_NAME, settings.evaluationCacheSize));
+            evaluationBuilder.setPathBudget(pathBudget);
+            evaluationBuilder.setCountPaths(settings.countPaths);
+        }
+
+        evaluationBuilder.setMetrics(metrics);
+        registerCaches();
+        startProgressReporter();
+    }
+
+    /**
+     * Stops the current {@link #progressReporter} and starts a new one in case a progress interval is configured.
+     * The total number of test classes is the {@link Settings#submittedTestClassCount} in case the caller configured
+     * it. Otherwise it is estimated by checking all classes of the model with {@link #isToBeProcessed(CtClass)},
+     * since the processed classes are not known up front.
+     *
+     * @throws IllegalArgumentException
+     *          When the configured progress interval is negative.
+     */
+    private void startProgressReporter() {
+        progressReporter.stop();
+
+        if(settings.progressIntervalMillis < 0L) {
+            throw new IllegalArgumentException(String.format("The progress interval cannot be negative, but was %d!",
+                    settings.progressIntervalMillis));
+        }
+
+        if(settings.progressIntervalMillis == 0L) {
+            progressReporter = ProgressReporter.disabled();
+            return;
+        }
+
+        progressReporter = new ProgressReporter(settings.progressIntervalMillis, System.err, settings.progressFile,
+                cacheRegistry::getStatistics);
+
+        if(settings.submittedTestClassCount > 0L) {
+            progressReporter.start(settings.submittedTestClassCount);
+            return;
+        }
+
+        var candidateCount = getFactory() == null ? 0L : getFactory().getModel()
+                .getElements(new TypeFilter<CtClass<?>>(CtClass.class)).stream()
+                .filter(this::isToBeProcessed)
+                .count();
+        progressReporter.start(candidateCount);
+    }
+
+    /**
+     * Registers the evaluation cache, the cache of the fields compared in equals methods, the caches of all
+     * {@link AccessibilityAwareFieldFinder}s and {@link EqualsMethodAnalyzer}s which implement {@link InspectableCache},
+     * the path cache of the {@link AccessibleFieldGraph}s, the per-model {@link TypeIndex} and resolved target
+     * executables, the {@link ModelSnapshotCache} and the caches of the {@link ClasspathUtils} in the
+     * {@link #cacheRegistry}.
+     */
+    private void registerCaches() {
+        cacheRegistry.clear();
+        cacheRegistry.register(evaluationBuilder.getResultCache());
+        cacheRegistry.register(evaluationBuilder.getComparedInEqualsMethodPredicate());
+
+        fieldFinders.stream()
+                .filter(InspectableCache.class::isInstance)
+                .map(InspectableCache.class::cast)
+                .forEach(cacheRegistry::register);
+
+        equalsMethodAnalyzers.stream()
+                .filter(InspectableCache.class::isInstance)
+                .map(InspectableCache.class::cast)
+                .forEach(cacheRegistry::register);
+
+        cacheRegistry.register(AccessibleFieldGraph::getPathCacheStatistics);
+        cacheRegistry.register(TypeIndex::getCacheStatistics);
+        cacheRegistry.register(AnnotationBasedTargetExecutableFinder::getResolvedExecutablesCacheStatistics);
+        cacheRegistry.register(ModelSnapshotCache::getSnapshotCacheStatistics);
+        cacheRegistry.register(ClasspathUtils::getReflectionsCacheStatistics);
+        cacheRegistry.register(ClasspathUtils::getImplementationIndexCacheStatistics);
+    }
+
+    /**
+     * Invalidates the cached analysis results which depend on one of the given types after these types have been
+     * replaced, added to or removed from the given {@code model} in place, so {@code this} processor and the cached
+     * results of all unchanged types can be reused for the updated model instead of creating a new processor.
+     *
+     * @param model
+     *          The updated model, not {@code null}.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the changed, added and removed types, including nested types, not {@code null}.
+     */
+    public void invalidateTypes(CtModel model, Collection<String> qualifiedTypeNames) {
+        Objects.requireNonNull(model, "model cannot be null!");
+        Objects.requireNonNull(qualifiedTypeNames, "qualifiedTypeNames cannot be null!");
+
+        var changedTypeNames = Set.copyOf(qualifiedTypeNames);
+
+        TypeIndex.invalidate(model);
+        AnnotationBasedTargetExecutableFinder.invalidateResolvedExecutables(model, changedTypeNames);
+        InvocationIndex.invalidateInvokedExecutables(model, changedTypeNames);
+
+        if(evaluationBuilder != null) {
+            var removedEntryCount = evaluationBuilder.invalidateTypes(changedTypeNames);
+            log.debug("Invalidated {} cached evaluation results of {} changed types!", removedEntryCount,
+                    changedTypeNames.size());
+        }
     }
 
     /**
@@ -114,23 +376,89 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
     }
 
     /**
-     * Calculates the overall metric value and logs it with info level.
+     * Processes the queued classes in case the {@link Settings#parallel} flag is set. Calculates the overall metric
+     * value and logs it with info level afterwards. Saves the {@link IncrementalResultStore} without the entries of
+     * test classes which do not exist anymore, writes the {@link ShardResult}, closes the {@link CoverageRecordWriter}
+     * and writes the {@link ProcessorMetrics} in case they are configured.
      */
     @Override
     public void processingDone() {
         super.processingDone();
 
+        if(settings.parallel) {
+            processQueuedClassesInParallel();
+        }
+
+        progressReporter.stop();
+
         log.info("Processing finished! Printing result....");
 
-        var coverageResultsGroupedByClass = coverageResult.entrySet().stream()
-                .map(entry -> Pair.of(entry.getKey().getLeft(), entry.getValue()))
-                .collect(Collectors.groupingBy(Pair::getKey));
+        cacheRegistry.getStatistics().forEach(statistics -> log.info("Cache {}!", statistics.describe()));
+
+        var aggregationStartTime = metrics.start(ProcessorPhase.AGGREGATION);
+        var coverageResultsGroupedByClass = new HashMap<String, List<Fraction>>();
+        coverageResult.forEach((testClassName, coverages) ->
+                coverageResultsGroupedByClass.put(testClassName, new ArrayList<>(coverages.values())));
+        coverageResultsGroupedByClass.putAll(reusedCoverageResult);
+
+        totalCoverageResult.putAll(computeTotalCoverages(coverageResultsGroupedByClass));
+        metrics.stop(ProcessorPhase.AGGREGATION, aggregationStartTime);
+
+        totalCoverageResult.forEach((testClassName, totalCoverage) -> log.info("Total Object Field Coverage for " +
+                "Test Class '{}': {}%{}", testClassName, totalCoverage.doubleValue() * 100D,
+                approximateTestClasses.contains(testClassName) ? " (approximated)" : ""));
+
+        if(settings.shardResultFile != null) {
+            new ShardResult(settings.shardIndex, settings.shardCount, coverageResultsGroupedByClass, approximateTestClasses)
+                    .write(settings.shardResultFile);
+        }
+
+        if(resultStore != null) {
+            resultStore.removeEntriesOfMissingTestClasses(getFactory());
+            resultStore.save();
+        }
+
+        if(coverageRecordWriter != null) {
+            closeCoverageRecordWriter();
+        }
+
+        if(settings.metricsFile != null) {
+            metrics.writeJson(settings.metricsFile);
+        }
+    }
+
+    /**
+     * Closes the {@link #coverageRecordWriter}, so all records are written to the file.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while closing the writer.
+     */
+    private void closeCoverageRecordWriter() {
+        try {
+            coverageRecordWriter.close();
+        } catch (IOException e) {
+            log.error("Error closing coverage record file '{}'!", coverageRecordWriter.getRecordFile());
+            throw new IllegalStateException(e);
+        }
+    }
 
-        coverageResultsGroupedByClass.forEach((testClass, testClassInvocationCoveragePairs) -> {
+    /**
+     *
+     * @param coveragesGroupedByClass
+     *          A map which maps the qualified name of a test class to the coverages of its target executable
+     *          invocations, not {@code null}.
+     *
+     * @return
+     *          A map which maps the qualified name of each test class with at least one coverage to its total
+     *          coverage, which is the average of its coverages.
+     */
+    public static Map<String, Fraction> computeTotalCoverages(Map<String, List<Fraction>> coveragesGroupedByClass) {
+        var totalCoverages = new HashMap<String, Fraction>();
+
+        coveragesGroupedByClass.forEach((testClassName, testClassCoverages) -> {
             Fraction totalCoverage = null;
 
-            for(var invocationCoverage : testClassInvocationCoveragePairs) {
-                var currentCoverage = invocationCoverage.getRight();
+            for(var currentCoverage : testClassCoverages) {
 
                 if(totalCoverage == null) {
                     totalCoverage = currentCoverage;
@@ -140,36 +468,205 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
             }
 
             if(totalCoverage != null) {
-                totalCoverage = totalCoverage.divide(testClassInvocationCoveragePairs.size());
-
-                log.info("Total Object Field Coverage for Test Class '{}': {}%", testClass.getQualifiedName(),
-                        totalCoverage.doubleValue() * 100D);
+                totalCoverages.put(testClassName, totalCoverage.divide(testClassCoverages.size()));
             }
         });
+
+        return totalCoverages;
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> map which maps the qualified name of each test class processed since the last
+     *          invocation of {@link #init()} to its total coverage. Empty until {@link #processingDone()} is called.
+     */
+    public Map<String, Fraction> getTotalCoverageResult() {
+        return Map.copyOf(totalCoverageResult);
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the qualified names of the test classes processed since the last
+     *          invocation of {@link #init()} whose total coverage is approximated, because the path budget was
+     *          exceeded for at least one of their target executable invocations. Contains the test classes whose
+     *          stored results were reused when these results are approximated. Complete once
+     *          {@link #processingDone()} is called.
+     */
+    public Set<String> getApproximateTestClasses() {
+        return Set.copyOf(approximateTestClasses);
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the qualified names of the classes processed since the last
+     *          invocation of {@link #init()} whose processing failed with an exception. The exceptions are logged
+     *          instead of being rethrown, so the other classes are still processed.
+     */
+    public Set<String> getFailedClasses() {
+        return Set.copyOf(failedClasses);
+    }
+
+    /**
+     *
+     * @return
+     *          A string containing all settings which influence the results of a test class. Used as the
+     *          configuration of the {@link IncrementalResultStore}, so results calculated with different settings
+     *          are not reused.
+     */
+    private String buildResultStoreConfiguration() {
+        return String.format("onlyIncludeAnnotated=%s,countPaths=%s,maxPathCount=%d,maxPathLength=%d," +
+                "maxPathEnumerationMillis=%d", settings.onlyIncludeAnnotated, settings.countPaths, settings.maxPathCount,
+                settings.maxPathLength, settings.maxPathEnumerationMillis);
     }
 
     /**
-     * Catches all runtime exceptions thrown by the internal processing and logs them with error severity.
+     * Queues the given {@code clazz} when the {@link Settings#parallel} flag is set. Processes the class
+     * immediately otherwise.
      *
      * @param clazz
      *          The {@link CtClass} instance to analyze, not {@code null}.
      */
     @Override
     public void process(CtClass<?> clazz) {
+        if(settings.parallel) {
+            queuedClasses.add(clazz);
+        } else {
+            processAndLogErrors(clazz);
+        }
+    }
+
+    /**
+     * Processes all {@link #queuedClasses queued classes} concurrently on a dedicated {@link ForkJoinPool} with the
+     * {@link Settings#parallelism configured parallelism} and blocks until all of them are processed. Each class
+     * is processed in a separate task so a single slow test class does not hold back the others.
+     *
+     * @throws IllegalArgumentException
+     *          When the configured parallelism is not positive.
+     *
+     * @throws IllegalStateException
+     *          When the current thread is interrupted while waiting for the tasks to finish or a task
+     *          completes with an error.
+     */
+    private void processQueuedClassesInParallel() {
+        if(settings.parallelism < 1) {
+            throw new IllegalArgumentException(String.format("The parallelism must be positive, but was %d!",
+                    settings.parallelism));
+        }
+
+        log.info("Processing {} queued classes with a parallelism of {}!", queuedClasses.size(), settings.parallelism);
+
+        if(!queuedClasses.isEmpty()) {
+            prepareModel(queuedClasses.get(0).getFactory().getModel());
+        }
+
+        var tasks = queuedClasses.stream()
+                .map(clazz -> (Callable<Void>) () -> {
+                    processAndLogErrors(clazz);
+                    return null;
+                })
+                .collect(Collectors.toList());
+
+        var pool = new ForkJoinPool(settings.parallelism);
+
+        try {
+            for(var future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the queued classes to be processed!", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error while processing the queued classes!", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            queuedClasses.clear();
+        }
+    }
+
+    /**
+     * Lets all {@link TargetExecutableFinder}s and {@link AccessibilityAwareFieldFinder}s create the elements
+     * they would otherwise add to the given {@code model} lazily, e.g. generated getter methods, implicit
+     * default constructors and pseudo classes. Spoon's model is not thread-safe, so it must not be modified while
+     * the queued classes are processed concurrently.
+     *
+     * @param model
+     *          The model the queued classes are part of, not {@code null}.
+     */
+    private void prepareModel(CtModel model) {
+        targetExecutableFinders.forEach(targetExecutableFinder -> targetExecutableFinder.prepare(model));
+        fieldFinders.forEach(fieldFinder -> fieldFinder.prepare(model));
+    }
+
+    /**
+     * Catches all runtime exceptions thrown by the internal processing, logs them with error severity and records the
+     * class as {@link #getFailedClasses() failed}.
+     *
+     * @param clazz
+     *          The {@link CtClass} instance to analyze, not {@code null}.
+     */
+    private void processAndLogErrors(CtClass<?> clazz) {
+        var allocationStart = metrics.startTestClass();
+
         try {
             processInternal(clazz);
         } catch (RuntimeException e) {
+            failedClasses.add(clazz.getQualifiedName());
             log.error(String.format("Error while processing class '%s': ", clazz.getQualifiedName()), e);
+        } finally {
+            metrics.stopTestClass(clazz.getQualifiedName(), allocationStart);
+            progressReporter.testClassProcessed();
         }
     }
 
     /**
+     * Reuses the stored results of the given {@code clazz} in case an {@link IncrementalResultStore} is configured
+     * and none of the dependencies of the class changed. The class is processed and its results are stored
+     * otherwise.
      *
      * @param clazz
      *          The {@link CtClass} instance to analyze, not {@code null}.
      */
     private void processInternal(CtClass<?> clazz) {
+        if(resultStore == null) {
+            processTestClass(clazz);
+            return;
+        }
+
+        var storedCoverages = resultStore.findUpToDateCoverages(clazz);
+        if(storedCoverages.isPresent()) {
+            log.info("Test class '{}' and its dependencies did not change! Reusing {} stored results!",
+                    clazz.getQualifiedName(), storedCoverages.get().size());
+            reusedCoverageResult.put(clazz.getQualifiedName(), storedCoverages.get());
+
+            if(resultStore.hasApproximateCoverages(clazz)) {
+                approximateTestClasses.add(clazz.getQualifiedName());
+            }
+
+            return;
+        }
+
+        resultStore.recordTypeDependency(clazz, clazz.getReference());
+        processTestClass(clazz);
+
+        var coveragesOfClass = coverageResult.getOrDefault(clazz.getQualifiedName(), Map.of());
+        var approximate = approximateTestClasses.contains(clazz.getQualifiedName());
+        resultStore.storeCoverages(clazz, new ArrayList<>(coveragesOfClass.values()), approximate);
+    }
+
+    /**
+     *
+     * @param clazz
+     *          The {@link CtClass} instance to analyze, not {@code null}.
+     */
+    private void processTestClass(CtClass<?> clazz) {
+        var testMethodDiscoveryStartTime = metrics.start(ProcessorPhase.TEST_METHOD_DISCOVERY);
         var testMethodsInClass = findTestMethods(clazz);
+        metrics.stop(ProcessorPhase.TEST_METHOD_DISCOVERY, testMethodDiscoveryStartTime);
+        metrics.add(ProcessorCounter.TEST_CLASSES, 1L);
+        metrics.add(ProcessorCounter.TEST_METHODS, testMethodsInClass.size());
 
         if(testMethodsInClass.isEmpty()) {
             log.info("No test methods in class '{}'!", clazz.getQualifiedName());
@@ -179,7 +676,10 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
                     clazz.getQualifiedName());
         }
 
-        testMethodsInClass.forEach(testMethod -> processTestMethod(testMethod, clazz));
+        testMethodsInClass.forEach(testMethod -> {
+            processTestMethod(testMethod, clazz);
+            progressReporter.testMethodProcessed();
+        });
     }
 
     /**
@@ -193,35 +693,54 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
     private void processTestMethod(CtMethod<?> testMethod, CtClass<?> testClass) {
         log.info("Started processing of test method '{}'!", testMethod.getSimpleName());
 
+        var helperMethodDiscoveryStartTime = metrics.start(ProcessorPhase.HELPER_METHOD_DISCOVERY);
         var invokedHelperMethods = findInvokedHelperMethods(testMethod);
+        metrics.stop(ProcessorPhase.HELPER_METHOD_DISCOVERY, helperMethodDiscoveryStartTime);
+        metrics.add(ProcessorCounter.HELPER_METHODS, invokedHelperMethods.size());
+
         if(log.isDebugEnabled()) {
             log.debug("Test method '{}' invokes {} helper methods: {}", testMethod.getSignature(),
                     invokedHelperMethods.size(), invokedHelperMethods.stream().map(CtExecutable::getSignature).collect(Collectors.toList()));
         }
 
+        var targetResolutionStartTime = metrics.start(ProcessorPhase.TARGET_RESOLUTION);
         var targetExecutables = findTargetExecutables(testMethod, invokedHelperMethods);
         if(log.isDebugEnabled()) {
             log.debug("Test method '{}' targets {} executables: {}", testMethod.getSignature(), targetExecutables.size(),
                     targetExecutables.stream().map(CtExecutable::getSignature).collect(Collectors.toList()));
         }
 
+        if(resultStore != null) {
+            invokedHelperMethods.forEach(helperMethod -> resultStore.recordExecutableDependency(testClass, helperMethod));
+            targetExecutables.forEach(targetExecutable -> resultStore.recordExecutableDependency(testClass, targetExecutable));
+        }
+
         var testAndHelperMethods = new HashSet<>(invokedHelperMethods);
         testAndHelperMethods.add(testMethod);
         var invokedTargetExecutables = filterInvokedExecutables(testAndHelperMethods, targetExecutables);
+        metrics.stop(ProcessorPhase.TARGET_RESOLUTION, targetResolutionStartTime);
+        metrics.add(ProcessorCounter.TARGET_EXECUTABLES, invokedTargetExecutables.size());
         log.debug("{} of {} target executables are invoked at least once!", invokedTargetExecutables.size(), targetExecutables.size());
 
+        var assertionFindingStartTime = metrics.start(ProcessorPhase.ASSERTION_FINDING);
         var allAssertions = findAssertions(testMethod, invokedHelperMethods);
+        metrics.stop(ProcessorPhase.ASSERTION_FINDING, assertionFindingStartTime);
+        metrics.add(ProcessorCounter.ASSERTIONS, allAssertions.size());
+
         if(log.isDebugEnabled()) {
             log.debug("Found {} assertions in test method '{}' and helper methods '{}'!", allAssertions.size(),
                     testMethod.getSignature(), invokedHelperMethods.stream().map(CtExecutable::getSignature).collect(Collectors.toList()));
         }
 
         for (var invokedTargetExecutable : invokedTargetExecutables) {
+            var invocationMatchingStartTime = metrics.start(ProcessorPhase.INVOCATION_MATCHING);
             Set<CtAbstractInvocation<?>> invocationsOfTargetExecutable = findInvocationsOfExecutable(testAndHelperMethods, invokedTargetExecutable);
             log.debug("Target executable '{}' invoked {} times!", invokedTargetExecutable.getSignature(),
                     invocationsOfTargetExecutable.size());
 
             var invocationToAssertionsMap = mapInvocationToAssertions(allAssertions, invocationsOfTargetExecutable);
+            metrics.stop(ProcessorPhase.INVOCATION_MATCHING, invocationMatchingStartTime);
+            metrics.add(ProcessorCounter.INVOCATIONS, invocationToAssertionsMap.size());
 
             invocationToAssertionsMap.forEach((invocation, assertions) -> {
                 if(!isNonVoidExecutableOrThrows(invocation, testMethod, invokedHelperMethods)) {
@@ -231,7 +750,7 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
                 if(throwsThrowable(invocation, testMethod, invokedHelperMethods)) {
                     processThrowingInvocation(testClass, invocation, assertions);
                 } else {
-                    processTargetExecutableInvocation(testClass, invocation, assertions);
+                    processTargetExecutableInvocation(testClass, testMethod, invocation, assertions);
                 }
 
             });
@@ -240,39 +759,289 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
         log.info("Finished processing of test method '{}'!", testMethod.getSimpleName());
     }
 
-    private void processTargetExecutableInvocation(CtClass<?> testClass, CtAbstractInvocation<?> targetExecutableInvocation, List<AbstractAssertion<?>> assertions) {
-        var evaluationInfoBuilder = new AssertionEvaluationBuilder(fieldFinders, equalsMethodAnalyzers);
-        var fullInfoForReturnedType = evaluationInfoBuilder.build(testClass, targetExecutableInvocation.getExecutable().getType());
+    private void processTargetExecutableInvocation(CtClass<?> testClass, CtMethod<?> testMethod,
+                                                   CtAbstractInvocation<?> targetExecutableInvocation, List<AbstractAssertion<?>> assertions) {
+        var fullInfoForReturnedType = evaluationBuilder.build(testClass, targetExecutableInvocation.getExecutable().getType());
+        var accessibleFieldsGraph = fullInfoForReturnedType.getAccessibleFieldsGraph();
 
-        var coveredPaths = assertions.stream()
-                .map(assertion -> {
-                    var evaluationInformation = evaluationInfoBuilder.build(assertion);
-                    var pathPrefix = invocationResultTracker.getPathPrefixForAccess(assertion.getAssertedExpression(),
-                            targetExecutableInvocation, fullInfoForReturnedType.getAccessibleFieldsGraph());
+        if(resultStore != null) {
+            recordWalkedTypes(testClass, fullInfoForReturnedType);
+            assertions.forEach(assertion -> recordWalkedTypes(testClass, evaluationBuilder.build(assertion)));
+        }
 
-                    var coveredPathsOfAssertion = assertion.getCoveredPaths(evaluationInformation);
+        long coveredPathCount;
+        long pathCount;
+        Collection<Path> coveredPathsInGraph = List.of();
+        var pathEnumerationStartTime = metrics.start(ProcessorPhase.PATH_ENUMERATION);
 
-                    if(pathPrefix.isEmpty()) {
-                        log.warn("No path prefix for assertion '{}' required!", assertion);
-                        return coveredPathsOfAssertion;
-                    } else {
-                        return coveredPathsOfAssertion.stream()
-                                .map(coveredPath -> coveredPath.prepend(pathPrefix.get()))
-                                .collect(Collectors.toSet());
-                    }
-                })
-                .flatMap(Collection::stream)
+        if(settings.countPaths) {
+            var pathCoverings = assertions.stream()
+                    .map(assertion -> buildPathCovering(assertion, targetExecutableInvocation, accessibleFieldsGraph))
+                    .collect(Collectors.toList());
+
+            coveredPathCount = accessibleFieldsGraph.countCoveredTransitiveReachabilityPaths(pathCoverings);
+            pathCount = accessibleFieldsGraph.getTransitiveReachabilityPathCount();
+        } else {
+            var coveredPaths = assertions.stream()
+                    .map(assertion -> findCoveredPaths(assertion, targetExecutableInvocation, accessibleFieldsGraph))
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toSet());
+
+            var allPaths = new HashSet<>(accessibleFieldsGraph.getTransitiveReachabilityPaths());
+
+            // the paths of a graph whose path budget was exceeded are truncated, so the covered paths must be
+            // truncated at the same depth to be comparable
+            var pathTruncationDepth = accessibleFieldsGraph.getPathTruncationDepth();
+            if(pathTruncationDepth != AccessibleFieldGraph.NOT_TRUNCATED) {
+                coveredPaths = coveredPaths.stream()
+                        .map(coveredPath -> coveredPath.isEmpty() ? coveredPath : coveredPath.truncate(pathTruncationDepth))
+                        .collect(Collectors.toSet());
+            }
+
+            coveredPathsInGraph = CollectionUtils.intersection(allPaths, coveredPaths);
+            coveredPathCount = coveredPathsInGraph.size();
+            pathCount = allPaths.size();
+        }
+
+        metrics.stop(ProcessorPhase.PATH_ENUMERATION, pathEnumerationStartTime);
+        metrics.add(ProcessorCounter.PATHS, pathCount);
+        metrics.add(ProcessorCounter.COVERED_PATHS, coveredPathCount);
+
+        var coverage = toFraction(coveredPathCount, pathCount);
+        var approximate = isApproximate(fullInfoForReturnedType) || assertions.stream()
+                .map(evaluationBuilder::build)
+                .anyMatch(ObjectFieldCoverageProcessor::isApproximate);
+
+        if(approximate) {
+            log.warn("{} out of {} paths of target executable invocation '{}' are covered! [Object Field Coverage: {}%, " +
+                    "approximated since the path budget was exceeded]", coveredPathCount, pathCount,
+                    targetExecutableInvocation, coverage.doubleValue() * 100D);
+            approximateTestClasses.add(testClass.getQualifiedName());
+            metrics.add(ProcessorCounter.APPROXIMATE_INVOCATIONS, 1L);
+        } else {
+            log.info("{} out of {} paths of target executable invocation '{}' are covered! [Object Field Coverage: {}%]",
+                    coveredPathCount, pathCount, targetExecutableInvocation, coverage.doubleValue() * 100D);
+        }
+
+        coverageResult.computeIfAbsent(testClass.getQualifiedName(), testClassName -> new ConcurrentHashMap<>())
+                .put(targetExecutableInvocation, coverage);
+
+        if(coverageRecordWriter != null) {
+            var executableRef = targetExecutableInvocation.getExecutable();
+            var declaringTypeName = executableRef.getDeclaringType() != null ? executableRef.getDeclaringType().getQualifiedName() : "";
+            var recordedPaths = settings.recordCoveredPaths ? coveredPathsInGraph.stream()
+                    .map(ObjectFieldCoverageProcessor::describePath)
+                    .sorted()
+                    .collect(Collectors.toList()) : List.<String>of();
+
+            coverageRecordWriter.append(new CoverageRecord(testClass.getQualifiedName(), testMethod.getSignature(),
+                    declaringTypeName + "#" + executableRef.getSignature(), coveredPathCount, pathCount, approximate,
+                    recordedPaths));
+        }
+    }
+
+    /**
+     *
+     * @param evaluationInformation
+     *          The {@link AssertionEvaluationInformation} to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the paths of one of the graphs of the given {@code evaluationInformation} were
+     *          truncated because the path budget was exceeded. {@code false} is returned otherwise.
+     */
+    private static boolean isApproximate(AssertionEvaluationInformation evaluationInformation) {
+        return evaluationInformation.getAccessibleFieldsGraph().isApproximate() ||
+                evaluationInformation.getAccessibleFieldsUsedInEqualsGraph().isApproximate();
+    }
+
+    /**
+     *
+     * @param path
+     *          The path to describe, not {@code null}.
+     *
+     * @return
+     *          The simple names of the fields on the given {@code path} separated by a {@code .}.
+     */
+    private static String describePath(Path path) {
+        return path.getNodes().stream()
+                .map(node -> node.getAccessibleField().getActualField().getSimpleName())
+                .collect(Collectors.joining("."));
+    }
+
+    /**
+     * Records the types walked by both graphs of the given {@code evaluationInformation} as dependencies of the given
+     * {@code testClass}, since the coverage depends on the graph of the returned type as well as on the graphs of
+     * the asserted expressions.
+     *
+     * @param testClass
+     *          The test class to record the dependencies for, not {@code null}.
+     *
+     * @param evaluationInformation
+     *          The {@link AssertionEvaluationInformation} whose graphs should be recorded, not {@code null}.
+     */
+    private void recordWalkedTypes(CtClass<?> testClass, AssertionEvaluationInformation evaluationInformation) {
+        recordWalkedTypes(testClass, evaluationInformation.getAccessibleFieldsGraph());
+        recordWalkedTypes(testClass, evaluationInformation.getAccessibleFieldsUsedInEqualsGraph());
+    }
+
+    /**
+     * Records the type described by the given {@code accessibleFieldsGraph} and the declaring types of all fields in
+     * the graph as dependencies of the given {@code testClass}.
+     *
+     * @param testClass
+     *          The test class to record the dependencies for, not {@code null}.
+     *
+     * @param accessibleFieldsGraph
+     *          The {@link AccessibleFieldGraph} whose types should be recorded, not {@code null}.
+     */
+    private void recordWalkedTypes(CtClass<?> testClass, AccessibleFieldGraph accessibleFieldsGraph) {
+        resultStore.recordTypeDependency(testClass, accessibleFieldsGraph.getDescribedTypeRef());
+
+        accessibleFieldsGraph.getAllNodes().stream()
+                .map(node -> node.getAccessibleField().getActualField().getDeclaringType())
+                .filter(Objects::nonNull)
+                .map(CtType::getReference)
+                .distinct()
+                .forEach(declaringTypeRef -> resultStore.recordTypeDependency(testClass, declaringTypeRef));
+    }
+
+    /**
+     *
+     * @param assertion
+     *          The {@link AbstractAssertion} to get the covered paths of, not {@code null}.
+     *
+     * @param targetExecutableInvocation
+     *          The invocation of the target executable whose result is asserted by the given {@code assertion},
+     *          not {@code null}.
+     *
+     * @param accessibleFieldsGraph
+     *          The {@link AccessibleFieldGraph} of the type returned by the given {@code targetExecutableInvocation},
+     *          not {@code null}.
+     *
+     * @return
+     *          A set containing the paths covered by the given {@code assertion} prepended with the path prefix
+     *          of the asserted expression.
+     */
+    private Set<Path> findCoveredPaths(AbstractAssertion<?> assertion, CtAbstractInvocation<?> targetExecutableInvocation,
+                                       AccessibleFieldGraph accessibleFieldsGraph) {
+        var evaluationInformation = evaluationBuilder.build(assertion);
+        var pathPrefix = findPathPrefix(assertion, targetExecutableInvocation, accessibleFieldsGraph);
+        var coveredPathsOfAssertion = assertion.getCoveredPaths(evaluationInformation);
+
+        if(pathPrefix.isEmpty()) {
+            return coveredPathsOfAssertion;
+        }
+
+        return coveredPathsOfAssertion.stream()
+                .map(coveredPath -> prependPathPrefix(coveredPath, pathPrefix.get()))
                 .collect(Collectors.toSet());
+    }
 
-        var allPaths = new HashSet<>(fullInfoForReturnedType.getAccessibleFieldsGraph()
-                .getTransitiveReachabilityPaths());
-        var coveredPathsContainedInAllPaths = CollectionUtils.intersection(allPaths, coveredPaths);
-        var coverage = Fraction.getReducedFraction(coveredPathsContainedInAllPaths.size(), allPaths.size());
+    /**
+     * The covered paths of an assertion are paths in the graph of the asserted type, which is not necessarily
+     * the type of the last node of the path prefix. When the field of the last node is declared with a type
+     * variable, the node has no children for the fields of the actual type argument the asserted expression is
+     * of. The assertion still covers the field itself in that case, so the path prefix is returned.
+     *
+     * @param coveredPath
+     *          The path covered by an assertion, not {@code null}.
+     *
+     * @param pathPrefix
+     *          The path prefix of the asserted expression, not {@code null}.
+     *
+     * @return
+     *          The given {@code coveredPath} prepended with the given {@code pathPrefix} or the {@code pathPrefix}
+     *          itself, in case the last node of the prefix is not a parent node of the first node of the
+     *          {@code coveredPath}.
+     */
+    private Path prependPathPrefix(Path coveredPath, Path pathPrefix) {
+        var prefixEndsInParentNode = coveredPath.getNodes().stream()
+                .findFirst()
+                .flatMap(firstNode -> pathPrefix.getLast().map(lastNode -> lastNode.getChildren().contains(firstNode)))
+                .orElse(true);
 
-        log.info("{} out of {} paths of target executable invocation '{}' are covered! [Object Field Coverage: {}%]",
-                coveredPathsContainedInAllPaths.size(), allPaths.size(), targetExecutableInvocation, coverage.doubleValue() * 100D);
+        return prefixEndsInParentNode ? coveredPath.prepend(pathPrefix) : pathPrefix;
+    }
 
-        coverageResult.put(Pair.of(testClass, targetExecutableInvocation), coverage);
+    /**
+     * The paths covered by the given {@code assertion} are only materialized when the assertion does not provide
+     * a {@link AbstractAssertion#getCoveringGraph(de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation)
+     * covering graph}. This is only the case for assertions which cover a small, bounded number of paths, e.g. no paths
+     * at all or the pseudo fields of a throwable, so counting the paths never materializes the paths of a whole graph.
+     *
+     * @param assertion
+     *          The {@link AbstractAssertion} to build the path covering for, not {@code null}.
+     *
+     * @param targetExecutableInvocation
+     *          The invocation of the target executable whose result is asserted by the given {@code assertion},
+     *          not {@code null}.
+     *
+     * @param accessibleFieldsGraph
+     *          The {@link AccessibleFieldGraph} of the type returned by the given {@code targetExecutableInvocation},
+     *          not {@code null}.
+     *
+     * @return
+     *          The {@link PathCovering} describing the paths covered by the given {@code assertion}.
+     */
+    private PathCovering buildPathCovering(AbstractAssertion<?> assertion, CtAbstractInvocation<?> targetExecutableInvocation,
+                                           AccessibleFieldGraph accessibleFieldsGraph) {
+        var coveringGraph = assertion.getCoveringGraph(evaluationBuilder.build(assertion));
+
+        if(coveringGraph.isEmpty()) {
+            return PathCovering.ofPaths(findCoveredPaths(assertion, targetExecutableInvocation, accessibleFieldsGraph));
+        }
+
+        var pathPrefix = findPathPrefix(assertion, targetExecutableInvocation, accessibleFieldsGraph);
+        return PathCovering.ofGraph(pathPrefix.orElseGet(Path::new), coveringGraph.get());
+    }
+
+    /**
+     *
+     * @param assertion
+     *          The {@link AbstractAssertion} to get the path prefix for, not {@code null}.
+     *
+     * @param targetExecutableInvocation
+     *          The invocation of the target executable whose result is asserted by the given {@code assertion},
+     *          not {@code null}.
+     *
+     * @param accessibleFieldsGraph
+     *          The {@link AccessibleFieldGraph} of the type returned by the given {@code targetExecutableInvocation},
+     *          not {@code null}.
+     *
+     * @return
+     *          An optional containing the path prefix of the asserted expression or an empty optional in case
+     *          no prefix is required.
+     */
+    private Optional<Path> findPathPrefix(AbstractAssertion<?> assertion, CtAbstractInvocation<?> targetExecutableInvocation,
+                                          AccessibleFieldGraph accessibleFieldsGraph) {
+        var pathPrefix = invocationResultTracker.getPathPrefixForAccess(assertion.getAssertedExpression(),
+                targetExecutableInvocation, accessibleFieldsGraph);
+
+        if(pathPrefix.isEmpty()) {
+            log.warn("No path prefix for assertion '{}' required!", assertion);
+        }
+
+        return pathPrefix;
+    }
+
+    /**
+     *
+     * @param coveredPathCount
+     *          The number of covered paths, not negative.
+     *
+     * @param pathCount
+     *          The total number of paths, positive.
+     *
+     * @return
+     *          The reduced fraction of the given counts. The fraction is approximated in case one of the given counts
+     *          exceeds the {@code int} range.
+     */
+    private static Fraction toFraction(long coveredPathCount, long pathCount) {
+        if(pathCount <= Integer.MAX_VALUE) {
+            return Fraction.getReducedFraction((int) coveredPathCount, (int) pathCount);
+        }
+
+        return new Fraction((double) coveredPathCount / pathCount, Integer.MAX_VALUE);
     }
 
     private void processThrowingInvocation(CtClass<?> testClass, CtAbstractInvocation<?> targetExecutableInvocation, List<AbstractAssertion<?>> assertions) {
@@ -280,8 +1049,7 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
             throw new IllegalStateException("All asserted expressions must raise a throwable!");
         }
 
-        var evaluationInfoBuilder = new AssertionEvaluationBuilder(fieldFinders, equalsMethodAnalyzers);
-        var fullInfoForThrownType = evaluationInfoBuilder.build(testClass, new TypeFactory().createReference(Throwable.class));
+        var fullInfoForThrownType = evaluationBuilder.build(testClass, new TypeFactory().createReference(Throwable.class));
 
         log.warn("Properly implement!");
     }
@@ -355,6 +1123,9 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
                 .collect(Collectors.toMap(
                         Function.identity(),
                         invocation -> abstractAssertions.stream()
+                                // a throwable raised by an invocation on the result is not part of the result itself
+                                .filter(assertion -> !assertion.expressionRaisesThrowable()
+                                        || assertion.getAssertedExpression().equals(invocation))
                                 .filter(assertion -> invocationResultTracker.accessesTargetInvocationResult(assertion.getAssertedExpression(),
                                         invocation))
                                 .collect(Collectors.toList())
@@ -392,6 +1163,12 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
      *          </ul>
      */
     private boolean shouldBeExcluded(CtClass<?> clazz) {
+        if(settings.shardCount > 1 && ShardPartitioner.shardOf(clazz.getQualifiedName(), settings.shardCount) != settings.shardIndex) {
+            log.debug("Class '{}' is not assigned to shard {} and will therefore be ignored!", clazz.getQualifiedName(),
+                    settings.shardIndex);
+            return true;
+        }
+
         if(!clazz.isTopLevel()) {
             log.debug("Class '{}' is not a top level and will therefore be ignored!", clazz.getQualifiedName());
             return true;
@@ -485,6 +1262,138 @@ public class ObjectFieldCoverageProcessor extends AbstractProcessor<CtClass<?>>
          */
         private boolean onlyIncludeAnnotated;
 
+        /**
+         * Specifies if test classes should be processed concurrently. The classes are queued and processed
+         * when {@link ObjectFieldCoverageProcessor#processingDone()} is called. Components which modify the shared
+         * Spoon model (e.g. by generating pseudo classes or getter methods) create these elements up front in
+         * their {@code prepare} method. Elements which are still created lazily, e.g. pseudo fields of types only
+         * referenced by classpath types, are created while holding the lock of the model's
+         * {@link spoon.reflect.factory.Factory}.
+         */
+        private boolean parallel;
+
+        /**
+         * The number of threads used to process the test classes when the {@link #parallel} flag is set.
+         * Defaults to the number of available processors.
+         */
+        @Builder.Default
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The maximum number of {@link de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation}
+         * instances which are cached by the processor. The least recently used entry is evicted when the limit is
+         * reached. Must be positive.
+         */
+        @Builder.Default
+        private int evaluationCacheSize = AssertionEvaluationBuilder.DEFAULT_RESULT_CACHE_SIZE;
+
+        /**
+         * Specifies if the total and covered number of paths should be counted directly on the graphs instead
+         * of materializing and intersecting the sets of paths. Prevents the exponential memory consumption of the
+         * path sets for deeply nested types.
+         */
+        private boolean countPaths;
+
+        /**
+         * The file of the {@link IncrementalResultStore} to reuse the results of unchanged test classes from.
+         * Incremental processing is disabled when {@code null}.
+         */
+        private java.nio.file.Path incrementalResultStore;
+
+        /**
+         * The total number of shards the test classes are {@link ShardPartitioner partitioned} into. Only the test
+         * classes assigned to the shard with the {@link #shardIndex configured index} are processed. Must be
+         * positive.
+         */
+        @Builder.Default
+        private int shardCount = 1;
+
+        /**
+         * The index of the shard whose test classes are processed. Must be between {@code 0} (inclusive) and the
+         * {@link #shardCount} (exclusive).
+         */
+        private int shardIndex;
+
+        /**
+         * The file the {@link ShardResult} is written to when processing is done, so the results of all shards can
+         * be {@link de.adesso.objectfieldcoverage.core.processor.shard.ShardResultMerger merged} afterwards. No
+         * shard result is written when {@code null}.
+         */
+        private java.nio.file.Path shardResultFile;
+
+        /**
+         * The file the result of every processed target executable invocation is appended to. No records are
+         * written when {@code null}. Results reused from the {@link #incrementalResultStore} are not recorded.
+         */
+        private java.nio.file.Path coverageRecordFile;
+
+        /**
+         * Specifies if the covered paths should be included in the records written to the
+         * {@link #coverageRecordFile}. Only the paths which are materialized, i.e. when the {@link #countPaths}
+         * flag is not set, can be recorded.
+         */
+        private boolean recordCoveredPaths;
+
+        /**
+         * Specifies if the execution times of the {@link ProcessorPhase}s and the values of the
+         * {@link ProcessorCounter}s should be recorded in the {@link ObjectFieldCoverageProcessor#getMetrics() metrics}
+         * of the processor. Implicitly enabled when a {@link #metricsFile} is configured.
+         */
+        private boolean collectMetrics;
+
+        /**
+         * The file the recorded {@link ProcessorMetrics} are written to as JSON when processing is done. No metrics
+         * are written when {@code null}.
+         */
+        private java.nio.file.Path metricsFile;
+
+        /**
+         * Specifies if the bytes allocated by the processing threads should be recorded for each
+         * {@link ProcessorPhase} and each test class in the {@link ObjectFieldCoverageProcessor#getMetrics() metrics}
+         * of the processor. Implicitly enables the collection of the metrics. Measuring the allocations adds a
+         * small overhead to every phase, so it is disabled by default.
+         */
+        private boolean collectAllocations;
+
+        /**
+         * The maximum number of paths enumerated for a single graph, {@code 0} for no limit. The paths of a graph
+         * exceeding the budget are truncated and the coverage of the affected invocations is flagged as
+         * approximated, see {@link PathBudget}. Only applies to graphs built after the budget was changed.
+         */
+        private long maxPathCount;
+
+        /**
+         * The maximum length of an enumerated path, {@code 0} for no limit. Longer paths are truncated and the
+         * coverage of the affected invocations is flagged as approximated.
+         */
+        private int maxPathLength;
+
+        /**
+         * The maximum time spent enumerating the paths of a single graph in milliseconds, {@code 0} for no limit.
+         * The paths are truncated further when the time is exceeded.
+         */
+        private long maxPathEnumerationMillis;
+
+        /**
+         * The interval between two progress reports in milliseconds, {@code 0} to disable the reports. The progress
+         * is printed to the standard error stream and written to the {@link #progressFile} in case one is configured.
+         */
+        private long progressIntervalMillis;
+
+        /**
+         * The file the latest progress report is written to as JSON. Only used when a
+         * {@link #progressIntervalMillis progress interval} is configured.
+         */
+        private java.nio.file.Path progressFile;
+
+        /**
+         * The number of test classes submitted for processing which pass the
+         * {@link ObjectFieldCoverageProcessor#isToBeProcessed(CtClass)} check, used as the total number of test
+         * classes of the progress reports. {@code 0} when unknown, in which case the total is estimated from all
+         * classes of the model.
+         */
+        private long submittedTestClassCount;
+
     }
 
 }
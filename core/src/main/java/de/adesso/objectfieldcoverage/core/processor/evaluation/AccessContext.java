@@ -0,0 +1,91 @@
+package de.adesso.objectfieldcoverage.core.processor.evaluation;
+
+import de.adesso.objectfieldcoverage.core.util.TypeUtils;
+import lombok.Value;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.reference.CtTypeReference;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The properties of an accessing type which determine whether a member is accessible according to §6.6 of the
+ * Java Language Specification. Two accessing types with equal contexts can access exactly the same fields, so
+ * an {@link de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation} built for one of them
+ * can be reused for the other. This allows test classes in the same package to share cached results.
+ */
+@Value
+public class AccessContext {
+
+    /**
+     * The qualified name of the package of the accessing type.
+     */
+    String packageName;
+
+    /**
+     * The qualified name of the top level type of the accessing type in case private members declared in it
+     * might be accessed, an empty string otherwise.
+     */
+    String topLevelTypeName;
+
+    /**
+     * The qualified names of the explicit super classes of the accessing type, which might access protected
+     * members declared in them.
+     */
+    List<String> superClassNames;
+
+    /**
+     * The top level type of the accessing type is part of the context when it declares nested types or when the
+     * asserted type is declared in it, since private members declared anywhere inside the top level type are
+     * accessible then.
+     *
+     * @param accessingType
+     *          The {@link CtType} which accesses the fields, not {@code null}.
+     *
+     * @param assertedTypeRef
+     *          The {@link CtTypeReference} of the asserted type, not {@code null}.
+     *
+     * @return
+     *          The access context of the given {@code accessingType}.
+     */
+    public static AccessContext of(CtType<?> accessingType, CtTypeReference<?> assertedTypeRef) {
+        Objects.requireNonNull(accessingType, "accessingType cannot be null!");
+        Objects.requireNonNull(assertedTypeRef, "assertedTypeRef cannot be null!");
+
+        var topLevelType = accessingType.getTopLevelType();
+        var assertedTopLevelType = assertedTypeRef.getTopLevelType();
+        var privateMembersAccessible = !topLevelType.getNestedTypes().isEmpty() ||
+                (assertedTopLevelType != null && topLevelType.getQualifiedName().equals(assertedTopLevelType.getQualifiedName()));
+
+        var packageDeclaration = accessingType.getPackage();
+
+        return new AccessContext(
+                packageDeclaration != null ? packageDeclaration.getQualifiedName() : "",
+                privateMembersAccessible ? topLevelType.getQualifiedName() : "",
+                findSuperClassNames(accessingType)
+        );
+    }
+
+    /**
+     *
+     * @param accessingType
+     *          The {@link CtType} to get the super classes of, not {@code null}.
+     *
+     * @return
+     *          The qualified names of the explicit super classes of the given {@code accessingType}. Empty
+     *          when the type is not a class.
+     */
+    private static List<String> findSuperClassNames(CtType<?> accessingType) {
+        var accessingTypeRef = accessingType.getReference();
+
+        if(!accessingTypeRef.isClass()) {
+            return List.of();
+        }
+
+        return TypeUtils.findExplicitSuperClasses(accessingTypeRef).stream()
+                .map(CtTypeReference::getQualifiedName)
+                .collect(Collectors.toList());
+    }
+
+}
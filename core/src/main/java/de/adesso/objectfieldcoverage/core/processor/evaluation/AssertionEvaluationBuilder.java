@@ -5,17 +5,27 @@ import de.adesso.objectfieldcoverage.api.EqualsMethodAnalyzer;
 import de.adesso.objectfieldcoverage.api.assertion.AbstractAssertion;
 import de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraphNode;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.Path;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.PathBudget;
+import de.adesso.objectfieldcoverage.api.evaluation.jfr.EvaluationBuildEvent;
+import de.adesso.objectfieldcoverage.core.cache.BoundedCache;
 import de.adesso.objectfieldcoverage.core.processor.evaluation.graph.AccessibleFieldGraphBuilder;
 import de.adesso.objectfieldcoverage.core.processor.evaluation.graph.ComparedInEqualsMethodBiPredicate;
+import de.adesso.objectfieldcoverage.core.processor.metrics.ProcessorCounter;
+import de.adesso.objectfieldcoverage.core.processor.metrics.ProcessorMetrics;
+import de.adesso.objectfieldcoverage.core.processor.metrics.ProcessorPhase;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import spoon.reflect.declaration.CtElement;
 import spoon.reflect.declaration.CtType;
+import spoon.reflect.reference.CtTypeParameterReference;
 import spoon.reflect.reference.CtTypeReference;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 
 /**
@@ -33,11 +43,23 @@ import java.util.function.BiFunction;
 public class AssertionEvaluationBuilder {
 
     /**
-     * A map which contains entries mapping a (asserted {@link CtTypeReference}, accessing {@link CtType}) pair to the
-     * resulting {@link AssertionEvaluationInformation} instance.
+     * The default maximum number of entries of the {@link #resultCache}.
      */
-    private final Map<Pair<CtTypeReference<?>, CtType<?>>, AssertionEvaluationInformation> resultCache
-            = new ConcurrentHashMap<>();
+    public static final int DEFAULT_RESULT_CACHE_SIZE = 1000;
+
+    /**
+     * The name of the result cache used in its {@link de.adesso.objectfieldcoverage.api.cache.CacheStatistics}.
+     */
+    public static final String RESULT_CACHE_NAME = "assertionEvaluation";
+
+    /**
+     * A cache which contains entries mapping a (asserted {@link CtTypeReference}, {@link AccessContext}) pair to the
+     * resulting {@link AssertionEvaluationInformation} instance. Keyed by the access context instead of the accessing
+     * type itself, so the entries are shared between all test classes which can access the same fields. Can be
+     * shared between multiple builders.
+     */
+    @Getter
+    private final BoundedCache<Pair<CtTypeReference<?>, AccessContext>, AssertionEvaluationInformation> resultCache;
 
     /**
      * A list containing the {@link AccessibilityAwareFieldFinder}s to build the {@link AccessibleFieldGraph}s
@@ -51,11 +73,38 @@ public class AssertionEvaluationBuilder {
      */
     private final List<EqualsMethodAnalyzer> equalsMethodAnalyzers;
 
+    /**
+     * The predicate used to build the {@link AccessibleFieldGraph}s of accessible fields which are compared in the
+     * equals method of the asserted type. Shared between all built graphs, since it caches the analysis result
+     * for every analyzed type.
+     */
+    @Getter
+    private final ComparedInEqualsMethodBiPredicate comparedInEqualsMethodPredicate;
+
     /**
      * Supplier-like abstraction for simpler unit testing.
      */
     private final BiFunction<List<AccessibilityAwareFieldFinder>, CtType<?>, AccessibleFieldGraphBuilder> graphBuilderSupplier;
 
+    /**
+     * The {@link ProcessorMetrics} the execution times of the {@link ProcessorPhase#GRAPH_BUILDING} and
+     * {@link ProcessorPhase#EQUALS_ANALYSIS} phases are recorded in. Disabled by default.
+     */
+    private ProcessorMetrics metrics;
+
+    /**
+     * The {@link PathBudget} of the built graphs. Unlimited by default.
+     */
+    @Getter
+    private PathBudget pathBudget;
+
+    /**
+     * Specifies if the paths of fields which are not compared in the equals method are only counted instead of
+     * materialized. {@code false} by default.
+     */
+    @Getter
+    private boolean countPaths;
+
     /**
      *
      * @param fieldFinders
@@ -67,9 +116,62 @@ public class AssertionEvaluationBuilder {
      *          of accessible fields which are compared in the equals method of the asserted type, not {@code null}.
      */
     public AssertionEvaluationBuilder(List<AccessibilityAwareFieldFinder> fieldFinders, List<EqualsMethodAnalyzer> equalsMethodAnalyzers) {
+        this(fieldFinders, equalsMethodAnalyzers, new BoundedCache<>(RESULT_CACHE_NAME, DEFAULT_RESULT_CACHE_SIZE));
+    }
+
+    /**
+     *
+     * @param fieldFinders
+     *          A list containing the {@link AccessibilityAwareFieldFinder}s to build the {@link AccessibleFieldGraph}s
+     *          of all accessible fields with, not {@code null}.
+     *
+     * @param equalsMethodAnalyzers
+     *          A list containing the {@link EqualsMethodAnalyzer}s which are used to build the {@link AccessibleFieldGraph}s
+     *          of accessible fields which are compared in the equals method of the asserted type, not {@code null}.
+     *
+     * @param resultCache
+     *          The cache to store the built {@link AssertionEvaluationInformation} instances in, not {@code null}.
+     */
+    public AssertionEvaluationBuilder(List<AccessibilityAwareFieldFinder> fieldFinders, List<EqualsMethodAnalyzer> equalsMethodAnalyzers,
+                                      BoundedCache<Pair<CtTypeReference<?>, AccessContext>, AssertionEvaluationInformation> resultCache) {
+        this.resultCache = Objects.requireNonNull(resultCache, "resultCache cannot be null!");
         this.fieldFinders = fieldFinders;
         this.equalsMethodAnalyzers = equalsMethodAnalyzers;
+        this.comparedInEqualsMethodPredicate = new ComparedInEqualsMethodBiPredicate(equalsMethodAnalyzers, fieldFinders);
         this.graphBuilderSupplier = AccessibleFieldGraphBuilder::new;
+        this.metrics = ProcessorMetrics.disabled();
+        this.pathBudget = PathBudget.UNLIMITED;
+    }
+
+    /**
+     * Only affects the graphs built afterwards. Cached results are not rebuilt.
+     *
+     * @param pathBudget
+     *          The {@link PathBudget} limiting the path enumeration of the built graphs, not {@code null}.
+     */
+    public void setPathBudget(PathBudget pathBudget) {
+        this.pathBudget = Objects.requireNonNull(pathBudget, "pathBudget cannot be null!");
+    }
+
+    /**
+     * Only affects the results built afterwards. Cached results are not rebuilt.
+     *
+     * @param countPaths
+     *          {@code true}, if the paths of fields which are not compared in the equals method should only be
+     *          counted, {@code false} if they should be materialized.
+     */
+    public void setCountPaths(boolean countPaths) {
+        this.countPaths = countPaths;
+    }
+
+    /**
+     *
+     * @param metrics
+     *          The {@link ProcessorMetrics} to record the execution times of the graph building and equals analysis
+     *          in, not {@code null}.
+     */
+    public void setMetrics(ProcessorMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics cannot be null!");
     }
 
     /**
@@ -84,14 +186,34 @@ public class AssertionEvaluationBuilder {
     public AssertionEvaluationInformation build(AbstractAssertion<?> assertion) {
         Objects.requireNonNull(assertion, "The given abstract assertion cannot be null!");
 
-        var assertedTypeRef = assertion.getAssertedExpression()
-                .getType();
+        var assertedTypeRef = resolvableTypeRefOf(assertion.getAssertedExpression()
+                .getType());
         var accessingType = assertion.getOriginTestMethod()
                 .getParent(CtType.class);
 
         return buildAndCacheResult(assertedTypeRef, accessingType);
     }
 
+    /**
+     * The inferred type of a generic method invocation might be a reference to a type parameter whose declaration
+     * is not part of the model, e.g. when the type argument cannot be resolved without a full classpath. Spoon
+     * cannot determine the erasure of such a reference, so {@link Object} is used instead.
+     *
+     * @param typeRef
+     *          The {@link CtTypeReference} of an asserted expression, may be {@code null}.
+     *
+     * @return
+     *          A reference to {@link Object} in case the given {@code typeRef} refers to a type parameter without
+     *          a declaration. The given {@code typeRef} is returned otherwise.
+     */
+    private static CtTypeReference<?> resolvableTypeRefOf(CtTypeReference<?> typeRef) {
+        if(typeRef instanceof CtTypeParameterReference && ((CtTypeParameterReference) typeRef).getDeclaration() == null) {
+            return typeRef.getFactory().Type().objectType();
+        }
+
+        return typeRef;
+    }
+
     /**
      *
      * @param accessingType
@@ -107,10 +229,73 @@ public class AssertionEvaluationBuilder {
         return buildAndCacheResult(typeRef, accessingType);
     }
 
+    /**
+     * Removes all cached results which might have changed because one of the given types changed. A result is
+     * removed when the asserted type, the accessing context or any field, field type or access granting element
+     * of its graphs refers to one of the given types. The fields compared in equals methods are invalidated as well.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the changed types, not {@code null}.
+     *
+     * @return
+     *          The number of removed result cache entries.
+     *
+     * @see ComparedInEqualsMethodBiPredicate#invalidateTypes(Set)
+     */
+    public int invalidateTypes(Set<String> qualifiedTypeNames) {
+        Objects.requireNonNull(qualifiedTypeNames, "qualifiedTypeNames cannot be null!");
+
+        comparedInEqualsMethodPredicate.invalidateTypes(qualifiedTypeNames);
+        return resultCache.removeIf((cacheKey, evaluationInformation) ->
+                qualifiedTypeNames.contains(cacheKey.getLeft().getQualifiedName()) ||
+                cacheKey.getRight().getSuperClassNames().stream().anyMatch(qualifiedTypeNames::contains) ||
+                refersToAnyType(evaluationInformation.getAccessibleFieldsGraph(), qualifiedTypeNames) ||
+                refersToAnyType(evaluationInformation.getAccessibleFieldsUsedInEqualsGraph(), qualifiedTypeNames));
+    }
+
+    /**
+     *
+     * @param graph
+     *          The {@link AccessibleFieldGraph} to check, not {@code null}.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the types to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if a field of any node of the given {@code graph}, its type or one of its access granting
+     *          elements refers to one of the given types. {@code false} is returned otherwise.
+     */
+    private static boolean refersToAnyType(AccessibleFieldGraph graph, Set<String> qualifiedTypeNames) {
+        return graph.getAllNodes().stream()
+                .map(AccessibleFieldGraphNode::getAccessibleField)
+                .anyMatch(accessibleField -> declaredInAnyType(accessibleField.getActualField(), qualifiedTypeNames) ||
+                        qualifiedTypeNames.contains(accessibleField.getActualField().getType().getQualifiedName()) ||
+                        accessibleField.getAccessGrantingElements().stream()
+                                .anyMatch(element -> declaredInAnyType(element, qualifiedTypeNames)));
+    }
+
+    /**
+     *
+     * @param element
+     *          The element to check, not {@code null}.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the types to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the given {@code element} is declared in one of the given types or is not declared
+     *          in any type. {@code false} is returned otherwise.
+     */
+    private static boolean declaredInAnyType(CtElement element, Set<String> qualifiedTypeNames) {
+        var declaringType = element.getParent(CtType.class);
+        return declaringType == null || qualifiedTypeNames.contains(declaringType.getQualifiedName());
+    }
+
     /**
      * This method returns an <i>empty</i> {@link AssertionEvaluationInformation} in case the
      * {@link CtTypeReference#isPrimitive()} method of the given {@code assertedTypeRef} returns {@code true},
-     * since primitive types cannot declare members.
+     * since primitive types cannot declare members. Emits an {@link EvaluationBuildEvent} when the event is enabled
+     * in a running flight recording.
      *
      * @param assertedTypeRef
      *          The {@link CtTypeReference} of the asserted type, not {@code null}.
@@ -119,38 +304,117 @@ public class AssertionEvaluationBuilder {
      *          The {@link CtType} which accesses the fields in the given {@code assertedTypeRef}, not {@code null}.
      *
      * @return
-     *          The cached {@link AssertionEvaluationInformation} instance.
+     *          The cached {@link AssertionEvaluationInformation} instance, which might have been built for another
+     *          accessing type with the same {@link AccessContext}.
      */
     private AssertionEvaluationInformation buildAndCacheResult(CtTypeReference<?> assertedTypeRef, CtType<?> accessingType) {
-        var cacheKey = Pair.of(assertedTypeRef, accessingType);
+        var event = new EvaluationBuildEvent();
+        event.begin();
 
-        if(resultCache.containsKey(cacheKey)) {
-            log.debug("[Cache Hit] Cache contained entry for (asserted type '{}' | accessing type '{}') pair!",
-                    assertedTypeRef.getQualifiedName(), accessingType.getQualifiedName());
-            return resultCache.get(cacheKey);
+        var cacheMiss = new AtomicBoolean();
+        var result = resultCache.get(Pair.of(assertedTypeRef, AccessContext.of(accessingType, assertedTypeRef)), cacheKey -> {
+            cacheMiss.set(true);
+            return buildResult(assertedTypeRef, accessingType);
+        });
+
+        event.end();
+        if(event.shouldCommit()) {
+            event.startingType = assertedTypeRef.getQualifiedName();
+            event.accessingType = accessingType.getQualifiedName();
+            event.nodeCount = result.getAccessibleFieldsGraph().getAllNodes().size();
+            event.pathCount = result.getAccessibleFieldsGraph().getTransitiveReachabilityPathCount();
+            event.pathsNotUsedInEqualsCount = result.getPathCountOfFieldsNotUsedInEquals();
+            event.cacheHit = !cacheMiss.get();
+            event.commit();
         }
 
+        return result;
+    }
+
+    /**
+     *
+     * @param assertedTypeRef
+     *          The {@link CtTypeReference} of the asserted type, not {@code null}.
+     *
+     * @param accessingType
+     *          The {@link CtType} which accesses the fields in the given {@code assertedTypeRef}, not {@code null}.
+     *
+     * @return
+     *          The newly built {@link AssertionEvaluationInformation} instance.
+     */
+    private AssertionEvaluationInformation buildResult(CtTypeReference<?> assertedTypeRef, CtType<?> accessingType) {
+        log.debug("[Cache Miss] Cache did not contain entry for (asserted type '{}' | accessing type '{}') pair!",
+                assertedTypeRef.getQualifiedName(), accessingType.getQualifiedName());
+
         var graphBuilder = graphBuilderSupplier.apply(fieldFinders, accessingType);
+        graphBuilder.setPathBudget(pathBudget);
 
+        var graphBuildingStartTime = metrics.start(ProcessorPhase.GRAPH_BUILDING);
         var accessibleFieldGraph = graphBuilder.buildGraph(assertedTypeRef);
-        var accessibleFieldsUsedInEqualsGraph = graphBuilder.buildGraph(assertedTypeRef,
-                new ComparedInEqualsMethodBiPredicate(equalsMethodAnalyzers, fieldFinders));
-        var pathsOfFieldsNotComparedInEquals = findPathsOfFieldsNotComparedInEquals(accessibleFieldGraph,
-                accessibleFieldsUsedInEqualsGraph);
+        metrics.stop(ProcessorPhase.GRAPH_BUILDING, graphBuildingStartTime);
+        if(metrics.isEnabled()) {
+            metrics.add(ProcessorCounter.GRAPH_NODES, accessibleFieldGraph.getAllNodes().size());
+        }
+
+        var equalsAnalysisStartTime = metrics.start(ProcessorPhase.EQUALS_ANALYSIS);
+        var accessibleFieldsUsedInEqualsGraph = graphBuilder.buildGraph(assertedTypeRef, comparedInEqualsMethodPredicate);
+        Set<Path> pathsOfFieldsNotComparedInEquals = Set.of();
+        long pathCountOfFieldsNotComparedInEquals;
 
-        if(pathsOfFieldsNotComparedInEquals.isEmpty()) {
+        if(countPaths) {
+            pathCountOfFieldsNotComparedInEquals = countPathsOfFieldsNotComparedInEquals(accessibleFieldGraph,
+                    accessibleFieldsUsedInEqualsGraph);
+        } else {
+            pathsOfFieldsNotComparedInEquals = findPathsOfFieldsNotComparedInEquals(accessibleFieldGraph,
+                    accessibleFieldsUsedInEqualsGraph);
+            pathCountOfFieldsNotComparedInEquals = pathsOfFieldsNotComparedInEquals.size();
+        }
+        metrics.stop(ProcessorPhase.EQUALS_ANALYSIS, equalsAnalysisStartTime);
+
+        if(pathCountOfFieldsNotComparedInEquals == 0L) {
             log.info("All {} accessible fields of '{}' are compared in the equals method!",
                     accessibleFieldGraph.getAllNodes().size(), assertedTypeRef.getQualifiedName());
         } else {
-            log.info("{} accessible fields of '{}' and their accessible child fields (if present) are not compared in the equals method!",
-                    assertedTypeRef.getQualifiedName(), pathsOfFieldsNotComparedInEquals.size());
+            log.info("{} paths of accessible fields of '{}' are not compared in the equals method!",
+                    pathCountOfFieldsNotComparedInEquals, assertedTypeRef.getQualifiedName());
         }
 
-        var resultIngEvaluationInformation = new AssertionEvaluationInformation(assertedTypeRef, accessibleFieldGraph,
-                accessibleFieldsUsedInEqualsGraph, pathsOfFieldsNotComparedInEquals);
+        return new AssertionEvaluationInformation(assertedTypeRef, accessibleFieldGraph, accessibleFieldsUsedInEqualsGraph,
+                pathsOfFieldsNotComparedInEquals, pathCountOfFieldsNotComparedInEquals);
+    }
 
-        return cacheResult(resultIngEvaluationInformation, assertedTypeRef, accessingType);
-}
+    /**
+     * Counts the paths instead of materializing them like {@link #findPathsOfFieldsNotComparedInEquals(AccessibleFieldGraph, AccessibleFieldGraph)}
+     * does. Since {@code usedInEqualsGraph} <b>must</b> be a subgraph of {@code accessibleFieldGraph}, the number
+     * of paths not compared in equals is the difference of the path counts of both graphs.
+     *
+     * @param accessibleFieldGraph
+     *          The {@link AccessibleFieldGraph} containing all accessible fields, not {@code null}.
+     *
+     * @param usedInEqualsGraph
+     *          The {@link AccessibleFieldGraph} containing all accessible fields which are also compared
+     *          in the equals method of the {@link AccessibleFieldGraph#getDescribedTypeRef()}, not {@code null}.
+     *          <b>Must</b> be a subgraph of the given {@code accessibleFieldGraph}.
+     *
+     * @return
+     *          The number of paths which are present in the given {@code accessibleFieldGraph}, but not in
+     *          the given {@code usedInEqualsGraph}.
+     *
+     * @see AccessibleFieldGraph#getTransitiveReachabilityPathCount()
+     */
+    private long countPathsOfFieldsNotComparedInEquals(AccessibleFieldGraph accessibleFieldGraph, AccessibleFieldGraph usedInEqualsGraph) {
+        if(accessibleFieldGraph.equals(usedInEqualsGraph) || accessibleFieldGraph.getRootNodes().isEmpty()) {
+            return 0L;
+        }
+
+        // the single empty path of a graph without root nodes is not a path of the non-empty graph
+        var pathCountUsedInEquals = usedInEqualsGraph.getRootNodes().isEmpty() ? 0L :
+                usedInEqualsGraph.getTransitiveReachabilityPathCount();
+
+        // the difference is only a lower bound in case the count of all paths is saturated, which marks the
+        // graph as approximate
+        return Math.max(0L, accessibleFieldGraph.getTransitiveReachabilityPathCount() - pathCountUsedInEquals);
+    }
 
     /**
      * Since {@code usedInEqualsGraph} ({@code B}) <b>must</b> be a subgraph of {@code accessibleFieldGraph} ({@code A}),
@@ -183,27 +447,4 @@ public class AssertionEvaluationBuilder {
         return allPaths;
     }
 
-    /**
-     * Puts the given {@link AssertionEvaluationInformation} result in the {@link #resultCache} Map overriding
-     * any previous value.
-     *
-     * @param result
-     *          The {@link AssertionEvaluationInformation} which was built by the {@link #buildAndCacheResult(CtTypeReference, CtType)}
-     *          with the given {@code assertedTypeRef} and {@code accessingType}, not {@code null}.
-     *
-     * @param assertedTypeRef
-     *          The {@link CtTypeReference} of the asserted type, not {@code null}.
-     *
-     * @param accessingType
-     *          The {@link CtType} which accesses the fields in the given {@code assertedTypeRef}, not {@code null}.
-     *
-     * @return
-     *          The given {@code result}.
-     */
-    private AssertionEvaluationInformation cacheResult(AssertionEvaluationInformation result, CtTypeReference<?> assertedTypeRef,
-                                                       CtType<?> accessingType) {
-        resultCache.put(Pair.of(assertedTypeRef, accessingType), result);
-        return result;
-    }
-
 }
@@ -4,6 +4,8 @@ import de.adesso.objectfieldcoverage.api.AccessibilityAwareFieldFinder;
 import de.adesso.objectfieldcoverage.api.AccessibleField;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraphNode;
+import de.adesso.objectfieldcoverage.api.evaluation.graph.PathBudget;
+import de.adesso.objectfieldcoverage.api.evaluation.jfr.GraphBuildEvent;
 import de.adesso.objectfieldcoverage.core.finder.AccessibilityAwareFieldFinderChain;
 import lombok.extern.slf4j.Slf4j;
 import spoon.reflect.declaration.CtField;
@@ -42,18 +44,27 @@ public class AccessibleFieldGraphBuilder {
      * A map which maps a {@link CtTypeReference} to a set of {@link AccessibleFieldGraphNode child nodes} which
      * have been discovered to be accessible from the {@link #accessingType}. Contains cached results
      * to increase performance. Once a {@link CtTypeReference} is added to this map the corresponding
-     * set does not need to be modified.
+     * set does not need to be modified. Cleared at the start of every build process.
      */
     private final Map<CtTypeReference<?>, Set<AccessibleFieldGraphNode>> typeRefToChildNodesMap;
 
     /**
-     * A map which maps the {@link CtTypeReference} of a {@link CtField} to the {@link AccessibleFieldGraphNode nodes}
-     * which were created for {@link CtField}s with the same {@link CtType}. Used to add newly discovered child nodes
+     * A map which maps the {@link #typeErasureOf(CtTypeReference) type erasure} of the {@link CtTypeReference} of a
+     * {@link CtField} to the {@link AccessibleFieldGraphNode nodes} which were created for {@link CtField}s with the
+     * same {@link CtType}. The erasure is used, since the types are processed by their erasure, so the nodes of a
+     * field of a generic type receive their child nodes as well. Used to add newly discovered child nodes
      * to all affected nodes at once. Uses the {@link CtTypeReference} to support {@link AccessibleFieldGraphNode nodes}
-     * which have been generated for types of which the {@link CtType} is not available.
+     * which have been generated for types of which the {@link CtType} is not available. The sets compare the nodes
+     * by identity, since {@link CtField}s declared in different types might be equal and nodes which were not added
+     * would neither receive their child nodes nor be frozen. Cleared at the start of every build process.
      */
     private final Map<CtTypeReference<?>, Set<AccessibleFieldGraphNode>> typeRefToNodesMap;
 
+    /**
+     * The {@link PathBudget} of the built graphs.
+     */
+    private PathBudget pathBudget = PathBudget.UNLIMITED;
+
     /**
      *
      * @param fieldFinders
@@ -75,6 +86,15 @@ public class AccessibleFieldGraphBuilder {
         this.typeRefToNodesMap = new HashMap<>();
     }
 
+    /**
+     *
+     * @param pathBudget
+     *          The {@link PathBudget} limiting the path enumeration of the graphs built afterwards, not {@code null}.
+     */
+    public void setPathBudget(PathBudget pathBudget) {
+        this.pathBudget = Objects.requireNonNull(pathBudget, "pathBudget cannot be null!");
+    }
+
     /**
      * @param typeRefContainingFieldsToAccess
      *          The {@link CtTypeReference} to start the graph building process at, not {@code null}.
@@ -112,7 +132,8 @@ public class AccessibleFieldGraphBuilder {
 
     /**
      * Pseudo fields are primitive type fields by definition, so no further analysis is performed when a
-     * pseudo field is reached.
+     * pseudo field is reached. All nodes of the resulting graph are {@link AccessibleFieldGraphNode#freeze() frozen}.
+     * Emits a {@link GraphBuildEvent} when the event is enabled in a running flight recording.
      *
      * @param startingPoint
      *          The {@link CtTypeReference} which will be the first reference of a type to analyze for accessible fields,
@@ -127,9 +148,17 @@ public class AccessibleFieldGraphBuilder {
      *          The resulting {@link AccessibleFieldGraph}.
      */
     private AccessibleFieldGraph buildGraphInternal(CtTypeReference<?> startingPoint, BiPredicate<AccessibleField<?>, CtTypeReference<?>> fieldFilter) {
+        var event = new GraphBuildEvent();
+        event.begin();
+
         log.info("Starting graph build process (starting type: '{}', accessing type: '{}')!",
                 startingPoint.getQualifiedName(), accessingType.getQualifiedName());
 
+        // the nodes of previously built graphs are frozen and must not
+        // be modified or reused by the current build process
+        typeRefToChildNodesMap.clear();
+        typeRefToNodesMap.clear();
+
         var isFirstLoop = true;
         var processedFieldDeclaringTypes = new HashSet<CtTypeReference<?>>();
         var fieldDeclaringTypeProcessingQueue = new LinkedList<CtTypeReference<?>>();
@@ -179,7 +208,7 @@ public class AccessibleFieldGraphBuilder {
         // set children nodes in each created node at the end of the process so no
         // update is required in the meantime. pseudo fields do not have child nodes by definition
         processedFieldDeclaringTypes.forEach(processedFieldDeclaringType -> {
-            var existingNodesForCurrentTypeRef = typeRefToNodesMap.getOrDefault(processedFieldDeclaringType, Set.of());
+            var existingNodesForCurrentTypeRef = typeRefToNodesMap.getOrDefault(typeErasureOf(processedFieldDeclaringType), Set.of());
             var childNodesForCurrentTypeRef = typeRefToChildNodesMap.getOrDefault(processedFieldDeclaringType, Set.of());
 
             existingNodesForCurrentTypeRef.stream()
@@ -187,11 +216,43 @@ public class AccessibleFieldGraphBuilder {
                     .forEach(node -> node.addChildren(childNodesForCurrentTypeRef));
         });
 
+        typeRefToNodesMap.values().stream()
+                .flatMap(Set::stream)
+                .forEach(AccessibleFieldGraphNode::freeze);
+
+        var nodeCount = typeRefToNodesMap.values().stream().mapToInt(Set::size).sum();
         log.info("Finished graph build process (starting type: '{}', accessing type: '{}')! The resulting tree has " +
                         "{} root node(s) and {} node(s) in total!", startingPoint.getQualifiedName(), accessingType.getQualifiedName(),
-                rootNodes.size(), typeRefToNodesMap.values().stream().mapToInt(Set::size).sum());
+                rootNodes.size(), nodeCount);
+
+        var graph = new AccessibleFieldGraph(rootNodes, startingPoint, accessingType.getReference(), pathBudget);
+
+        event.end();
+        if(event.shouldCommit()) {
+            event.startingType = startingPoint.getQualifiedName();
+            event.accessingType = accessingType.getQualifiedName();
+            event.rootNodeCount = rootNodes.size();
+            event.nodeCount = nodeCount;
+            // the count is cached by the graph, so it is not counted again when it is required later on
+            event.pathCount = graph.getTransitiveReachabilityPathCount();
+            event.commit();
+        }
+
+        return graph;
+    }
 
-        return new AccessibleFieldGraph(rootNodes, startingPoint, accessingType.getReference());
+    /**
+     *
+     * @param typeRef
+     *          The {@link CtTypeReference} to get the erasure of, not {@code null}.
+     *
+     * @return
+     *          The type erasure of the given {@code typeRef} or the given {@code typeRef} itself, in case the erasure
+     *          cannot be determined.
+     */
+    private static CtTypeReference<?> typeErasureOf(CtTypeReference<?> typeRef) {
+        var typeErasure = typeRef.getTypeErasure();
+        return typeErasure != null ? typeErasure : typeRef;
     }
 
     /**
@@ -210,14 +271,10 @@ public class AccessibleFieldGraphBuilder {
     private Set<AccessibleFieldGraphNode> createNewNodes(Set<AccessibleField<?>> accessibleFields) {
         return accessibleFields.stream()
                 .map(accessibleField -> {
-                    var actualFieldTypeReference = accessibleField.getActualField().getType();
+                    var actualFieldTypeReference = typeErasureOf(accessibleField.getActualField().getType());
                     var nodeToAdd = AccessibleFieldGraphNode.of(accessibleField);
 
-                    if(!typeRefToNodesMap.containsKey(actualFieldTypeReference)) {
-                        typeRefToNodesMap.put(actualFieldTypeReference, new HashSet<>());
-                    }
-
-                    typeRefToNodesMap.get(actualFieldTypeReference)
+                    typeRefToNodesMap.computeIfAbsent(actualFieldTypeReference, typeRef -> Collections.newSetFromMap(new IdentityHashMap<>()))
                             .add(nodeToAdd);
 
                     return nodeToAdd;
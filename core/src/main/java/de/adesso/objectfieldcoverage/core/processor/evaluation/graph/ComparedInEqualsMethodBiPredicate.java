@@ -3,17 +3,22 @@ package de.adesso.objectfieldcoverage.core.processor.evaluation.graph;
 import de.adesso.objectfieldcoverage.api.AccessibilityAwareFieldFinder;
 import de.adesso.objectfieldcoverage.api.AccessibleField;
 import de.adesso.objectfieldcoverage.api.EqualsMethodAnalyzer;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.cache.InspectableCache;
 import de.adesso.objectfieldcoverage.core.analyzer.IterativeEqualsMethodAnalyzer;
+import de.adesso.objectfieldcoverage.core.cache.BoundedCache;
 import de.adesso.objectfieldcoverage.core.finder.AccessibilityAwareFieldFinderChain;
 import de.adesso.objectfieldcoverage.core.util.TypeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtField;
 import spoon.reflect.declaration.CtType;
 import spoon.reflect.reference.CtTypeReference;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -23,10 +28,24 @@ import java.util.stream.Collectors;
  * {@link BiPredicate} implementation which can be used to build a subgraph of a {@link de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph}
  * which only includes {@link AccessibleField}s which are compared in the {@link Object#equals(Object)} method
  * of corresponding {@link CtType}.
+ * <p/>
+ * The fields compared in the equals method of a type are only analyzed once per type and cached afterwards, so
+ * an instance should be reused for building multiple graphs. The cache holds at most
+ * {@value #COMPARED_FIELDS_CACHE_SIZE} types.
  */
 @Slf4j
 @RequiredArgsConstructor
-public class ComparedInEqualsMethodBiPredicate implements BiPredicate<AccessibleField<?>, CtTypeReference<?>> {
+public class ComparedInEqualsMethodBiPredicate implements BiPredicate<AccessibleField<?>, CtTypeReference<?>>, InspectableCache {
+
+    /**
+     * The name of the {@link #comparedFieldsCache} used in its {@link CacheStatistics}.
+     */
+    public static final String COMPARED_FIELDS_CACHE_NAME = "comparedInEqualsFields";
+
+    /**
+     * The maximum number of entries of the {@link #comparedFieldsCache}.
+     */
+    private static final int COMPARED_FIELDS_CACHE_SIZE = 1000;
 
     /**
      * The {@link EqualsMethodAnalyzer}s which are used to filter out {@link AccessibleField}s which
@@ -40,6 +59,13 @@ public class ComparedInEqualsMethodBiPredicate implements BiPredicate<Accessible
      */
     private final List<AccessibilityAwareFieldFinder> fieldFinders;
 
+    /**
+     * A cache which maps the {@link CtTypeReference} of an analyzed class to the {@link CtField}s which are
+     * compared in the equals method of the class or one of its superclasses.
+     */
+    private final BoundedCache<CtTypeReference<?>, Set<CtField<?>>> comparedFieldsCache =
+            new BoundedCache<>(COMPARED_FIELDS_CACHE_NAME, COMPARED_FIELDS_CACHE_SIZE);
+
     /**
      * @implNote The given {@link CtType} is expected to be a {@link CtClass} instance.
      *
@@ -65,15 +91,81 @@ public class ComparedInEqualsMethodBiPredicate implements BiPredicate<Accessible
             return false;
         }
 
-        var superClassesIncludingClass = TypeUtils.findExplicitSuperClassesIncludingClass(originTypeRef);
+        return comparedFieldsCache.get(originTypeRef, this::findFieldsComparedInEquals)
+                .contains(accessibleField.getActualField());
+    }
+
+    /**
+     * Removes the cached fields of all classes which are one of the given types, extend one of the given types or
+     * whose compared fields are declared in one of the given types, since their equals methods or fields might have
+     * changed.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the changed types, not {@code null}.
+     *
+     * @return
+     *          The number of removed cache entries.
+     */
+    public int invalidateTypes(Set<String> qualifiedTypeNames) {
+        Objects.requireNonNull(qualifiedTypeNames, "qualifiedTypeNames cannot be null!");
+
+        return comparedFieldsCache.removeIf((classRef, comparedFields) ->
+                extendsAnyType(classRef, qualifiedTypeNames) || comparedFields.stream()
+                        .map(CtField::getDeclaringType)
+                        .anyMatch(declaringType -> declaringType == null ||
+                                qualifiedTypeNames.contains(declaringType.getQualifiedName())));
+    }
+
+    /**
+     *
+     * @param classRef
+     *          The class reference to check, not {@code null}.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the types to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the given {@code classRef} or one of its explicit superclasses is one of the given
+     *          types or its superclasses cannot be resolved anymore. {@code false} is returned otherwise.
+     */
+    private static boolean extendsAnyType(CtTypeReference<?> classRef, Set<String> qualifiedTypeNames) {
+        try {
+            return TypeUtils.findExplicitSuperClassesIncludingClass(classRef).stream()
+                    .map(CtTypeReference::getQualifiedName)
+                    .anyMatch(qualifiedTypeNames::contains);
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          A snapshot of the statistics of the cache containing the fields compared in the equals method of
+     *          each analyzed class.
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        return comparedFieldsCache.getStatistics();
+    }
+
+    /**
+     *
+     * @param classRef
+     *          The {@link CtTypeReference} of the class to analyze, not {@code null}.
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the {@link CtField}s which are compared in the equals method
+     *          of the given {@code classRef} or one of its superclasses.
+     */
+    private Set<CtField<?>> findFieldsComparedInEquals(CtTypeReference<?> classRef) {
+        var superClassesIncludingClass = TypeUtils.findExplicitSuperClassesIncludingClass(classRef);
         var aggregatingFieldFinderChain = new AccessibilityAwareFieldFinderChain(fieldFinders);
         Map<CtTypeReference<?>, Set<AccessibleField<?>>> accessibleFieldsInSuperTypes = superClassesIncludingClass.stream()
                 .collect(Collectors.toMap(Function.identity(), c -> Set.copyOf(aggregatingFieldFinderChain.findAccessibleFields(c.getTypeDeclaration(), c))));
 
-        var accessibleFields = new IterativeEqualsMethodAnalyzer(equalsMethodAnalyzers)
-                    .findAccessibleFieldsUsedInEquals(originTypeRef, Set.of(accessibleField), accessibleFieldsInSuperTypes);
-
-        return !accessibleFields.isEmpty();
+        return new IterativeEqualsMethodAnalyzer(equalsMethodAnalyzers)
+                .findFieldsComparedInEquals(classRef, accessibleFieldsInSuperTypes);
     }
 
 }
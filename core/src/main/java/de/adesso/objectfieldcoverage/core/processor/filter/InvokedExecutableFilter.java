@@ -1,15 +1,12 @@
 package de.adesso.objectfieldcoverage.core.processor.filter;
 
+import de.adesso.objectfieldcoverage.core.processor.util.InvocationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import spoon.reflect.code.CtAbstractInvocation;
 import spoon.reflect.declaration.CtExecutable;
 import spoon.reflect.declaration.CtMethod;
-import spoon.reflect.reference.CtExecutableReference;
-import spoon.reflect.visitor.filter.TypeFilter;
 
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -56,11 +53,9 @@ public class InvokedExecutableFilter implements Predicate<CtExecutable<?>> {
      */
     private void initInvokedExecutables() {
         this.invokedExecutables = methodsToFindInvocationsIn.stream()
-                .map(method -> method.getElements(new TypeFilter<CtAbstractInvocation<?>>(CtAbstractInvocation.class)))
+                .map(InvocationIndex::of)
+                .map(InvocationIndex::getInvokedExecutables)
                 .flatMap(Collection::stream)
-                .map(CtAbstractInvocation::getExecutable)
-                .map(CtExecutableReference::getDeclaration)
-                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
         if(log.isDebugEnabled()) {
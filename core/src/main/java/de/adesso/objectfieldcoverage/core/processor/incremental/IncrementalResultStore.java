@@ -0,0 +1,608 @@
+package de.adesso.objectfieldcoverage.core.processor.incremental;
+
+import de.adesso.objectfieldcoverage.core.util.HashUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.math3.fraction.Fraction;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtElement;
+import spoon.reflect.declaration.CtExecutable;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.factory.Factory;
+import spoon.reflect.reference.CtTypeReference;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local store for the coverage results of test classes, which allows to only process the test classes whose
+ * dependencies changed since the last run.
+ * <p/>
+ * For each processed test class the store records a fingerprint of every element the result of the test class
+ * depends on, namely the test class itself, the invoked helper methods, the target executables and the types which
+ * are walked when building the accessible field graphs of the returned types, including their superclasses. Since the
+ * fingerprint of a type covers its whole source code, the equals methods consulted when building the graphs are
+ * covered by the fingerprints of their declaring types. The stored results of a test class are only reused when the
+ * current fingerprints of all of its dependencies match the recorded ones.
+ *
+ * @implNote The fingerprint of an element is the SHA-256 hash of its original source code. Elements which are not
+ * declared in a source file (e.g. types on the classpath or types generated during the analysis) are not recorded,
+ * so changes to the classpath do not invalidate the stored results. The store is discarded as a whole when it was
+ * written with a different configuration.
+ */
+@Slf4j
+public class IncrementalResultStore {
+
+    /**
+     * The first line of every store file.
+     */
+    private static final String HEADER = "# object-field-coverage incremental results v2";
+
+    /**
+     * The prefix of the line containing the configuration the store was written with.
+     */
+    private static final String CONFIGURATION_PREFIX = "configuration";
+
+    /**
+     * The prefix of the line which starts the entry of a test class.
+     */
+    private static final String CLASS_PREFIX = "class";
+
+    /**
+     * The prefix of a line containing a dependency of a test class and its fingerprint.
+     */
+    private static final String DEPENDENCY_PREFIX = "dependency";
+
+    /**
+     * The prefix of a line containing a coverage result of a test class.
+     */
+    private static final String COVERAGE_PREFIX = "coverage";
+
+    /**
+     * The prefix of the line marking the coverage results of a test class as approximated.
+     */
+    private static final String APPROXIMATE_PREFIX = "approximate";
+
+    /**
+     * The separator between the columns of a line.
+     */
+    private static final String COLUMN_SEPARATOR = "\t";
+
+    /**
+     * The separator between the type and the signature in the key of an executable dependency.
+     */
+    private static final String EXECUTABLE_KEY_SEPARATOR = "#";
+
+    /**
+     * The separator between the name of a top level type and the name of a nested, local or anonymous type in
+     * the qualified name of the type.
+     */
+    private static final String NESTED_TYPE_SEPARATOR = "$";
+
+    /**
+     * The file the store is loaded from and saved to.
+     */
+    @Getter
+    private final Path storeFile;
+
+    /**
+     * The configuration of the analysis. Stored results are only reused when they were written with the same
+     * configuration.
+     */
+    @Getter
+    private final String configuration;
+
+    /**
+     * A map which maps the qualified name of a test class to its stored entry.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * A map which maps the qualified name of a test class which is currently processed to its recorded dependencies.
+     */
+    private final Map<String, Map<String, String>> recordedDependencies = new ConcurrentHashMap<>();
+
+    /**
+     * A map which maps the key of a dependency to its fingerprint in the current model, so the fingerprint of a
+     * dependency shared between multiple test classes is only computed once per run.
+     */
+    private final Map<String, Optional<String>> currentFingerprints = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param storeFile
+     *          The file the store is loaded from and saved to, not {@code null}.
+     *
+     * @param configuration
+     *          The configuration of the analysis, not {@code null}. Must not contain line breaks.
+     */
+    private IncrementalResultStore(Path storeFile, String configuration) {
+        this.storeFile = storeFile;
+        this.configuration = configuration;
+    }
+
+    /**
+     *
+     * @param storeFile
+     *          The file to load the store from, not {@code null}. Does not need to exist.
+     *
+     * @param configuration
+     *          The configuration of the analysis, not {@code null}. Must not contain line breaks.
+     *
+     * @return
+     *          The store containing the entries of the given {@code storeFile}. The store is empty in case the given
+     *          {@code storeFile} does not exist, could not be read or was written with a different
+     *          {@code configuration}.
+     */
+    public static IncrementalResultStore load(Path storeFile, String configuration) {
+        Objects.requireNonNull(storeFile, "storeFile cannot be null!");
+        Objects.requireNonNull(configuration, "configuration cannot be null!");
+
+        var store = new IncrementalResultStore(storeFile, configuration);
+
+        if(!Files.isRegularFile(storeFile)) {
+            log.info("Incremental result store '{}' does not exist yet!", storeFile);
+            return store;
+        }
+
+        try(var reader = Files.newBufferedReader(storeFile, StandardCharsets.UTF_8)) {
+            store.readEntries(reader);
+            log.info("Loaded {} entries from incremental result store '{}'!", store.entries.size(), storeFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Incremental result store '{}' could not be read and is ignored!", storeFile, e);
+            store.entries.clear();
+        }
+
+        return store;
+    }
+
+    /**
+     *
+     * @param testClass
+     *          The test class to find the results of, not {@code null}.
+     *
+     * @return
+     *          An optional containing the stored coverage results of the given {@code testClass} in case the current
+     *          fingerprints of all its recorded dependencies match the stored ones. An empty optional is returned
+     *          otherwise.
+     */
+    public Optional<List<Fraction>> findUpToDateCoverages(CtClass<?> testClass) {
+        var entry = entries.get(testClass.getQualifiedName());
+
+        if(entry == null) {
+            return Optional.empty();
+        }
+
+        var factory = testClass.getFactory();
+        for(var dependency : entry.getDependencyFingerprints().entrySet()) {
+            var currentFingerprint = currentFingerprints.computeIfAbsent(dependency.getKey(),
+                    key -> resolveDependency(key, factory).map(IncrementalResultStore::fingerprintOf));
+
+            if(!currentFingerprint.equals(Optional.of(dependency.getValue()))) {
+                log.debug("Dependency '{}' of test class '{}' changed!", dependency.getKey(), testClass.getQualifiedName());
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(entry.getCoverages());
+    }
+
+    /**
+     *
+     * @param testClass
+     *          The test class to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the stored coverage results of the given {@code testClass} are approximated, because
+     *          the path budget was exceeded. {@code false} is returned otherwise or when no results are stored.
+     */
+    public boolean hasApproximateCoverages(CtClass<?> testClass) {
+        var entry = entries.get(testClass.getQualifiedName());
+        return entry != null && entry.isApproximate();
+    }
+
+    /**
+     * Records the given {@code type} and its superclasses as a dependency of the given {@code testClass}.
+     *
+     * @param testClass
+     *          The test class to record the dependency for, not {@code null}.
+     *
+     * @param typeRef
+     *          The reference of the type to record, not {@code null}. Ignored when the type is not declared in a
+     *          source file.
+     */
+    public void recordTypeDependency(CtClass<?> testClass, CtTypeReference<?> typeRef) {
+        var currentTypeRef = typeRef;
+
+        while(currentTypeRef != null) {
+            var type = currentTypeRef.getDeclaration();
+
+            if(type == null || !isDeclaredInSourceFile(type)) {
+                return;
+            }
+
+            recordDependency(testClass, typeKey(type), type);
+            currentTypeRef = type.getSuperclass();
+        }
+    }
+
+    /**
+     *
+     * @param testClass
+     *          The test class to record the dependency for, not {@code null}.
+     *
+     * @param executable
+     *          The executable to record, not {@code null}. Ignored when the executable is not declared in a
+     *          source file.
+     */
+    public void recordExecutableDependency(CtClass<?> testClass, CtExecutable<?> executable) {
+        var declaringType = executable.getParent(CtType.class);
+
+        if(declaringType == null || !isDeclaredInSourceFile(executable)) {
+            return;
+        }
+
+        recordDependency(testClass, executableKey(declaringType, executable), executable);
+    }
+
+    /**
+     * Stores the given {@code coverages} together with all dependencies recorded for the given {@code testClass}.
+     * Replaces the previous entry of the test class.
+     *
+     * @param testClass
+     *          The test class to store the results of, not {@code null}.
+     *
+     * @param coverages
+     *          The coverage results of the given {@code testClass}, not {@code null}.
+     *
+     * @param approximate
+     *          Specifies if the given {@code coverages} are approximated, because the path budget was exceeded.
+     */
+    public void storeCoverages(CtClass<?> testClass, List<Fraction> coverages, boolean approximate) {
+        var qualifiedName = testClass.getQualifiedName();
+        var dependencies = recordedDependencies.remove(qualifiedName);
+
+        entries.put(qualifiedName, new Entry(dependencies != null ? dependencies : Map.of(), List.copyOf(coverages),
+                approximate));
+    }
+
+    /**
+     * Removes the entries of all test classes which are not declared in a source file of the current model anymore,
+     * so the entries of deleted or renamed test classes do not accumulate in the store.
+     *
+     * @param factory
+     *          The factory of the current model, not {@code null}.
+     */
+    public void removeEntriesOfMissingTestClasses(Factory factory) {
+        Objects.requireNonNull(factory, "factory cannot be null!");
+
+        entries.keySet().removeIf(qualifiedName -> {
+            var testClassMissing = resolveType(qualifiedName, factory)
+                    .filter(CtClass.class::isInstance)
+                    .filter(IncrementalResultStore::isDeclaredInSourceFile)
+                    .isEmpty();
+
+            if(testClassMissing) {
+                log.debug("Removing entry of missing test class '{}'!", qualifiedName);
+            }
+
+            return testClassMissing;
+        });
+    }
+
+    /**
+     * Writes the store to a temporary file first, which is then moved to the {@link #getStoreFile() store file}, so
+     * an interrupted run never leaves a partially written store behind.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while writing the store.
+     */
+    public void save() {
+        try {
+            var storeDirectory = storeFile.toAbsolutePath().getParent();
+            Files.createDirectories(storeDirectory);
+
+            var temporaryFile = Files.createTempFile(storeDirectory, "results", ".tmp");
+            try(var writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                writeEntries(writer);
+            }
+
+            Files.move(temporaryFile, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} entries to incremental result store '{}'!", entries.size(), storeFile);
+        } catch (IOException e) {
+            log.error("Error saving incremental result store '{}'!", storeFile);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cached fingerprint of the given {@code key} is replaced with the fingerprint of the given {@code element}
+     * in case the key could not be resolved when the stored results were checked.
+     *
+     * @param testClass
+     *          The test class to record the dependency for, not {@code null}.
+     *
+     * @param key
+     *          The key of the dependency, not {@code null}.
+     *
+     * @param element
+     *          The element the given {@code key} belongs to, not {@code null}.
+     */
+    private void recordDependency(CtClass<?> testClass, String key, CtElement element) {
+        var fingerprint = currentFingerprints.compute(key, (k, cachedFingerprint) ->
+                cachedFingerprint != null && cachedFingerprint.isPresent() ? cachedFingerprint : Optional.of(fingerprintOf(element)));
+
+        recordedDependencies.computeIfAbsent(testClass.getQualifiedName(), qualifiedName -> new ConcurrentHashMap<>())
+                .put(key, fingerprint.orElseThrow());
+    }
+
+    /**
+     *
+     * @param reader
+     *          The reader to read the entries from, not {@code null}.
+     *
+     * @throws IOException
+     *          When an error occurs while reading.
+     *
+     * @throws IllegalStateException
+     *          When the store is malformed.
+     */
+    private void readEntries(BufferedReader reader) throws IOException {
+        if(!HEADER.equals(reader.readLine())) {
+            throw new IllegalStateException("The store does not start with the expected header!");
+        }
+
+        var configurationColumns = reader.readLine().split(COLUMN_SEPARATOR, 2);
+        if(configurationColumns.length != 2 || !CONFIGURATION_PREFIX.equals(configurationColumns[0])) {
+            throw new IllegalStateException("The store does not contain a configuration!");
+        }
+
+        if(!configuration.equals(configurationColumns[1])) {
+            log.info("Incremental result store was written with a different configuration and is discarded!");
+            return;
+        }
+
+        String currentClass = null;
+        Map<String, String> currentDependencies = null;
+        List<Fraction> currentCoverages = null;
+
+        String line;
+        while((line = reader.readLine()) != null) {
+            var columns = line.split(COLUMN_SEPARATOR);
+
+            switch (columns[0]) {
+                case CLASS_PREFIX:
+                    currentClass = columns[1];
+                    currentDependencies = new HashMap<>();
+                    currentCoverages = new ArrayList<>();
+                    entries.put(currentClass, new Entry(currentDependencies, currentCoverages, false));
+                    break;
+                case DEPENDENCY_PREFIX:
+                    Objects.requireNonNull(currentDependencies, "Dependency line before first class line!")
+                            .put(columns[1], columns[2]);
+                    break;
+                case COVERAGE_PREFIX:
+                    Objects.requireNonNull(currentCoverages, "Coverage line before first class line!")
+                            .add(new Fraction(Integer.parseInt(columns[1]), Integer.parseInt(columns[2])));
+                    break;
+                case APPROXIMATE_PREFIX:
+                    Objects.requireNonNull(currentClass, "Approximate line before first class line!");
+                    entries.put(currentClass, new Entry(currentDependencies, currentCoverages, true));
+                    break;
+                default:
+                    throw new IllegalStateException(String.format("Unexpected line '%s'!", line));
+            }
+        }
+    }
+
+    /**
+     *
+     * @param writer
+     *          The writer to write the entries to, not {@code null}.
+     *
+     * @throws IOException
+     *          When an error occurs while writing.
+     */
+    private void writeEntries(Writer writer) throws IOException {
+        writer.write(HEADER + "\n");
+        writer.write(CONFIGURATION_PREFIX + COLUMN_SEPARATOR + configuration + "\n");
+
+        for(var classEntry : new TreeMap<>(entries).entrySet()) {
+            writer.write(CLASS_PREFIX + COLUMN_SEPARATOR + classEntry.getKey() + "\n");
+
+            for(var dependency : new TreeMap<>(classEntry.getValue().getDependencyFingerprints()).entrySet()) {
+                writer.write(DEPENDENCY_PREFIX + COLUMN_SEPARATOR + dependency.getKey() + COLUMN_SEPARATOR
+                        + dependency.getValue() + "\n");
+            }
+
+            for(var coverage : classEntry.getValue().getCoverages()) {
+                writer.write(COVERAGE_PREFIX + COLUMN_SEPARATOR + coverage.getNumerator() + COLUMN_SEPARATOR
+                        + coverage.getDenominator() + "\n");
+            }
+
+            if(classEntry.getValue().isApproximate()) {
+                writer.write(APPROXIMATE_PREFIX + "\n");
+            }
+        }
+    }
+
+    /**
+     *
+     * @param key
+     *          The key of the dependency to resolve, not {@code null}.
+     *
+     * @param factory
+     *          The factory of the current model, not {@code null}.
+     *
+     * @return
+     *          An optional containing the element the given {@code key} identifies in the current model or an empty
+     *          optional in case the model does not contain such an element which is declared in a source file.
+     */
+    private static Optional<CtElement> resolveDependency(String key, Factory factory) {
+        var separatorIndex = key.indexOf(EXECUTABLE_KEY_SEPARATOR);
+        var typeName = separatorIndex == -1 ? key : key.substring(0, separatorIndex);
+
+        var optionalType = resolveType(typeName, factory);
+        if(optionalType.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var type = optionalType.get();
+
+        if(separatorIndex == -1) {
+            return Optional.<CtElement>of(type)
+                    .filter(IncrementalResultStore::isDeclaredInSourceFile);
+        }
+
+        var signature = key.substring(separatorIndex + 1);
+        return type.getTypeMembers().stream()
+                .filter(CtExecutable.class::isInstance)
+                .map(CtExecutable.class::cast)
+                .filter(executable -> signature.equals(executable.getSignature()))
+                .<CtElement>map(executable -> executable)
+                .filter(IncrementalResultStore::isDeclaredInSourceFile)
+                .findFirst();
+    }
+
+    /**
+     *
+     * @param qualifiedName
+     *          The qualified name of the type to resolve, not {@code null}.
+     *
+     * @param factory
+     *          The factory of the current model, not {@code null}.
+     *
+     * @return
+     *          An optional containing the type with the given {@code qualifiedName} or an empty optional in case the
+     *          model does not contain such a type. Local and anonymous types (e.g. {@code Outer$1}), which cannot be
+     *          looked up by their qualified name, are searched in their top level type.
+     */
+    private static Optional<CtType<?>> resolveType(String qualifiedName, Factory factory) {
+        CtType<?> type = factory.Type().get(qualifiedName);
+        if(type != null) {
+            return Optional.of(type);
+        }
+
+        var separatorIndex = qualifiedName.indexOf(NESTED_TYPE_SEPARATOR);
+        if(separatorIndex == -1) {
+            return Optional.empty();
+        }
+
+        CtType<?> topLevelType = factory.Type().get(qualifiedName.substring(0, separatorIndex));
+        if(topLevelType == null) {
+            return Optional.empty();
+        }
+
+        return topLevelType.getElements(new TypeFilter<CtType<?>>(CtType.class)).stream()
+                .filter(nestedType -> qualifiedName.equals(nestedType.getQualifiedName()))
+                .findFirst();
+    }
+
+    /**
+     *
+     * @param type
+     *          The type to get the key of, not {@code null}.
+     *
+     * @return
+     *          The key of the given {@code type}, which is its qualified name.
+     */
+    private static String typeKey(CtType<?> type) {
+        return type.getQualifiedName();
+    }
+
+    /**
+     *
+     * @param declaringType
+     *          The type the given {@code executable} is declared in, not {@code null}.
+     *
+     * @param executable
+     *          The executable to get the key of, not {@code null}.
+     *
+     * @return
+     *          The key of the given {@code executable}, which is the qualified name of its declaring type and its
+     *          signature separated by {@value #EXECUTABLE_KEY_SEPARATOR}.
+     */
+    private static String executableKey(CtType<?> declaringType, CtExecutable<?> executable) {
+        return typeKey(declaringType) + EXECUTABLE_KEY_SEPARATOR + executable.getSignature();
+    }
+
+    /**
+     *
+     * @param element
+     *          The element to check, not {@code null}.
+     *
+     * @return
+     *          {@code true}, if the given {@code element} has a valid position in a source file. {@code false} is
+     *          returned otherwise.
+     */
+    private static boolean isDeclaredInSourceFile(CtElement element) {
+        var position = element.getPosition();
+        return position != null && position.isValidPosition() && position.getCompilationUnit() != null;
+    }
+
+    /**
+     *
+     * @param element
+     *          The element to get the fingerprint of, not {@code null}. Must be
+     *          {@link #isDeclaredInSourceFile(CtElement) declared in a source file}.
+     *
+     * @return
+     *          The hex encoded SHA-256 hash of the original source code of the given {@code element}.
+     */
+    private static String fingerprintOf(CtElement element) {
+        var position = element.getPosition();
+        var originalSourceCode = position.getCompilationUnit().getOriginalSourceCode();
+        var sourceEnd = Math.min(position.getSourceEnd() + 1, originalSourceCode.length());
+
+        return HashUtils.hashToHexString(originalSourceCode.substring(position.getSourceStart(), sourceEnd));
+    }
+
+    /**
+     * The stored results of a single test class.
+     */
+    @Getter
+    private static class Entry {
+
+        /**
+         * A map which maps the key of each dependency of the test class to its fingerprint.
+         */
+        private final Map<String, String> dependencyFingerprints;
+
+        /**
+         * The coverage results of the test class.
+         */
+        private final List<Fraction> coverages;
+
+        /**
+         * Specifies if the coverage results of the test class are approximated.
+         */
+        private final boolean approximate;
+
+        /**
+         *
+         * @param dependencyFingerprints
+         *          A map which maps the key of each dependency of the test class to its fingerprint, not {@code null}.
+         *
+         * @param coverages
+         *          The coverage results of the test class, not {@code null}.
+         *
+         * @param approximate
+         *          Specifies if the coverage results of the test class are approximated.
+         */
+        private Entry(Map<String, String> dependencyFingerprints, List<Fraction> coverages, boolean approximate) {
+            this.dependencyFingerprints = dependencyFingerprints;
+            this.coverages = coverages;
+            this.approximate = approximate;
+        }
+
+    }
+
+}
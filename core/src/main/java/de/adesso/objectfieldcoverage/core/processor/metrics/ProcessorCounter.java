@@ -0,0 +1,59 @@
+package de.adesso.objectfieldcoverage.core.processor.metrics;
+
+/**
+ * The quantities counted by the {@link ProcessorMetrics}.
+ */
+public enum ProcessorCounter {
+
+    /**
+     * The number of processed test classes.
+     */
+    TEST_CLASSES,
+
+    /**
+     * The number of processed test methods.
+     */
+    TEST_METHODS,
+
+    /**
+     * The number of helper methods invoked by the processed test methods.
+     */
+    HELPER_METHODS,
+
+    /**
+     * The number of target executables which are invoked by the processed test methods.
+     */
+    TARGET_EXECUTABLES,
+
+    /**
+     * The number of processed target executable invocations.
+     */
+    INVOCATIONS,
+
+    /**
+     * The number of assertions found in the processed test methods and their helper methods.
+     */
+    ASSERTIONS,
+
+    /**
+     * The number of nodes of the built accessible field graphs.
+     */
+    GRAPH_NODES,
+
+    /**
+     * The total number of paths of the processed target executable invocations.
+     */
+    PATHS,
+
+    /**
+     * The number of covered paths of the processed target executable invocations.
+     */
+    COVERED_PATHS,
+
+    /**
+     * The number of target executable invocations whose coverage was approximated because the path budget was
+     * exceeded.
+     */
+    APPROXIMATE_INVOCATIONS
+
+}
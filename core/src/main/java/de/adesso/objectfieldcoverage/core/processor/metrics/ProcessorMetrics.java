@@ -0,0 +1,443 @@
+package de.adesso.objectfieldcoverage.core.processor.metrics;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe collector of the execution time and the number of executions of each {@link ProcessorPhase} and of
+ * the values of each {@link ProcessorCounter}. Nothing is recorded while the metrics are disabled, so the overhead
+ * of a disabled instance is a single volatile read per recording. A phase is timed as follows:
+ *
+ * <pre>
+ *     var startTime = metrics.start(ProcessorPhase.GRAPH_BUILDING);
+ *     // execute the phase
+ *     metrics.stop(ProcessorPhase.GRAPH_BUILDING, startTime);
+ * </pre>
+ *
+ * When {@link #setAllocationTrackingEnabled(boolean) allocation tracking} is enabled as well, the bytes allocated by
+ * the executing thread are recorded for each phase and for each test class using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. Like the execution times, the allocations
+ * of a phase include the allocations of the phases nested in it. The recorded values can be written to a JSON file
+ * with the following structure, the {@code allocatedBytes} and the {@code testClasses} are only present when
+ * allocation tracking is enabled:
+ *
+ * <pre>
+ *     {
+ *       "phases": {
+ *         "TEST_METHOD_DISCOVERY": { "count": 2, "totalNanos": 1250000, "allocatedBytes": 524288 },
+ *         ...
+ *       },
+ *       "counters": {
+ *         "TEST_CLASSES": 1,
+ *         ...
+ *       },
+ *       "testClasses": {
+ *         "de.adesso.PersonTest": { "allocatedBytes": 1048576 },
+ *         ...
+ *       }
+ *     }
+ * </pre>
+ */
+@Slf4j
+public class ProcessorMetrics {
+
+    /**
+     * The value returned by {@link #startTestClass()} and stored as the allocation start of a phase when no
+     * allocations are recorded.
+     */
+    public static final long NO_ALLOCATION_START = -1L;
+
+    /**
+     * The {@link com.sun.management.ThreadMXBean} used to get the allocated bytes of a thread, {@code null} in case the
+     * JVM does not support measuring the allocated bytes.
+     */
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = findAllocationMeasuringThreadBean();
+
+    /**
+     * Specifies if values are recorded.
+     */
+    @Getter
+    private volatile boolean enabled;
+
+    /**
+     * Specifies if the allocated bytes are recorded in addition to the execution times. Only has an effect while
+     * {@code this} instance is {@link #enabled}.
+     */
+    @Getter
+    private volatile boolean allocationTrackingEnabled;
+
+    /**
+     * The total execution time of each phase in nanoseconds, indexed by the ordinal of the phase.
+     */
+    private final LongAdder[] phaseNanos = createAdders(ProcessorPhase.values().length);
+
+    /**
+     * The number of executions of each phase, indexed by the ordinal of the phase.
+     */
+    private final LongAdder[] phaseCounts = createAdders(ProcessorPhase.values().length);
+
+    /**
+     * The value of each counter, indexed by the ordinal of the counter.
+     */
+    private final LongAdder[] counterValues = createAdders(ProcessorCounter.values().length);
+
+    /**
+     * The number of bytes allocated during each phase, indexed by the ordinal of the phase.
+     */
+    private final LongAdder[] phaseAllocatedBytes = createAdders(ProcessorPhase.values().length);
+
+    /**
+     * The number of bytes allocated of the current thread when each phase was {@link #start(ProcessorPhase) started},
+     * indexed by the ordinal of the phase. An entry is {@value #NO_ALLOCATION_START} when the phase was not started
+     * by the current thread or was already stopped.
+     */
+    private final ThreadLocal<long[]> phaseAllocationStarts = ThreadLocal.withInitial(() -> {
+        var allocationStarts = new long[ProcessorPhase.values().length];
+        Arrays.fill(allocationStarts, NO_ALLOCATION_START);
+        return allocationStarts;
+    });
+
+    /**
+     * A map which maps the qualified name of each test class to the number of bytes allocated while processing it.
+     */
+    private final Map<String, LongAdder> testClassAllocatedBytes = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param enabled
+     *          Specifies if values are recorded.
+     */
+    public ProcessorMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     *
+     * @return
+     *          A new disabled instance.
+     */
+    public static ProcessorMetrics disabled() {
+        return new ProcessorMetrics(false);
+    }
+
+    /**
+     *
+     * @param enabled
+     *          Specifies if values should be recorded from now on.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     *
+     * @param allocationTrackingEnabled
+     *          Specifies if the allocated bytes should be recorded from now on. Allocation tracking stays disabled
+     *          when the JVM does not support measuring the allocated bytes of a thread.
+     */
+    public void setAllocationTrackingEnabled(boolean allocationTrackingEnabled) {
+        if(allocationTrackingEnabled && THREAD_BEAN == null) {
+            log.warn("Allocation tracking is not supported by the JVM!");
+            this.allocationTrackingEnabled = false;
+            return;
+        }
+
+        this.allocationTrackingEnabled = allocationTrackingEnabled;
+    }
+
+    /**
+     * Resets all recorded values to zero.
+     */
+    public void reset() {
+        resetAdders(phaseNanos);
+        resetAdders(phaseCounts);
+        resetAdders(counterValues);
+        resetAdders(phaseAllocatedBytes);
+        testClassAllocatedBytes.clear();
+    }
+
+    /**
+     * Starts the given {@code phase} on the current thread. Executions of the same phase must not be nested on
+     * the same thread.
+     *
+     * @param phase
+     *          The phase to start, not {@code null}.
+     *
+     * @return
+     *          The current value of the JVM's high-resolution time source in nanoseconds in case {@code this}
+     *          instance is enabled, {@code 0} otherwise.
+     */
+    public long start(ProcessorPhase phase) {
+        if(!enabled) {
+            return 0L;
+        }
+
+        if(allocationTrackingEnabled) {
+            phaseAllocationStarts.get()[phase.ordinal()] = currentThreadAllocatedBytes();
+        }
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Records an execution of the given {@code phase} which started at the given {@code startTime}.
+     *
+     * @param phase
+     *          The executed phase, not {@code null}.
+     *
+     * @param startTime
+     *          The start time of the execution returned by {@link #start(ProcessorPhase)}.
+     */
+    public void stop(ProcessorPhase phase, long startTime) {
+        if(!enabled || startTime == 0L) {
+            return;
+        }
+
+        phaseNanos[phase.ordinal()].add(System.nanoTime() - startTime);
+        phaseCounts[phase.ordinal()].increment();
+
+        if(allocationTrackingEnabled) {
+            var allocationStarts = phaseAllocationStarts.get();
+            var allocationStart = allocationStarts[phase.ordinal()];
+
+            if(allocationStart != NO_ALLOCATION_START) {
+                phaseAllocatedBytes[phase.ordinal()].add(currentThreadAllocatedBytes() - allocationStart);
+                allocationStarts[phase.ordinal()] = NO_ALLOCATION_START;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of bytes allocated by the current thread so far in case {@code this} instance is enabled
+     *          and allocation tracking is enabled, {@value #NO_ALLOCATION_START} otherwise.
+     */
+    public long startTestClass() {
+        return enabled && allocationTrackingEnabled ? currentThreadAllocatedBytes() : NO_ALLOCATION_START;
+    }
+
+    /**
+     * Records the bytes allocated by the current thread while processing the test class with the given
+     * {@code testClassName}.
+     *
+     * @param testClassName
+     *          The qualified name of the processed test class, not {@code null}.
+     *
+     * @param allocationStart
+     *          The value returned by {@link #startTestClass()} before the test class was processed.
+     */
+    public void stopTestClass(String testClassName, long allocationStart) {
+        if(!enabled || !allocationTrackingEnabled || allocationStart == NO_ALLOCATION_START) {
+            return;
+        }
+
+        testClassAllocatedBytes.computeIfAbsent(testClassName, name -> new LongAdder())
+                .add(currentThreadAllocatedBytes() - allocationStart);
+    }
+
+    /**
+     *
+     * @param counter
+     *          The counter to increase, not {@code null}.
+     *
+     * @param amount
+     *          The amount to increase the counter by.
+     */
+    public void add(ProcessorCounter counter, long amount) {
+        if(enabled) {
+            counterValues[counter.ordinal()].add(amount);
+        }
+    }
+
+    /**
+     *
+     * @param phase
+     *          The phase to get the execution time of, not {@code null}.
+     *
+     * @return
+     *          The total execution time of the given {@code phase} in nanoseconds.
+     */
+    public long getTotalNanos(ProcessorPhase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     *
+     * @param phase
+     *          The phase to get the number of executions of, not {@code null}.
+     *
+     * @return
+     *          The number of recorded executions of the given {@code phase}.
+     */
+    public long getExecutionCount(ProcessorPhase phase) {
+        return phaseCounts[phase.ordinal()].sum();
+    }
+
+    /**
+     *
+     * @param phase
+     *          The phase to get the allocated bytes of, not {@code null}.
+     *
+     * @return
+     *          The total number of bytes allocated during the given {@code phase}.
+     */
+    public long getAllocatedBytes(ProcessorPhase phase) {
+        return phaseAllocatedBytes[phase.ordinal()].sum();
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> map which maps the qualified name of each test class processed while allocation
+     *          tracking was enabled to the number of bytes allocated while processing it.
+     */
+    public Map<String, Long> getTestClassAllocatedBytes() {
+        var allocatedBytes = new HashMap<String, Long>();
+        testClassAllocatedBytes.forEach((testClassName, adder) -> allocatedBytes.put(testClassName, adder.sum()));
+        return Map.copyOf(allocatedBytes);
+    }
+
+    /**
+     *
+     * @param counter
+     *          The counter to get the value of, not {@code null}.
+     *
+     * @return
+     *          The value of the given {@code counter}.
+     */
+    public long getCount(ProcessorCounter counter) {
+        return counterValues[counter.ordinal()].sum();
+    }
+
+    /**
+     *
+     * @return
+     *          The recorded values as a JSON object.
+     */
+    public String toJson() {
+        var json = new StringBuilder("{\n  \"phases\": {\n");
+
+        var phases = ProcessorPhase.values();
+        for(var phaseIndex = 0; phaseIndex < phases.length; phaseIndex++) {
+            json.append(String.format("    \"%s\": { \"count\": %d, \"totalNanos\": %d", phases[phaseIndex].name(),
+                    getExecutionCount(phases[phaseIndex]), getTotalNanos(phases[phaseIndex])));
+
+            if(allocationTrackingEnabled) {
+                json.append(String.format(", \"allocatedBytes\": %d", getAllocatedBytes(phases[phaseIndex])));
+            }
+
+            json.append(phaseIndex < phases.length - 1 ? " },\n" : " }\n");
+        }
+
+        json.append("  },\n  \"counters\": {\n");
+
+        var counters = ProcessorCounter.values();
+        for(var counterIndex = 0; counterIndex < counters.length; counterIndex++) {
+            json.append(String.format("    \"%s\": %d", counters[counterIndex].name(), getCount(counters[counterIndex])));
+            json.append(counterIndex < counters.length - 1 ? ",\n" : "\n");
+        }
+
+        if(allocationTrackingEnabled) {
+            json.append("  },\n  \"testClasses\": {\n");
+
+            var testClassNames = new ArrayList<>(new TreeMap<>(getTestClassAllocatedBytes()).entrySet());
+            for(var testClassIndex = 0; testClassIndex < testClassNames.size(); testClassIndex++) {
+                var entry = testClassNames.get(testClassIndex);
+                json.append(String.format("    \"%s\": { \"allocatedBytes\": %d }", entry.getKey(), entry.getValue()));
+                json.append(testClassIndex < testClassNames.size() - 1 ? ",\n" : "\n");
+            }
+        }
+
+        return json.append("  }\n}\n").toString();
+    }
+
+    /**
+     * Writes the {@link #toJson() JSON representation} of the recorded values to the given {@code metricsFile}.
+     * The file is replaced atomically.
+     *
+     * @param metricsFile
+     *          The file to write the metrics to, not {@code null}.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while writing the file.
+     */
+    public void writeJson(Path metricsFile) {
+        Objects.requireNonNull(metricsFile, "metricsFile cannot be null!");
+
+        try {
+            var metricsDirectory = metricsFile.toAbsolutePath().getParent();
+            Files.createDirectories(metricsDirectory);
+
+            var temporaryFile = Files.createTempFile(metricsDirectory, "metrics", ".tmp");
+            Files.writeString(temporaryFile, toJson(), StandardCharsets.UTF_8);
+
+            Files.move(temporaryFile, metricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved processor metrics to '{}'!", metricsFile);
+        } catch (IOException e) {
+            log.error("Error saving processor metrics '{}'!", metricsFile);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of bytes allocated by the current thread so far.
+     */
+    private static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     *
+     * @return
+     *          The platform's {@link com.sun.management.ThreadMXBean} with allocated memory measurement enabled, or
+     *          {@code null} in case the JVM does not support it.
+     */
+    private static com.sun.management.ThreadMXBean findAllocationMeasuringThreadBean() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+
+        if(!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        var allocationMeasuringThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+        if(!allocationMeasuringThreadBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+
+        if(!allocationMeasuringThreadBean.isThreadAllocatedMemoryEnabled()) {
+            allocationMeasuringThreadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        return allocationMeasuringThreadBean;
+    }
+
+    private static LongAdder[] createAdders(int count) {
+        var adders = new LongAdder[count];
+
+        for(var index = 0; index < count; index++) {
+            adders[index] = new LongAdder();
+        }
+
+        return adders;
+    }
+
+    private static void resetAdders(LongAdder[] adders) {
+        for(var adder : adders) {
+            adder.reset();
+        }
+    }
+
+}
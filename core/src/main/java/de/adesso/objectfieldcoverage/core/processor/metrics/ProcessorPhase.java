@@ -0,0 +1,58 @@
+package de.adesso.objectfieldcoverage.core.processor.metrics;
+
+/**
+ * The phases of the analysis whose execution time is recorded by the {@link ProcessorMetrics}.
+ * <p/>
+ * <b>Note:</b> The phases are not exclusive. The {@link #GRAPH_BUILDING} and {@link #EQUALS_ANALYSIS} phases are
+ * executed inside the {@link #PATH_ENUMERATION} phase when the evaluation information of an asserted type is not
+ * cached yet.
+ */
+public enum ProcessorPhase {
+
+    /**
+     * Finding the test methods of a test class.
+     */
+    TEST_METHOD_DISCOVERY,
+
+    /**
+     * Finding the helper methods invoked by a test method.
+     */
+    HELPER_METHOD_DISCOVERY,
+
+    /**
+     * Finding the target executables of a test method and filtering the ones which are actually invoked.
+     */
+    TARGET_RESOLUTION,
+
+    /**
+     * Finding the assertions of a test method and its helper methods.
+     */
+    ASSERTION_FINDING,
+
+    /**
+     * Finding the invocations of a target executable and mapping them to the assertions accessing their result.
+     */
+    INVOCATION_MATCHING,
+
+    /**
+     * Building the accessible field graph of a type.
+     */
+    GRAPH_BUILDING,
+
+    /**
+     * Building the graph of the fields compared in the equals method of a type and finding the paths of the fields
+     * which are not compared.
+     */
+    EQUALS_ANALYSIS,
+
+    /**
+     * Enumerating or counting the total and covered paths of a target executable invocation.
+     */
+    PATH_ENUMERATION,
+
+    /**
+     * Aggregating the coverages of the target executable invocations to the total coverage of each test class.
+     */
+    AGGREGATION
+
+}
@@ -0,0 +1,285 @@
+package de.adesso.objectfieldcoverage.core.processor.progress;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Periodically reports the progress of an analysis, i.e. the number of processed test classes and test methods,
+ * the throughput, the cache hit rates and the estimated remaining time, to the console and/or to a
+ * machine-readable JSON file. The progress is only updated once per test class and test method and the reports are
+ * created on a dedicated daemon thread, so the analysis itself is not slowed down.
+ * <p/>
+ * The reporter is used as follows:
+ *
+ * <pre>
+ *     reporter.start(candidateTestClassCount);
+ *     // for each processed test method
+ *     reporter.testMethodProcessed();
+ *     // for each processed test class
+ *     reporter.testClassProcessed();
+ *     reporter.stop();
+ * </pre>
+ */
+@Slf4j
+public class ProgressReporter {
+
+    /**
+     * The interval between two reports in milliseconds, {@code 0} for a disabled reporter.
+     */
+    private final long intervalMillis;
+
+    /**
+     * The stream the reports are printed to, {@code null} if the reports should not be printed.
+     */
+    private final PrintStream console;
+
+    /**
+     * The file the latest report is written to, {@code null} if no file should be written.
+     */
+    private final Path progressFile;
+
+    /**
+     * Supplies the statistics of the caches whose hit rates are reported.
+     */
+    private final Supplier<List<CacheStatistics>> cacheStatisticsSupplier;
+
+    private final LongAdder processedTestClasses = new LongAdder();
+
+    private final LongAdder processedTestMethods = new LongAdder();
+
+    /**
+     * The total number of candidate test classes.
+     */
+    private volatile long totalTestClasses;
+
+    /**
+     * The {@link System#nanoTime()} value when the reporter was started.
+     */
+    private volatile long startTime;
+
+    /**
+     * The executor the periodic reports are created on, {@code null} while the reporter is not started.
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     *
+     * @param intervalMillis
+     *          The interval between two reports in milliseconds, must be positive.
+     *
+     * @param console
+     *          The stream the reports are printed to, {@code null} if the reports should not be printed.
+     *
+     * @param progressFile
+     *          The file the latest report is written to as JSON, {@code null} if no file should be written.
+     *
+     * @param cacheStatisticsSupplier
+     *          Supplies the statistics of the caches whose hit rates are reported, not {@code null}.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code intervalMillis} is not positive.
+     */
+    public ProgressReporter(long intervalMillis, PrintStream console, Path progressFile,
+                            Supplier<List<CacheStatistics>> cacheStatisticsSupplier) {
+        if(intervalMillis < 1L) {
+            throw new IllegalArgumentException(String.format("The report interval must be positive, but was %d!", intervalMillis));
+        }
+
+        this.intervalMillis = intervalMillis;
+        this.console = console;
+        this.progressFile = progressFile;
+        this.cacheStatisticsSupplier = Objects.requireNonNull(cacheStatisticsSupplier, "cacheStatisticsSupplier cannot be null!");
+    }
+
+    /**
+     * Private constructor for a {@link #disabled()} reporter.
+     */
+    private ProgressReporter() {
+        this.intervalMillis = 0L;
+        this.console = null;
+        this.progressFile = null;
+        this.cacheStatisticsSupplier = List::of;
+    }
+
+    /**
+     *
+     * @return
+     *          A new reporter which counts the progress, but never reports it.
+     */
+    public static ProgressReporter disabled() {
+        return new ProgressReporter();
+    }
+
+    /**
+     * Resets the progress and starts the periodic reports.
+     *
+     * @param totalTestClasses
+     *          The total number of candidate test classes, used to estimate the remaining time.
+     */
+    public synchronized void start(long totalTestClasses) {
+        stopExecutor();
+
+        this.processedTestClasses.reset();
+        this.processedTestMethods.reset();
+        this.totalTestClasses = totalTestClasses;
+        this.startTime = System.nanoTime();
+
+        if(intervalMillis == 0L) {
+            return;
+        }
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "object-field-coverage-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::reportAndLogErrors, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Increases the number of processed test methods by one.
+     */
+    public void testMethodProcessed() {
+        processedTestMethods.increment();
+    }
+
+    /**
+     * Increases the number of processed test classes by one.
+     */
+    public void testClassProcessed() {
+        processedTestClasses.increment();
+    }
+
+    /**
+     * Stops the periodic reports and reports the final progress.
+     */
+    public synchronized void stop() {
+        if(executor == null) {
+            return;
+        }
+
+        stopExecutor();
+        report(snapshot(true));
+    }
+
+    /**
+     *
+     * @return
+     *          A snapshot of the current progress.
+     */
+    public ProgressSnapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     *
+     * @param finished
+     *          Specifies if the analysis is finished.
+     *
+     * @return
+     *          A snapshot of the current progress. The total number of test classes is never lower than the number
+     *          of processed test classes, since the total is only an estimate when a subset of the candidates is
+     *          processed.
+     */
+    private ProgressSnapshot snapshot(boolean finished) {
+        var elapsedMillis = (System.nanoTime() - startTime) / 1_000_000L;
+        var processedClasses = processedTestClasses.sum();
+        var total = finished ? processedClasses : Math.max(totalTestClasses, processedClasses);
+
+        var etaMillis = ProgressSnapshot.UNKNOWN;
+        if(finished) {
+            etaMillis = 0L;
+        } else if(processedClasses > 0L) {
+            etaMillis = (long) ((double) elapsedMillis / processedClasses * (total - processedClasses));
+        }
+
+        var cacheHitRates = new HashMap<String, Double>();
+        cacheStatisticsSupplier.get().forEach(statistics -> cacheHitRates.put(statistics.getName(), statistics.getHitRate()));
+
+        return ProgressSnapshot.builder()
+                .processedTestClasses(processedClasses)
+                .totalTestClasses(total)
+                .processedTestMethods(processedTestMethods.sum())
+                .elapsedMillis(elapsedMillis)
+                .etaMillis(etaMillis)
+                .finished(finished)
+                .cacheHitRates(cacheHitRates)
+                .build();
+    }
+
+    /**
+     * Reports the current progress. Errors are logged, so they do not cancel the periodic reports.
+     */
+    private void reportAndLogErrors() {
+        try {
+            report(snapshot(false));
+        } catch (RuntimeException e) {
+            log.warn("Error while reporting the progress!", e);
+        }
+    }
+
+    /**
+     *
+     * @param snapshot
+     *          The snapshot to print and write, not {@code null}.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while writing the progress file.
+     */
+    private void report(ProgressSnapshot snapshot) {
+        if(console != null) {
+            console.println(snapshot.describe());
+        }
+
+        if(progressFile != null) {
+            writeProgressFile(snapshot);
+        }
+    }
+
+    /**
+     * Writes the {@link ProgressSnapshot#toJson() JSON representation} of the given {@code snapshot} to the
+     * {@link #progressFile}. The file is replaced atomically, so readers never see a partially written file.
+     *
+     * @param snapshot
+     *          The snapshot to write, not {@code null}.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while writing the file.
+     */
+    private void writeProgressFile(ProgressSnapshot snapshot) {
+        try {
+            var progressDirectory = progressFile.toAbsolutePath().getParent();
+            Files.createDirectories(progressDirectory);
+
+            var temporaryFile = Files.createTempFile(progressDirectory, "progress", ".tmp");
+            Files.writeString(temporaryFile, snapshot.toJson(), StandardCharsets.UTF_8);
+
+            Files.move(temporaryFile, progressFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Error writing progress file '%s'!", progressFile), e);
+        }
+    }
+
+    private void stopExecutor() {
+        if(executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+}
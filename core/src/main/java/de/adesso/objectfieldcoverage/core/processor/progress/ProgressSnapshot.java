@@ -0,0 +1,142 @@
+package de.adesso.objectfieldcoverage.core.processor.progress;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the progress of an analysis, created by a {@link ProgressReporter}.
+ */
+@Value
+@Builder
+public class ProgressSnapshot {
+
+    /**
+     * The value of the {@link #etaMillis} when no estimate is possible.
+     */
+    public static final long UNKNOWN = -1L;
+
+    /**
+     * The number of test classes which were processed so far.
+     */
+    long processedTestClasses;
+
+    /**
+     * The total number of candidate test classes.
+     */
+    long totalTestClasses;
+
+    /**
+     * The number of test methods which were processed so far.
+     */
+    long processedTestMethods;
+
+    /**
+     * The time since the analysis started in milliseconds.
+     */
+    long elapsedMillis;
+
+    /**
+     * The estimated time until all candidate test classes are processed in milliseconds, {@value #UNKNOWN} when
+     * no test class was processed yet.
+     */
+    long etaMillis;
+
+    /**
+     * Specifies if the analysis is finished.
+     */
+    boolean finished;
+
+    /**
+     * A map which maps the name of each registered cache to its hit rate between {@code 0} and {@code 1}.
+     */
+    Map<String, Double> cacheHitRates;
+
+    /**
+     *
+     * @return
+     *          The number of processed test classes per second.
+     */
+    public double getTestClassesPerSecond() {
+        return perSecond(processedTestClasses);
+    }
+
+    /**
+     *
+     * @return
+     *          The number of processed test methods per second.
+     */
+    public double getTestMethodsPerSecond() {
+        return perSecond(processedTestMethods);
+    }
+
+    /**
+     *
+     * @return
+     *          A single line describing {@code this} snapshot.
+     */
+    public String describe() {
+        var description = new StringBuilder(String.format(Locale.ROOT,
+                "Processed %d of %d test classes (%.1f%%) and %d test methods in %s [%.2f classes/s, %.2f methods/s], ETA %s",
+                processedTestClasses, totalTestClasses, getPercentage(), processedTestMethods,
+                formatDuration(elapsedMillis), getTestClassesPerSecond(), getTestMethodsPerSecond(),
+                finished ? "done" : etaMillis == UNKNOWN ? "unknown" : formatDuration(etaMillis)));
+
+        new TreeMap<>(cacheHitRates).forEach((cacheName, hitRate) -> description.append(String.format(Locale.ROOT,
+                ", '%s' cache %.1f%% hits", cacheName, hitRate * 100D)));
+
+        return description.toString();
+    }
+
+    /**
+     *
+     * @return
+     *          {@code this} snapshot as a JSON object.
+     */
+    public String toJson() {
+        var json = new StringBuilder("{\n");
+        json.append(String.format(Locale.ROOT, "  \"processedTestClasses\": %d,\n", processedTestClasses));
+        json.append(String.format(Locale.ROOT, "  \"totalTestClasses\": %d,\n", totalTestClasses));
+        json.append(String.format(Locale.ROOT, "  \"processedTestMethods\": %d,\n", processedTestMethods));
+        json.append(String.format(Locale.ROOT, "  \"elapsedMillis\": %d,\n", elapsedMillis));
+        json.append(String.format(Locale.ROOT, "  \"testClassesPerSecond\": %.3f,\n", getTestClassesPerSecond()));
+        json.append(String.format(Locale.ROOT, "  \"testMethodsPerSecond\": %.3f,\n", getTestMethodsPerSecond()));
+        json.append(String.format(Locale.ROOT, "  \"etaMillis\": %d,\n", etaMillis));
+        json.append(String.format(Locale.ROOT, "  \"finished\": %b,\n", finished));
+        json.append("  \"cacheHitRates\": {\n");
+
+        var cacheNames = new TreeMap<>(cacheHitRates).entrySet().iterator();
+        while(cacheNames.hasNext()) {
+            var entry = cacheNames.next();
+            json.append(String.format(Locale.ROOT, "    \"%s\": %.4f", entry.getKey(), entry.getValue()));
+            json.append(cacheNames.hasNext() ? ",\n" : "\n");
+        }
+
+        return json.append("  }\n}\n").toString();
+    }
+
+    private double getPercentage() {
+        return totalTestClasses == 0L ? 100D : processedTestClasses * 100D / totalTestClasses;
+    }
+
+    private double perSecond(long count) {
+        return elapsedMillis == 0L ? 0D : count * 1000D / elapsedMillis;
+    }
+
+    /**
+     *
+     * @param millis
+     *          The duration in milliseconds.
+     *
+     * @return
+     *          The given duration formatted as {@code hh:mm:ss}.
+     */
+    private static String formatDuration(long millis) {
+        var seconds = millis / 1000L;
+        return String.format(Locale.ROOT, "%02d:%02d:%02d", seconds / 3600L, (seconds / 60L) % 60L, seconds % 60L);
+    }
+
+}
@@ -0,0 +1,51 @@
+package de.adesso.objectfieldcoverage.core.processor.result;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * The coverage result of a single target executable invocation, as written by the {@link CoverageRecordWriter} and
+ * read by the {@link CoverageRecordReader}.
+ */
+@Value
+public class CoverageRecord {
+
+    /**
+     * The qualified name of the test class.
+     */
+    String testClassName;
+
+    /**
+     * The signature of the test method the target executable is invoked in.
+     */
+    String testMethodSignature;
+
+    /**
+     * The qualified name of the type declaring the invoked target executable followed by a {@code #} and the
+     * signature of the executable.
+     */
+    String targetExecutable;
+
+    /**
+     * The number of paths covered by the assertions.
+     */
+    long coveredPathCount;
+
+    /**
+     * The total number of paths of the type returned by the target executable.
+     */
+    long pathCount;
+
+    /**
+     * Specifies if the path counts are approximated, because the path budget was exceeded.
+     */
+    boolean approximate;
+
+    /**
+     * The covered paths, each described by the simple names of the fields on the path separated by a {@code .}.
+     * Empty when the covered paths were not recorded.
+     */
+    List<String> coveredPaths;
+
+}
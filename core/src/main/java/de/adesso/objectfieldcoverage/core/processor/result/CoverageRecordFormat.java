@@ -0,0 +1,50 @@
+package de.adesso.objectfieldcoverage.core.processor.result;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Constants of the binary format shared by the {@link CoverageRecordWriter} and the {@link CoverageRecordReader}.
+ * <p/>
+ * A file starts with the {@value #MAGIC} magic number and the {@value #VERSION} format version, followed by a sequence
+ * of entries. Each entry starts with a tag byte:
+ * <ul>
+ *     <li>{@value #STRING_TAG}: a string, stored as its UTF-8 byte count followed by the bytes. The strings are
+ *     numbered in the order they appear in, starting at {@code 0}.</li>
+ *     <li>{@value #RECORD_TAG}: a {@link CoverageRecord}, stored as the string numbers of the test class, the test method
+ *     and the target executable, the covered and the total path count, a byte which is {@code 1} when the path counts
+ *     are approximated and {@code 0} otherwise, the number of covered paths and the string number of each covered
+ *     path.</li>
+ * </ul>
+ * Every string is written once before the first record referring to it, so the file can be written append-only.
+ * All numbers are stored in big-endian byte order, strings numbers as {@code int}s and path counts as {@code long}s.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class CoverageRecordFormat {
+
+    /**
+     * The magic number every file starts with.
+     */
+    static final int MAGIC = 0x4F464352;
+
+    /**
+     * The version of the format.
+     */
+    static final short VERSION = 2;
+
+    /**
+     * The number of bytes of the file header.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    /**
+     * The tag of a string entry.
+     */
+    static final byte STRING_TAG = 1;
+
+    /**
+     * The tag of a record entry.
+     */
+    static final byte RECORD_TAG = 2;
+
+}
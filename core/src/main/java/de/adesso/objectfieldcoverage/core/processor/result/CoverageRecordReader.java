@@ -0,0 +1,255 @@
+package de.adesso.objectfieldcoverage.core.processor.result;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static de.adesso.objectfieldcoverage.core.processor.result.CoverageRecordFormat.*;
+
+/**
+ * Reader for files written by a {@link CoverageRecordWriter}. The file is memory-mapped, so only the offsets of the
+ * strings and records are held on the heap and the records are decoded on access.
+ *
+ * @implNote The mapping is released by the garbage collector after the reader is closed, since Java does not
+ * support unmapping a file explicitly. Files larger than {@link Integer#MAX_VALUE} bytes are not supported.
+ */
+public class CoverageRecordReader implements Closeable {
+
+    /**
+     * The file the records are read from.
+     */
+    @Getter
+    private final Path recordFile;
+
+    /**
+     * The channel of the {@link #recordFile}.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The read-only mapping of the {@link #recordFile}.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The offset of each string in the {@link #buffer}, indexed by the number of the string.
+     */
+    private int[] stringOffsets = new int[64];
+
+    /**
+     * The number of strings in the file.
+     */
+    private int stringCount;
+
+    /**
+     * The offset of each record in the {@link #buffer}.
+     */
+    private int[] recordOffsets = new int[64];
+
+    /**
+     * The number of records in the file.
+     */
+    private int recordCount;
+
+    /**
+     *
+     * @param recordFile
+     *          The file the records are read from, not {@code null}.
+     *
+     * @param channel
+     *          The channel of the given {@code recordFile}, not {@code null}.
+     *
+     * @param buffer
+     *          The mapping of the given {@code recordFile}, not {@code null}.
+     */
+    private CoverageRecordReader(Path recordFile, FileChannel channel, ByteBuffer buffer) {
+        this.recordFile = recordFile;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     *
+     * @param recordFile
+     *          The file to read the records from, not {@code null}.
+     *
+     * @return
+     *          A new reader for the given {@code recordFile}.
+     *
+     * @throws IOException
+     *          When the given {@code recordFile} could not be mapped.
+     *
+     * @throws IllegalStateException
+     *          When the given {@code recordFile} is too large or malformed.
+     */
+    public static CoverageRecordReader open(Path recordFile) throws IOException {
+        Objects.requireNonNull(recordFile, "recordFile cannot be null!");
+
+        var channel = FileChannel.open(recordFile, StandardOpenOption.READ);
+
+        try {
+            if(channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException(String.format("Coverage record file '%s' is larger than %d bytes!",
+                        recordFile, Integer.MAX_VALUE));
+            }
+
+            var reader = new CoverageRecordReader(recordFile, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()));
+            reader.indexEntries();
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of records in the file.
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     *
+     * @param recordIndex
+     *          The index of the record to get, between {@code 0} (inclusive) and the {@link #size()} (exclusive).
+     *
+     * @return
+     *          The record with the given {@code recordIndex} in the order the records were written in.
+     *
+     * @throws IndexOutOfBoundsException
+     *          When the given {@code recordIndex} is out of bounds.
+     */
+    public CoverageRecord get(int recordIndex) {
+        Objects.checkIndex(recordIndex, recordCount);
+
+        var recordBuffer = buffer.duplicate().position(recordOffsets[recordIndex] + 1);
+        var testClassName = readString(recordBuffer.getInt());
+        var testMethodSignature = readString(recordBuffer.getInt());
+        var targetExecutable = readString(recordBuffer.getInt());
+        var coveredPathCount = recordBuffer.getLong();
+        var pathCount = recordBuffer.getLong();
+        var approximate = recordBuffer.get() != 0;
+
+        var recordedPathCount = recordBuffer.getInt();
+        var coveredPaths = new ArrayList<String>(recordedPathCount);
+        for(var pathIndex = 0; pathIndex < recordedPathCount; pathIndex++) {
+            coveredPaths.add(readString(recordBuffer.getInt()));
+        }
+
+        return new CoverageRecord(testClassName, testMethodSignature, targetExecutable, coveredPathCount, pathCount,
+                approximate, coveredPaths);
+    }
+
+    /**
+     *
+     * @return
+     *          A stream of all records in the order they were written in. The records are decoded lazily.
+     */
+    public Stream<CoverageRecord> stream() {
+        return IntStream.range(0, recordCount)
+                .mapToObj(this::get);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads the offsets of all strings and records.
+     *
+     * @throws IllegalStateException
+     *          When the file is malformed.
+     */
+    private void indexEntries() {
+        var indexBuffer = buffer.duplicate();
+
+        try {
+            if(indexBuffer.getInt() != MAGIC) {
+                throw new IllegalStateException(String.format("'%s' is not a coverage record file!", recordFile));
+            }
+
+            var version = indexBuffer.getShort();
+            if(version != VERSION) {
+                throw new IllegalStateException(String.format("Unsupported coverage record file version %d!", version));
+            }
+
+            while(indexBuffer.hasRemaining()) {
+                var entryOffset = indexBuffer.position();
+                var tag = indexBuffer.get();
+
+                if(tag == STRING_TAG) {
+                    stringOffsets = ensureCapacity(stringOffsets, stringCount);
+                    stringOffsets[stringCount++] = entryOffset;
+                    var length = indexBuffer.getInt();
+                    indexBuffer.position(indexBuffer.position() + length);
+                } else if(tag == RECORD_TAG) {
+                    recordOffsets = ensureCapacity(recordOffsets, recordCount);
+                    recordOffsets[recordCount++] = entryOffset;
+                    indexBuffer.position(indexBuffer.position() + 3 * Integer.BYTES + 2 * Long.BYTES + Byte.BYTES);
+                    var recordedPathCount = indexBuffer.getInt();
+                    indexBuffer.position(indexBuffer.position() + recordedPathCount * Integer.BYTES);
+                } else {
+                    throw new IllegalStateException(String.format("Unknown entry tag %d at offset %d!", tag, entryOffset));
+                }
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("Coverage record file '%s' is truncated!", recordFile), e);
+        }
+    }
+
+    /**
+     *
+     * @param stringNumber
+     *          The number of the string to read.
+     *
+     * @return
+     *          The string with the given {@code stringNumber}.
+     *
+     * @throws IllegalStateException
+     *          When the file does not contain a string with the given {@code stringNumber}.
+     */
+    private String readString(int stringNumber) {
+        if(stringNumber < 0 || stringNumber >= stringCount) {
+            throw new IllegalStateException(String.format("Coverage record file '%s' does not contain string %d!",
+                    recordFile, stringNumber));
+        }
+
+        var stringBuffer = buffer.duplicate().position(stringOffsets[stringNumber] + 1);
+        var bytes = new byte[stringBuffer.getInt()];
+        stringBuffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     *
+     * @param offsets
+     *          The array of offsets, not {@code null}.
+     *
+     * @param size
+     *          The number of used elements of the given {@code offsets}.
+     *
+     * @return
+     *          The given {@code offsets} in case it has room for another element or a copy with twice the length
+     *          otherwise.
+     */
+    private static int[] ensureCapacity(int[] offsets, int size) {
+        return size < offsets.length ? offsets : Arrays.copyOf(offsets, offsets.length * 2);
+    }
+
+}
@@ -0,0 +1,174 @@
+package de.adesso.objectfieldcoverage.core.processor.result;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static de.adesso.objectfieldcoverage.core.processor.result.CoverageRecordFormat.*;
+
+/**
+ * Append-only writer for {@link CoverageRecord}s in the {@link CoverageRecordFormat binary format}. Each distinct
+ * string is only written once, so the names of test classes, test methods, target executables and paths which occur
+ * in many records only occupy space once.
+ *
+ * @implNote Thread-safe, since test classes might be processed concurrently. The records are buffered and only
+ * guaranteed to be written when the writer is {@link #close() closed}.
+ */
+@Slf4j
+public class CoverageRecordWriter implements Closeable {
+
+    /**
+     * The file the records are written to.
+     */
+    @Getter
+    private final Path recordFile;
+
+    /**
+     * The stream the entries are written to.
+     */
+    private final DataOutputStream outputStream;
+
+    /**
+     * A map which maps each string written so far to its number.
+     */
+    private final Map<String, Integer> stringNumbers = new HashMap<>();
+
+    /**
+     * The number of records written so far.
+     */
+    @Getter
+    private int recordCount;
+
+    /**
+     *
+     * @param recordFile
+     *          The file the records are written to, not {@code null}.
+     *
+     * @param outputStream
+     *          The stream the entries are written to, not {@code null}.
+     */
+    private CoverageRecordWriter(Path recordFile, DataOutputStream outputStream) {
+        this.recordFile = recordFile;
+        this.outputStream = outputStream;
+    }
+
+    /**
+     *
+     * @param recordFile
+     *          The file to write the records to, not {@code null}. Replaced in case it already exists.
+     *
+     * @return
+     *          A new writer which writes the records to the given {@code recordFile}.
+     *
+     * @throws UncheckedIOException
+     *          When the given {@code recordFile} could not be created.
+     */
+    public static CoverageRecordWriter create(Path recordFile) {
+        Objects.requireNonNull(recordFile, "recordFile cannot be null!");
+
+        try {
+            Files.createDirectories(recordFile.toAbsolutePath().getParent());
+
+            var outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(recordFile)));
+            outputStream.writeInt(MAGIC);
+            outputStream.writeShort(VERSION);
+
+            return new CoverageRecordWriter(recordFile, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Coverage record file '%s' could not be created!", recordFile), e);
+        }
+    }
+
+    /**
+     * Appends the given {@code record}, preceded by all of its strings which were not written yet.
+     *
+     * @param record
+     *          The record to append, not {@code null}.
+     *
+     * @throws UncheckedIOException
+     *          When an error occurs while writing.
+     */
+    public synchronized void append(CoverageRecord record) {
+        Objects.requireNonNull(record, "record cannot be null!");
+
+        try {
+            var testClassNumber = writeStringIfAbsent(record.getTestClassName());
+            var testMethodNumber = writeStringIfAbsent(record.getTestMethodSignature());
+            var targetExecutableNumber = writeStringIfAbsent(record.getTargetExecutable());
+
+            var coveredPathNumbers = new int[record.getCoveredPaths().size()];
+            for(var pathIndex = 0; pathIndex < coveredPathNumbers.length; pathIndex++) {
+                coveredPathNumbers[pathIndex] = writeStringIfAbsent(record.getCoveredPaths().get(pathIndex));
+            }
+
+            outputStream.writeByte(RECORD_TAG);
+            outputStream.writeInt(testClassNumber);
+            outputStream.writeInt(testMethodNumber);
+            outputStream.writeInt(targetExecutableNumber);
+            outputStream.writeLong(record.getCoveredPathCount());
+            outputStream.writeLong(record.getPathCount());
+            outputStream.writeBoolean(record.isApproximate());
+            outputStream.writeInt(coveredPathNumbers.length);
+
+            for(var coveredPathNumber : coveredPathNumbers) {
+                outputStream.writeInt(coveredPathNumber);
+            }
+
+            recordCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Coverage record could not be written to '%s'!", recordFile), e);
+        }
+    }
+
+    /**
+     * Flushes all buffered entries and closes the underlying file.
+     *
+     * @throws IOException
+     *          When an error occurs while flushing or closing.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        outputStream.close();
+        log.info("Wrote {} coverage records to '{}'!", recordCount, recordFile);
+    }
+
+    /**
+     *
+     * @param string
+     *          The string to write, not {@code null}.
+     *
+     * @return
+     *          The number of the given {@code string}. The string is written first in case it was not written yet.
+     *
+     * @throws IOException
+     *          When an error occurs while writing.
+     */
+    private int writeStringIfAbsent(String string) throws IOException {
+        var stringNumber = stringNumbers.get(string);
+
+        if(stringNumber != null) {
+            return stringNumber;
+        }
+
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeByte(STRING_TAG);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+
+        var newStringNumber = stringNumbers.size();
+        stringNumbers.put(string, newStringNumber);
+        return newStringNumber;
+    }
+
+}
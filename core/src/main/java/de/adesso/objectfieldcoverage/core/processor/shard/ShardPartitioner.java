@@ -0,0 +1,63 @@
+package de.adesso.objectfieldcoverage.core.processor.shard;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * Assigns test classes to shards, so the test classes of one analysis can be processed by several JVMs.
+ *
+ * @implNote The shard of a test class is derived from the {@link String#hashCode() hash code} of its qualified name,
+ * which is specified by the language and therefore the same in every JVM. The assignment of a test class does
+ * not depend on the other test classes of the model, so every shard can be computed independently.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShardPartitioner {
+
+    /**
+     *
+     * @param qualifiedName
+     *          The qualified name of the test class, not {@code null}.
+     *
+     * @param shardCount
+     *          The total number of shards, must be positive.
+     *
+     * @return
+     *          The index of the shard the test class with the given {@code qualifiedName} is assigned to, between
+     *          {@code 0} (inclusive) and the given {@code shardCount} (exclusive).
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code shardCount} is not positive.
+     */
+    public static int shardOf(String qualifiedName, int shardCount) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName cannot be null!");
+        validateShard(0, shardCount);
+
+        return Math.floorMod(qualifiedName.hashCode(), shardCount);
+    }
+
+    /**
+     *
+     * @param shardIndex
+     *          The index of the shard to validate.
+     *
+     * @param shardCount
+     *          The total number of shards.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code shardCount} is not positive or the given {@code shardIndex} is not between
+     *          {@code 0} (inclusive) and the given {@code shardCount} (exclusive).
+     */
+    public static void validateShard(int shardIndex, int shardCount) {
+        if(shardCount < 1) {
+            throw new IllegalArgumentException(String.format("The shard count must be positive, but was %d!", shardCount));
+        }
+
+        if(shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(String.format("The shard index must be between 0 and %d, but was %d!",
+                    shardCount - 1, shardIndex));
+        }
+    }
+
+}
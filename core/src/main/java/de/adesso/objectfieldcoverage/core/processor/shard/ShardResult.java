@@ -0,0 +1,244 @@
+package de.adesso.objectfieldcoverage.core.processor.shard;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.math3.fraction.Fraction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The partial result of a single shard of an analysis. Contains the coverage of every target executable invocation
+ * of the test classes {@link ShardPartitioner assigned} to the shard, grouped by the qualified name of the test class,
+ * and the test classes whose coverages are approximated because the path budget was exceeded. The partial results of all shards are combined with the {@link ShardResultMerger}.
+ *
+ * @implNote The coverages of a test class and the approximated test classes are written in ascending order, so the
+ * same results always produce the same file.
+ */
+@Slf4j
+@Getter
+public class ShardResult {
+
+    /**
+     * The first line of every shard result file.
+     */
+    private static final String HEADER = "# object-field-coverage shard result v2";
+
+    /**
+     * The prefix of the line containing the index of the shard and the total number of shards.
+     */
+    private static final String SHARD_PREFIX = "shard";
+
+    /**
+     * The prefix of a line containing a coverage result of a test class.
+     */
+    private static final String COVERAGE_PREFIX = "coverage";
+
+    /**
+     * The prefix of a line containing a test class whose coverages are approximated.
+     */
+    private static final String APPROXIMATE_PREFIX = "approximate";
+
+    /**
+     * The separator between the columns of a line.
+     */
+    private static final String COLUMN_SEPARATOR = "\t";
+
+    /**
+     * The index of the shard.
+     */
+    private final int shardIndex;
+
+    /**
+     * The total number of shards of the analysis.
+     */
+    private final int shardCount;
+
+    /**
+     * An <b>unmodifiable</b> map which maps the qualified name of each test class of the shard to the coverages of
+     * its target executable invocations in ascending order.
+     */
+    private final Map<String, List<Fraction>> coverages;
+
+    /**
+     * An <b>unmodifiable</b> set containing the qualified names of the test classes of the shard whose coverages are
+     * approximated, because the path budget was exceeded.
+     */
+    private final Set<String> approximateTestClasses;
+
+    /**
+     *
+     * @param shardIndex
+     *          The index of the shard.
+     *
+     * @param shardCount
+     *          The total number of shards of the analysis.
+     *
+     * @param coverages
+     *          A map which maps the qualified name of each test class of the shard to the coverages of its target
+     *          executable invocations, not {@code null}.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code shardIndex} or {@code shardCount} is invalid.
+     */
+    public ShardResult(int shardIndex, int shardCount, Map<String, List<Fraction>> coverages) {
+        this(shardIndex, shardCount, coverages, Set.of());
+    }
+
+    /**
+     *
+     * @param shardIndex
+     *          The index of the shard.
+     *
+     * @param shardCount
+     *          The total number of shards of the analysis.
+     *
+     * @param coverages
+     *          A map which maps the qualified name of each test class of the shard to the coverages of its target
+     *          executable invocations, not {@code null}.
+     *
+     * @param approximateTestClasses
+     *          The qualified names of the test classes of the shard whose coverages are approximated, not {@code null}.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code shardIndex} or {@code shardCount} is invalid.
+     */
+    public ShardResult(int shardIndex, int shardCount, Map<String, List<Fraction>> coverages,
+                       Set<String> approximateTestClasses) {
+        Objects.requireNonNull(coverages, "coverages cannot be null!");
+        Objects.requireNonNull(approximateTestClasses, "approximateTestClasses cannot be null!");
+        ShardPartitioner.validateShard(shardIndex, shardCount);
+
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+
+        var sortedCoverages = new TreeMap<String, List<Fraction>>();
+        coverages.forEach((testClassName, testClassCoverages) -> sortedCoverages.put(testClassName,
+                testClassCoverages.stream().sorted().collect(Collectors.toUnmodifiableList())));
+        this.coverages = Collections.unmodifiableMap(sortedCoverages);
+        this.approximateTestClasses = Collections.unmodifiableSortedSet(new TreeSet<>(approximateTestClasses));
+    }
+
+    /**
+     *
+     * @param resultFile
+     *          The file to read the shard result from, not {@code null}.
+     *
+     * @return
+     *          The shard result contained in the given {@code resultFile}.
+     *
+     * @throws IllegalStateException
+     *          When the given {@code resultFile} could not be read or is malformed.
+     */
+    public static ShardResult read(Path resultFile) {
+        Objects.requireNonNull(resultFile, "resultFile cannot be null!");
+
+        try(var reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException(String.format("Shard result '%s' could not be read!", resultFile), e);
+        }
+    }
+
+    /**
+     * Writes the shard result to a temporary file first, which is then moved to the given {@code resultFile}, so
+     * an interrupted run never leaves a partially written result behind.
+     *
+     * @param resultFile
+     *          The file to write the shard result to, not {@code null}.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while writing the shard result.
+     */
+    public void write(Path resultFile) {
+        Objects.requireNonNull(resultFile, "resultFile cannot be null!");
+
+        try {
+            var resultDirectory = resultFile.toAbsolutePath().getParent();
+            Files.createDirectories(resultDirectory);
+
+            var temporaryFile = Files.createTempFile(resultDirectory, "shard", ".tmp");
+            Files.write(temporaryFile, toLines(), StandardCharsets.UTF_8);
+
+            Files.move(temporaryFile, resultFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved results of {} test classes of shard {}/{} to '{}'!", coverages.size(), shardIndex,
+                    shardCount, resultFile);
+        } catch (IOException e) {
+            log.error("Error saving shard result '{}'!", resultFile);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The lines of the shard result file.
+     */
+    private List<String> toLines() {
+        var lines = new ArrayList<String>();
+        lines.add(HEADER);
+        lines.add(String.join(COLUMN_SEPARATOR, SHARD_PREFIX, String.valueOf(shardIndex), String.valueOf(shardCount)));
+
+        coverages.forEach((testClassName, testClassCoverages) -> testClassCoverages.forEach(coverage ->
+                lines.add(String.join(COLUMN_SEPARATOR, COVERAGE_PREFIX, testClassName,
+                        String.valueOf(coverage.getNumerator()), String.valueOf(coverage.getDenominator())))));
+
+        approximateTestClasses.forEach(testClassName ->
+                lines.add(String.join(COLUMN_SEPARATOR, APPROXIMATE_PREFIX, testClassName)));
+
+        return lines;
+    }
+
+    /**
+     *
+     * @param reader
+     *          The reader to read the shard result from, not {@code null}.
+     *
+     * @return
+     *          The read shard result.
+     *
+     * @throws IOException
+     *          When an error occurs while reading.
+     *
+     * @throws IllegalStateException
+     *          When the shard result is malformed.
+     */
+    private static ShardResult read(BufferedReader reader) throws IOException {
+        if(!HEADER.equals(reader.readLine())) {
+            throw new IllegalStateException("The shard result does not start with the expected header!");
+        }
+
+        var shardLine = reader.readLine();
+        var shardColumns = shardLine != null ? shardLine.split(COLUMN_SEPARATOR) : new String[0];
+        if(shardColumns.length != 3 || !SHARD_PREFIX.equals(shardColumns[0])) {
+            throw new IllegalStateException("The shard result does not contain the shard!");
+        }
+
+        var coverages = new HashMap<String, List<Fraction>>();
+        var approximateTestClasses = new HashSet<String>();
+
+        String line;
+        while((line = reader.readLine()) != null) {
+            var columns = line.split(COLUMN_SEPARATOR);
+
+            if(columns.length == 4 && COVERAGE_PREFIX.equals(columns[0])) {
+                coverages.computeIfAbsent(columns[1], testClassName -> new ArrayList<>())
+                        .add(new Fraction(Integer.parseInt(columns[2]), Integer.parseInt(columns[3])));
+            } else if(columns.length == 2 && APPROXIMATE_PREFIX.equals(columns[0])) {
+                approximateTestClasses.add(columns[1]);
+            } else {
+                throw new IllegalStateException(String.format("Malformed line '%s'!", line));
+            }
+        }
+
+        return new ShardResult(Integer.parseInt(shardColumns[1]), Integer.parseInt(shardColumns[2]), coverages,
+                approximateTestClasses);
+    }
+
+}
@@ -0,0 +1,90 @@
+package de.adesso.objectfieldcoverage.core.processor.shard;
+
+import de.adesso.objectfieldcoverage.core.processor.ObjectFieldCoverageProcessor;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.math3.fraction.Fraction;
+
+import java.util.*;
+
+/**
+ * Merges the {@link ShardResult}s of all shards of an analysis into the total coverage of each test class and the
+ * test classes whose total coverage is approximated.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShardResultMerger {
+
+    /**
+     *
+     * @param shardResults
+     *          The results of all shards of the analysis, not {@code null}.
+     *
+     * @return
+     *          A map which maps the qualified name of each test class to its total coverage, computed the same way
+     *          {@link ObjectFieldCoverageProcessor#processingDone()} computes it when all test classes are processed
+     *          by a single processor.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code shardResults} are empty, were written with different shard counts, do not
+     *          contain the result of every shard exactly once or contain the same test class more than once.
+     */
+    public static Map<String, Fraction> merge(Collection<ShardResult> shardResults) {
+        Objects.requireNonNull(shardResults, "shardResults cannot be null!");
+
+        if(shardResults.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard result is required!");
+        }
+
+        var shardCount = shardResults.iterator().next().getShardCount();
+        var mergedShards = new BitSet(shardCount);
+        var mergedCoverages = new HashMap<String, List<Fraction>>();
+
+        for(var shardResult : shardResults) {
+            if(shardResult.getShardCount() != shardCount) {
+                throw new IllegalArgumentException(String.format("Shard results of %d and %d shards cannot be merged!",
+                        shardCount, shardResult.getShardCount()));
+            }
+
+            if(mergedShards.get(shardResult.getShardIndex())) {
+                throw new IllegalArgumentException(String.format("The result of shard %d is present more than once!",
+                        shardResult.getShardIndex()));
+            }
+
+            mergedShards.set(shardResult.getShardIndex());
+
+            shardResult.getCoverages().forEach((testClassName, coverages) -> {
+                if(mergedCoverages.putIfAbsent(testClassName, coverages) != null) {
+                    throw new IllegalArgumentException(String.format("Test class '%s' is present in more than one shard!",
+                            testClassName));
+                }
+            });
+        }
+
+        if(mergedShards.cardinality() != shardCount) {
+            throw new IllegalArgumentException(String.format("The result of shard %d is missing!",
+                    mergedShards.nextClearBit(0)));
+        }
+
+        return ObjectFieldCoverageProcessor.computeTotalCoverages(mergedCoverages);
+    }
+
+    /**
+     *
+     * @param shardResults
+     *          The results of all shards of the analysis, not {@code null}. Should be validated by
+     *          {@link #merge(Collection)}.
+     *
+     * @return
+     *          The qualified names of the test classes whose total coverage is approximated in any of the given
+     *          {@code shardResults}.
+     */
+    public static Set<String> mergeApproximateTestClasses(Collection<ShardResult> shardResults) {
+        Objects.requireNonNull(shardResults, "shardResults cannot be null!");
+
+        var approximateTestClasses = new TreeSet<String>();
+        shardResults.forEach(shardResult -> approximateTestClasses.addAll(shardResult.getApproximateTestClasses()));
+
+        return approximateTestClasses;
+    }
+
+}
@@ -0,0 +1,322 @@
+package de.adesso.objectfieldcoverage.core.processor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import spoon.reflect.CtModel;
+import spoon.reflect.code.CtAbstractInvocation;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.declaration.CtExecutable;
+import spoon.reflect.reference.CtExecutableReference;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.util.*;
+
+/**
+ * Index of all {@link CtAbstractInvocation}s inside of a single {@link CtExecutable}. The body of the executable is
+ * only scanned once when the index is built. The invocations can then be looked up by the invoked executable,
+ * the qualified name of the declaring type, the static flag and the simple name of the invoked method instead of
+ * scanning the executable's body again for every query.
+ *
+ * @implNote The index of an executable is stored in the {@link spoon.reflect.declaration.CtElement#getMetadata(String)
+ * metadata} of the executable, so the index is built only once per executable, even when the executable is a helper
+ * method which is invoked in multiple test methods. Changes of the executable's body after the index has been built
+ * are not reflected. The lazily resolved invoked executables can be reset when the invoked types change, see
+ * {@link #invalidateInvokedExecutables(CtModel, Set)}.
+ */
+@Slf4j
+public class InvocationIndex {
+
+    /**
+     * The metadata key the index of an executable is stored under.
+     */
+    private static final String METADATA_KEY = InvocationIndex.class.getName();
+
+    /**
+     * All invocations inside the executable in the order in which they are visited by Spoon's scanner.
+     */
+    private final List<CtAbstractInvocation<?>> invocations;
+
+    /**
+     * A map which maps the qualified signature of an invoked executable (see {@link #buildQualifiedSignature(CtExecutableReference)})
+     * to the invocations of that executable.
+     */
+    private final Map<String, List<CtAbstractInvocation<?>>> invocationsByQualifiedSignature;
+
+    /**
+     * A map which maps the qualified name of the declaring type of an invoked method to the method invocations
+     * of methods declared in that type. Constructor invocations are not included.
+     */
+    private final Map<String, List<CtInvocation<?>>> methodInvocationsByDeclaringType;
+
+    /**
+     * A map which maps the simple name of an invoked method to the method invocations of methods with that
+     * name. Constructor invocations are not included.
+     */
+    private final Map<String, List<CtInvocation<?>>> methodInvocationsBySimpleName;
+
+    /**
+     * The declarations of the invoked executables, lazily initialized since resolving the declaration of
+     * an executable reference is comparatively expensive.
+     */
+    private volatile Set<CtExecutable<?>> invokedExecutables;
+
+    /**
+     *
+     * @param invocations
+     *          The invocations to index in the order in which they are visited by Spoon's scanner, not {@code null}.
+     */
+    private InvocationIndex(List<CtAbstractInvocation<?>> invocations) {
+        this.invocations = List.copyOf(invocations);
+        this.invocationsByQualifiedSignature = new HashMap<>();
+        this.methodInvocationsByDeclaringType = new HashMap<>();
+        this.methodInvocationsBySimpleName = new HashMap<>();
+
+        for(var invocation : this.invocations) {
+            var executableRef = invocation.getExecutable();
+
+            if(executableRef == null) {
+                continue;
+            }
+
+            var qualifiedSignature = buildQualifiedSignature(executableRef);
+            if(qualifiedSignature != null) {
+                invocationsByQualifiedSignature.computeIfAbsent(qualifiedSignature, signature -> new ArrayList<>())
+                        .add(invocation);
+            }
+
+            if(invocation instanceof CtInvocation && !executableRef.isConstructor()) {
+                var methodInvocation = (CtInvocation<?>) invocation;
+                var declaringTypeRef = executableRef.getDeclaringType();
+
+                if(declaringTypeRef != null) {
+                    methodInvocationsByDeclaringType.computeIfAbsent(declaringTypeRef.getQualifiedName(), qualifiedName -> new ArrayList<>())
+                            .add(methodInvocation);
+                }
+
+                methodInvocationsBySimpleName.computeIfAbsent(executableRef.getSimpleName(), simpleName -> new ArrayList<>())
+                        .add(methodInvocation);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param executable
+     *          The executable to get the index for, not {@code null}.
+     *
+     * @return
+     *          The index of the invocations inside the given {@code executable}. The index is built when the
+     *          given {@code executable} has not been indexed yet.
+     */
+    public static InvocationIndex of(CtExecutable<?> executable) {
+        Objects.requireNonNull(executable, "executable cannot be null!");
+
+        synchronized (executable) {
+            var existingIndex = executable.getMetadata(METADATA_KEY);
+
+            if(existingIndex instanceof InvocationIndex) {
+                return (InvocationIndex) existingIndex;
+            }
+
+            var newIndex = new InvocationIndex(executable.getElements(new TypeFilter<CtAbstractInvocation<?>>(CtAbstractInvocation.class)));
+            executable.putMetadata(METADATA_KEY, newIndex);
+
+            log.debug("Indexed {} invocations in '{}'!", newIndex.invocations.size(), executable.getSignature());
+
+            return newIndex;
+        }
+    }
+
+    /**
+     * Removes the index of the given {@code executable}, so the body of the executable is scanned again on the
+     * next access.
+     *
+     * @param executable
+     *          The executable to remove the index of, not {@code null}.
+     */
+    public static void invalidate(CtExecutable<?> executable) {
+        Objects.requireNonNull(executable, "executable cannot be null!");
+
+        synchronized (executable) {
+            executable.putMetadata(METADATA_KEY, null);
+        }
+    }
+
+    /**
+     * Resets the lazily resolved {@link #getInvokedExecutables() invoked executables} of all indices of executables
+     * in the given {@code model} which invoke an executable declared in one of the given types, since the declarations
+     * of these executables might have been replaced. The indices themselves stay valid, since they only depend on the
+     * body of the indexed executable.
+     *
+     * @param model
+     *          The model containing the indexed executables, not {@code null}.
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the changed types, not {@code null}.
+     */
+    public static void invalidateInvokedExecutables(CtModel model, Set<String> qualifiedTypeNames) {
+        Objects.requireNonNull(model, "model cannot be null!");
+        Objects.requireNonNull(qualifiedTypeNames, "qualifiedTypeNames cannot be null!");
+
+        for(var executable : model.getElements(new TypeFilter<CtExecutable<?>>(CtExecutable.class))) {
+            var existingIndex = executable.getMetadata(METADATA_KEY);
+
+            if(existingIndex instanceof InvocationIndex) {
+                ((InvocationIndex) existingIndex).invalidateInvokedExecutables(qualifiedTypeNames);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param qualifiedTypeNames
+     *          The qualified names of the changed types, not {@code null}.
+     */
+    private void invalidateInvokedExecutables(Set<String> qualifiedTypeNames) {
+        var invokesChangedType = invocations.stream()
+                .map(CtAbstractInvocation::getExecutable)
+                .filter(Objects::nonNull)
+                .map(CtExecutableReference::getDeclaringType)
+                .anyMatch(declaringTypeRef -> declaringTypeRef == null ||
+                        qualifiedTypeNames.contains(declaringTypeRef.getQualifiedName()));
+
+        if(invokesChangedType) {
+            this.invokedExecutables = null;
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing all invocations in the order in which they are visited by
+     *          Spoon's scanner.
+     */
+    public List<CtAbstractInvocation<?>> getInvocations() {
+        return invocations;
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing all method invocations in the order in which they are
+     *          visited by Spoon's scanner. Constructor invocations are not included.
+     */
+    public List<CtInvocation<?>> getMethodInvocations() {
+        var methodInvocations = new ArrayList<CtInvocation<?>>();
+
+        for(var invocation : invocations) {
+            if(invocation instanceof CtInvocation && invocation.getExecutable() != null && !invocation.getExecutable().isConstructor()) {
+                methodInvocations.add((CtInvocation<?>) invocation);
+            }
+        }
+
+        return Collections.unmodifiableList(methodInvocations);
+    }
+
+    /**
+     *
+     * @param executable
+     *          The executable to find the invocations of, not {@code null}.
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing the invocations whose invoked executable has the same
+     *          signature and declaring type as the given {@code executable}.
+     */
+    public List<CtAbstractInvocation<?>> findInvocationsOf(CtExecutable<?> executable) {
+        Objects.requireNonNull(executable, "executable cannot be null!");
+
+        var qualifiedSignature = buildQualifiedSignature(executable.getReference());
+        return Collections.unmodifiableList(invocationsByQualifiedSignature.getOrDefault(qualifiedSignature, List.of()));
+    }
+
+    /**
+     *
+     * @param qualifiedTypeName
+     *          The fully qualified name of the type the invoked methods are declared in, not {@code null}.
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing the invocations of methods which are declared in the type
+     *          with the given {@code qualifiedTypeName}.
+     */
+    public List<CtInvocation<?>> findMethodInvocationsOnType(String qualifiedTypeName) {
+        return Collections.unmodifiableList(methodInvocationsByDeclaringType.getOrDefault(qualifiedTypeName, List.of()));
+    }
+
+    /**
+     *
+     * @param qualifiedTypeName
+     *          The fully qualified name of the type the invoked methods are declared in, not {@code null}.
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing the invocations of static methods which are declared in the
+     *          type with the given {@code qualifiedTypeName}.
+     */
+    public List<CtInvocation<?>> findStaticMethodInvocationsOnType(String qualifiedTypeName) {
+        var staticMethodInvocations = new ArrayList<CtInvocation<?>>();
+
+        for(var invocation : findMethodInvocationsOnType(qualifiedTypeName)) {
+            if(invocation.getExecutable().isStatic()) {
+                staticMethodInvocations.add(invocation);
+            }
+        }
+
+        return Collections.unmodifiableList(staticMethodInvocations);
+    }
+
+    /**
+     *
+     * @param simpleName
+     *          The simple name of the invoked methods, not {@code null}.
+     *
+     * @return
+     *          An <b>unmodifiable</b> list containing the invocations of methods with the given {@code simpleName}.
+     */
+    public List<CtInvocation<?>> findMethodInvocationsByName(String simpleName) {
+        return Collections.unmodifiableList(methodInvocationsBySimpleName.getOrDefault(simpleName, List.of()));
+    }
+
+    /**
+     *
+     * @return
+     *          An <b>unmodifiable</b> set containing the declarations of all invoked executables for which a
+     *          declaration is present.
+     */
+    public Set<CtExecutable<?>> getInvokedExecutables() {
+        if(invokedExecutables == null) {
+            var declarations = new HashSet<CtExecutable<?>>();
+
+            for(var invocation : invocations) {
+                var executableRef = invocation.getExecutable();
+                var declaration = executableRef != null ? executableRef.getDeclaration() : null;
+
+                if(declaration != null) {
+                    declarations.add(declaration);
+                }
+            }
+
+            this.invokedExecutables = Collections.unmodifiableSet(declarations);
+        }
+
+        return invokedExecutables;
+    }
+
+    /**
+     *
+     * @param executableReference
+     *          The {@link CtExecutableReference} to build the string for, not {@code null}.
+     *
+     * @return
+     *          The {@link CtExecutableReference#getSignature() signature} of the given {@code executableReference}
+     *          prefixed with the qualified name of the declaring type or {@code null}, if the declaring type
+     *          is not known.
+     */
+    private static String buildQualifiedSignature(CtExecutableReference<?> executableReference) {
+        var declaringTypeRef = executableReference.getDeclaringType();
+
+        if(declaringTypeRef == null) {
+            return null;
+        }
+
+        return String.format("%s.%s", declaringTypeRef.getQualifiedName(), executableReference.getSignature());
+    }
+
+}
@@ -1,6 +1,5 @@
 package de.adesso.objectfieldcoverage.core.processor.util;
 
-import de.adesso.objectfieldcoverage.core.processor.filter.ExecutableInvocationTypeFilter;
 import de.adesso.objectfieldcoverage.core.processor.filter.HelperMethodInvocationTypeFilter;
 import de.adesso.objectfieldcoverage.core.processor.filter.InvokedExecutableFilter;
 import lombok.AccessLevel;
@@ -56,7 +55,10 @@ public class ProcessorUtils {
      *          A list containing all helper methods in order of their invocation.
      */
     public static List<CtMethod<?>> findInvokedHelperMethods(CtMethod<?> testMethod) {
-        return testMethod.getElements(new HelperMethodInvocationTypeFilter(testMethod)).stream()
+        var helperMethodInvocationFilter = new HelperMethodInvocationTypeFilter(testMethod);
+
+        return InvocationIndex.of(testMethod).getMethodInvocations().stream()
+                .filter(helperMethodInvocationFilter::matches)
                 .map(CtInvocation::getExecutable)
                 .map(executableRef -> {
                     var executable = executableRef.getExecutableDeclaration();
@@ -85,10 +87,9 @@ public class ProcessorUtils {
      *          A set containing all invocations of the given {@code executable}.
      */
     public static Set<CtAbstractInvocation<?>> findInvocationsOfExecutable(Set<CtMethod<?>> methods, CtExecutable<?> executable) {
-        var invocationFilter = new ExecutableInvocationTypeFilter<>(executable);
-
         return methods.stream()
-                .map(method -> method.getElements(invocationFilter))
+                .map(InvocationIndex::of)
+                .map(invocationIndex -> invocationIndex.findInvocationsOf(executable))
                 .flatMap(Collection::stream)
                 .collect(Collectors.toSet());
     }
@@ -0,0 +1,333 @@
+package de.adesso.objectfieldcoverage.core.processor.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import spoon.reflect.code.*;
+import spoon.reflect.declaration.CtElement;
+import spoon.reflect.declaration.CtExecutable;
+import spoon.reflect.declaration.CtTypedElement;
+import spoon.reflect.reference.CtLocalVariableReference;
+
+import java.util.*;
+
+/**
+ * Def-use index of the expressions inside of a single {@link CtExecutable}. Maps each expression to its
+ * {@link Provenance}, the chain of expressions the value of the expression is derived from. The chain is followed
+ * through the default expressions of read local variables and the targets of {@link CtTargetedExpression}s.
+ * <p/>
+ * <b>Example:</b>
+ * <pre>
+ *     var result = service.find();
+ *     assertNotNull(result.getParent().name);
+ * </pre>
+ * The provenance of the asserted expression {@code result.getParent().name} is the chain
+ * {@code result.getParent().name} &rarr; {@code result.getParent()} &rarr; {@code result} &rarr; {@code service.find()}
+ * &rarr; {@code service}.
+ *
+ * @implNote The provenance of an expression is built lazily on first access and shares the provenance of the
+ * expression it is derived from, so each expression of an executable is only traced once. The index of an executable
+ * is stored in the {@link spoon.reflect.declaration.CtElement#getMetadata(String) metadata} of the executable.
+ */
+@Slf4j
+public class ProvenanceIndex {
+
+    /**
+     * The metadata key the index of an executable is stored under.
+     */
+    private static final String METADATA_KEY = ProvenanceIndex.class.getName();
+
+    /**
+     * Identity based map which maps an expression to its provenance. Used as the lock object for all accesses.
+     */
+    private final Map<CtExpression<?>, Provenance> provenances = new IdentityHashMap<>();
+
+    /**
+     *
+     * @param executable
+     *          The executable to get the index for, not {@code null}.
+     *
+     * @return
+     *          The index of the expressions inside the given {@code executable}. A new index is created when the given
+     *          {@code executable} has not been indexed yet.
+     */
+    public static ProvenanceIndex of(CtExecutable<?> executable) {
+        Objects.requireNonNull(executable, "executable cannot be null!");
+
+        synchronized (executable) {
+            var existingIndex = executable.getMetadata(METADATA_KEY);
+
+            if(existingIndex instanceof ProvenanceIndex) {
+                return (ProvenanceIndex) existingIndex;
+            }
+
+            var newIndex = new ProvenanceIndex();
+            executable.putMetadata(METADATA_KEY, newIndex);
+            return newIndex;
+        }
+    }
+
+    /**
+     *
+     * @param expression
+     *          The expression to get the provenance of, not {@code null}. Must be declared inside the
+     *          indexed executable.
+     *
+     * @return
+     *          The provenance of the given {@code expression}.
+     */
+    public Provenance getProvenance(CtExpression<?> expression) {
+        Objects.requireNonNull(expression, "expression cannot be null!");
+
+        synchronized (provenances) {
+            return getProvenanceInternal(expression);
+        }
+    }
+
+    /**
+     * Iteratively follows the chain of the given {@code expression} until an expression is reached whose
+     * provenance is already known or which is not derived from another expression.
+     *
+     * @param expression
+     *          The expression to get the provenance of, not {@code null}.
+     *
+     * @return
+     *          The provenance of the given {@code expression}.
+     */
+    private Provenance getProvenanceInternal(CtExpression<?> expression) {
+        var untracedExpressions = new ArrayDeque<CtExpression<?>>();
+        var currentExpression = expression;
+        Provenance knownProvenance = null;
+
+        while(currentExpression != null) {
+            knownProvenance = provenances.get(currentExpression);
+
+            if(knownProvenance != null) {
+                break;
+            }
+
+            untracedExpressions.push(currentExpression);
+            currentExpression = findDerivingExpression(currentExpression);
+        }
+
+        var currentProvenance = knownProvenance;
+        while(!untracedExpressions.isEmpty()) {
+            var untracedExpression = untracedExpressions.pop();
+
+            currentProvenance = new Provenance(untracedExpression, StepKind.of(untracedExpression), currentProvenance);
+            provenances.put(untracedExpression, currentProvenance);
+        }
+
+        return currentProvenance;
+    }
+
+    /**
+     *
+     * @param expression
+     *          The expression to find the deriving expression of, not {@code null}.
+     *
+     * @return
+     *          The default expression of the local variable in case the given {@code expression} is a read of a
+     *          local variable, the target of the given {@code expression} in case it is a {@link CtTargetedExpression} or
+     *          {@code null} otherwise.
+     */
+    private CtExpression<?> findDerivingExpression(CtExpression<?> expression) {
+        if(expression instanceof CtVariableRead) {
+            var readVariableRef = ((CtVariableRead<?>) expression).getVariable();
+
+            if(readVariableRef instanceof CtLocalVariableReference) {
+                var readLocalVariableRef = (CtLocalVariableReference<?>) readVariableRef;
+                var defaultExpression = readLocalVariableRef.getDeclaration()
+                        .getDefaultExpression();
+
+                if(defaultExpression == null) {
+                    log.warn("Local variable '{}' does not have a default expression!",
+                            readLocalVariableRef.getSimpleName());
+                }
+
+                return defaultExpression;
+            }
+        }
+
+        if(expression instanceof CtTargetedExpression) {
+            return ((CtTargetedExpression<?, ?>) expression).getTarget();
+        }
+
+        return null;
+    }
+
+    /**
+     * The kind of step which leads from an expression to the expression it is derived from.
+     */
+    private enum StepKind {
+
+        /**
+         * The expression is a read of a local variable and derived from the default expression of the variable.
+         */
+        LOCAL_VARIABLE_READ,
+
+        /**
+         * The expression is a method invocation which is derived from its target.
+         */
+        INVOCATION,
+
+        /**
+         * The expression is a field access which is derived from its target.
+         */
+        FIELD_ACCESS,
+
+        /**
+         * The expression is a {@link CtTargetedExpression} which neither is a method invocation nor a field access.
+         */
+        OTHER;
+
+        /**
+         *
+         * @param expression
+         *          The expression to get the step kind of, not {@code null}.
+         *
+         * @return
+         *          The step kind of the given {@code expression}.
+         */
+        private static StepKind of(CtExpression<?> expression) {
+            if(expression instanceof CtVariableRead && ((CtVariableRead<?>) expression).getVariable() instanceof CtLocalVariableReference) {
+                return LOCAL_VARIABLE_READ;
+            } else if(expression instanceof CtInvocation) {
+                return INVOCATION;
+            } else if(expression instanceof CtFieldAccess) {
+                return FIELD_ACCESS;
+            }
+
+            return OTHER;
+        }
+
+    }
+
+    /**
+     * The chain of expressions the value of an expression is derived from. Provenances are immutable and shared
+     * between expressions, so the provenance of an expression is linked to the provenance of the expression it
+     * is derived from.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Provenance {
+
+        /**
+         * The expression {@code this} provenance belongs to.
+         */
+        private final CtExpression<?> expression;
+
+        /**
+         * The kind of step which leads to the {@link #derivedFrom} provenance.
+         */
+        @Getter(AccessLevel.NONE)
+        private final StepKind stepKind;
+
+        /**
+         * The provenance of the expression the {@link #expression} is derived from, {@code null} in case the
+         * expression is not derived from another expression.
+         */
+        @Getter(AccessLevel.NONE)
+        private final Provenance derivedFrom;
+
+        /**
+         *
+         * @return
+         *          An optional containing the provenance of the expression the {@link #getExpression() expression}
+         *          is derived from or an empty optional in case it is not derived from another expression.
+         */
+        public Optional<Provenance> getDerivedFrom() {
+            return Optional.ofNullable(derivedFrom);
+        }
+
+        /**
+         *
+         * @param originExpression
+         *          The expression to check, not {@code null}.
+         *
+         * @return
+         *          {@code true}, if an expression in {@code this} provenance chain is equal to the given
+         *          {@code originExpression}. {@code false} is returned otherwise.
+         */
+        public boolean isDerivedFrom(CtElement originExpression) {
+            return findProvenanceOf(originExpression) != null;
+        }
+
+        /**
+         * The elements are collected from the method invocations and field accesses on the chain between the
+         * {@link #getExpression() expression} and the given {@code originExpression}. Local variable reads do not
+         * contribute an element.
+         *
+         * @param originExpression
+         *          The expression the {@link #getExpression() expression} is derived from, not {@code null}.
+         *
+         * @return
+         *          An optional containing the {@link CtTypedElement}s which are used to access the
+         *          {@link #getExpression() expression} starting at the given {@code originExpression}, in order of
+         *          their access. An empty optional is returned in case {@code this} provenance is not derived from the
+         *          given {@code originExpression}, the chain contains a step which is neither a method invocation,
+         *          a field access nor a local variable read or the declaration of an invoked method or accessed
+         *          field is not part of the model.
+         */
+        public Optional<List<CtTypedElement<?>>> findAccessingElements(CtElement originExpression) {
+            var accessingElements = new ArrayList<CtTypedElement<?>>();
+            var currentProvenance = this;
+
+            while(currentProvenance != null && !currentProvenance.expression.equals(originExpression)) {
+                switch (currentProvenance.stepKind) {
+                    case INVOCATION:
+                        accessingElements.add(((CtInvocation<?>) currentProvenance.expression).getExecutable()
+                                .getExecutableDeclaration());
+                        break;
+                    case FIELD_ACCESS:
+                        accessingElements.add(((CtFieldAccess<?>) currentProvenance.expression).getVariable()
+                                .getFieldDeclaration());
+                        break;
+                    case LOCAL_VARIABLE_READ:
+                        break;
+                    default:
+                        return Optional.empty();
+                }
+
+                if(accessingElements.contains(null)) {
+                    return Optional.empty();
+                }
+
+                currentProvenance = currentProvenance.derivedFrom;
+            }
+
+            if(currentProvenance == null) {
+                return Optional.empty();
+            }
+
+            Collections.reverse(accessingElements);
+            return Optional.of(accessingElements);
+        }
+
+        /**
+         *
+         * @param originExpression
+         *          The expression to find the provenance of, not {@code null}.
+         *
+         * @return
+         *          The provenance in {@code this} provenance chain whose {@link #getExpression() expression} is equal
+         *          to the given {@code originExpression} or {@code null}, if no such provenance exists.
+         */
+        private Provenance findProvenanceOf(CtElement originExpression) {
+            var currentProvenance = this;
+
+            while(currentProvenance != null) {
+                if(currentProvenance.expression.equals(originExpression)) {
+                    return currentProvenance;
+                }
+
+                currentProvenance = currentProvenance.derivedFrom;
+            }
+
+            return null;
+        }
+
+    }
+
+}
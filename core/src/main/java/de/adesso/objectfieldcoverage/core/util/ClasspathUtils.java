@@ -1,6 +1,9 @@
 package de.adesso.objectfieldcoverage.core.util;
 
 import de.adesso.objectfieldcoverage.api.Order;
+import de.adesso.objectfieldcoverage.api.cache.CacheCounters;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.index.ImplementationIndexProcessor;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +15,25 @@ import org.reflections.scanners.SubTypesScanner;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * Utility class to find and instantiate the implementations of an interface / abstract class.
+ * <p/>
+ * The implementations are looked up in the implementation index which is generated at compile time by the
+ * {@link ImplementationIndexProcessor}, so no classpath scan is needed at startup. The classpath is only scanned
+ * in case no index is present on the classpath or additional packages are specified in the
+ * {@value ADDITIONAL_PACKAGE_SYS_PROP_KEY} system property, since classes in these packages are not necessarily
+ * contained in an index.
+ */
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClasspathUtils {
@@ -31,13 +48,32 @@ public class ClasspathUtils {
     /**
      * The system property key of the system property used to take additional packages into account.
      */
-    private static final String ADDITIONAL_PACKAGE_SYS_PROP_KEY = "classpathutils.additional-packages";
+    public static final String ADDITIONAL_PACKAGE_SYS_PROP_KEY = "classpathutils.additional-packages";
 
     /**
      * Reusable Reflections instance for increased performance. Must be initialized once.
      */
     private static Reflections reflections;
 
+    /**
+     * The counters of the accesses to the {@link #reflections} instance. An access is a miss when the classpath
+     * has to be scanned.
+     */
+    private static final CacheCounters REFLECTIONS_COUNTERS = new CacheCounters();
+
+    /**
+     * The counters of the accesses to the {@link #implementationIndex}. An access is a miss when the indexes have to
+     * be read.
+     */
+    private static final CacheCounters IMPLEMENTATION_INDEX_COUNTERS = new CacheCounters();
+
+    /**
+     * A map which maps the binary name of a supertype to pairs of the binary name of an indexed class which
+     * extends/implements the supertype and the order of the indexed class. Lazily initialized with the contents of
+     * all implementation indexes on the classpath. Empty in case no index is present.
+     */
+    private static Map<String, List<Pair<String, Integer>>> implementationIndex;
+
     /**
      *
      * @param type
@@ -56,12 +92,9 @@ public class ClasspathUtils {
     public static <T> List<T> loadClassesImplementingInterfaceOrExtendingClass(Class<T> type) {
         Objects.requireNonNull(type, "The given type cannot be null!");
 
-        var subtypes = initReflections().getSubTypesOf(type);
-
-        List<T> foundTypes = subtypes.stream()
-                .filter(ClasspathUtils::isConcreteClass)
-                .filter(ClasspathUtils::hasPublicNoArgConstructor)
-                .map(ClasspathUtils::getOrderPair)
+        List<T> foundTypes = findSubtypesWithOrder(type).stream()
+                .filter(orderPair -> isConcreteClass(orderPair.getKey()))
+                .filter(orderPair -> hasPublicNoArgConstructor(orderPair.getKey()))
                 .sorted(Comparator.comparing(Pair::getRight, (i1, i2) -> -1 * Integer.compare(i1, i2)))
                 .map(Pair::getKey)
                 .map(ClasspathUtils::instantiateWithPublicNoArgConstructor)
@@ -72,6 +105,75 @@ public class ClasspathUtils {
         return foundTypes;
     }
 
+    /**
+     *
+     * @return
+     *          The statistics of the reused {@link Reflections} instance since the class was loaded.
+     */
+    public static CacheStatistics getReflectionsCacheStatistics() {
+        return REFLECTIONS_COUNTERS.snapshot("reflections", reflections != null ? 1L : 0L, 1L);
+    }
+
+    /**
+     *
+     * @return
+     *          The statistics of the lazily read implementation index since the class was loaded.
+     */
+    public static CacheStatistics getImplementationIndexCacheStatistics() {
+        return IMPLEMENTATION_INDEX_COUNTERS.snapshot("implementationIndex", implementationIndex != null ? 1L : 0L, 1L);
+    }
+
+    /**
+     *
+     * @param type
+     *          The type to find the subtypes of, not {@code null}.
+     *
+     * @param <T>
+     *          The type of the class.
+     *
+     * @return
+     *          A list containing pairs which map each subtype of the given {@code type} to its order value. The
+     *          subtypes are taken from the implementation index in case it is present and no additional packages are
+     *          specified. The classpath is scanned otherwise.
+     */
+    private static <T> List<Pair<Class<? extends T>, Integer>> findSubtypesWithOrder(Class<T> type) {
+        var index = initImplementationIndex();
+
+        if(index.isEmpty() || !additionalPackages().isEmpty()) {
+            return initReflections().getSubTypesOf(type).stream()
+                    .map(ClasspathUtils::<T>getOrderPair)
+                    .collect(Collectors.toList());
+        }
+
+        var subtypesWithOrder = new ArrayList<Pair<Class<? extends T>, Integer>>();
+        for(var indexedClassWithOrder : index.getOrDefault(type.getName(), List.of())) {
+            var indexedClass = loadIndexedClass(indexedClassWithOrder.getKey());
+
+            if(indexedClass != null && type.isAssignableFrom(indexedClass)) {
+                subtypesWithOrder.add(Pair.of(indexedClass.asSubclass(type), indexedClassWithOrder.getValue()));
+            }
+        }
+
+        return subtypesWithOrder;
+    }
+
+    /**
+     *
+     * @param binaryName
+     *          The binary name of the indexed class to load, not {@code null}.
+     *
+     * @return
+     *          The loaded class or {@code null}, if the class could not be loaded.
+     */
+    private static Class<?> loadIndexedClass(String binaryName) {
+        try {
+            return Class.forName(binaryName, false, ClasspathUtils.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("Indexed class '{}' could not be loaded!", binaryName, e);
+            return null;
+        }
+    }
+
     /**
      *
      * @param type
@@ -98,7 +200,7 @@ public class ClasspathUtils {
      *          A pair which maps the given {@code type} to its order value. Uses {@link Order#DEFAULT}
      *          in case the given type is not annotated with {@link Order}.
      */
-    private static <T> Pair<Class<T>, Integer> getOrderPair(Class<T> type) {
+    private static <T> Pair<Class<? extends T>, Integer> getOrderPair(Class<? extends T> type) {
         var orderAnnotation = type.getAnnotation(Order.class);
         var order = orderAnnotation != null ? orderAnnotation.value() : Order.DEFAULT;
 
@@ -173,6 +275,79 @@ public class ClasspathUtils {
         }
     }
 
+    /**
+     * Initializes the {@link #implementationIndex} field in case it is {@code null}.
+     *
+     * @return
+     *          The initialized implementation index.
+     *
+     * @throws IllegalStateException
+     *          When an error occurs while reading an index.
+     */
+    private static synchronized Map<String, List<Pair<String, Integer>>> initImplementationIndex() {
+        if(implementationIndex == null) {
+            var loadStartTime = System.nanoTime();
+            var index = new HashMap<String, List<Pair<String, Integer>>>();
+
+            try {
+                var indexUrls = Collections.list(ClasspathUtils.class.getClassLoader()
+                        .getResources(ImplementationIndexProcessor.INDEX_RESOURCE_LOCATION));
+
+                for(var indexUrl : indexUrls) {
+                    readImplementationIndex(indexUrl, index);
+                }
+
+                log.debug("Read {} implementation indexes!", indexUrls.size());
+            } catch (IOException e) {
+                log.error("Error reading implementation index!");
+                throw new IllegalStateException(e);
+            }
+
+            implementationIndex = index;
+            IMPLEMENTATION_INDEX_COUNTERS.recordMiss(System.nanoTime() - loadStartTime);
+        } else {
+            IMPLEMENTATION_INDEX_COUNTERS.recordHit();
+        }
+
+        return implementationIndex;
+    }
+
+    /**
+     *
+     * @param indexUrl
+     *          The URL of the index to read, not {@code null}.
+     *
+     * @param index
+     *          The map to add the contents of the index to, not {@code null}.
+     *
+     * @throws IOException
+     *          When an error occurs while reading the index.
+     */
+    private static void readImplementationIndex(URL indexUrl, Map<String, List<Pair<String, Integer>>> index) throws IOException {
+        try(var reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+
+            while((line = reader.readLine()) != null) {
+                if(line.isBlank() || line.startsWith(ImplementationIndexProcessor.COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                var columns = line.split(ImplementationIndexProcessor.COLUMN_SEPARATOR, -1);
+                if(columns.length != 3) {
+                    log.warn("Skipping malformed line '{}' in implementation index '{}'!", line, indexUrl);
+                    continue;
+                }
+
+                var indexedClassWithOrder = Pair.of(columns[0], Integer.parseInt(columns[1]));
+                for(var supertype : columns[2].split(ImplementationIndexProcessor.SUPERTYPE_SEPARATOR)) {
+                    if(!supertype.isEmpty()) {
+                        index.computeIfAbsent(supertype, key -> new ArrayList<>()).add(indexedClassWithOrder);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Initializes the {@link #reflections} field in case it is {@code null}.
      *
@@ -181,6 +356,7 @@ public class ClasspathUtils {
      */
     private static Reflections initReflections() {
         if(reflections == null) {
+            var loadStartTime = System.nanoTime();
             var additionalPackages = additionalPackages();
             var packages = new ArrayList<>(additionalPackages);
             packages.add(BASE_PACKAGE);
@@ -199,6 +375,9 @@ public class ClasspathUtils {
                     .setUrls(packageUrls)
                     .addScanners(new SubTypesScanner())
             );
+            REFLECTIONS_COUNTERS.recordMiss(System.nanoTime() - loadStartTime);
+        } else {
+            REFLECTIONS_COUNTERS.recordHit();
         }
 
         return reflections;
@@ -215,8 +394,8 @@ public class ClasspathUtils {
                 .split(",");
 
         return Arrays.stream(additionalPackages)
-                .filter(StringUtils::isEmpty)
                 .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
                 .collect(Collectors.toList());
     }
 
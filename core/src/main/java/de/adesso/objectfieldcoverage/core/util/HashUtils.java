@@ -0,0 +1,81 @@
+package de.adesso.objectfieldcoverage.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HashUtils {
+
+    /**
+     * The algorithm used to hash contents.
+     */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     *
+     * @return
+     *          A new {@value #HASH_ALGORITHM} message digest.
+     *
+     * @throws IllegalStateException
+     *          When the algorithm is not supported by the JVM.
+     */
+    public static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Updates the given {@code digest} with the UTF-8 bytes of the given {@code value}, followed by a zero byte
+     * to separate consecutive values.
+     *
+     * @param digest
+     *          The digest to update, not {@code null}.
+     *
+     * @param value
+     *          The value to update the digest with, not {@code null}.
+     */
+    public static void updateWithString(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     *
+     * @param value
+     *          The value to hash, not {@code null}.
+     *
+     * @return
+     *          The lower case hex representation of the {@value #HASH_ALGORITHM} hash of the UTF-8 bytes of the given
+     *          {@code value}.
+     */
+    public static String hashToHexString(String value) {
+        return toHexString(newMessageDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     *
+     * @param bytes
+     *          The bytes to encode, not {@code null}.
+     *
+     * @return
+     *          The lower case hex representation of the given {@code bytes}.
+     */
+    public static String toHexString(byte[] bytes) {
+        var hexStringBuilder = new StringBuilder(bytes.length * 2);
+
+        for(var currentByte : bytes) {
+            hexStringBuilder.append(Character.forDigit((currentByte >> 4) & 0xF, 16))
+                    .append(Character.forDigit(currentByte & 0xF, 16));
+        }
+
+        return hexStringBuilder.toString();
+    }
+
+}
@@ -0,0 +1,194 @@
+package de.adesso.objectfieldcoverage.core.util;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheCounters;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import lombok.extern.slf4j.Slf4j;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Model-wide index which maps the qualified name of a type to the type itself. Replaces linear scans over
+ * all types of a {@link CtModel} with a single scan per model.
+ *
+ * @implNote The index of a model is stored in the {@link spoon.reflect.declaration.CtElement#getMetadata(String)
+ * metadata} of the model's root package, so all users of the same model share a single index. Both maps are
+ * built lazily on first access. Types which are added to the model after a map has been built are not
+ * contained in it until the index is {@link #invalidate(CtModel) invalidated}.
+ */
+@Slf4j
+public class TypeIndex {
+
+    /**
+     * The metadata key the index of a model is stored under.
+     */
+    private static final String METADATA_KEY = TypeIndex.class.getName();
+
+    /**
+     * The counters of the lookups in the indices of all models. A lookup is a hit when the map it is performed on
+     * was already built and a miss when the map had to be built first.
+     */
+    private static final CacheCounters INDEX_COUNTERS = new CacheCounters();
+
+    /**
+     * The model {@code this} index belongs to.
+     */
+    private final CtModel model;
+
+    /**
+     * A map which maps the qualified name of a class to the class itself. Contains all classes of the model,
+     * including nested classes. Lazily initialized.
+     */
+    private Map<String, CtClass<?>> classesByQualifiedName;
+
+    /**
+     * A map which maps the qualified name of a type to the type itself. Contains all types returned by
+     * {@link CtModel#getAllTypes()}. Lazily initialized.
+     */
+    private Map<String, CtType<?>> typesByQualifiedName;
+
+    /**
+     *
+     * @param model
+     *          The model to index, not {@code null}.
+     */
+    private TypeIndex(CtModel model) {
+        this.model = model;
+    }
+
+    /**
+     *
+     * @param model
+     *          The model to get the index for, not {@code null}.
+     *
+     * @return
+     *          The index of the given {@code model}. A new index is created when the given {@code model} has not
+     *          been indexed yet.
+     */
+    public static TypeIndex of(CtModel model) {
+        Objects.requireNonNull(model, "model cannot be null!");
+
+        var rootPackage = model.getRootPackage();
+
+        if(rootPackage == null) {
+            return new TypeIndex(model);
+        }
+
+        synchronized (rootPackage) {
+            var existingIndex = rootPackage.getMetadata(METADATA_KEY);
+
+            if(existingIndex instanceof TypeIndex) {
+                return (TypeIndex) existingIndex;
+            }
+
+            var newIndex = new TypeIndex(model);
+            rootPackage.putMetadata(METADATA_KEY, newIndex);
+            return newIndex;
+        }
+    }
+
+    /**
+     * Removes the index of the given {@code model}, so a new index is built on the next access. Must be called
+     * when types have been added to or removed from the model.
+     *
+     * @param model
+     *          The model to remove the index of, not {@code null}.
+     */
+    public static void invalidate(CtModel model) {
+        Objects.requireNonNull(model, "model cannot be null!");
+
+        var rootPackage = model.getRootPackage();
+
+        if(rootPackage == null) {
+            return;
+        }
+
+        synchronized (rootPackage) {
+            rootPackage.putMetadata(METADATA_KEY, null);
+        }
+    }
+
+    /**
+     *
+     * @param qualifiedName
+     *          The qualified name of the class to find, not {@code null}.
+     *
+     * @return
+     *          An optional containing the class with the given {@code qualifiedName} or an empty optional in case
+     *          the model does not contain such a class.
+     */
+    public synchronized Optional<CtClass<?>> findClass(String qualifiedName) {
+        if(classesByQualifiedName == null) {
+            var indexStartTime = System.nanoTime();
+            this.classesByQualifiedName = indexByQualifiedName(model.getElements(new TypeFilter<CtClass<?>>(CtClass.class)));
+            INDEX_COUNTERS.recordMiss(System.nanoTime() - indexStartTime);
+        } else {
+            INDEX_COUNTERS.recordHit();
+        }
+
+        return Optional.ofNullable(classesByQualifiedName.get(qualifiedName));
+    }
+
+    /**
+     *
+     * @param qualifiedName
+     *          The qualified name of the type to find, not {@code null}.
+     *
+     * @return
+     *          An optional containing the type with the given {@code qualifiedName} or an empty optional in case
+     *          the model does not contain such a type.
+     */
+    public synchronized Optional<CtType<?>> findType(String qualifiedName) {
+        if(typesByQualifiedName == null) {
+            var indexStartTime = System.nanoTime();
+            this.typesByQualifiedName = indexByQualifiedName(model.getAllTypes());
+            INDEX_COUNTERS.recordMiss(System.nanoTime() - indexStartTime);
+        } else {
+            INDEX_COUNTERS.recordHit();
+        }
+
+        return Optional.ofNullable(typesByQualifiedName.get(qualifiedName));
+    }
+
+    /**
+     *
+     * @return
+     *          The statistics of the lookups in the indices of all models since the class was loaded. The size is
+     *          unknown, since the indices are held by the models themselves.
+     */
+    public static CacheStatistics getCacheStatistics() {
+        return INDEX_COUNTERS.snapshot("typeIndex", CacheStatistics.UNKNOWN, CacheStatistics.UNKNOWN);
+    }
+
+    /**
+     * The first type is kept in case multiple types have the same qualified name.
+     *
+     * @param types
+     *          The types to index, not {@code null}.
+     *
+     * @param <T>
+     *          The type of the types.
+     *
+     * @return
+     *          A map which maps the qualified name of each given type to the type itself.
+     */
+    private static <T extends CtType<?>> Map<String, T> indexByQualifiedName(Collection<T> types) {
+        var typeMap = new HashMap<String, T>(types.size() * 2);
+
+        for(var type : types) {
+            typeMap.putIfAbsent(type.getQualifiedName(), type);
+        }
+
+        log.debug("Indexed {} types!", typeMap.size());
+
+        return typeMap;
+    }
+
+}
@@ -0,0 +1,108 @@
+package de.adesso.objectfieldcoverage.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+
+    @Test
+    void constructorThrowsExceptionWhenMaximumSizeIsNotPositive() {
+        // given
+        var givenMaximumSize = 0;
+
+        // when / then
+        assertThatThrownBy(() -> new BoundedCache<String, String>(givenMaximumSize))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maximum size must be positive, but was 0!");
+    }
+
+    @Test
+    void getLoadsValueOnlyOnceAndCountsHitsAndMisses() {
+        // given
+        var loadCount = new AtomicInteger();
+        var testSubject = new BoundedCache<String, Integer>(10);
+
+        // when
+        var firstValue = testSubject.get("key", key -> loadCount.incrementAndGet());
+        var secondValue = testSubject.get("key", key -> loadCount.incrementAndGet());
+
+        // then
+        assertThat(firstValue).isEqualTo(1);
+        assertThat(secondValue).isEqualTo(1);
+        assertThat(loadCount).hasValue(1);
+        assertThat(testSubject.getHitCount()).isEqualTo(1L);
+        assertThat(testSubject.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedEntryWhenMaximumSizeIsExceeded() {
+        // given
+        var testSubject = new BoundedCache<String, String>(2);
+        testSubject.get("first", String::toUpperCase);
+        testSubject.get("second", String::toUpperCase);
+        testSubject.get("first", key -> "reloaded");
+
+        // when
+        testSubject.get("third", String::toUpperCase);
+
+        // then
+        assertThat(testSubject.size()).isEqualTo(2);
+        assertThat(testSubject.get("first", key -> "reloaded")).isEqualTo("FIRST");
+        assertThat(testSubject.get("second", key -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        // given
+        var testSubject = new BoundedCache<String, String>(2);
+        testSubject.get("first", String::toUpperCase);
+
+        // when
+        testSubject.clear();
+
+        // then
+        assertThat(testSubject.size()).isZero();
+    }
+
+    @Test
+    void removeIfRemovesMatchingEntries() {
+        // given
+        var testSubject = new BoundedCache<String, String>(3);
+        testSubject.get("first", String::toUpperCase);
+        testSubject.get("second", String::toUpperCase);
+
+        // when
+        var actualRemovedCount = testSubject.removeIf((key, value) -> value.equals("FIRST"));
+
+        // then
+        assertThat(actualRemovedCount).isEqualTo(1);
+        assertThat(testSubject.size()).isEqualTo(1);
+        assertThat(testSubject.get("second", key -> "reloaded")).isEqualTo("SECOND");
+    }
+
+    @Test
+    void getStatisticsReturnsCountsOfCache() {
+        // given
+        var testSubject = new BoundedCache<String, String>("test", 1);
+        testSubject.get("first", String::toUpperCase);
+        testSubject.get("first", String::toUpperCase);
+        testSubject.get("second", String::toUpperCase);
+
+        // when
+        var actualStatistics = testSubject.getStatistics();
+
+        // then
+        assertThat(actualStatistics.getName()).isEqualTo("test");
+        assertThat(actualStatistics.getHitCount()).isEqualTo(1L);
+        assertThat(actualStatistics.getMissCount()).isEqualTo(2L);
+        assertThat(actualStatistics.getEvictionCount()).isEqualTo(1L);
+        assertThat(actualStatistics.getSize()).isEqualTo(1L);
+        assertThat(actualStatistics.getMaximumSize()).isEqualTo(1L);
+        assertThat(actualStatistics.getLoadTimeNanos()).isNotNegative();
+    }
+
+}
@@ -0,0 +1,33 @@
+package de.adesso.objectfieldcoverage.core.cache;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.api.cache.InspectableCache;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheRegistryTest {
+
+    @Test
+    void getStatisticsReturnsStatisticsOfEachRegisteredCacheOnce() {
+        // given
+        var boundedCache = new BoundedCache<String, String>("bounded", 10);
+        var unboundedStatistics = new CacheStatistics("unbounded", 1L, 2L, 0L, 3L, CacheStatistics.UNKNOWN,
+                CacheStatistics.UNKNOWN);
+        InspectableCache unboundedCache = () -> unboundedStatistics;
+
+        var testSubject = new CacheRegistry();
+        testSubject.register(boundedCache);
+        testSubject.register(unboundedCache);
+        testSubject.register(boundedCache);
+
+        // when
+        var actualStatistics = testSubject.getStatistics();
+
+        // then
+        assertThat(actualStatistics).extracting(CacheStatistics::getName).containsExactly("bounded", "unbounded");
+        assertThat(actualStatistics.get(1).describe()).isEqualTo("'unbounded': 1 hits, 2 misses (33.3% hit rate), " +
+                "0 evictions, 0.000 ms loading, n/a of unbounded entries used");
+    }
+
+}
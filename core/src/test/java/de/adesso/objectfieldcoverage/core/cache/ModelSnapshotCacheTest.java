@@ -0,0 +1,190 @@
+package de.adesso.objectfieldcoverage.core.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.Launcher;
+import spoon.reflect.factory.Factory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelSnapshotCacheTest {
+
+    @Test
+    void currentAnalyzerVersionContainsHashOfAnalyzerClasses() {
+        // given / when
+        var actualVersion = ModelSnapshotCache.currentAnalyzerVersion();
+
+        // then
+        assertThat(actualVersion).matches(".*/[0-9a-f]{64}");
+        assertThat(ModelSnapshotCache.currentAnalyzerVersion()).isEqualTo(actualVersion);
+    }
+
+    @Test
+    void hashClassFilesChangesWhenClassFileChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var classFile = Files.createDirectories(tempDir.resolve("de")).resolve("Person.class");
+        Files.write(classFile, new byte[] { 1, 2, 3 });
+
+        var hashBeforeChange = ModelSnapshotCache.hashClassFiles(tempDir);
+        Files.write(classFile, new byte[] { 1, 2, 4 });
+
+        // when
+        var actualHash = ModelSnapshotCache.hashClassFiles(tempDir);
+
+        // then
+        assertThat(actualHash).isNotEqualTo(hashBeforeChange);
+    }
+
+    @Test
+    void loadOrBuildLoadsSnapshotWhenSourcesAreUnchanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var buildCount = new AtomicInteger();
+        var testSubject = new ModelSnapshotCache(tempDir.resolve("cache"), "1.0");
+
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // when
+        var actualFactory = testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // then
+        assertThat(buildCount).hasValue(1);
+        assertThat(actualFactory.Class().get("de.adesso.test.Person")).isNotNull();
+    }
+
+    @Test
+    void loadOrBuildBuildsModelAgainWhenSourceChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        var sourceFile = sourceDir.resolve("Person.java");
+        Files.writeString(sourceFile, "package de.adesso.test; public class Person { int age; }");
+
+        var buildCount = new AtomicInteger();
+        var testSubject = new ModelSnapshotCache(tempDir.resolve("cache"), "1.0");
+
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+        Files.writeString(sourceFile, "package de.adesso.test; public class Person { int age; String name; }");
+
+        // when
+        var actualFactory = testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // then
+        assertThat(buildCount).hasValue(2);
+        assertThat(actualFactory.Class().get("de.adesso.test.Person").getField("name")).isNotNull();
+        assertThat(snapshotFileCount(tempDir.resolve("cache"))).isEqualTo(1L);
+    }
+
+    @Test
+    void loadOrBuildBuildsModelAgainWhenAnalyzerVersionChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var buildCount = new AtomicInteger();
+        new ModelSnapshotCache(tempDir.resolve("cache"), "1.0")
+                .loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        var testSubject = new ModelSnapshotCache(tempDir.resolve("cache"), "2.0");
+
+        // when
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // then
+        assertThat(buildCount).hasValue(2);
+    }
+
+    @Test
+    void loadOrBuildBuildsModelAgainWhenClasspathChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var classesDir = Files.createDirectories(tempDir.resolve("classes"));
+        var classFile = classesDir.resolve("Address.class");
+        Files.writeString(classFile, "v1");
+
+        var buildCount = new AtomicInteger();
+        var testSubject = new ModelSnapshotCache(tempDir.resolve("cache"), "1.0");
+
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(classesDir), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+        Files.writeString(classFile, "version 2");
+
+        // when
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(classesDir), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // then
+        assertThat(buildCount).hasValue(2);
+    }
+
+    @Test
+    void loadOrBuildBuildsModelAgainWhenComplianceLevelChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var buildCount = new AtomicInteger();
+        var testSubject = new ModelSnapshotCache(tempDir.resolve("cache"), "1.0");
+
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 8, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // when
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(), countingModelBuilder(sourceDir, buildCount));
+
+        // then
+        assertThat(buildCount).hasValue(2);
+    }
+
+    @Test
+    void loadOrBuildBuildsModelAgainWhenAdditionalInputFileChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var pomFile = tempDir.resolve("pom.xml");
+        Files.writeString(pomFile, "<project><version>1</version></project>");
+
+        var buildCount = new AtomicInteger();
+        var testSubject = new ModelSnapshotCache(tempDir.resolve("cache"), "1.0");
+
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(pomFile), countingModelBuilder(sourceDir, buildCount));
+        Files.writeString(pomFile, "<project><version>2</version></project>");
+
+        // when
+        testSubject.loadOrBuild(List.of(sourceDir), List.of(), 11, List.of(pomFile), countingModelBuilder(sourceDir, buildCount));
+
+        // then
+        assertThat(buildCount).hasValue(2);
+    }
+
+    private Supplier<Factory> countingModelBuilder(Path sourceDir, AtomicInteger buildCount) {
+        return () -> {
+            buildCount.incrementAndGet();
+
+            var launcher = new Launcher();
+            launcher.addInputResource(sourceDir.toString());
+            launcher.getEnvironment().setComplianceLevel(11);
+            launcher.getEnvironment().setShouldCompile(false);
+            launcher.getEnvironment().setNoClasspath(true);
+            launcher.run();
+
+            return launcher.getFactory();
+        };
+    }
+
+    private long snapshotFileCount(Path cacheDir) throws IOException {
+        try(var files = Files.walk(cacheDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".snapshot"))
+                    .count();
+        }
+    }
+
+}
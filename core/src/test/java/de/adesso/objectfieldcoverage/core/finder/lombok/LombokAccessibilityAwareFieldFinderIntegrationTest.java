@@ -52,6 +52,27 @@ class LombokAccessibilityAwareFieldFinderIntegrationTest extends AbstractSpoonIn
         softly.assertAll();
     }
 
+    @Test
+    void prepareGeneratesGettersOfAllAnnotatedTypes() {
+        // given
+        var model = buildModel("finder/lombok/DataBox.java");
+        var boxClass = findClassWithSimpleName(model, "DataBox");
+
+        // when
+        testSubject.prepare(model);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(boxClass.getMethod("getHeight")).isNotNull();
+        softly.assertThat(boxClass.getMethod("getDepth")).isNotNull();
+        softly.assertThat(boxClass.getMethod("isEmpty")).isNotNull();
+        softly.assertThat(boxClass.getMethod("isFull")).isNotNull();
+        softly.assertThat(boxClass.getMethodsByName("getWidth")).hasSize(1);
+
+        softly.assertAll();
+    }
+
     @Test
     void getterAnnotatedClass() {
         // given
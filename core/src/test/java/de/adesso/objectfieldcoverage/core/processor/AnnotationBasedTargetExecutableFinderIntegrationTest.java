@@ -354,4 +354,24 @@ class AnnotationBasedTargetExecutableFinderIntegrationTest extends AbstractSpoon
                 .hasMessage("The model does not contain the type '%s'!", qualifiedNameOfNonPresentType);
     }
 
+    @Test
+    void findTargetExecutablesResolvesTargetExecutableInReloadedModel() {
+        // given
+        var previousModel = buildModel("processor/Building.java", "processor/BuildingTest.java");
+        testSubject.findTargetExecutables(findClassWithSimpleName(previousModel, "BuildingTest")
+                .getMethod("testNoArgConstructor"), List.of());
+
+        var reloadedModel = buildModel("processor/Building.java", "processor/BuildingTest.java");
+        var givenTestMethod = findClassWithSimpleName(reloadedModel, "BuildingTest").getMethod("testNoArgConstructor");
+
+        // when
+        var actualTargetExecutables = testSubject.findTargetExecutables(givenTestMethod, List.of());
+
+        // then
+        var expectedTargetExecutable = findClassWithSimpleName(reloadedModel, "Building").getConstructor();
+
+        assertThat(actualTargetExecutables).hasSize(1);
+        assertThat(actualTargetExecutables.iterator().next()).isSameAs(expectedTargetExecutable);
+    }
+
 }
@@ -152,4 +152,28 @@ class InvocationResultTrackerIntegrationTest extends AbstractSpoonIntegrationTes
         assertThat(actualPath).contains(expectedPath);
     }
 
+    @Test
+    void getPathPrefixForAccessReturnsPathThroughChildNodes() {
+        // given
+        var testMethod = findMethodWithSimpleName(testClass, "methodInvocationsOnNestedTypeOnInvocation");
+        var targetMethodInvocation = testMethod.getElements(new TypeFilter<>(CtInvocation.class))
+                .get(3);
+        var assertedExpression = testMethod.getElements(new TypeFilter<>(CtInvocation.class))
+                .get(1);
+        var targetMethodReturnType = findClassWithSimpleName(model, "Wrapper");
+
+        var graph = new AccessibleFieldGraphBuilder(List.of(new DirectAccessAccessibilityAwareFieldFinder(), new JavaBeansAccessibilityAwareFieldFinder()), testClass)
+                .buildGraph(targetMethodReturnType.getReference());
+        var dataFieldNode = graph.getRootNodes().iterator().next();
+        var parentFieldNode = dataFieldNode.getChildren().iterator().next();
+
+        var expectedPath = new Path(dataFieldNode, parentFieldNode);
+
+        // when
+        var actualPath = testSubject.getPathPrefixForAccess(assertedExpression, targetMethodInvocation, graph);
+
+        // then
+        assertThat(actualPath).contains(expectedPath);
+    }
+
 }
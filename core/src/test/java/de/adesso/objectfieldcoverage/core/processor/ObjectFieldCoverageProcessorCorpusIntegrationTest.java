@@ -0,0 +1,239 @@
+package de.adesso.objectfieldcoverage.core.processor;
+
+import de.adesso.objectfieldcoverage.api.*;
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import de.adesso.objectfieldcoverage.core.junit.assertion.JUnitAssertionFinder;
+import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
+import de.adesso.objectfieldcoverage.core.processor.evaluation.AssertionEvaluationBuilder;
+import de.adesso.objectfieldcoverage.core.processor.evaluation.graph.ComparedInEqualsMethodBiPredicate;
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
+import de.adesso.objectfieldcoverage.test.CorpusGenerator;
+import de.adesso.objectfieldcoverage.test.CorpusSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.Launcher;
+import spoon.reflect.factory.Factory;
+import spoon.support.QueueProcessingManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectFieldCoverageProcessorCorpusIntegrationTest {
+
+    @Test
+    void parallelProcessingCalculatesSameTotalCoverageAsSequentialProcessing(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .rootTypeCount(6)
+                .depth(2)
+                .fanOut(2)
+                .testMethodCount(2)
+                .build();
+        new CorpusGenerator(spec).generate(tempDir);
+
+        // when
+        var actualSequentialResult = process(tempDir, false).getTotalCoverageResult();
+        var actualParallelResult = process(tempDir, true).getTotalCoverageResult();
+
+        // then
+        assertThat(actualSequentialResult).hasSize(6);
+        assertThat(actualParallelResult).isEqualTo(actualSequentialResult);
+    }
+
+    @Test
+    void incrementalProcessingCalculatesSameTotalCoverageAsNonIncrementalProcessing(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .rootTypeCount(3)
+                .depth(2)
+                .fanOut(2)
+                .testMethodCount(2)
+                .build();
+        var corpusDirectory = tempDir.resolve("corpus");
+        var storeFile = tempDir.resolve("results.txt");
+        new CorpusGenerator(spec).generate(corpusDirectory);
+
+        var expectedResult = process(corpusDirectory, false).getTotalCoverageResult();
+
+        // when
+        var actualStoringResult = processIncrementally(corpusDirectory, storeFile).getTotalCoverageResult();
+        var actualReusingResult = processIncrementally(corpusDirectory, storeFile).getTotalCoverageResult();
+
+        // then
+        assertThat(expectedResult).hasSize(3);
+        assertThat(actualStoringResult).isEqualTo(expectedResult);
+        assertThat(actualReusingResult).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void evaluationCacheEntriesAreSharedBetweenTestClasses(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .depth(2)
+                .fanOut(2)
+                .testMethodCount(2)
+                .build();
+        var corpusGenerator = new CorpusGenerator(spec);
+        var testClassFile = corpusGenerator.generate(tempDir).stream()
+                .filter(file -> file.getFileName().toString().equals("Root0ServiceTest.java"))
+                .findFirst()
+                .orElseThrow();
+
+        var singleTestClassStatistics = findEvaluationCacheStatistics(process(tempDir, false));
+
+        Files.writeString(testClassFile.resolveSibling("Root0ServiceSecondTest.java"), Files.readString(testClassFile)
+                .replace("class Root0ServiceTest", "class Root0ServiceSecondTest"));
+
+        // when
+        var actualProcessor = process(tempDir, false);
+
+        // then
+        var actualStatistics = findEvaluationCacheStatistics(actualProcessor);
+
+        assertThat(actualProcessor.getTotalCoverageResult()).hasSize(2);
+        assertThat(actualStatistics.getMissCount()).isEqualTo(singleTestClassStatistics.getMissCount());
+        assertThat(actualStatistics.getHitCount()).isGreaterThan(singleTestClassStatistics.getHitCount());
+    }
+
+    @Test
+    void cacheRegistryContainsCachesOfModelIndicesAndEqualsAnalysis(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .depth(2)
+                .fanOut(2)
+                .testMethodCount(2)
+                .build();
+        new CorpusGenerator(spec).generate(tempDir);
+
+        // when
+        var actualProcessor = process(tempDir, false);
+
+        // then
+        var actualCacheNames = actualProcessor.getCacheRegistry().getStatistics().stream()
+                .map(CacheStatistics::getName)
+                .collect(Collectors.toList());
+
+        assertThat(actualCacheNames).contains(AssertionEvaluationBuilder.RESULT_CACHE_NAME,
+                ComparedInEqualsMethodBiPredicate.COMPARED_FIELDS_CACHE_NAME, "typeIndex", "resolvedTargetExecutables",
+                "modelSnapshots");
+    }
+
+    @Test
+    void progressReportsSubmittedTestClassCountAsTotal(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .rootTypeCount(3)
+                .depth(1)
+                .fanOut(1)
+                .testMethodCount(1)
+                .build();
+        var corpusDirectory = tempDir.resolve("corpus");
+        var progressFile = tempDir.resolve("progress.json");
+        var corpusGenerator = new CorpusGenerator(spec);
+        corpusGenerator.generate(corpusDirectory);
+
+        var factory = buildModel(corpusDirectory);
+        var testSubject = createProcessor();
+        testSubject.getSettings().setProgressIntervalMillis(60_000L);
+        testSubject.getSettings().setProgressFile(progressFile);
+        testSubject.getSettings().setSubmittedTestClassCount(1L);
+
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(testSubject);
+
+        // when
+        processingManager.process(factory.Class().get(corpusGenerator.getTestClassName(0)));
+
+        // then
+        assertThat(testSubject.getTotalCoverageResult()).hasSize(1);
+        assertThat(Files.readString(progressFile)).contains(
+                "\"processedTestClasses\": 1,",
+                "\"totalTestClasses\": 1,"
+        );
+    }
+
+    private static CacheStatistics findEvaluationCacheStatistics(ObjectFieldCoverageProcessor processor) {
+        return processor.getCacheRegistry().getStatistics().stream()
+                .filter(statistics -> AssertionEvaluationBuilder.RESULT_CACHE_NAME.equals(statistics.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     *
+     * @param corpusDirectory
+     *          The directory of the generated corpus, not {@code null}.
+     *
+     * @param parallel
+     *          Specifies if the test classes should be processed concurrently.
+     *
+     * @return
+     *          The processor which processed all classes of a newly built model of the corpus.
+     */
+    private static ObjectFieldCoverageProcessor process(Path corpusDirectory, boolean parallel) {
+        var factory = buildModel(corpusDirectory);
+        var processor = createProcessor();
+        processor.getSettings().setParallel(parallel);
+        processor.getSettings().setParallelism(4);
+
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(processor);
+        processingManager.process(factory.Class().getAll());
+
+        return processor;
+    }
+
+    /**
+     *
+     * @param corpusDirectory
+     *          The directory of the generated corpus, not {@code null}.
+     *
+     * @param storeFile
+     *          The file of the incremental result store, not {@code null}.
+     *
+     * @return
+     *          The processor which processed all classes of a newly built model of the corpus, reusing and storing
+     *          the results in the given {@code storeFile}.
+     */
+    private static ObjectFieldCoverageProcessor processIncrementally(Path corpusDirectory, Path storeFile) {
+        var factory = buildModel(corpusDirectory);
+        var processor = createProcessor();
+        processor.getSettings().setIncrementalResultStore(storeFile);
+
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(processor);
+        processingManager.process(factory.Class().getAll());
+
+        return processor;
+    }
+
+    private static Factory buildModel(Path corpusDirectory) {
+        var launcher = new Launcher();
+        launcher.addInputResource(corpusDirectory.toString());
+        launcher.getEnvironment().setComplianceLevel(11);
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.buildModel();
+
+        return launcher.getFactory();
+    }
+
+    private static ObjectFieldCoverageProcessor createProcessor() {
+        var invocationHandlers = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(JUnitAssertionInvocationHandler.class);
+
+        return new ObjectFieldCoverageProcessor(
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TargetExecutableFinder.class),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(AccessibilityAwareFieldFinder.class),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TestMethodFinder.class),
+                List.of(new JUnitAssertionFinder(invocationHandlers)),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(EqualsMethodAnalyzer.class),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(InvocationThrowableAnalyzer.class),
+                new InvocationResultTracker()
+        );
+    }
+
+}
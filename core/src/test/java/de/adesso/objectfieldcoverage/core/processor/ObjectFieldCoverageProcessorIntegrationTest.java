@@ -1,29 +1,52 @@
 package de.adesso.objectfieldcoverage.core.processor;
 
 import de.adesso.objectfieldcoverage.api.*;
+import de.adesso.objectfieldcoverage.core.cache.ModelSnapshotCache;
 import de.adesso.objectfieldcoverage.core.junit.assertion.JUnitAssertionFinder;
 import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
 import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import spoon.MavenLauncher;
 import spoon.support.QueueProcessingManager;
 
+import java.nio.file.Path;
 import java.util.List;
 
+/**
+ * Analyzes an arbitrary Maven project, e.g. a checkout of Apache Commons Math. Only enabled when the path of the
+ * project is passed in the {@value #PROJECT_PATH_PROPERTY} system property.
+ */
 class ObjectFieldCoverageProcessorIntegrationTest {
 
+    /**
+     * The name of the system property containing the path of the analyzed Maven project.
+     */
+    private static final String PROJECT_PATH_PROPERTY = "objectfieldcoverage.integration-test.project";
+
+    /**
+     * The compliance level the project is analyzed with.
+     */
+    private static final int COMPLIANCE_LEVEL = 8;
+
     @Test
-    @Disabled
+    @EnabledIfSystemProperty(named = PROJECT_PATH_PROPERTY, matches = ".+")
     void process() {
-        var launcher = new MavenLauncher("C:\\Users\\Daniel\\Documents\\JavaProjects\\commons-math", MavenLauncher.SOURCE_TYPE.ALL_SOURCE);
-        var launcherEnv = launcher.getEnvironment();
-        launcherEnv.setComplianceLevel(8);
-        launcherEnv.setCommentEnabled(false);
-        launcherEnv.setShouldCompile(false);
-        launcher.run();
-
-        var factory = launcher.getFactory();
+        var projectPath = Path.of(System.getProperty(PROJECT_PATH_PROPERTY));
+        var snapshotCache = new ModelSnapshotCache(Path.of("build", "model-snapshots"), ModelSnapshotCache.currentAnalyzerVersion());
+
+        var factory = snapshotCache.loadOrBuild(List.of(projectPath.resolve("src")), List.of(), COMPLIANCE_LEVEL,
+                List.of(projectPath.resolve("pom.xml")), () -> {
+            var launcher = new MavenLauncher(projectPath.toString(), MavenLauncher.SOURCE_TYPE.ALL_SOURCE);
+            var launcherEnv = launcher.getEnvironment();
+            launcherEnv.setComplianceLevel(COMPLIANCE_LEVEL);
+            launcherEnv.setCommentEnabled(false);
+            launcherEnv.setShouldCompile(false);
+            launcher.run();
+
+            return launcher.getFactory();
+        });
+
         var processingManager = new QueueProcessingManager(factory);
 
         var targetExecutableFinders = ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TargetExecutableFinder.class);
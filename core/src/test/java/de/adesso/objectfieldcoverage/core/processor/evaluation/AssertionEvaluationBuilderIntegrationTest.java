@@ -5,6 +5,8 @@ import de.adesso.objectfieldcoverage.api.assertion.primitive.PrimitiveTypeAssert
 import de.adesso.objectfieldcoverage.api.evaluation.AssertionEvaluationInformation;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraph;
 import de.adesso.objectfieldcoverage.api.evaluation.graph.AccessibleFieldGraphNode;
+import de.adesso.objectfieldcoverage.api.evaluation.jfr.EvaluationBuildEvent;
+import de.adesso.objectfieldcoverage.api.evaluation.jfr.GraphBuildEvent;
 import de.adesso.objectfieldcoverage.core.analyzer.PseudoFieldEqualsMethodAnalyzer;
 import de.adesso.objectfieldcoverage.core.analyzer.lombok.LombokEqualsMethodAnalyzer;
 import de.adesso.objectfieldcoverage.core.analyzer.method.ObjectsEqualsMethodEqualsMethodAnalyzer;
@@ -21,13 +23,19 @@ import de.adesso.objectfieldcoverage.test.AbstractSpoonIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import spoon.reflect.code.CtInvocation;
 import spoon.reflect.declaration.CtMethod;
 import spoon.reflect.visitor.filter.TypeFilter;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,6 +44,8 @@ class AssertionEvaluationBuilderIntegrationTest extends AbstractSpoonIntegration
 
     private AssertionEvaluationBuilder testSubject;
 
+    private AssertionEvaluationBuilder countingTestSubject;
+
     @BeforeEach
     void setUp() {
         var fieldFinders = List.of(
@@ -52,6 +62,8 @@ class AssertionEvaluationBuilderIntegrationTest extends AbstractSpoonIntegration
         );
 
         this.testSubject = new AssertionEvaluationBuilder(fieldFinders, equalsMethodAnalyzers);
+        this.countingTestSubject = new AssertionEvaluationBuilder(fieldFinders, equalsMethodAnalyzers);
+        this.countingTestSubject.setCountPaths(true);
     }
 
     @Test
@@ -81,4 +93,64 @@ class AssertionEvaluationBuilderIntegrationTest extends AbstractSpoonIntegration
         assertThat(actualResult).isEqualTo(expectedResult);
     }
 
+    @Test
+    void buildCountsPathsOfFieldsNotUsedInEqualsWithoutMaterializingThemWhenCountPathsIsEnabled() {
+        // given
+        var model = buildModel("processor/evaluation/PrimitiveTypeAssertionTest.java");
+        var testClass = findClassWithSimpleName(model, "PrimitiveTypeAssertionTest");
+        var assertedTypeRef = findClassWithSimpleName(model, "PrimitiveTypeAssertionTestTarget").getReference();
+        var expectedResult = testSubject.build(testClass, assertedTypeRef);
+
+        // when
+        var actualResult = countingTestSubject.build(testClass, assertedTypeRef);
+
+        // then
+        assertThat(expectedResult.getPathsOfFieldsNotUsedInEquals()).isNotEmpty();
+        assertThat(actualResult.getPathsOfFieldsNotUsedInEquals()).isEmpty();
+        assertThat(actualResult.getPathCountOfFieldsNotUsedInEquals())
+                .isEqualTo(expectedResult.getPathsOfFieldsNotUsedInEquals().size());
+        assertThat(actualResult.allAccessibleFieldsUsedInEquals()).isFalse();
+    }
+
+    @Test
+    void buildEmitsEventsContainingPathCountsWhenRecording(@TempDir Path tempDir) throws Exception {
+        // given
+        var recordingFile = tempDir.resolve("recording.jfr");
+        var model = buildModel("processor/evaluation/PrimitiveTypeAssertionTest.java");
+        var testClass = findClassWithSimpleName(model, "PrimitiveTypeAssertionTest");
+        var assertedTypeRef = findClassWithSimpleName(model, "PrimitiveTypeAssertionTestTarget").getReference();
+        AssertionEvaluationInformation actualResult;
+
+        // when
+        try(var recording = new Recording()) {
+            recording.enable(GraphBuildEvent.class).withoutThreshold();
+            recording.enable(EvaluationBuildEvent.class).withoutThreshold();
+            recording.start();
+
+            actualResult = testSubject.build(testClass, assertedTypeRef);
+            testSubject.build(testClass, assertedTypeRef);
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // then
+        var expectedPathCount = actualResult.getAccessibleFieldsGraph().getTransitiveReachabilityPathCount();
+        var actualEvents = RecordingFile.readAllEvents(recordingFile);
+        var actualGraphBuildEvents = actualEvents.stream()
+                .filter(event -> GraphBuildEvent.NAME.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+        var actualEvaluationBuildEvents = actualEvents.stream()
+                .filter(event -> EvaluationBuildEvent.NAME.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+
+        assertThat(expectedPathCount).isPositive();
+        assertThat(actualGraphBuildEvents).hasSize(2);
+        assertThat(actualGraphBuildEvents).extracting(event -> event.getLong("pathCount")).contains(expectedPathCount);
+        assertThat(actualEvaluationBuildEvents).extracting(event -> event.getLong("pathCount"))
+                .containsExactly(expectedPathCount, expectedPathCount);
+        assertThat(actualEvaluationBuildEvents).extracting((RecordedEvent event) -> event.getBoolean("cacheHit"))
+                .containsExactly(false, true);
+    }
+
 }
@@ -17,6 +17,8 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class ComparedInEqualsMethodBiPredicateTest {
@@ -94,4 +96,40 @@ class ComparedInEqualsMethodBiPredicateTest {
         assertThat(actualResult).isFalse();
     }
 
+    @Test
+    void testAnalyzesEqualsMethodOnlyOncePerType(@Mock CtField<Character[]> fieldMock,
+                                                 @Mock CtField<Character[]> otherFieldMock,
+                                                 @Mock CtTypeReference<String> classRefMock,
+                                                 @Mock CtClass<String> classMock) {
+        // given
+        var accessibleField = new AccessibleField<>(fieldMock, fieldMock);
+        var otherAccessibleField = new AccessibleField<>(otherFieldMock, otherFieldMock);
+
+        given(classRefMock.isClass()).willReturn(true);
+        given(classRefMock.getTypeDeclaration()).willReturn(classMock);
+
+        given(fieldFinderMock.findAccessibleFields(classMock, classRefMock)).willReturn(List.of(accessibleField, otherAccessibleField));
+
+        given(equalsMethodAnalyzerMock.overridesEquals(classRefMock)).willReturn(true);
+        given(equalsMethodAnalyzerMock.callsSuper(classRefMock)).willReturn(false);
+        given(equalsMethodAnalyzerMock.findFieldsComparedInEqualsMethod(classRefMock, Set.of(accessibleField, otherAccessibleField)))
+                .willReturn(Set.of(accessibleField));
+
+        // when
+        var actualResult = testSubject.test(accessibleField, classRefMock);
+        var actualOtherResult = testSubject.test(otherAccessibleField, classRefMock);
+
+        // then
+        assertThat(actualResult).isTrue();
+        assertThat(actualOtherResult).isFalse();
+        then(equalsMethodAnalyzerMock).should(times(1)).findFieldsComparedInEqualsMethod(classRefMock,
+                Set.of(accessibleField, otherAccessibleField));
+
+        var actualStatistics = testSubject.getStatistics();
+        assertThat(actualStatistics.getName()).isEqualTo(ComparedInEqualsMethodBiPredicate.COMPARED_FIELDS_CACHE_NAME);
+        assertThat(actualStatistics.getHitCount()).isEqualTo(1L);
+        assertThat(actualStatistics.getMissCount()).isEqualTo(1L);
+        assertThat(actualStatistics.getSize()).isEqualTo(1L);
+    }
+
 }
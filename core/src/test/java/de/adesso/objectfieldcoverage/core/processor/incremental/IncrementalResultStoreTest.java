@@ -0,0 +1,209 @@
+package de.adesso.objectfieldcoverage.core.processor.incremental;
+
+import org.apache.commons.math3.fraction.Fraction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.Launcher;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.factory.Factory;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalResultStoreTest {
+
+    private static final String PERSON_SOURCE = "package de.adesso.test; public class Person { int age; }";
+
+    private static final String TEST_SOURCE = "package de.adesso.test; public class PersonTest { Person helper() { return new Person(); } }";
+
+    @Test
+    void findUpToDateCoveragesReturnsStoredCoveragesWhenDependenciesDidNotChange(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+        var givenCoverages = List.of(new Fraction(1, 2), new Fraction(3, 4));
+
+        storeResults(storeFile, buildModel(sourceDir), givenCoverages);
+
+        var testClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var testSubject = IncrementalResultStore.load(storeFile, "config");
+
+        // when
+        var actualCoverages = testSubject.findUpToDateCoverages(testClass);
+
+        // then
+        assertThat(actualCoverages).contains(givenCoverages);
+    }
+
+    @Test
+    void hasApproximateCoveragesReturnsStoredApproximateFlag(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+
+        storeResults(storeFile, buildModel(sourceDir), List.of(new Fraction(1, 2)), true);
+
+        var testClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var testSubject = IncrementalResultStore.load(storeFile, "config");
+
+        // when
+        var actualApproximate = testSubject.hasApproximateCoverages(testClass);
+
+        // then
+        assertThat(actualApproximate).isTrue();
+        assertThat(testSubject.findUpToDateCoverages(testClass)).contains(List.of(new Fraction(1, 2)));
+    }
+
+    @Test
+    void findUpToDateCoveragesReturnsEmptyOptionalWhenDependencyChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+
+        storeResults(storeFile, buildModel(sourceDir), List.of(new Fraction(1, 2)));
+        writeSources(tempDir, "package de.adesso.test; public class Person { int age; String name; }");
+
+        var testClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var testSubject = IncrementalResultStore.load(storeFile, "config");
+
+        // when
+        var actualCoverages = testSubject.findUpToDateCoverages(testClass);
+
+        // then
+        assertThat(actualCoverages).isEmpty();
+    }
+
+    @Test
+    void findUpToDateCoveragesReturnsEmptyOptionalWhenConfigurationChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+
+        storeResults(storeFile, buildModel(sourceDir), List.of(new Fraction(1, 2)));
+
+        var testClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var testSubject = IncrementalResultStore.load(storeFile, "other-config");
+
+        // when
+        var actualCoverages = testSubject.findUpToDateCoverages(testClass);
+
+        // then
+        assertThat(actualCoverages).isEmpty();
+    }
+
+    @Test
+    void findUpToDateCoveragesReturnsEmptyOptionalWhenDependencyCanNoLongerBeResolved(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+
+        storeResults(storeFile, buildModel(sourceDir), List.of(new Fraction(1, 2)));
+        Files.delete(sourceDir.resolve("Person.java"));
+        Files.writeString(sourceDir.resolve("PersonTest.java"), "package de.adesso.test; public class PersonTest { }");
+
+        var testClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var testSubject = IncrementalResultStore.load(storeFile, "config");
+
+        // when
+        var actualCoverages = testSubject.findUpToDateCoverages(testClass);
+
+        // then
+        assertThat(actualCoverages).isEmpty();
+    }
+
+    @Test
+    void recordExecutableDependencyRecordsMethodOfLocalClassWhoseStoredDependencyWasChecked(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+        Files.writeString(sourceDir.resolve("PersonTest.java"),
+                "package de.adesso.test; public class PersonTest { static { class Local { int age() { return 1; } } } }");
+
+        var givenCoverages = List.of(new Fraction(1, 2));
+        var firstTestClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var firstStore = IncrementalResultStore.load(storeFile, "config");
+        firstStore.recordExecutableDependency(firstTestClass, localMethodOf(firstTestClass));
+        firstStore.storeCoverages(firstTestClass, givenCoverages, false);
+        firstStore.save();
+
+        var testClass = buildModel(sourceDir).Class().get("de.adesso.test.PersonTest");
+        var testSubject = IncrementalResultStore.load(storeFile, "config");
+        var actualCoverages = testSubject.findUpToDateCoverages(testClass);
+
+        // when
+        testSubject.recordExecutableDependency(testClass, localMethodOf(testClass));
+        testSubject.storeCoverages(testClass, givenCoverages, false);
+        testSubject.save();
+
+        // then
+        assertThat(actualCoverages).contains(givenCoverages);
+        assertThat(Files.readString(storeFile)).contains("dependency\tde.adesso.test.PersonTest$Local#age()\t");
+    }
+
+    @Test
+    void removeEntriesOfMissingTestClassesRemovesEntriesOfDeletedTestClasses(@TempDir Path tempDir) throws IOException {
+        // given
+        var storeFile = tempDir.resolve("results.store");
+        var sourceDir = writeSources(tempDir, PERSON_SOURCE);
+
+        storeResults(storeFile, buildModel(sourceDir), List.of(new Fraction(1, 2)));
+        Files.delete(sourceDir.resolve("PersonTest.java"));
+
+        var testSubject = IncrementalResultStore.load(storeFile, "config");
+
+        // when
+        testSubject.removeEntriesOfMissingTestClasses(buildModel(sourceDir));
+        testSubject.save();
+
+        // then
+        assertThat(Files.readString(storeFile)).doesNotContain("de.adesso.test.PersonTest");
+    }
+
+    private CtMethod<?> localMethodOf(CtClass<?> testClass) {
+        return testClass.getElements(new TypeFilter<CtClass<?>>(CtClass.class)).stream()
+                .filter(CtClass::isLocalType)
+                .findFirst()
+                .orElseThrow()
+                .getMethodsByName("age").get(0);
+    }
+
+    private void storeResults(Path storeFile, Factory factory, List<Fraction> coverages) {
+        storeResults(storeFile, factory, coverages, false);
+    }
+
+    private void storeResults(Path storeFile, Factory factory, List<Fraction> coverages, boolean approximate) {
+        var store = IncrementalResultStore.load(storeFile, "config");
+        var testClass = factory.Class().get("de.adesso.test.PersonTest");
+        var helperMethod = testClass.getMethodsByName("helper").get(0);
+
+        store.recordTypeDependency(testClass, testClass.getReference());
+        store.recordExecutableDependency(testClass, helperMethod);
+        store.recordTypeDependency(testClass, helperMethod.getType());
+        store.storeCoverages(testClass, coverages, approximate);
+        store.save();
+    }
+
+    private Path writeSources(Path tempDir, String personSource) throws IOException {
+        var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(sourceDir.resolve("Person.java"), personSource);
+        Files.writeString(sourceDir.resolve("PersonTest.java"), TEST_SOURCE);
+        return sourceDir;
+    }
+
+    private Factory buildModel(Path sourceDir) {
+        var launcher = new Launcher();
+        launcher.addInputResource(sourceDir.toString());
+        launcher.getEnvironment().setComplianceLevel(11);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.run();
+
+        return launcher.getFactory();
+    }
+
+}
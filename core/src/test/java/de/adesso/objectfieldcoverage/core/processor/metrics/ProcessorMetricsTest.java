@@ -0,0 +1,89 @@
+package de.adesso.objectfieldcoverage.core.processor.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessorMetricsTest {
+
+    @Test
+    void stopRecordsExecutionWhenEnabled() {
+        // given
+        var testSubject = new ProcessorMetrics(true);
+
+        // when
+        var startTime = testSubject.start(ProcessorPhase.GRAPH_BUILDING);
+        testSubject.stop(ProcessorPhase.GRAPH_BUILDING, startTime);
+        testSubject.add(ProcessorCounter.GRAPH_NODES, 5L);
+
+        // then
+        assertThat(testSubject.getExecutionCount(ProcessorPhase.GRAPH_BUILDING)).isEqualTo(1L);
+        assertThat(testSubject.getTotalNanos(ProcessorPhase.GRAPH_BUILDING)).isNotNegative();
+        assertThat(testSubject.getCount(ProcessorCounter.GRAPH_NODES)).isEqualTo(5L);
+    }
+
+    @Test
+    void stopRecordsNothingWhenDisabled() {
+        // given
+        var testSubject = ProcessorMetrics.disabled();
+
+        // when
+        var startTime = testSubject.start(ProcessorPhase.GRAPH_BUILDING);
+        testSubject.stop(ProcessorPhase.GRAPH_BUILDING, startTime);
+        testSubject.add(ProcessorCounter.GRAPH_NODES, 5L);
+
+        // then
+        assertThat(startTime).isZero();
+        assertThat(testSubject.getExecutionCount(ProcessorPhase.GRAPH_BUILDING)).isZero();
+        assertThat(testSubject.getCount(ProcessorCounter.GRAPH_NODES)).isZero();
+    }
+
+    @Test
+    void stopRecordsAllocatedBytesWhenAllocationTrackingIsEnabled() {
+        // given
+        var testSubject = new ProcessorMetrics(true);
+        testSubject.setAllocationTrackingEnabled(true);
+
+        // when
+        var testClassAllocationStart = testSubject.startTestClass();
+        var startTime = testSubject.start(ProcessorPhase.PATH_ENUMERATION);
+        var allocatedArrays = new ArrayList<long[]>();
+        for(var arrayIndex = 0; arrayIndex < 16; arrayIndex++) {
+            allocatedArrays.add(new long[1024]);
+        }
+        testSubject.stop(ProcessorPhase.PATH_ENUMERATION, startTime);
+        testSubject.stopTestClass("de.adesso.test.PersonTest", testClassAllocationStart);
+
+        // then
+        assertThat(allocatedArrays).hasSize(16);
+        assertThat(testSubject.getAllocatedBytes(ProcessorPhase.PATH_ENUMERATION)).isGreaterThanOrEqualTo(16L * 1024L * 8L);
+        assertThat(testSubject.getAllocatedBytes(ProcessorPhase.GRAPH_BUILDING)).isZero();
+        assertThat(testSubject.getTestClassAllocatedBytes().get("de.adesso.test.PersonTest"))
+                .isGreaterThanOrEqualTo(testSubject.getAllocatedBytes(ProcessorPhase.PATH_ENUMERATION));
+        assertThat(testSubject.toJson()).contains("\"de.adesso.test.PersonTest\": { \"allocatedBytes\": ");
+    }
+
+    @Test
+    void writeJsonWritesAllPhasesAndCounters(@TempDir Path tempDir) throws Exception {
+        // given
+        var metricsFile = tempDir.resolve("metrics.json");
+        var testSubject = new ProcessorMetrics(true);
+        testSubject.add(ProcessorCounter.ASSERTIONS, 3L);
+
+        // when
+        testSubject.writeJson(metricsFile);
+
+        // then
+        var actualJson = Files.readString(metricsFile);
+        assertThat(actualJson).contains("\"ASSERTIONS\": 3", "\"AGGREGATION\": { \"count\": 0, \"totalNanos\": 0 }");
+        for(var phase : ProcessorPhase.values()) {
+            assertThat(actualJson).contains("\"" + phase.name() + "\"");
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package de.adesso.objectfieldcoverage.core.processor.progress;
+
+import de.adesso.objectfieldcoverage.api.cache.CacheStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProgressReporterTest {
+
+    @Test
+    void snapshotContainsProcessedCountsAndCacheHitRates() {
+        // given
+        var cacheStatistics = new CacheStatistics("evaluation", 3L, 1L, 0L, 0L, 4L, 16L);
+        var testSubject = new ProgressReporter(60_000L, null, null, () -> List.of(cacheStatistics));
+
+        testSubject.start(4L);
+
+        // when
+        testSubject.testMethodProcessed();
+        testSubject.testMethodProcessed();
+        testSubject.testClassProcessed();
+        var actualSnapshot = testSubject.snapshot();
+        testSubject.stop();
+
+        // then
+        assertThat(actualSnapshot.getProcessedTestClasses()).isEqualTo(1L);
+        assertThat(actualSnapshot.getTotalTestClasses()).isEqualTo(4L);
+        assertThat(actualSnapshot.getProcessedTestMethods()).isEqualTo(2L);
+        assertThat(actualSnapshot.getEtaMillis()).isNotNegative();
+        assertThat(actualSnapshot.isFinished()).isFalse();
+        assertThat(actualSnapshot.getCacheHitRates()).containsExactly(Map.entry("evaluation", 0.75D));
+    }
+
+    @Test
+    void snapshotHasUnknownEtaWhenNoTestClassWasProcessed() {
+        // given
+        var testSubject = ProgressReporter.disabled();
+        testSubject.start(4L);
+
+        // when
+        var actualSnapshot = testSubject.snapshot();
+
+        // then
+        assertThat(actualSnapshot.getEtaMillis()).isEqualTo(ProgressSnapshot.UNKNOWN);
+        assertThat(actualSnapshot.describe()).contains("Processed 0 of 4 test classes", "ETA unknown");
+    }
+
+    @Test
+    void snapshotNeverReportsLessTotalTestClassesThanProcessed() {
+        // given
+        var testSubject = ProgressReporter.disabled();
+        testSubject.start(1L);
+
+        // when
+        testSubject.testClassProcessed();
+        testSubject.testClassProcessed();
+        var actualSnapshot = testSubject.snapshot();
+
+        // then
+        assertThat(actualSnapshot.getTotalTestClasses()).isEqualTo(2L);
+        assertThat(actualSnapshot.getEtaMillis()).isZero();
+    }
+
+    @Test
+    void stopReportsFinalProgressToConsoleAndFile(@TempDir Path tempDir) throws Exception {
+        // given
+        var progressFile = tempDir.resolve("progress").resolve("progress.json");
+        var consoleOutput = new ByteArrayOutputStream();
+        var console = new PrintStream(consoleOutput, true, StandardCharsets.UTF_8);
+        var testSubject = new ProgressReporter(60_000L, console, progressFile, List::of);
+
+        testSubject.start(2L);
+        testSubject.testMethodProcessed();
+        testSubject.testClassProcessed();
+
+        // when
+        testSubject.stop();
+
+        // then
+        assertThat(consoleOutput.toString(StandardCharsets.UTF_8)).contains("Processed 1 of 1 test classes", "ETA done");
+        assertThat(Files.readString(progressFile)).contains(
+                "\"processedTestClasses\": 1,",
+                "\"totalTestClasses\": 1,",
+                "\"processedTestMethods\": 1,",
+                "\"etaMillis\": 0,",
+                "\"finished\": true,",
+                "\"cacheHitRates\": {\n  }"
+        );
+    }
+
+    @Test
+    void stopReportsNothingWhenNotStarted() {
+        // given
+        var consoleOutput = new ByteArrayOutputStream();
+        var testSubject = new ProgressReporter(60_000L, new PrintStream(consoleOutput), null, List::of);
+
+        // when
+        testSubject.stop();
+
+        // then
+        assertThat(consoleOutput.toByteArray()).isEmpty();
+    }
+
+    @Test
+    void constructorThrowsExceptionWhenIntervalIsNotPositive() {
+        // given
+        var intervalMillis = 0L;
+
+        // when / then
+        assertThatThrownBy(() -> new ProgressReporter(intervalMillis, null, null, List::of))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The report interval must be positive, but was 0!");
+    }
+
+}
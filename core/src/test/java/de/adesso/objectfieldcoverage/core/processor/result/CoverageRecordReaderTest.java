@@ -0,0 +1,84 @@
+package de.adesso.objectfieldcoverage.core.processor.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoverageRecordReaderTest {
+
+    @Test
+    void openReturnsReaderContainingAppendedRecords(@TempDir Path tempDir) throws IOException {
+        // given
+        var recordFile = tempDir.resolve("coverage.records");
+        var firstRecord = new CoverageRecord("de.adesso.test.PersonTest", "getAge()", "de.adesso.test.Person#getAge()",
+                1L, 2L, false, List.of("age"));
+        var secondRecord = new CoverageRecord("de.adesso.test.PersonTest", "getName()", "de.adesso.test.Person#getName()",
+                3L, 4L, true, List.of());
+
+        try(var writer = CoverageRecordWriter.create(recordFile)) {
+            writer.append(firstRecord);
+            writer.append(secondRecord);
+        }
+
+        // when
+        try(var testSubject = CoverageRecordReader.open(recordFile)) {
+
+            // then
+            assertThat(testSubject.size()).isEqualTo(2);
+            assertThat(testSubject.get(1)).isEqualTo(secondRecord);
+            assertThat(testSubject.stream().collect(Collectors.toList())).containsExactly(firstRecord, secondRecord);
+        }
+    }
+
+    @Test
+    void appendWritesEachStringOnlyOnce(@TempDir Path tempDir) throws IOException {
+        // given
+        var singleRecordFile = tempDir.resolve("single.records");
+        var repeatedRecordFile = tempDir.resolve("repeated.records");
+        var record = new CoverageRecord("de.adesso.test.PersonTest", "getAge()", "de.adesso.test.Person#getAge()",
+                1L, 1L, false, List.of("age"));
+
+        // when
+        try(var writer = CoverageRecordWriter.create(singleRecordFile)) {
+            writer.append(record);
+        }
+
+        try(var writer = CoverageRecordWriter.create(repeatedRecordFile)) {
+            writer.append(record);
+            writer.append(record);
+        }
+
+        // then
+        var recordSize = 1L + 3 * Integer.BYTES + 2 * Long.BYTES + Byte.BYTES + 2 * Integer.BYTES;
+        assertThat(Files.size(repeatedRecordFile)).isEqualTo(Files.size(singleRecordFile) + recordSize);
+    }
+
+    @Test
+    void openThrowsExceptionWhenFileIsTruncated(@TempDir Path tempDir) throws IOException {
+        // given
+        var recordFile = tempDir.resolve("coverage.records");
+
+        try(var writer = CoverageRecordWriter.create(recordFile)) {
+            writer.append(new CoverageRecord("de.adesso.test.PersonTest", "getAge()", "de.adesso.test.Person#getAge()",
+                    1L, 1L, false, List.of()));
+        }
+
+        var bytes = Files.readAllBytes(recordFile);
+        Files.write(recordFile, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // when / then
+        assertThatThrownBy(() -> CoverageRecordReader.open(recordFile))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("truncated");
+    }
+
+}
@@ -0,0 +1,84 @@
+package de.adesso.objectfieldcoverage.core.processor.shard;
+
+import de.adesso.objectfieldcoverage.core.processor.ObjectFieldCoverageProcessor;
+import org.apache.commons.math3.fraction.Fraction;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardResultMergerTest {
+
+    @Test
+    void mergeReturnsSameTotalsAsUnshardedAnalysis() {
+        // given
+        var coverages = Map.of(
+                "de.adesso.test.PersonTest", List.of(new Fraction(3, 4), Fraction.ONE_HALF),
+                "de.adesso.test.AddressTest", List.of(Fraction.ONE),
+                "de.adesso.test.CompanyTest", List.of(new Fraction(1, 3), new Fraction(2, 3), Fraction.ZERO),
+                "de.adesso.test.EmployeeTest", List.of(new Fraction(1, 5))
+        );
+
+        var shardCount = 3;
+        var shardResults = IntStream.range(0, shardCount)
+                .mapToObj(shardIndex -> new ShardResult(shardIndex, shardCount, coverages.entrySet().stream()
+                        .filter(entry -> ShardPartitioner.shardOf(entry.getKey(), shardCount) == shardIndex)
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))))
+                .collect(Collectors.toList());
+
+        // when
+        var actualTotals = ShardResultMerger.merge(shardResults);
+
+        // then
+        assertThat(actualTotals).isEqualTo(ObjectFieldCoverageProcessor.computeTotalCoverages(coverages));
+        assertThat(actualTotals).containsEntry("de.adesso.test.PersonTest", new Fraction(5, 8));
+    }
+
+    @Test
+    void mergeApproximateTestClassesReturnsApproximateTestClassesOfAllShards() {
+        // given
+        var shardResults = List.of(
+                new ShardResult(0, 2, Map.of("de.adesso.test.PersonTest", List.of(Fraction.ONE_HALF)),
+                        Set.of("de.adesso.test.PersonTest")),
+                new ShardResult(1, 2, Map.of("de.adesso.test.AddressTest", List.of(Fraction.ONE),
+                        "de.adesso.test.CompanyTest", List.of(Fraction.ZERO)), Set.of("de.adesso.test.CompanyTest"))
+        );
+
+        // when
+        var actualApproximateTestClasses = ShardResultMerger.mergeApproximateTestClasses(shardResults);
+
+        // then
+        assertThat(actualApproximateTestClasses)
+                .containsExactlyInAnyOrder("de.adesso.test.PersonTest", "de.adesso.test.CompanyTest");
+    }
+
+    @Test
+    void mergeThrowsExceptionWhenShardIsMissing() {
+        // given
+        var shardResults = List.of(new ShardResult(0, 2, new HashMap<>()));
+
+        // when / then
+        assertThatThrownBy(() -> ShardResultMerger.merge(shardResults))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The result of shard 1 is missing!");
+    }
+
+    @Test
+    void mergeThrowsExceptionWhenShardCountsDiffer() {
+        // given
+        var shardResults = List.of(new ShardResult(0, 2, new HashMap<>()), new ShardResult(1, 3, new HashMap<>()));
+
+        // when / then
+        assertThatThrownBy(() -> ShardResultMerger.merge(shardResults))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shard results of 2 and 3 shards cannot be merged!");
+    }
+
+}
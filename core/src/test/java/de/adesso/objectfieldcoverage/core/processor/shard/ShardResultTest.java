@@ -0,0 +1,85 @@
+package de.adesso.objectfieldcoverage.core.processor.shard;
+
+import org.apache.commons.math3.fraction.Fraction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardResultTest {
+
+    @Test
+    void readReturnsWrittenShardResult(@TempDir Path tempDir) {
+        // given
+        var resultFile = tempDir.resolve("shard-1.result");
+        var coverages = Map.of(
+                "de.adesso.test.PersonTest", List.of(new Fraction(3, 4), Fraction.ONE_HALF),
+                "de.adesso.test.AddressTest", List.of(Fraction.ONE)
+        );
+
+        new ShardResult(1, 3, coverages).write(resultFile);
+
+        // when
+        var actualResult = ShardResult.read(resultFile);
+
+        // then
+        assertThat(actualResult.getShardIndex()).isEqualTo(1);
+        assertThat(actualResult.getShardCount()).isEqualTo(3);
+        assertThat(actualResult.getCoverages()).containsOnly(
+                Map.entry("de.adesso.test.PersonTest", List.of(Fraction.ONE_HALF, new Fraction(3, 4))),
+                Map.entry("de.adesso.test.AddressTest", List.of(Fraction.ONE))
+        );
+    }
+
+    @Test
+    void readReturnsWrittenApproximateTestClasses(@TempDir Path tempDir) {
+        // given
+        var resultFile = tempDir.resolve("shard-0.result");
+        var coverages = Map.of(
+                "de.adesso.test.PersonTest", List.of(Fraction.ONE_HALF),
+                "de.adesso.test.AddressTest", List.of(Fraction.ONE)
+        );
+
+        new ShardResult(0, 2, coverages, Set.of("de.adesso.test.PersonTest")).write(resultFile);
+
+        // when
+        var actualResult = ShardResult.read(resultFile);
+
+        // then
+        assertThat(actualResult.getApproximateTestClasses()).containsExactly("de.adesso.test.PersonTest");
+    }
+
+    @Test
+    void writeWritesSameFileForSameResults(@TempDir Path tempDir) throws Exception {
+        // given
+        var firstFile = tempDir.resolve("first.result");
+        var secondFile = tempDir.resolve("second.result");
+
+        // when
+        new ShardResult(0, 2, Map.of("de.adesso.test.PersonTest", List.of(Fraction.ONE, Fraction.ONE_HALF)))
+                .write(firstFile);
+        new ShardResult(0, 2, Map.of("de.adesso.test.PersonTest", List.of(Fraction.ONE_HALF, Fraction.ONE)))
+                .write(secondFile);
+
+        // then
+        assertThat(Files.readAllLines(firstFile)).isEqualTo(Files.readAllLines(secondFile));
+    }
+
+    @Test
+    void readThrowsExceptionWhenFileIsMalformed(@TempDir Path tempDir) throws Exception {
+        // given
+        var resultFile = Files.writeString(tempDir.resolve("shard.result"), "not a shard result");
+
+        // when / then
+        assertThatThrownBy(() -> ShardResult.read(resultFile))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
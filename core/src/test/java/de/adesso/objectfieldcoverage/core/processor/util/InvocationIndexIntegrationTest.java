@@ -0,0 +1,64 @@
+package de.adesso.objectfieldcoverage.core.processor.util;
+
+import de.adesso.objectfieldcoverage.test.AbstractSpoonIntegrationTest;
+import org.junit.jupiter.api.Test;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvocationIndexIntegrationTest extends AbstractSpoonIntegrationTest {
+
+    @Test
+    void ofReturnsSameIndexForSameMethod() {
+        // given
+        var model = buildModel("processor/filter/Test.java", "processor/filter/AbstractTest.java",
+                "processor/filter/Other.java", "processor/filter/OtherInterface.java");
+        var testMethod = findMethodWithSimpleName(findClassWithSimpleName(model, "Test"), "test");
+
+        // when
+        var firstIndex = InvocationIndex.of(testMethod);
+        var secondIndex = InvocationIndex.of(testMethod);
+
+        // then
+        assertThat(firstIndex).isSameAs(secondIndex);
+    }
+
+    @Test
+    void indexContainsInvocationsInScanOrder() {
+        // given
+        var model = buildModel("processor/filter/Test.java", "processor/filter/AbstractTest.java",
+                "processor/filter/Other.java", "processor/filter/OtherInterface.java");
+        var testMethod = findMethodWithSimpleName(findClassWithSimpleName(model, "Test"), "test");
+        var expectedInvocations = testMethod.getElements(new TypeFilter<CtInvocation<?>>(CtInvocation.class));
+
+        // when
+        var actualInvocations = InvocationIndex.of(testMethod).getMethodInvocations();
+
+        // then
+        assertThat(actualInvocations).containsExactlyElementsOf(expectedInvocations);
+    }
+
+    @Test
+    void findMethodsReturnExpectedInvocations() {
+        // given
+        var model = buildModel("processor/filter/Test.java", "processor/filter/AbstractTest.java",
+                "processor/filter/Other.java", "processor/filter/OtherInterface.java");
+        var testClass = findClassWithSimpleName(model, "Test");
+        var testMethod = findMethodWithSimpleName(testClass, "test");
+        var helperMethod = findMethodWithSimpleName(testClass, "helperMethod");
+        var allInvocations = testMethod.getElements(new TypeFilter<CtInvocation<?>>(CtInvocation.class));
+
+        // when
+        var testSubject = InvocationIndex.of(testMethod);
+
+        // then
+        assertThat(testSubject.findInvocationsOf(helperMethod)).containsExactly(allInvocations.get(5));
+        assertThat(testSubject.findStaticMethodInvocationsOnType("de.adesso.test.Other")).containsExactly(allInvocations.get(2));
+        assertThat(testSubject.findMethodInvocationsOnType("java.lang.String")).containsExactly(allInvocations.get(3));
+        assertThat(testSubject.findMethodInvocationsByName("abstractHelperMethod"))
+                .containsExactly(allInvocations.get(0), allInvocations.get(1));
+        assertThat(testSubject.getInvokedExecutables()).contains(helperMethod);
+    }
+
+}
@@ -0,0 +1,75 @@
+package de.adesso.objectfieldcoverage.core.processor.util;
+
+import de.adesso.objectfieldcoverage.test.AbstractSpoonIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spoon.reflect.code.CtFieldAccess;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.code.CtVariableRead;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtNamedElement;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProvenanceIndexIntegrationTest extends AbstractSpoonIntegrationTest {
+
+    private CtClass<?> testClass;
+
+    @BeforeEach
+    void setUp() {
+        var model = buildModel("processor/InvocationResultTrackerIntegrationTest.java");
+        this.testClass = findClassWithSimpleName(model, "InvocationResultTrackerIntegrationTest");
+    }
+
+    @Test
+    void ofReturnsSameIndexForSameMethod() {
+        // given
+        var testMethod = findMethodWithSimpleName(testClass, "simpleLocalVariableRead");
+
+        // when
+        var firstIndex = ProvenanceIndex.of(testMethod);
+        var secondIndex = ProvenanceIndex.of(testMethod);
+
+        // then
+        assertThat(firstIndex).isSameAs(secondIndex);
+    }
+
+    @Test
+    void getProvenanceSharesProvenanceOfDerivingExpression() {
+        // given
+        var testMethod = findMethodWithSimpleName(testClass, "multiStageAssignmentLocalVariableRead");
+        var variableReads = testMethod.getElements(new TypeFilter<CtVariableRead<?>>(CtVariableRead.class));
+        var testSubject = ProvenanceIndex.of(testMethod);
+
+        // when
+        var provenanceOfFirstRead = testSubject.getProvenance(variableReads.get(0));
+        var provenanceOfLastRead = testSubject.getProvenance(variableReads.get(2));
+
+        // then
+        assertThat(provenanceOfLastRead.getDerivedFrom()).isNotEmpty();
+        assertThat(provenanceOfLastRead.getDerivedFrom().get().getDerivedFrom())
+                .containsSame(provenanceOfFirstRead);
+    }
+
+    @Test
+    void findAccessingElementsReturnsElementsInAccessOrder() {
+        // given
+        var testMethod = findMethodWithSimpleName(testClass, "multipleMethodInvocationsAndFieldAccessesOnInvocation");
+        var invocations = testMethod.getElements(new TypeFilter<CtInvocation<?>>(CtInvocation.class));
+        var assertedExpression = testMethod.getElements(new TypeFilter<CtFieldAccess<?>>(CtFieldAccess.class)).get(0);
+        var targetMethodInvocation = invocations.get(2);
+
+        var testSubject = ProvenanceIndex.of(testMethod).getProvenance(assertedExpression);
+
+        // when
+        var actualResult = testSubject.findAccessingElements(targetMethodInvocation);
+
+        // then
+        assertThat(testSubject.isDerivedFrom(targetMethodInvocation)).isTrue();
+        assertThat(actualResult).hasValueSatisfying(accessingElements -> assertThat(accessingElements)
+                .extracting(element -> ((CtNamedElement) element).getSimpleName())
+                .containsExactly("parent", "getParent", "parent"));
+    }
+
+}
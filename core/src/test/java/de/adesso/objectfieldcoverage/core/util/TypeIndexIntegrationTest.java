@@ -0,0 +1,41 @@
+package de.adesso.objectfieldcoverage.core.util;
+
+import de.adesso.objectfieldcoverage.test.AbstractSpoonIntegrationTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeIndexIntegrationTest extends AbstractSpoonIntegrationTest {
+
+    @Test
+    void ofReturnsSameIndexForSameModel() {
+        // given
+        var model = buildModel("processor/filter/Test.java", "processor/filter/AbstractTest.java",
+                "processor/filter/Other.java", "processor/filter/OtherInterface.java");
+
+        // when
+        var firstIndex = TypeIndex.of(model);
+        var secondIndex = TypeIndex.of(model);
+
+        // then
+        assertThat(firstIndex).isSameAs(secondIndex);
+    }
+
+    @Test
+    void findMethodsReturnTypeWithQualifiedName() {
+        // given
+        var model = buildModel("processor/filter/Test.java", "processor/filter/AbstractTest.java",
+                "processor/filter/Other.java", "processor/filter/OtherInterface.java");
+        var expectedClass = findClassWithSimpleName(model, "Other");
+
+        // when
+        var testSubject = TypeIndex.of(model);
+
+        // then
+        assertThat(testSubject.findClass("de.adesso.test.Other")).contains(expectedClass);
+        assertThat(testSubject.findType("de.adesso.test.Other")).contains(expectedClass);
+        assertThat(testSubject.findClass("de.adesso.test.Unknown")).isEmpty();
+        assertThat(testSubject.findType("de.adesso.test.Unknown")).isEmpty();
+    }
+
+}
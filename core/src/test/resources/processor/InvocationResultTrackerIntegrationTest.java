@@ -26,6 +26,10 @@ public class InvocationResultTrackerIntegrationTest {
         assertNotNull(targetMethod().parent.getParent().parent);
     }
 
+    public void methodInvocationsOnNestedTypeOnInvocation() {
+        assertNotNull(wrapperTargetMethod().getData().getParent());
+    }
+
     public void methodInvocationOnLocalVariableContainingInvocationResult() {
         var result = targetMethod();
         assertNotNull(result.getParent());
@@ -39,6 +43,10 @@ public class InvocationResultTrackerIntegrationTest {
         return new Data();
     }
 
+    public Wrapper wrapperTargetMethod() {
+        return new Wrapper();
+    }
+
     public static class Data {
 
         public Data parent;
@@ -49,4 +57,14 @@ public class InvocationResultTrackerIntegrationTest {
 
     }
 
+    public static class Wrapper {
+
+        private Data data;
+
+        public Data getData() {
+            return data;
+        }
+
+    }
+
 }
@@ -0,0 +1,98 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * The {@value ObjectFieldCoveragePlugin#EXTENSION_NAME} extension which configures the
+ * {@link ObjectFieldCoverageTask} registered by the {@link ObjectFieldCoveragePlugin}.
+ */
+public abstract class ObjectFieldCoverageExtension {
+
+    /**
+     *
+     * @return
+     *          Whether only test methods annotated with the coverage annotations are included. Defaults to
+     *          {@code false}.
+     */
+    public abstract Property<Boolean> getOnlyIncludeAnnotated();
+
+    /**
+     *
+     * @return
+     *          Whether the coverage is computed per path through the tested executables. Defaults to {@code false}.
+     */
+    public abstract Property<Boolean> getCountPaths();
+
+    /**
+     *
+     * @return
+     *          Whether the test classes of a module are analyzed concurrently inside the worker. Defaults to
+     *          {@code false}.
+     */
+    public abstract Property<Boolean> getParallel();
+
+    /**
+     *
+     * @return
+     *          The Java compliance level the sources are parsed with. Defaults to {@code 11}.
+     */
+    public abstract Property<Integer> getComplianceLevel();
+
+    /**
+     *
+     * @return
+     *          The maximum number of paths enumerated per graph, {@code 0} for no limit. Coverages of graphs exceeding
+     *          the limit are approximated. Defaults to {@code 0}.
+     */
+    public abstract Property<Long> getMaxPathCount();
+
+    /**
+     *
+     * @return
+     *          The maximum length of an enumerated path, {@code 0} for no limit. Defaults to {@code 0}.
+     */
+    public abstract Property<Integer> getMaxPathLength();
+
+    /**
+     *
+     * @return
+     *          The maximum path enumeration time per graph in milliseconds, {@code 0} for no limit. Defaults to
+     *          {@code 0}.
+     */
+    public abstract Property<Long> getMaxPathEnumerationMillis();
+
+    /**
+     *
+     * @return
+     *          The number of shards the test classes are partitioned into. Defaults to {@code 1}.
+     */
+    public abstract Property<Integer> getShardCount();
+
+    /**
+     *
+     * @return
+     *          The index of the shard whose test classes are analyzed, between {@code 0} and the
+     *          {@link #getShardCount() shard count}. Defaults to {@code 0}.
+     */
+    public abstract Property<Integer> getShardIndex();
+
+    /**
+     *
+     * @return
+     *          The packages which are scanned for the components added through the
+     *          {@value ObjectFieldCoveragePlugin#CONFIGURATION_NAME} configuration. Components are only looked up in
+     *          the implementation indexes on the classpath of the worker otherwise, so components which were not
+     *          compiled with the {@link de.adesso.objectfieldcoverage.api.index.ImplementationIndexProcessor} must be
+     *          declared in one of these packages. Empty by default.
+     */
+    public abstract ListProperty<String> getAdditionalPackages();
+
+    /**
+     *
+     * @return
+     *          The maximum heap size of the worker process, e.g. {@code 1g}. Uses the default of Gradle when not set.
+     */
+    public abstract Property<String> getMaxHeapSize();
+
+}
@@ -0,0 +1,97 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+
+import java.util.List;
+
+/**
+ * Gradle plugin which registers the {@value #TASK_NAME} task for projects which apply the {@code java} plugin. The
+ * task analyzes the test sources of the project together with its main sources and writes the total coverage of each
+ * test class to a report.
+ * <p/>
+ * Additional implementations of the API interfaces, e.g. custom {@link de.adesso.objectfieldcoverage.api.TestMethodFinder}s,
+ * can be added to the worker through the {@value #CONFIGURATION_NAME} configuration.
+ */
+public class ObjectFieldCoveragePlugin implements Plugin<Project> {
+
+    /**
+     * The name of the registered task.
+     */
+    public static final String TASK_NAME = "objectFieldCoverage";
+
+    /**
+     * The name of the registered extension.
+     */
+    public static final String EXTENSION_NAME = "objectFieldCoverage";
+
+    /**
+     * The name of the configuration whose files are added to the classpath of the worker.
+     */
+    public static final String CONFIGURATION_NAME = "objectFieldCoverage";
+
+    /**
+     * The path of the report relative to the build directory.
+     */
+    public static final String REPORT_PATH = "reports/object-field-coverage/coverage.txt";
+
+    /**
+     * The path of the model snapshot directory relative to the build directory.
+     */
+    public static final String MODEL_SNAPSHOT_PATH = "tmp/object-field-coverage/model-snapshots";
+
+    @Override
+    public void apply(Project project) {
+        var extension = project.getExtensions().create(EXTENSION_NAME, ObjectFieldCoverageExtension.class);
+        extension.getOnlyIncludeAnnotated().convention(false);
+        extension.getCountPaths().convention(false);
+        extension.getParallel().convention(false);
+        extension.getComplianceLevel().convention(11);
+        extension.getMaxPathCount().convention(0L);
+        extension.getMaxPathLength().convention(0);
+        extension.getMaxPathEnumerationMillis().convention(0L);
+        extension.getShardCount().convention(1);
+        extension.getShardIndex().convention(0);
+        extension.getAdditionalPackages().convention(List.of());
+
+        var analyzerConfiguration = project.getConfigurations().create(CONFIGURATION_NAME, configuration -> {
+            configuration.setDescription("Additional components added to the classpath of the object field coverage worker.");
+            configuration.setCanBeConsumed(false);
+            configuration.setVisible(false);
+        });
+
+        project.getPlugins().withType(JavaPlugin.class, javaPlugin -> {
+            var sourceSets = project.getExtensions().getByType(SourceSetContainer.class);
+            var mainSourceSet = sourceSets.getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+            var testSourceSet = sourceSets.getByName(SourceSet.TEST_SOURCE_SET_NAME);
+
+            project.getTasks().register(TASK_NAME, ObjectFieldCoverageTask.class, task -> {
+                task.setGroup("verification");
+                task.setDescription("Computes the object field coverage of the test classes.");
+
+                task.getTestSources().from(testSourceSet.getAllJava());
+                task.getMainSources().from(mainSourceSet.getAllJava());
+                task.getClasspath().from(project.getConfigurations().getByName(testSourceSet.getCompileClasspathConfigurationName()));
+                task.getAnalyzerClasspath().from(analyzerConfiguration);
+
+                task.getOnlyIncludeAnnotated().set(extension.getOnlyIncludeAnnotated());
+                task.getCountPaths().set(extension.getCountPaths());
+                task.getParallel().set(extension.getParallel());
+                task.getComplianceLevel().set(extension.getComplianceLevel());
+                task.getMaxPathCount().set(extension.getMaxPathCount());
+                task.getMaxPathLength().set(extension.getMaxPathLength());
+                task.getMaxPathEnumerationMillis().set(extension.getMaxPathEnumerationMillis());
+                task.getShardCount().set(extension.getShardCount());
+                task.getShardIndex().set(extension.getShardIndex());
+                task.getAdditionalPackages().set(extension.getAdditionalPackages());
+                task.getMaxHeapSize().set(extension.getMaxHeapSize());
+                task.getReport().set(project.getLayout().getBuildDirectory().file(REPORT_PATH));
+                task.getModelSnapshotDirectory().set(project.getLayout().getBuildDirectory().dir(MODEL_SNAPSHOT_PATH));
+            });
+        });
+    }
+
+}
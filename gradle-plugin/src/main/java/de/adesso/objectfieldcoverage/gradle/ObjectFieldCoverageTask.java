@@ -0,0 +1,216 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.*;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+
+/**
+ * Task which computes the object field coverage of the test classes of a project. The analysis runs in a separate
+ * worker process, so the analyses of multiple projects run in parallel and the Spoon model does not occupy the heap
+ * of the Gradle daemon.
+ * <p/>
+ * All inputs are declared, so the task is skipped when neither the sources, the classpath nor the settings changed
+ * since the last execution and its report can be loaded from the build cache.
+ */
+@CacheableTask
+public abstract class ObjectFieldCoverageTask extends DefaultTask {
+
+    /**
+     *
+     * @return
+     *          The source files of the test classes to analyze. The task is skipped when there are none.
+     */
+    @SkipWhenEmpty
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getTestSources();
+
+    /**
+     *
+     * @return
+     *          The source files of the classes under test, which are added to the model but not analyzed themselves.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getMainSources();
+
+    /**
+     *
+     * @return
+     *          The compile classpath of the analyzed sources. The sources are analyzed without a classpath when empty.
+     */
+    @Classpath
+    public abstract ConfigurableFileCollection getClasspath();
+
+    /**
+     *
+     * @return
+     *          Additional files added to the classpath of the worker.
+     */
+    @Classpath
+    public abstract ConfigurableFileCollection getAnalyzerClasspath();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getOnlyIncludeAnnotated() only include annotated} setting.
+     */
+    @Input
+    public abstract Property<Boolean> getOnlyIncludeAnnotated();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getCountPaths() count paths} setting.
+     */
+    @Input
+    public abstract Property<Boolean> getCountPaths();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getParallel() parallel} setting.
+     */
+    @Input
+    public abstract Property<Boolean> getParallel();
+
+    /**
+     *
+     * @return
+     *          The Java compliance level the sources are parsed with.
+     */
+    @Input
+    public abstract Property<Integer> getComplianceLevel();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getMaxPathCount() maximum path count} setting.
+     */
+    @Input
+    public abstract Property<Long> getMaxPathCount();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getMaxPathLength() maximum path length} setting.
+     */
+    @Input
+    public abstract Property<Integer> getMaxPathLength();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getMaxPathEnumerationMillis() maximum path enumeration time}
+     *          setting.
+     */
+    @Input
+    public abstract Property<Long> getMaxPathEnumerationMillis();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getShardCount() shard count} setting.
+     */
+    @Input
+    public abstract Property<Integer> getShardCount();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getShardIndex() shard index} setting.
+     */
+    @Input
+    public abstract Property<Integer> getShardIndex();
+
+    /**
+     *
+     * @return
+     *          The {@link ObjectFieldCoverageExtension#getAdditionalPackages() additional packages} which are
+     *          scanned for components in the worker.
+     */
+    @Input
+    public abstract ListProperty<String> getAdditionalPackages();
+
+    /**
+     *
+     * @return
+     *          The maximum heap size of the worker process. Does not influence the report and is therefore not an
+     *          input.
+     */
+    @Internal
+    public abstract Property<String> getMaxHeapSize();
+
+    /**
+     *
+     * @return
+     *          The report file the total coverage of each test class is written to.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    /**
+     *
+     * @return
+     *          The directory the worker stores the snapshots of the built models in, so the model does not have to be
+     *          built again when only the settings or the analyzer classpath changed. Deleted by Gradle when the report
+     *          is loaded from the build cache.
+     */
+    @LocalState
+    public abstract DirectoryProperty getModelSnapshotDirectory();
+
+    /**
+     *
+     * @return
+     *          The worker executor injected by Gradle.
+     */
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    /**
+     * Submits the analysis to a worker process.
+     */
+    @TaskAction
+    public void analyze() {
+        var workQueue = getWorkerExecutor().processIsolation(spec -> {
+            spec.getClasspath().from(getAnalyzerClasspath());
+
+            spec.forkOptions(forkOptions -> {
+                if(getMaxHeapSize().isPresent()) {
+                    forkOptions.setMaxHeapSize(getMaxHeapSize().get());
+                }
+
+                // the components are looked up in the worker, which does not inherit the system properties of the build
+                if(!getAdditionalPackages().get().isEmpty()) {
+                    forkOptions.systemProperty(ClasspathUtils.ADDITIONAL_PACKAGE_SYS_PROP_KEY, String.join(",", getAdditionalPackages().get()));
+                }
+            });
+        });
+
+        workQueue.submit(ObjectFieldCoverageWorkAction.class, parameters -> {
+            parameters.getTestSources().from(getTestSources());
+            parameters.getMainSources().from(getMainSources());
+            parameters.getClasspath().from(getClasspath());
+            parameters.getOnlyIncludeAnnotated().set(getOnlyIncludeAnnotated());
+            parameters.getCountPaths().set(getCountPaths());
+            parameters.getParallel().set(getParallel());
+            parameters.getComplianceLevel().set(getComplianceLevel());
+            parameters.getMaxPathCount().set(getMaxPathCount());
+            parameters.getMaxPathLength().set(getMaxPathLength());
+            parameters.getMaxPathEnumerationMillis().set(getMaxPathEnumerationMillis());
+            parameters.getShardCount().set(getShardCount());
+            parameters.getShardIndex().set(getShardIndex());
+            parameters.getReport().set(getReport());
+            parameters.getModelSnapshotDirectory().set(getModelSnapshotDirectory());
+        });
+    }
+
+}
@@ -0,0 +1,226 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import de.adesso.objectfieldcoverage.api.*;
+import de.adesso.objectfieldcoverage.core.cache.ModelSnapshotCache;
+import de.adesso.objectfieldcoverage.core.junit.assertion.JUnitAssertionFinder;
+import de.adesso.objectfieldcoverage.core.junit.assertion.handler.JUnitAssertionInvocationHandler;
+import de.adesso.objectfieldcoverage.core.processor.InvocationResultTracker;
+import de.adesso.objectfieldcoverage.core.processor.ObjectFieldCoverageProcessor;
+import de.adesso.objectfieldcoverage.core.util.ClasspathUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.math3.fraction.Fraction;
+import org.gradle.workers.WorkAction;
+import spoon.Launcher;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.factory.Factory;
+import spoon.support.QueueProcessingManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Work action which builds the Spoon model of the test and main sources, analyzes the test classes with an
+ * {@link ObjectFieldCoverageProcessor} and writes the total coverage of each test class to the report. The
+ * components of the processor are loaded via {@link ClasspathUtils}, so additional implementations on the classpath
+ * of the worker are picked up.
+ * <p/>
+ * The built model is stored in a {@link ModelSnapshotCache}, so it is loaded instead of built again when the task
+ * is executed again with unchanged sources, e.g. because a setting or the analyzer classpath changed.
+ */
+@Slf4j
+public abstract class ObjectFieldCoverageWorkAction implements WorkAction<ObjectFieldCoverageWorkParameters> {
+
+    /**
+     * The marker appended to the report lines of approximated coverages.
+     */
+    static final String APPROXIMATED_MARKER = " (approximated)";
+
+    @Override
+    public void execute() {
+        var parameters = getParameters();
+        var testSourceFiles = canonicalFiles(parameters.getTestSources().getFiles());
+
+        var factory = loadOrBuildModel(testSourceFiles, parameters);
+        var testClasses = factory.Class().getAll().stream()
+                .filter(CtClass.class::isInstance)
+                .<CtClass<?>>map(CtClass.class::cast)
+                .filter(type -> type.getPosition().isValidPosition())
+                .filter(type -> testSourceFiles.contains(canonicalFile(type.getPosition().getFile())))
+                .collect(Collectors.toList());
+
+        var processor = createProcessor(parameters);
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(processor);
+        processingManager.process(testClasses);
+
+        writeReport(processor.getTotalCoverageResult(), processor.getApproximateTestClasses(),
+                parameters.getReport().get().getAsFile());
+    }
+
+    /**
+     *
+     * @param testSourceFiles
+     *          The canonical test source files, not {@code null}.
+     *
+     * @param parameters
+     *          The parameters of the work action, not {@code null}.
+     *
+     * @return
+     *          The factory of the model containing the test and main sources, loaded from the model snapshot cache
+     *          in case an up-to-date snapshot exists.
+     */
+    private Factory loadOrBuildModel(Set<File> testSourceFiles, ObjectFieldCoverageWorkParameters parameters) {
+        var snapshotCache = new ModelSnapshotCache(parameters.getModelSnapshotDirectory().get().getAsFile().toPath(),
+                ModelSnapshotCache.currentAnalyzerVersion());
+
+        var sourcePaths = new ArrayList<Path>();
+        testSourceFiles.forEach(file -> sourcePaths.add(file.toPath()));
+        parameters.getMainSources().getFiles().forEach(file -> sourcePaths.add(file.toPath()));
+
+        var classpath = parameters.getClasspath().getFiles().stream()
+                .filter(File::exists)
+                .map(File::toPath)
+                .collect(Collectors.toList());
+
+        return snapshotCache.loadOrBuild(sourcePaths, classpath, parameters.getComplianceLevel().get(), List.of(),
+                () -> buildModel(sourcePaths, classpath, parameters.getComplianceLevel().get()));
+    }
+
+    /**
+     *
+     * @param sourcePaths
+     *          The test and main source files, not {@code null}.
+     *
+     * @param classpathEntries
+     *          The existing classpath entries, not {@code null}.
+     *
+     * @param complianceLevel
+     *          The Java compliance level to parse the sources with.
+     *
+     * @return
+     *          The factory of the built model containing the test and main sources.
+     */
+    private Factory buildModel(List<Path> sourcePaths, List<Path> classpathEntries, int complianceLevel) {
+        var launcher = new Launcher();
+        sourcePaths.forEach(sourcePath -> launcher.addInputResource(sourcePath.toString()));
+
+        var classpath = classpathEntries.stream()
+                .map(classpathEntry -> classpathEntry.toAbsolutePath().toString())
+                .toArray(String[]::new);
+
+        launcher.getEnvironment().setComplianceLevel(complianceLevel);
+        launcher.getEnvironment().setCommentEnabled(false);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.getEnvironment().setNoClasspath(classpath.length == 0);
+
+        if(classpath.length > 0) {
+            launcher.getEnvironment().setSourceClasspath(classpath);
+        }
+
+        var startTime = System.currentTimeMillis();
+        launcher.buildModel();
+        log.info("Built model in {} ms!", System.currentTimeMillis() - startTime);
+
+        return launcher.getFactory();
+    }
+
+    /**
+     *
+     * @param parameters
+     *          The parameters of the work action, not {@code null}.
+     *
+     * @return
+     *          A new processor configured according to the given {@code parameters}.
+     */
+    private ObjectFieldCoverageProcessor createProcessor(ObjectFieldCoverageWorkParameters parameters) {
+        var junitAssertionFinder = new JUnitAssertionFinder(ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(JUnitAssertionInvocationHandler.class));
+        var processor = new ObjectFieldCoverageProcessor(
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TargetExecutableFinder.class),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(AccessibilityAwareFieldFinder.class),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(TestMethodFinder.class),
+                List.of(junitAssertionFinder),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(EqualsMethodAnalyzer.class),
+                ClasspathUtils.loadClassesImplementingInterfaceOrExtendingClass(InvocationThrowableAnalyzer.class),
+                new InvocationResultTracker());
+
+        processor.getSettings().setOnlyIncludeAnnotated(parameters.getOnlyIncludeAnnotated().get());
+        processor.getSettings().setCountPaths(parameters.getCountPaths().get());
+        processor.getSettings().setParallel(parameters.getParallel().get());
+        processor.getSettings().setMaxPathCount(parameters.getMaxPathCount().get());
+        processor.getSettings().setMaxPathLength(parameters.getMaxPathLength().get());
+        processor.getSettings().setMaxPathEnumerationMillis(parameters.getMaxPathEnumerationMillis().get());
+        processor.getSettings().setShardCount(parameters.getShardCount().get());
+        processor.getSettings().setShardIndex(parameters.getShardIndex().get());
+        return processor;
+    }
+
+    /**
+     *
+     * @param totalCoverageResult
+     *          A map which maps the qualified name of each analyzed test class to its total coverage, not {@code null}.
+     *
+     * @param approximateTestClasses
+     *          The qualified names of the analyzed test classes whose total coverage is approximated, because the
+     *          path budget was exceeded, not {@code null}. Their lines are marked with {@value #APPROXIMATED_MARKER}.
+     *
+     * @param reportFile
+     *          The file to write the report to, not {@code null}.
+     *
+     * @throws UncheckedIOException
+     *          When the report could not be written.
+     */
+    static void writeReport(Map<String, Fraction> totalCoverageResult, Set<String> approximateTestClasses, File reportFile) {
+        var reportLines = new TreeMap<>(totalCoverageResult).entrySet().stream()
+                .map(entry -> String.format(Locale.ROOT, "%s: %.2f%% (%d/%d)%s", entry.getKey(),
+                        entry.getValue().doubleValue() * 100D, entry.getValue().getNumerator(), entry.getValue().getDenominator(),
+                        approximateTestClasses.contains(entry.getKey()) ? APPROXIMATED_MARKER : ""))
+                .collect(Collectors.toList());
+
+        try {
+            Files.createDirectories(reportFile.toPath().toAbsolutePath().getParent());
+            Files.write(reportFile.toPath(), reportLines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Report '%s' could not be written!", reportFile), e);
+        }
+    }
+
+    /**
+     *
+     * @param files
+     *          The files to get the canonical files of, not {@code null}.
+     *
+     * @return
+     *          The canonical files of the given {@code files}.
+     */
+    private static Set<File> canonicalFiles(Set<File> files) {
+        return files.stream()
+                .map(ObjectFieldCoverageWorkAction::canonicalFile)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     *
+     * @param file
+     *          The file to get the canonical file of, not {@code null}.
+     *
+     * @return
+     *          The canonical file of the given {@code file}.
+     *
+     * @throws UncheckedIOException
+     *          When the canonical file could not be determined.
+     */
+    private static File canonicalFile(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
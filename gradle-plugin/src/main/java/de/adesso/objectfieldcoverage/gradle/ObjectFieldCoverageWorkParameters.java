@@ -0,0 +1,43 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * The parameters passed from the {@link ObjectFieldCoverageTask} to the {@link ObjectFieldCoverageWorkAction}. See
+ * the task for a description of each parameter.
+ */
+public interface ObjectFieldCoverageWorkParameters extends WorkParameters {
+
+    ConfigurableFileCollection getTestSources();
+
+    ConfigurableFileCollection getMainSources();
+
+    ConfigurableFileCollection getClasspath();
+
+    Property<Boolean> getOnlyIncludeAnnotated();
+
+    Property<Boolean> getCountPaths();
+
+    Property<Boolean> getParallel();
+
+    Property<Integer> getComplianceLevel();
+
+    Property<Long> getMaxPathCount();
+
+    Property<Integer> getMaxPathLength();
+
+    Property<Long> getMaxPathEnumerationMillis();
+
+    Property<Integer> getShardCount();
+
+    Property<Integer> getShardIndex();
+
+    RegularFileProperty getReport();
+
+    DirectoryProperty getModelSnapshotDirectory();
+
+}
@@ -0,0 +1,79 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectFieldCoveragePluginTest {
+
+    @Test
+    void applyRegistersTaskForJavaProjects(@TempDir Path tempDir) throws IOException {
+        // given
+        var testSourceFile = Files.createDirectories(tempDir.resolve("src/test/java")).resolve("PersonTest.java");
+        Files.writeString(testSourceFile, "public class PersonTest { }");
+
+        var project = ProjectBuilder.builder().withProjectDir(tempDir.toFile()).build();
+        project.getPlugins().apply(JavaPlugin.class);
+
+        // when
+        project.getPlugins().apply(ObjectFieldCoveragePlugin.class);
+
+        // then
+        var actualTask = (ObjectFieldCoverageTask) project.getTasks().getByName(ObjectFieldCoveragePlugin.TASK_NAME);
+        assertThat(actualTask.getTestSources().getFiles()).containsExactly(testSourceFile.toFile());
+        assertThat(actualTask.getMainSources().getFiles()).isEmpty();
+        assertThat(actualTask.getComplianceLevel().get()).isEqualTo(11);
+        assertThat(actualTask.getReport().get().getAsFile().toPath())
+                .isEqualTo(tempDir.resolve("build").resolve(ObjectFieldCoveragePlugin.REPORT_PATH));
+    }
+
+    @Test
+    void applyPassesExtensionSettingsToTask(@TempDir Path tempDir) {
+        // given
+        var project = ProjectBuilder.builder().withProjectDir(tempDir.toFile()).build();
+        project.getPlugins().apply(JavaPlugin.class);
+        project.getPlugins().apply(ObjectFieldCoveragePlugin.class);
+
+        // when
+        var extension = project.getExtensions().getByType(ObjectFieldCoverageExtension.class);
+        extension.getCountPaths().set(true);
+        extension.getComplianceLevel().set(8);
+        extension.getMaxPathCount().set(100L);
+        extension.getShardCount().set(4);
+        extension.getShardIndex().set(2);
+        extension.getAdditionalPackages().add("com.example.components");
+
+        // then
+        var actualTask = (ObjectFieldCoverageTask) project.getTasks().getByName(ObjectFieldCoveragePlugin.TASK_NAME);
+        assertThat(actualTask.getCountPaths().get()).isTrue();
+        assertThat(actualTask.getOnlyIncludeAnnotated().get()).isFalse();
+        assertThat(actualTask.getComplianceLevel().get()).isEqualTo(8);
+        assertThat(actualTask.getMaxPathCount().get()).isEqualTo(100L);
+        assertThat(actualTask.getMaxPathLength().get()).isZero();
+        assertThat(actualTask.getMaxPathEnumerationMillis().get()).isZero();
+        assertThat(actualTask.getShardCount().get()).isEqualTo(4);
+        assertThat(actualTask.getShardIndex().get()).isEqualTo(2);
+        assertThat(actualTask.getAdditionalPackages().get()).containsExactly("com.example.components");
+    }
+
+    @Test
+    void applyDoesNotRegisterTaskWithoutJavaPlugin(@TempDir Path tempDir) {
+        // given
+        var project = ProjectBuilder.builder().withProjectDir(tempDir.toFile()).build();
+
+        // when
+        project.getPlugins().apply(ObjectFieldCoveragePlugin.class);
+
+        // then
+        assertThat(project.getTasks().findByName(ObjectFieldCoveragePlugin.TASK_NAME)).isNull();
+        assertThat(project.getConfigurations().findByName(ObjectFieldCoveragePlugin.CONFIGURATION_NAME)).isNotNull();
+    }
+
+}
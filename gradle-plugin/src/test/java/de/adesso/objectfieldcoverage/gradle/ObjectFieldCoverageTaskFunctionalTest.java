@@ -0,0 +1,93 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectFieldCoverageTaskFunctionalTest {
+
+    private static final String TASK_PATH = ":" + ObjectFieldCoveragePlugin.TASK_NAME;
+
+    @Test
+    void taskIsUpToDateWhenNothingChangedAndLoadedFromBuildCacheAfterClean(@TempDir Path tempDir) throws IOException {
+        // given
+        var projectDir = writeProject(tempDir);
+
+        var firstResult = run(projectDir, ObjectFieldCoveragePlugin.TASK_NAME);
+
+        // when
+        var upToDateResult = run(projectDir, ObjectFieldCoveragePlugin.TASK_NAME);
+        var fromCacheResult = run(projectDir, "clean", ObjectFieldCoveragePlugin.TASK_NAME);
+
+        // then
+        assertThat(firstResult.task(TASK_PATH).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(upToDateResult.task(TASK_PATH).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+        assertThat(fromCacheResult.task(TASK_PATH).getOutcome()).isEqualTo(TaskOutcome.FROM_CACHE);
+        assertThat(projectDir.resolve("build").resolve(ObjectFieldCoveragePlugin.REPORT_PATH)).exists();
+    }
+
+    @Test
+    void taskIsExecutedAgainWhenPathBudgetChanged(@TempDir Path tempDir) throws IOException {
+        // given
+        var projectDir = writeProject(tempDir);
+        run(projectDir, ObjectFieldCoveragePlugin.TASK_NAME);
+
+        Files.writeString(projectDir.resolve("build.gradle"), "\nobjectFieldCoverage { maxPathCount = 10L }\n",
+                StandardOpenOption.APPEND);
+
+        // when
+        var actualResult = run(projectDir, ObjectFieldCoveragePlugin.TASK_NAME);
+
+        // then
+        assertThat(actualResult.task(TASK_PATH).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+    }
+
+    private BuildResult run(Path projectDir, String... tasks) {
+        var arguments = new ArrayList<>(List.of(tasks));
+        arguments.add("--build-cache");
+
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withPluginClasspath()
+                .withArguments(arguments)
+                .build();
+    }
+
+    private Path writeProject(Path tempDir) throws IOException {
+        var projectDir = Files.createDirectories(tempDir.resolve("project"));
+        var buildCacheDir = tempDir.resolve("build-cache").toAbsolutePath().toString().replace('\\', '/');
+
+        Files.writeString(projectDir.resolve("settings.gradle"), String.join("\n",
+                "rootProject.name = 'functional-test'",
+                "buildCache {",
+                "    local {",
+                "        directory = new File('" + buildCacheDir + "')",
+                "    }",
+                "}"));
+        Files.writeString(projectDir.resolve("build.gradle"), String.join("\n",
+                "plugins {",
+                "    id 'java'",
+                "    id 'de.adesso.object-field-coverage'",
+                "}"));
+
+        var mainDir = Files.createDirectories(projectDir.resolve("src/main/java/de/adesso/test"));
+        Files.writeString(mainDir.resolve("Person.java"), "package de.adesso.test; public class Person { int age; }");
+
+        var testDir = Files.createDirectories(projectDir.resolve("src/test/java/de/adesso/test"));
+        Files.writeString(testDir.resolve("PersonTest.java"), "package de.adesso.test; public class PersonTest { }");
+
+        return projectDir;
+    }
+
+}
@@ -0,0 +1,36 @@
+package de.adesso.objectfieldcoverage.gradle;
+
+import org.apache.commons.math3.fraction.Fraction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectFieldCoverageWorkActionTest {
+
+    @Test
+    void writeReportMarksApproximatedCoverages(@TempDir Path tempDir) throws IOException {
+        // given
+        var reportFile = tempDir.resolve("reports").resolve("report.txt");
+        var totalCoverages = Map.of(
+                "de.adesso.test.PersonTest", Fraction.ONE_HALF,
+                "de.adesso.test.AddressTest", Fraction.ONE
+        );
+
+        // when
+        ObjectFieldCoverageWorkAction.writeReport(totalCoverages, Set.of("de.adesso.test.PersonTest"), reportFile.toFile());
+
+        // then
+        assertThat(Files.readAllLines(reportFile)).containsExactly(
+                "de.adesso.test.AddressTest: 100.00% (1/1)",
+                "de.adesso.test.PersonTest: 50.00% (1/2) (approximated)"
+        );
+    }
+
+}
@@ -0,0 +1,387 @@
+package de.adesso.objectfieldcoverage.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Generates the Java sources of a synthetic corpus described by a {@link CorpusSpec}. The corpus is used to test and
+ * benchmark the analysis on models which are larger and deeper than the hand written test resources.
+ * <p/>
+ * For every root type with index {@code r} the following sources are generated:
+ * <ul>
+ *     <li>a root type {@code Root<r>} and the types {@code Root<r>Level<l>Node<n>} of the levels below it in the
+ *     main source directory. Every type declares an {@code int id} and a {@code String name} field, a reference
+ *     field {@code node<n>} for every type of the next level and the configured number of collection fields
+ *     {@code items<i>}. The types on the last level declare a reference to the root type in case cycles are
+ *     enabled.</li>
+ *     <li>a service {@code Root<r>Service} with a {@code find(int)} method returning a new instance of the root type
+ *     in the main source directory.</li>
+ *     <li>a test class {@code Root<r>ServiceTest} in the test source directory, whose test methods are annotated with
+ *     {@code @TestTarget} and assert getter chains of a varying length on the result of the {@code find} method.</li>
+ * </ul>
+ * The main sources are written to {@value #MAIN_SOURCE_DIRECTORY} and the test sources are written to
+ * {@value #TEST_SOURCE_DIRECTORY} relative to the output directory, so the test classes are recognized as potential
+ * test classes.
+ */
+public class CorpusGenerator {
+
+    /**
+     * The directory the main sources are written to, relative to the output directory.
+     */
+    public static final String MAIN_SOURCE_DIRECTORY = "src/main/java";
+
+    /**
+     * The directory the test sources are written to, relative to the output directory.
+     */
+    public static final String TEST_SOURCE_DIRECTORY = "src/test/java";
+
+    /**
+     * The spec of the corpus to generate.
+     */
+    private final CorpusSpec spec;
+
+    /**
+     *
+     * @param spec
+     *          The spec of the corpus to generate, not {@code null}.
+     *
+     * @throws IllegalArgumentException
+     *          When the given {@code spec} describes an invalid corpus.
+     */
+    public CorpusGenerator(CorpusSpec spec) {
+        this.spec = Objects.requireNonNull(spec, "spec cannot be null!");
+
+        if(spec.getPackageName() == null || !spec.getPackageName().matches("[a-z_][a-z0-9_]*(\\.[a-z_][a-z0-9_]*)*")) {
+            throw new IllegalArgumentException(String.format("'%s' is not a valid package name!", spec.getPackageName()));
+        }
+
+        if(spec.getRootTypeCount() < 1 || spec.getFanOut() < 1 || spec.getTestMethodCount() < 1) {
+            throw new IllegalArgumentException("The root type count, the fan-out and the test method count must be positive!");
+        }
+
+        if(spec.getDepth() < 0 || spec.getCollectionFieldCount() < 0) {
+            throw new IllegalArgumentException("The depth and the collection field count cannot be negative!");
+        }
+
+        if(spec.getJunitVersion() == null) {
+            throw new IllegalArgumentException("The JUnit version cannot be null!");
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of domain types generated for each root type, including the root type itself.
+     */
+    public int getTypeCountPerRoot() {
+        return 1 + spec.getDepth() * spec.getFanOut();
+    }
+
+    /**
+     *
+     * @param rootIndex
+     *          The index of the root type.
+     *
+     * @return
+     *          The qualified name of the generated test class of the root type with the given index.
+     */
+    public String getTestClassName(int rootIndex) {
+        return qualify(serviceName(rootIndex) + "Test");
+    }
+
+    /**
+     *
+     * @param rootIndex
+     *          The index of the root type.
+     *
+     * @return
+     *          The target method identifier of the {@code find} method of the service of the root type with the
+     *          given index.
+     */
+    public String getTestTargetIdentifier(int rootIndex) {
+        return qualify(serviceName(rootIndex)) + "#find(int)";
+    }
+
+    /**
+     *
+     * @param outputDirectory
+     *          The directory to write the sources to, not {@code null}. Existing files are overwritten.
+     *
+     * @return
+     *          The paths of all written source files.
+     *
+     * @throws IOException
+     *          When a source file could not be written.
+     */
+    public List<Path> generate(Path outputDirectory) throws IOException {
+        Objects.requireNonNull(outputDirectory, "outputDirectory cannot be null!");
+
+        var packagePath = spec.getPackageName().replace('.', '/');
+        var mainDirectory = outputDirectory.resolve(MAIN_SOURCE_DIRECTORY).resolve(packagePath);
+        var testDirectory = outputDirectory.resolve(TEST_SOURCE_DIRECTORY).resolve(packagePath);
+        Files.createDirectories(mainDirectory);
+        Files.createDirectories(testDirectory);
+
+        var writtenFiles = new ArrayList<Path>();
+        for(var rootIndex = 0; rootIndex < spec.getRootTypeCount(); rootIndex++) {
+            writtenFiles.add(write(mainDirectory, rootName(rootIndex), generateType(rootIndex, 0, 0)));
+
+            for(var level = 1; level <= spec.getDepth(); level++) {
+                for(var nodeIndex = 0; nodeIndex < spec.getFanOut(); nodeIndex++) {
+                    writtenFiles.add(write(mainDirectory, typeName(rootIndex, level, nodeIndex),
+                            generateType(rootIndex, level, nodeIndex)));
+                }
+            }
+
+            writtenFiles.add(write(mainDirectory, serviceName(rootIndex), generateService(rootIndex)));
+            writtenFiles.add(write(testDirectory, serviceName(rootIndex) + "Test", generateTest(rootIndex)));
+        }
+
+        return writtenFiles;
+    }
+
+    /**
+     *
+     * @param rootIndex
+     *          The index of the root type.
+     *
+     * @param level
+     *          The level of the type.
+     *
+     * @param nodeIndex
+     *          The index of the type on its level.
+     *
+     * @return
+     *          The source of the domain type.
+     */
+    private String generateType(int rootIndex, int level, int nodeIndex) {
+        var fields = new ArrayList<String[]>();
+        fields.add(new String[] { "int", "id" });
+        fields.add(new String[] { "String", "name" });
+
+        if(level < spec.getDepth()) {
+            for(var nextNodeIndex = 0; nextNodeIndex < spec.getFanOut(); nextNodeIndex++) {
+                fields.add(new String[] { typeName(rootIndex, level + 1, nextNodeIndex), "node" + nextNodeIndex });
+            }
+        }
+
+        var itemType = level < spec.getDepth() ? typeName(rootIndex, level + 1, 0) : "String";
+        for(var collectionIndex = 0; collectionIndex < spec.getCollectionFieldCount(); collectionIndex++) {
+            fields.add(new String[] { "List<" + itemType + ">", "items" + collectionIndex });
+        }
+
+        var cyclic = spec.isCycles() && level == spec.getDepth() && level > 0;
+        if(cyclic) {
+            fields.add(new String[] { rootName(rootIndex), "root" });
+        }
+
+        var source = new StringBuilder();
+        source.append("package ").append(spec.getPackageName()).append(";\n\n");
+
+        if(spec.isLombok()) {
+            source.append("import lombok.EqualsAndHashCode;\n");
+            source.append("import lombok.Getter;\n\n");
+        }
+
+        if(spec.getCollectionFieldCount() > 0) {
+            source.append("import java.util.ArrayList;\n");
+            source.append("import java.util.List;\n");
+        }
+
+        if(!spec.isLombok() && spec.isHandWrittenEquals()) {
+            source.append("import java.util.Objects;\n");
+        }
+
+        source.append("\n");
+
+        if(spec.isLombok()) {
+            source.append("@Getter\n");
+            source.append("@EqualsAndHashCode\n");
+        }
+
+        var typeName = level == 0 ? rootName(rootIndex) : typeName(rootIndex, level, nodeIndex);
+        source.append("public class ").append(typeName).append(" {\n\n");
+
+        for(var field : fields) {
+            // the back reference to the root type is excluded from the equals method to prevent endless recursion
+            if(spec.isLombok() && "root".equals(field[1])) {
+                source.append("    @EqualsAndHashCode.Exclude\n");
+            }
+
+            source.append("    private ").append(field[0]).append(' ').append(field[1]);
+            if(field[0].startsWith("List<")) {
+                source.append(" = new ArrayList<>()");
+            }
+            source.append(";\n\n");
+        }
+
+        if(!spec.isLombok()) {
+            for(var field : fields) {
+                source.append("    public ").append(field[0]).append(" get").append(capitalize(field[1])).append("() {\n");
+                source.append("        return ").append(field[1]).append(";\n");
+                source.append("    }\n\n");
+            }
+
+            if(spec.isHandWrittenEquals()) {
+                appendEqualsAndHashCode(source, typeName, fields);
+            }
+        }
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     *
+     * @param source
+     *          The source to append the methods to, not {@code null}.
+     *
+     * @param typeName
+     *          The simple name of the type, not {@code null}.
+     *
+     * @param fields
+     *          The types and names of the fields of the type, not {@code null}.
+     */
+    private void appendEqualsAndHashCode(StringBuilder source, String typeName, List<String[]> fields) {
+        var comparedFieldNames = new ArrayList<String>();
+        for(var field : fields) {
+            if(!"root".equals(field[1])) {
+                comparedFieldNames.add(field[1]);
+            }
+        }
+
+        source.append("    @Override\n");
+        source.append("    public boolean equals(Object o) {\n");
+        source.append("        if (this == o) return true;\n");
+        source.append("        if (o == null || getClass() != o.getClass()) return false;\n");
+        source.append("        ").append(typeName).append(" that = (").append(typeName).append(") o;\n");
+        source.append("        return id == that.id");
+        for(var fieldName : comparedFieldNames.subList(1, comparedFieldNames.size())) {
+            source.append(" &&\n                Objects.equals(").append(fieldName).append(", that.").append(fieldName).append(')');
+        }
+        source.append(";\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public int hashCode() {\n");
+        source.append("        return Objects.hash(").append(String.join(", ", comparedFieldNames)).append(");\n");
+        source.append("    }\n\n");
+    }
+
+    /**
+     *
+     * @param rootIndex
+     *          The index of the root type.
+     *
+     * @return
+     *          The source of the service of the root type.
+     */
+    private String generateService(int rootIndex) {
+        return "package " + spec.getPackageName() + ";\n\n" +
+                "public class " + serviceName(rootIndex) + " {\n\n" +
+                "    public " + rootName(rootIndex) + " find(int id) {\n" +
+                "        return new " + rootName(rootIndex) + "();\n" +
+                "    }\n\n" +
+                "}\n";
+    }
+
+    /**
+     *
+     * @param rootIndex
+     *          The index of the root type.
+     *
+     * @return
+     *          The source of the test class of the service of the root type.
+     */
+    private String generateTest(int rootIndex) {
+        var junit4 = spec.getJunitVersion() == CorpusSpec.JUnitVersion.JUNIT_4;
+        var testClassName = serviceName(rootIndex) + "Test";
+
+        var source = new StringBuilder();
+        source.append("package ").append(spec.getPackageName()).append(";\n\n");
+        source.append("import de.adesso.objectfieldcoverage.annotation.TestTarget;\n");
+        source.append(junit4 ? "import org.junit.Test;\n\n" : "import org.junit.jupiter.api.Test;\n\n");
+        source.append(junit4 ? "import static org.junit.Assert.*;\n\n" : "import static org.junit.jupiter.api.Assertions.*;\n\n");
+        source.append("public class ").append(testClassName).append(" {\n\n");
+        source.append("    private final ").append(serviceName(rootIndex)).append(" testSubject = new ")
+                .append(serviceName(rootIndex)).append("();\n\n");
+
+        for(var methodIndex = 0; methodIndex < spec.getTestMethodCount(); methodIndex++) {
+            var assertedLevel = methodIndex % (spec.getDepth() + 1);
+            var nodeIndex = methodIndex % spec.getFanOut();
+
+            var getterChain = new StringBuilder("actual");
+            for(var level = 0; level < assertedLevel; level++) {
+                getterChain.append(".getNode").append(nodeIndex).append("()");
+            }
+
+            source.append("    @Test\n");
+            source.append("    @TestTarget(\"").append(getTestTargetIdentifier(rootIndex)).append("\")\n");
+            source.append(junit4 ? "    public void" : "    void").append(" findReturnsLevel")
+                    .append(assertedLevel).append("Values").append(methodIndex).append("() {\n");
+            source.append("        // when\n");
+            source.append("        var actual = testSubject.find(").append(methodIndex).append(");\n\n");
+            source.append("        // then\n");
+            source.append("        assertEquals(0, ").append(getterChain).append(".getId());\n");
+            source.append("        assertNull(").append(getterChain).append(".getName());\n");
+
+            if(spec.getCollectionFieldCount() > 0) {
+                source.append("        assertTrue(").append(getterChain).append(".getItems0().isEmpty());\n");
+            }
+
+            source.append("    }\n\n");
+        }
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     *
+     * @param directory
+     *          The directory to write the file to, not {@code null}.
+     *
+     * @param simpleName
+     *          The simple name of the type declared in the file, not {@code null}.
+     *
+     * @param source
+     *          The source of the file, not {@code null}.
+     *
+     * @return
+     *          The path of the written file.
+     *
+     * @throws IOException
+     *          When the file could not be written.
+     */
+    private Path write(Path directory, String simpleName, String source) throws IOException {
+        var file = directory.resolve(simpleName + ".java");
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private String qualify(String simpleName) {
+        return spec.getPackageName() + "." + simpleName;
+    }
+
+    private String rootName(int rootIndex) {
+        return "Root" + rootIndex;
+    }
+
+    private String serviceName(int rootIndex) {
+        return rootName(rootIndex) + "Service";
+    }
+
+    private String typeName(int rootIndex, int level, int nodeIndex) {
+        return rootName(rootIndex) + "Level" + level + "Node" + nodeIndex;
+    }
+
+    private String capitalize(String fieldName) {
+        return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+
+}
@@ -0,0 +1,94 @@
+package de.adesso.objectfieldcoverage.test;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Describes the shape of a synthetic corpus generated by the {@link CorpusGenerator}.
+ * <p/>
+ * The corpus consists of {@link #rootTypeCount} independent domain models. Each model has a root type on level
+ * {@code 0} and {@link #fanOut} types on every level from {@code 1} to {@link #depth}. Every type on a level below
+ * the {@link #depth} references all types of the next level, so the number of types grows linearly with the depth
+ * and the fan-out, while the number of paths through the accessible field graph of the root type grows exponentially.
+ */
+@Value
+@Builder
+public class CorpusSpec {
+
+    /**
+     * The JUnit version the generated tests are written for.
+     */
+    public enum JUnitVersion {
+
+        JUNIT_4,
+
+        JUNIT_5
+
+    }
+
+    /**
+     * The package all generated types are declared in.
+     */
+    @Builder.Default
+    String packageName = "de.adesso.generated";
+
+    /**
+     * The number of independent domain models, each with its own service and test class. Must be positive.
+     */
+    @Builder.Default
+    int rootTypeCount = 1;
+
+    /**
+     * The number of levels below the root type. Must not be negative.
+     */
+    @Builder.Default
+    int depth = 3;
+
+    /**
+     * The number of types on every level below the root type, which is also the number of fields referencing the
+     * types of the next level. Must be positive.
+     */
+    @Builder.Default
+    int fanOut = 2;
+
+    /**
+     * The number of {@link java.util.List} fields of every type. The lists contain the first type of the next level
+     * or {@link String}s on the last level. Must not be negative.
+     */
+    @Builder.Default
+    int collectionFieldCount = 0;
+
+    /**
+     * Specifies if the types on the last level reference the root type, which creates a cycle in the model.
+     */
+    @Builder.Default
+    boolean cycles = false;
+
+    /**
+     * Specifies if the types are annotated with Lombok's {@code @Getter} and {@code @EqualsAndHashCode} annotations
+     * instead of declaring getter methods. Takes precedence over the {@link #handWrittenEquals} flag.
+     */
+    @Builder.Default
+    boolean lombok = false;
+
+    /**
+     * Specifies if the types declare an equals method comparing all of their fields with
+     * {@link java.util.Objects#equals(Object, Object)}.
+     */
+    @Builder.Default
+    boolean handWrittenEquals = true;
+
+    /**
+     * The JUnit version the generated tests are written for.
+     */
+    @Builder.Default
+    JUnitVersion junitVersion = JUnitVersion.JUNIT_5;
+
+    /**
+     * The number of test methods of every test class. The test method with index {@code i} asserts a field
+     * {@code (i % (depth + 1))} levels below the root type. Must be positive.
+     */
+    @Builder.Default
+    int testMethodCount = 3;
+
+}
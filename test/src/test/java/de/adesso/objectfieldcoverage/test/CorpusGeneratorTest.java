@@ -0,0 +1,90 @@
+package de.adesso.objectfieldcoverage.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.Launcher;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtMethod;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CorpusGeneratorTest {
+
+    @Test
+    void generateWritesParsableCorpus(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .rootTypeCount(2)
+                .depth(3)
+                .fanOut(2)
+                .collectionFieldCount(1)
+                .cycles(true)
+                .junitVersion(CorpusSpec.JUnitVersion.JUNIT_4)
+                .testMethodCount(4)
+                .build();
+        var testSubject = new CorpusGenerator(spec);
+
+        // when
+        var actualFiles = testSubject.generate(tempDir);
+
+        // then
+        var launcher = new Launcher();
+        launcher.addInputResource(tempDir.toString());
+        launcher.getEnvironment().setComplianceLevel(11);
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.buildModel();
+
+        var factory = launcher.getFactory();
+        CtClass<?> leafClass = factory.Class().get("de.adesso.generated.Root1Level3Node1");
+        CtClass<?> testClass = factory.Class().get(testSubject.getTestClassName(1));
+
+        assertThat(actualFiles).hasSize(2 * (testSubject.getTypeCountPerRoot() + 2));
+        assertThat(leafClass.getField("root").getType().getQualifiedName()).isEqualTo("de.adesso.generated.Root1");
+        assertThat(leafClass.getMethodsByName("equals")).hasSize(1);
+        assertThat(testClass.getPosition().getFile().getPath()).contains(CorpusGenerator.TEST_SOURCE_DIRECTORY);
+        assertThat(testClass.getMethods()).hasSize(4)
+                .extracting(CtMethod::toString)
+                .allMatch(method -> method.contains("de.adesso.generated.Root1Service#find(int)"));
+    }
+
+    @Test
+    void generateWritesLombokAnnotatedTypes(@TempDir Path tempDir) throws Exception {
+        // given
+        var spec = CorpusSpec.builder()
+                .depth(1)
+                .fanOut(1)
+                .lombok(true)
+                .build();
+
+        // when
+        new CorpusGenerator(spec).generate(tempDir);
+
+        // then
+        var launcher = new Launcher();
+        launcher.addInputResource(tempDir.toString());
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.getEnvironment().setShouldCompile(false);
+        launcher.buildModel();
+
+        CtClass<?> rootClass = launcher.getFactory().Class().get("de.adesso.generated.Root0");
+        assertThat(rootClass.getAnnotations()).hasSize(2);
+        assertThat(rootClass.getMethods()).isEmpty();
+    }
+
+    @Test
+    void constructorThrowsExceptionWhenFanOutIsNotPositive() {
+        // given
+        var spec = CorpusSpec.builder()
+                .fanOut(0)
+                .build();
+
+        // when / then
+        assertThatThrownBy(() -> new CorpusGenerator(spec))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}